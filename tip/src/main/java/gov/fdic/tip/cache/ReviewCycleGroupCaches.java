@@ -0,0 +1,70 @@
+package gov.fdic.tip.cache;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The service-level caches in front of ReviewCycleGroupService reads, and their eviction. Each
+ * write evicts exactly the entries it could have changed, by group id and by the review cycles and
+ * review types named in ReviewCycleGroupChangedEvent, once its transaction has committed.
+ *
+ * A read that started before the commit cannot put its result back after the eviction: loads run
+ * inside the cache's per-key computation, which the eviction waits for and then removes. Writes on
+ * other nodes are not seen until the entries expire, after app.config.cache.ttl-seconds, except by
+ * conditional GETs: they probe the database version, and reload a cached entry that is behind it.
+ */
+@Component
+@ConditionalOnProperty(name = "app.config.cache.service.enabled", havingValue = "true", matchIfMissing = true)
+public class ReviewCycleGroupCaches {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewCycleGroupCaches.class);
+
+    public static final String BY_ID = "reviewCycleGroupById";
+    public static final String BY_REVIEW_CYCLE_ID = "reviewCycleGroupsByReviewCycleId";
+    public static final String BY_REVIEW_TYPE_ID = "reviewCycleGroupsByReviewTypeId";
+    public static final String COUNT_BY_REVIEW_CYCLE_ID = "reviewCycleGroupCountByReviewCycleId";
+
+    public static final List<String> NAMES = List.of(BY_ID, BY_REVIEW_CYCLE_ID, BY_REVIEW_TYPE_ID, COUNT_BY_REVIEW_CYCLE_ID);
+
+    /**
+     * Only reads in a transaction of their own, or in a read-only one, may be cached: anything a
+     * read-write transaction sees could still be rolled back.
+     */
+    public static final String CACHEABLE = "!T(org.springframework.transaction.support.TransactionSynchronizationManager).isActualTransactionActive()"
+            + " or T(org.springframework.transaction.support.TransactionSynchronizationManager).isCurrentTransactionReadOnly()";
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewCycleGroupChanged(ReviewCycleGroupChangedEvent event) {
+        Cache byId = cacheManager.getCache(BY_ID);
+        for (ReviewCycleGroupDTO group : event.getGroups()) {
+            byId.evict(group.getReviewCycleGroupId());
+        }
+        evictAll(byId, event.getDeletedIds());
+        evictAll(cacheManager.getCache(BY_REVIEW_CYCLE_ID), event.getReviewCycleIds());
+        evictAll(cacheManager.getCache(COUNT_BY_REVIEW_CYCLE_ID), event.getReviewCycleIds());
+        evictAll(cacheManager.getCache(BY_REVIEW_TYPE_ID), event.getReviewTypeIds());
+        logger.debug("Evicted cached ReviewCycleGroups for review cycles {} and review types {}",
+                event.getReviewCycleIds(), event.getReviewTypeIds());
+    }
+
+    private static void evictAll(Cache cache, Collection<Long> keys) {
+        for (Long key : keys) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package gov.fdic.tip.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool and one pool per read replica, behind
+ * a ReadWriteRoutingDataSource. Each pool is named after its target (tip-primary, tip-replica-1, ...)
+ * so the Hikari pool metrics and MBeans can be told apart.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.config.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("tip-primary");
+        return primary;
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceRoutingProperties routingProperties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            replicas.add(replicaDataSource(primaryDataSource, replica, replicas.size() + 1));
+        }
+        if (replicas.isEmpty()) {
+            logger.warn("Read/write routing is enabled without replicas; all reads use the primary");
+        }
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primaryDataSource, replicas,
+                routingProperties.getStickyWindow());
+        logger.info("Routing read-only transactions to {} replica(s), sticky window {}", replicas.size(),
+                routingProperties.getStickyWindow());
+        return routing;
+    }
+
+    // The data source used by JPA, Flyway and JdbcTemplate
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * The actuator binds the Hikari pool meters of DataSource beans only, which the replica pools are
+     * not; without this they would be missing from hikaricp.connections.* (tagged pool=tip-replica-N).
+     */
+    @Bean
+    public MeterBinder replicaPoolMetrics(ReadWriteRoutingDataSource routingDataSource) {
+        return registry -> {
+            for (DataSource replica : routingDataSource.getReplicas()) {
+                if (replica instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null
+                        && hikari.getMetricRegistry() == null) {
+                    hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+            }
+        };
+    }
+
+    private HikariDataSource replicaDataSource(HikariDataSource primary, DataSourceRoutingProperties.Replica replica, int number) {
+        if (replica.getUrl() == null || replica.getUrl().isBlank()) {
+            throw new BeanCreationException("dataSource", "app.config.datasource.routing.replicas[" + (number - 1) + "].url is required");
+        }
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName("tip-replica-" + number);
+        config.setJdbcUrl(replica.getUrl());
+        if (replica.getUsername() != null) {
+            config.setUsername(replica.getUsername());
+        }
+        if (replica.getPassword() != null) {
+            config.setPassword(replica.getPassword());
+        }
+        if (replica.getMaximumPoolSize() != null) {
+            config.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        if (replica.getMinimumIdle() != null) {
+            config.setMinimumIdle(replica.getMinimumIdle());
+        }
+        config.setReadOnly(true);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,59 @@
+package gov.fdic.tip.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings under app.config.datasource.routing. Replica pools start from the primary's
+ * spring.datasource.hikari settings; only the connection details and pool sizes are set per replica.
+ */
+@ConfigurationProperties(prefix = "app.config.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    // How long a client's reads stay on the primary after its write commits; zero disables read-your-writes
+    private Duration stickyWindow = Duration.ofSeconds(1);
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public Duration getStickyWindow() { return stickyWindow; }
+    public void setStickyWindow(Duration stickyWindow) { this.stickyWindow = stickyWindow; }
+
+    public List<Replica> getReplicas() { return replicas; }
+    public void setReplicas(List<Replica> replicas) { this.replicas = replicas; }
+
+    public static class Replica {
+
+        private String url;
+
+        // Default to the primary's credentials
+        private String username;
+        private String password;
+
+        // Default to the primary's pool sizes
+        private Integer maximumPoolSize;
+        private Integer minimumIdle;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+
+        public Integer getMaximumPoolSize() { return maximumPoolSize; }
+        public void setMaximumPoolSize(Integer maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+
+        public Integer getMinimumIdle() { return minimumIdle; }
+        public void setMinimumIdle(Integer minimumIdle) { this.minimumIdle = minimumIdle; }
+    }
+}
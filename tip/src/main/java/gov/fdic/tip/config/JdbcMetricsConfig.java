@@ -0,0 +1,39 @@
+package gov.fdic.tip.config;
+
+import gov.fdic.tip.metrics.JdbcMetricsDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the data source used by JPA, Flyway and JdbcTemplate in a JdbcMetricsDataSource. Only the bean
+ * named dataSource is wrapped: with read/write routing that is the proxy in front of all pools, and the
+ * Hikari pool meters still find the pools behind it, as DelegatingDataSource is unwrapped by the actuator.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.config.metrics.jdbc.enabled", havingValue = "true", matchIfMissing = true)
+public class JdbcMetricsConfig {
+
+    static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // Static, and the registry is looked up per batch, so that the post-processor does not pull the
+    // meter registry into existence before the data source
+    @Bean
+    public static BeanPostProcessor jdbcMetricsDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof JdbcMetricsDataSource)) {
+                    return new JdbcMetricsDataSource(dataSource, meterRegistry);
+                }
+                return bean;
+            }
+        };
+    }
+}
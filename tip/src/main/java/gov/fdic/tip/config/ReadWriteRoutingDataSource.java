@@ -0,0 +1,91 @@
+package gov.fdic.tip.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routes connections of read-only transactions to the replicas, round robin, and everything else to
+ * the primary. After a read-write transaction commits, the reads of the same client stay on the
+ * primary for the sticky window, so its changes are visible to its next request even while the
+ * replicas lag behind; other clients keep reading from the replicas. The client is whoever the
+ * ReadYourWrites of the current thread belongs to.
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the read-only flag is only known once the
+ * transaction has started, after the transaction manager asked for the connection.
+ * The replica pools are owned by this data source and closed with it; the primary is not.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile Duration stickyWindow;
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration stickyWindow) {
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + (i + 1);
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        setStickyWindow(stickyWindow);
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public Duration getStickyWindow() {
+        return stickyWindow;
+    }
+
+    public void setStickyWindow(Duration stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        ReadYourWrites client = ReadYourWrites.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (client != null && TransactionSynchronizationManager.isActualTransactionActive()
+                    && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        client.writeCommitted(stickyWindow);
+                    }
+                });
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || (client != null && client.readsFromPrimary())) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package gov.fdic.tip.config;
+
+import java.time.Duration;
+import java.util.function.LongConsumer;
+
+/**
+ * The read-your-writes state of the client behind the request on the current thread: until when its
+ * reads must go to the primary. ReadYourWritesFilter opens one per request from the client's cookie
+ * and ReadWriteRoutingDataSource extends it when one of the client's writes commits. The deadline is
+ * wall-clock epoch milliseconds, so it carries over to whichever node serves the next request.
+ * Threads without one, such as scheduled jobs, always read from the replicas.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+
+    private long primaryUntilMillis;
+    private final LongConsumer onWrite;
+
+    private ReadYourWrites(long primaryUntilMillis, LongConsumer onWrite) {
+        this.primaryUntilMillis = primaryUntilMillis;
+        this.onWrite = onWrite;
+    }
+
+    /**
+     * Opens the state for the current thread, replacing any left open. The callback is handed the new
+     * deadline after each committed write, to pass it on to the client.
+     */
+    public static ReadYourWrites start(long primaryUntilMillis, LongConsumer onWrite) {
+        ReadYourWrites state = new ReadYourWrites(primaryUntilMillis, onWrite);
+        CURRENT.set(state);
+        return state;
+    }
+
+    public static ReadYourWrites current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public boolean readsFromPrimary() {
+        return System.currentTimeMillis() < primaryUntilMillis;
+    }
+
+    public long getPrimaryUntilMillis() {
+        return primaryUntilMillis;
+    }
+
+    void writeCommitted(Duration stickyWindow) {
+        if (stickyWindow.isZero() || stickyWindow.isNegative()) {
+            return;
+        }
+        primaryUntilMillis = Math.max(primaryUntilMillis, System.currentTimeMillis() + stickyWindow.toMillis());
+        onWrite.accept(primaryUntilMillis);
+    }
+}
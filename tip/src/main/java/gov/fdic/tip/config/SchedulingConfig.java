@@ -0,0 +1,13 @@
+package gov.fdic.tip.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs such as the periodic reload of in-memory indexes.
+ */
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,119 @@
+package gov.fdic.tip.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fails startup when an index that a repository finder relies on is missing, instead of letting
+ * those finders degrade to sequential scans. Runs after Flyway has migrated the schema and before
+ * the application reports itself ready. The trigram and pattern-ops name indexes only exist on
+ * PostgreSQL and are only required there.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.config.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    // Index names per table, as created by db/migration/{vendor}
+    static final Map<String, List<String>> EXPECTED_INDEXES = Map.of(
+            "review_cycle_group", List.of(
+                    "idx_review_cycle_group_name_id",
+                    "idx_review_cycle_group_change_number_id",
+                    "idx_review_cycle_group_cycle_type_id",
+                    "idx_review_cycle_group_type_id",
+                    "idx_review_cycle_group_condition_id",
+                    "idx_review_cycle_group_range",
+                    "idx_review_cycle_group_boolean_state_id"),
+            "review_cycle_group_idis", List.of(
+                    "idx_review_cycle_group_idis_idi",
+                    "idx_review_cycle_group_idis_group_id"),
+            "review_cycle_group_tombstone", List.of(
+                    "idx_review_cycle_group_tombstone_change_number_id"),
+            "review_group_criteria", List.of(
+                    "idx_review_group_criteria_name_id",
+                    "idx_review_group_criteria_type_id"));
+
+    static final Map<String, List<String>> EXPECTED_POSTGRESQL_INDEXES = Map.of(
+            "review_cycle_group", List.of(
+                    "idx_review_cycle_group_name_pattern",
+                    "idx_review_cycle_group_name_upper_trgm"),
+            "review_group_criteria", List.of(
+                    "idx_review_group_criteria_name_upper_trgm"));
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> missing = findMissingIndexes();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes: " + String.join(", ", missing)
+                    + ". Run the Flyway migrations before starting the application.");
+        }
+        logger.info("Verified the indexes of {} tables", EXPECTED_INDEXES.size());
+    }
+
+    /**
+     * Expected indexes that the connected database does not have, as table.index.
+     */
+    public List<String> findMissingIndexes() throws SQLException {
+        List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, List<String>> expected = new LinkedHashMap<>(EXPECTED_INDEXES);
+            if (metaData.getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgresql")) {
+                EXPECTED_POSTGRESQL_INDEXES.forEach((table, indexes) -> expected.merge(table, indexes,
+                        (common, vendor) -> {
+                            List<String> merged = new ArrayList<>(common);
+                            merged.addAll(vendor);
+                            return merged;
+                        }));
+            }
+            for (Map.Entry<String, List<String>> table : expected.entrySet()) {
+                Set<String> present = indexNames(metaData, table.getKey());
+                for (String index : table.getValue()) {
+                    if (!present.contains(index)) {
+                        missing.add(table.getKey() + "." + index);
+                    }
+                }
+            }
+        }
+        return missing;
+    }
+
+    private static Set<String> indexNames(DatabaseMetaData metaData, String table) throws SQLException {
+        String storedTable = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> names = new HashSet<>();
+        try (ResultSet indexes = metaData.getIndexInfo(null, null, storedTable, false, true)) {
+            while (indexes.next()) {
+                String name = indexes.getString("INDEX_NAME");
+                if (name != null) {
+                    names.add(name.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,93 @@
+package gov.fdic.tip.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import jakarta.annotation.PreDestroy;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache on JCache, with Caffeine as the in-process provider. Every
+ * region is created here up front from app.config.cache.ttl-seconds and cache.max-entries, and
+ * Hibernate is told to fail on any other, so no region is ever created unbounded.
+ *
+ * The caches are per node. Writes through Hibernate, including bulk JPQL, evict what they touch on
+ * this node only, so another node may serve a cached group for up to the TTL, which is why it is
+ * measured in seconds. Updates still carry the version check, so a stale read can never turn into
+ * a lost update.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.config.cache.second-level.enabled", havingValue = "true", matchIfMissing = true)
+public class SecondLevelCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCacheConfig.class);
+
+    // Hibernate's default names for the query result region and the table timestamps it checks them against
+    static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    static final String UPDATE_TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    @Value("${app.config.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${cache.max-entries:1000}")
+    private long maxEntries;
+
+    private CacheManager cacheManager;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        cacheManager = createCacheManager();
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @PreDestroy
+    public void closeCacheManager() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    private CacheManager createCacheManager() {
+        // A manager of its own rather than the provider's shared default, which every application
+        // context in the JVM (and so every cached test context) would otherwise share
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("tip-second-level-" + UUID.randomUUID()), getClass().getClassLoader());
+        CaffeineConfiguration<Object, Object> bounded = new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(maxEntries))
+                .setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()))
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true);
+        manager.createCache(ReviewCycleGroup.CACHE_REGION, bounded);
+        manager.createCache(ReviewCycleGroup.IDIS_CACHE_REGION, bounded);
+        manager.createCache(ReviewCycleGroup.QUERY_CACHE_REGION, bounded);
+        manager.createCache(QUERY_RESULTS_REGION, bounded);
+        // Must never lose an entry: a missing timestamp would let a cached query outlive a write
+        manager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>()
+                .setStoreByValue(false)
+                .setStatisticsEnabled(true));
+        logger.info("Second-level cache regions hold up to {} entries for {} seconds", maxEntries, ttlSeconds);
+        return manager;
+    }
+}
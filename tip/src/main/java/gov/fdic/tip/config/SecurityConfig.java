@@ -40,7 +40,8 @@ public class SecurityConfig {
 
     private static final List<String> ACTUATOR_WHITELIST = Arrays.asList(
         "/management/health",
-        "/management/info"
+        "/management/info",
+        "/management/prometheus"
     );
 
     @Bean
@@ -91,9 +92,12 @@ public class SecurityConfig {
             "Content-Type", 
             "X-Requested-With",
             "Accept",
-            "X-API-KEY"
+            "X-API-KEY",
+            "X-Request-Id",
+            "X-Primary-Until"
         ));
-        configuration.setExposedHeaders(Arrays.asList("X-API-VERSION", "X-TOTAL-COUNT"));
+        configuration.setExposedHeaders(Arrays.asList("X-API-VERSION", "X-TOTAL-COUNT",
+            "X-Request-Id", "X-Sql-Count", "X-Sql-Time", "X-Primary-Until"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // 1 hour
         
@@ -0,0 +1,84 @@
+package gov.fdic.tip.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gov.fdic.tip.cache.ReviewCycleGroupCaches;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine caches for the DTOs ReviewCycleGroupService returns, sized by entry count (Caffeine's
+ * W-TinyLFU admission keeps the frequently read entries) and expired after app.config.cache.ttl-seconds,
+ * the longest another node's write can go unseen here. The cache names are fixed, so a typo in a
+ * @Cacheable fails instead of creating an unbounded cache.
+ * Statistics are recorded for the cache.* meters on actuator and for the cache admin endpoint.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "app.config.cache.service.enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceCacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceCacheConfig.class);
+
+    @Value("${app.config.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${cache.max-entries:1000}")
+    private long maxEntries;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCacheNames(ReviewCycleGroupCaches.NAMES);
+        logger.info("Service caches {} hold up to {} entries each for {} seconds", ReviewCycleGroupCaches.NAMES,
+                maxEntries, ttlSeconds);
+        return cacheManager;
+    }
+
+    /**
+     * Boot binds cache.gets, cache.puts, cache.evictions and cache.size for every cache, but the
+     * load meters only for Caffeine loading caches. These caches load through Cache.get(key, loader)
+     * instead (@Cacheable with sync), so their load meters are bound here.
+     */
+    @Bean
+    public MeterBinder serviceCacheLoadMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+                Tags tags = Tags.of("cache", name, "cache.manager", "cacheManager");
+                TimeGauge.builder("cache.load.duration", cache, TimeUnit.NANOSECONDS, c -> c.stats().totalLoadTime())
+                        .tags(tags)
+                        .description("Time spent loading values into the cache")
+                        .register(registry);
+                FunctionCounter.builder("cache.load", cache, c -> c.stats().loadSuccessCount())
+                        .tags(tags).tag("result", "success")
+                        .description("Number of values loaded into the cache")
+                        .register(registry);
+                FunctionCounter.builder("cache.load", cache, c -> c.stats().loadFailureCount())
+                        .tags(tags).tag("result", "failure")
+                        .description("Number of loads that threw, including lookups of missing groups")
+                        .register(registry);
+            }
+        };
+    }
+}
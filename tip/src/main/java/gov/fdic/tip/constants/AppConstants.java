@@ -17,6 +17,17 @@ public class AppConstants {
     public static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     public static final int DEFAULT_PAGE_SIZE = 20;
     public static final int MAX_PAGE_SIZE = 100;
+
+    // Request tracing: taken from or returned in the header, and kept in the MDC for the log lines
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_MDC_KEY = "requestId";
+    public static final String SQL_COUNT_HEADER = "X-Sql-Count";
+    public static final String SQL_TIME_HEADER = "X-Sql-Time";
+
+    // Read-your-writes: epoch millis until which the client's reads go to the primary database
+    public static final String PRIMARY_UNTIL_COOKIE = "TIP-Primary-Until";
+    // The same deadline as a header, for clients that do not keep cookies
+    public static final String PRIMARY_UNTIL_HEADER = "X-Primary-Until";
     
     public static class ErrorMessages {
         public static final String RESOURCE_NOT_FOUND = "Resource not found with id: ";
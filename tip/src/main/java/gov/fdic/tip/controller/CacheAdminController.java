@@ -0,0 +1,72 @@
+package gov.fdic.tip.controller;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import gov.fdic.tip.dto.CacheRegionDTO;
+import gov.fdic.tip.exception.ResourceNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Admin endpoints to inspect and flush the service caches of the node that serves the request.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/caches")
+@Tag(name = "Cache Administration", description = "APIs for inspecting and flushing the service caches")
+@ConditionalOnProperty(name = "app.config.cache.service.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAdminController.class);
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @GetMapping
+    @Operation(summary = "Get the size and statistics of every service cache")
+    public ResponseEntity<List<CacheRegionDTO>> getCaches() {
+        List<CacheRegionDTO> caches = cacheManager.getCacheNames().stream()
+                .map(this::describe)
+                .toList();
+        return ResponseEntity.ok(caches);
+    }
+
+    @GetMapping("/{name}")
+    @Operation(summary = "Get the size and statistics of one service cache")
+    public ResponseEntity<CacheRegionDTO> getCache(@PathVariable String name) {
+        return ResponseEntity.ok(describe(name));
+    }
+
+    @DeleteMapping("/{name}")
+    @Operation(summary = "Remove every entry from one service cache",
+               description = "Only flushes the cache of the node that serves the request")
+    public ResponseEntity<Void> flushCache(@PathVariable String name) {
+        nativeCache(name).invalidateAll();
+        logger.info("Flushed service cache {}", name);
+        return ResponseEntity.noContent().build();
+    }
+
+    private CacheRegionDTO describe(String name) {
+        Cache<Object, Object> cache = nativeCache(name);
+        return CacheRegionDTO.of(name, cache.estimatedSize(), cache.stats());
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        if (!(cacheManager.getCache(name) instanceof CaffeineCache cache)) {
+            throw new ResourceNotFoundException("Cache not found: " + name);
+        }
+        return cache.getNativeCache();
+    }
+}
@@ -1,20 +1,42 @@
 package gov.fdic.tip.controller;
 
+import gov.fdic.tip.dto.BatchResultDTO;
+import gov.fdic.tip.dto.ChangeFeedDTO;
+import gov.fdic.tip.dto.CursorPageDTO;
+import gov.fdic.tip.dto.IdiLookupResultDTO;
+import gov.fdic.tip.dto.MultiGetResultDTO;
+import gov.fdic.tip.dto.NameSuggestionDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupChangeDTO;
 import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupFilterDTO;
+import gov.fdic.tip.dto.UpsertResultDTO;
+import gov.fdic.tip.export.ExportFormat;
+import gov.fdic.tip.importer.ReviewCycleGroupImportListener;
 import gov.fdic.tip.service.ReviewCycleGroupService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -41,6 +63,23 @@ public class ReviewCycleGroupController {
         return ResponseEntity.ok(reviewCycleGroups);
     }
 
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get many review cycle groups by ID",
+               description = "Groups in the order their ids were requested; ids without a group are listed in missing")
+    public ResponseEntity<MultiGetResultDTO<ReviewCycleGroupDTO>> getReviewCycleGroupsByIds(@RequestParam List<Long> ids) {
+        MultiGetResultDTO<ReviewCycleGroupDTO> result = reviewCycleGroupService.findByIds(ids);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping(params = "reviewCycleIds")
+    @Operation(summary = "Get the review cycle groups of many review cycles",
+               description = "Groups per review cycle in the order the cycles were requested; cycles without groups are listed in missing")
+    public ResponseEntity<MultiGetResultDTO<List<ReviewCycleGroupDTO>>> getReviewCycleGroupsByReviewCycleIds(
+            @RequestParam List<Long> reviewCycleIds) {
+        MultiGetResultDTO<List<ReviewCycleGroupDTO>> result = reviewCycleGroupService.findByReviewCycleIds(reviewCycleIds);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/paginated")
     @Operation(summary = "Get all review cycle groups with pagination")
     public ResponseEntity<Page<ReviewCycleGroupDTO>> getAllReviewCycleGroupsPaginated(
@@ -56,11 +95,89 @@ public class ReviewCycleGroupController {
         return ResponseEntity.ok(reviewCycleGroupPage);
     }
 
+    @GetMapping("/keyset")
+    @Operation(summary = "Get review cycle groups one keyset page at a time",
+               description = "Pass nextCursor from the previous page as cursor. sortBy is one of reviewCycleGroupId, reviewGroupName.")
+    public ResponseEntity<CursorPageDTO<ReviewCycleGroupDTO>> getAllReviewCycleGroupsKeyset(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "reviewCycleGroupId") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        CursorPageDTO<ReviewCycleGroupDTO> page = reviewCycleGroupService.findAllKeyset(size, sortBy, sortDirection, cursor, includeTotal);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/query")
+    @Operation(summary = "Get review cycle groups matching every given filter one keyset page at a time",
+               description = "Filters left out are not applied. value matches groups whose range contains it, idi groups "
+                       + "containing that IDI and namePrefix is case-sensitive. Pass nextCursor from the previous page as cursor.")
+    public ResponseEntity<CursorPageDTO<ReviewCycleGroupDTO>> queryReviewCycleGroups(
+            @ParameterObject ReviewCycleGroupFilterDTO filter,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "reviewCycleGroupId") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        CursorPageDTO<ReviewCycleGroupDTO> page = reviewCycleGroupService.findByFilter(filter, size, sortBy, sortDirection, cursor, includeTotal);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Get review cycle groups changed since a cursor",
+               description = "Groups created or updated and tombstones of deleted ones, in the order they changed. Omit since "
+                       + "to start from the beginning, then pass nextCursor back as since; poll again while hasMore is true. "
+                       + "Changes are served once they are older than the settle window (app.config.changes.settle-window); "
+                       + "a write that takes longer than that to commit can be missed.")
+    public ResponseEntity<ChangeFeedDTO<ReviewCycleGroupChangeDTO>> getReviewCycleGroupChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+        
+        ChangeFeedDTO<ReviewCycleGroupChangeDTO> changes = reviewCycleGroupService.findChanges(since, size);
+        return ResponseEntity.ok(changes);
+    }
+
     @GetMapping("/{id}")
-    @Operation(summary = "Get review cycle group by ID")
-    public ResponseEntity<ReviewCycleGroupDTO> getReviewCycleGroupById(@PathVariable Long id) {
+    @Operation(summary = "Get review cycle group by ID",
+               description = "The ETag is the group's version; send it as If-Match to update it, or as "
+                       + "If-None-Match to get 304 Not Modified while it is unchanged. Last-Modified is its "
+                       + "audit timestamp, for If-Modified-Since; If-None-Match wins when both are sent.")
+    public ResponseEntity<ReviewCycleGroupDTO> getReviewCycleGroupById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince) {
+        String current = null;
+        LocalDateTime updatedAt = null;
+        if (ifNoneMatch != null) {
+            current = VersionTags.of(reviewCycleGroupService.findVersionById(id));
+            if (VersionTags.matches(ifNoneMatch, current)) {
+                return notModified(current);
+            }
+        } else if (ifModifiedSince != null) {
+            updatedAt = reviewCycleGroupService.findLastModifiedById(id);
+            if (VersionTags.notModifiedSince(ifModifiedSince, updatedAt)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .lastModified(VersionTags.lastModified(updatedAt))
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+        }
         ReviewCycleGroupDTO reviewCycleGroup = reviewCycleGroupService.findById(id);
-        return ResponseEntity.ok(reviewCycleGroup);
+        // A cached copy behind the probe, written on another node, would be served again with its stale tag
+        if ((current != null && !current.equals(VersionTags.of(reviewCycleGroup.getVersion())))
+                || (updatedAt != null && !updatedAt.equals(reviewCycleGroup.getUpdatedDttm()))) {
+            reviewCycleGroupService.evictCachedById(id);
+            reviewCycleGroup = reviewCycleGroupService.findById(id);
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(VersionTags.of(reviewCycleGroup.getVersion()))
+                .cacheControl(CacheControl.noCache());
+        if (reviewCycleGroup.getUpdatedDttm() != null) {
+            response.lastModified(VersionTags.lastModified(reviewCycleGroup.getUpdatedDttm()));
+        }
+        return response.body(reviewCycleGroup);
     }
 
     @PostMapping
@@ -71,17 +188,57 @@ public class ReviewCycleGroupController {
             @Valid @RequestBody ReviewCycleGroupDTO reviewCycleGroupDTO,
             @RequestHeader(value = "X-User-Id", defaultValue = "system") String createdBy) {
         ReviewCycleGroupDTO createdReviewCycleGroup = reviewCycleGroupService.create(reviewCycleGroupDTO, createdBy);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdReviewCycleGroup);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(VersionTags.of(createdReviewCycleGroup.getVersion()))
+                .body(createdReviewCycleGroup);
+    }
+
+    @PutMapping("/by-name/{reviewGroupName}")
+    @Operation(summary = "Create or update the review cycle group with the given name",
+               description = "201 when the group was created, 200 when an existing group was updated")
+    public ResponseEntity<ReviewCycleGroupDTO> upsertReviewCycleGroupByName(
+            @PathVariable String reviewGroupName,
+            @Valid @RequestBody ReviewCycleGroupDTO reviewCycleGroupDTO,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String updatedBy) {
+        UpsertResultDTO<ReviewCycleGroupDTO> result = reviewCycleGroupService.upsertByName(reviewGroupName, reviewCycleGroupDTO, updatedBy);
+        return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK)
+                .eTag(VersionTags.of(result.value().getVersion())).body(result.value());
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create review cycle groups in bulk with per-item results")
+    public ResponseEntity<BatchResultDTO> createReviewCycleGroups(
+            @RequestBody List<ReviewCycleGroupDTO> reviewCycleGroupDTOs,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String createdBy) {
+        BatchResultDTO result = reviewCycleGroupService.createAll(reviewCycleGroupDTOs, createdBy);
+        HttpStatus status = result.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import review cycle groups and IDIs from a csv or xlsx file laid out like the export",
+               description = "Streams one JSON object per line: each rejected group, then progress after every chunk")
+    public void importReviewCycleGroups(
+            @RequestParam("file") MultipartFile file,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String createdBy,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(ExportFormat.NDJSON.getContentType());
+        try (InputStream in = file.getInputStream()) {
+            reviewCycleGroupService.importAll(file.getOriginalFilename(), in, createdBy,
+                    ReviewCycleGroupImportListener.ndjson(response.getOutputStream()));
+        }
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update an existing review cycle group")
+    @Operation(summary = "Update an existing review cycle group",
+               description = "With If-Match, only applies while the group still has that ETag; 412 otherwise")
     public ResponseEntity<ReviewCycleGroupDTO> updateReviewCycleGroup(
             @PathVariable Long id,
             @Valid @RequestBody ReviewCycleGroupDTO reviewCycleGroupDTO,
-            @RequestHeader(value = "X-User-Id", defaultValue = "system") String updatedBy) {
-        ReviewCycleGroupDTO updatedReviewCycleGroup = reviewCycleGroupService.update(id, reviewCycleGroupDTO, updatedBy);
-        return ResponseEntity.ok(updatedReviewCycleGroup);
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String updatedBy,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = VersionTags.expectedVersion(ifMatch, "ReviewCycleGroup", id);
+        ReviewCycleGroupDTO updatedReviewCycleGroup = reviewCycleGroupService.update(id, reviewCycleGroupDTO, updatedBy, expectedVersion);
+        return ResponseEntity.ok().eTag(VersionTags.of(updatedReviewCycleGroup.getVersion())).body(updatedReviewCycleGroup);
     }
 
     @DeleteMapping("/{id}")
@@ -94,10 +251,50 @@ public class ReviewCycleGroupController {
 
     // Custom endpoints
     @GetMapping("/review-cycle/{reviewCycleId}")
-    @Operation(summary = "Get review cycle groups by review cycle ID")
-    public ResponseEntity<List<ReviewCycleGroupDTO>> getReviewCycleGroupsByReviewCycleId(@PathVariable Long reviewCycleId) {
+    @Operation(summary = "Get review cycle groups by review cycle ID",
+               description = "The ETag covers the id and version of every group of the cycle")
+    public ResponseEntity<List<ReviewCycleGroupDTO>> getReviewCycleGroupsByReviewCycleId(
+            @PathVariable Long reviewCycleId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String current = null;
+        if (ifNoneMatch != null) {
+            current = VersionTags.ofVersions(reviewCycleGroupService.findVersionsByReviewCycleId(reviewCycleId));
+            if (VersionTags.matches(ifNoneMatch, current)) {
+                return notModified(current);
+            }
+        }
         List<ReviewCycleGroupDTO> reviewCycleGroups = reviewCycleGroupService.findByReviewCycleId(reviewCycleId);
-        return ResponseEntity.ok(reviewCycleGroups);
+        String eTag = VersionTags.ofVersions(reviewCycleGroups,
+                ReviewCycleGroupDTO::getReviewCycleGroupId, ReviewCycleGroupDTO::getVersion);
+        if (current != null && !current.equals(eTag)) {
+            reviewCycleGroupService.evictCachedByReviewCycleId(reviewCycleId);
+            reviewCycleGroups = reviewCycleGroupService.findByReviewCycleId(reviewCycleId);
+            eTag = VersionTags.ofVersions(reviewCycleGroups,
+                    ReviewCycleGroupDTO::getReviewCycleGroupId, ReviewCycleGroupDTO::getVersion);
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(reviewCycleGroups);
+    }
+
+    @DeleteMapping("/review-cycle/{reviewCycleId}")
+    @Operation(summary = "Delete all review cycle groups of a review cycle",
+               description = "Returns the number of groups deleted")
+    public ResponseEntity<Integer> deleteReviewCycleGroupsByReviewCycleId(@PathVariable Long reviewCycleId) {
+        int deleted = reviewCycleGroupService.deleteByReviewCycleId(reviewCycleId);
+        return ResponseEntity.ok(deleted);
+    }
+
+    @PatchMapping("/review-cycle/{reviewCycleId}")
+    @Operation(summary = "Update fields of all review cycle groups of a review cycle",
+               description = "Fields left out are not changed; returns the number of groups updated")
+    public ResponseEntity<Integer> updateReviewCycleGroupsByReviewCycleId(
+            @PathVariable Long reviewCycleId,
+            @Valid @RequestBody ReviewCycleGroupBulkUpdateDTO update,
+            @RequestHeader(value = "X-User-Id", defaultValue = "system") String updatedBy) {
+        int updated = reviewCycleGroupService.updateByReviewCycleId(reviewCycleId, update, updatedBy);
+        return ResponseEntity.ok(updated);
     }
 
     @GetMapping("/review-type/{reviewTypeId}")
@@ -115,9 +312,11 @@ public class ReviewCycleGroupController {
     }
 
     @GetMapping("/range/{value}")
-    @Operation(summary = "Get review cycle groups where value falls in range")
-    public ResponseEntity<List<ReviewCycleGroupDTO>> getReviewCycleGroupsByValueInRange(@PathVariable Integer value) {
-        List<ReviewCycleGroupDTO> reviewCycleGroups = reviewCycleGroupService.findByValueInRange(value);
+    @Operation(summary = "Get review cycle groups where value falls in range, optionally within one review cycle")
+    public ResponseEntity<List<ReviewCycleGroupDTO>> getReviewCycleGroupsByValueInRange(
+            @PathVariable Integer value,
+            @RequestParam(required = false) Long reviewCycleId) {
+        List<ReviewCycleGroupDTO> reviewCycleGroups = reviewCycleGroupService.findByValueInRange(value, reviewCycleId);
         return ResponseEntity.ok(reviewCycleGroups);
     }
 
@@ -128,6 +327,13 @@ public class ReviewCycleGroupController {
         return ResponseEntity.ok(reviewCycleGroups);
     }
 
+    @PostMapping("/idi/lookup")
+    @Operation(summary = "Resolve many IDIs to the review cycle groups containing them")
+    public ResponseEntity<IdiLookupResultDTO> lookupReviewCycleGroupsByIdis(@RequestBody List<String> idis) {
+        IdiLookupResultDTO result = reviewCycleGroupService.findByListOfIdisIn(idis);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/search")
     @Operation(summary = "Search review cycle groups by name")
     public ResponseEntity<Page<ReviewCycleGroupDTO>> searchReviewCycleGroups(
@@ -140,6 +346,45 @@ public class ReviewCycleGroupController {
         return ResponseEntity.ok(reviewCycleGroups);
     }
 
+    @GetMapping("/search/keyset")
+    @Operation(summary = "Search review cycle groups by name one keyset page at a time")
+    public ResponseEntity<CursorPageDTO<ReviewCycleGroupDTO>> searchReviewCycleGroupsKeyset(
+            @RequestParam String reviewGroupName,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "reviewGroupName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        CursorPageDTO<ReviewCycleGroupDTO> page = reviewCycleGroupService.searchByGroupNameKeyset(
+                reviewGroupName, size, sortBy, sortDirection, cursor, includeTotal);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest review cycle group names for typeahead",
+               description = "Ranked matches: exact, then prefix, then word prefix, then any substring (case-insensitive). "
+                       + "Queries of one or two characters only match at the start of a word.")
+    public ResponseEntity<List<NameSuggestionDTO>> suggestReviewCycleGroupNames(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<NameSuggestionDTO> suggestions = reviewCycleGroupService.suggestByGroupName(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all review cycle groups with their IDIs",
+               description = "Streamed as it is read. ndjson: one group per line; csv and xlsx: one row per group and IDI")
+    public void exportReviewCycleGroups(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("review-cycle-groups." + exportFormat.getExtension()).build().toString());
+        reviewCycleGroupService.exportAll(exportFormat, response.getOutputStream());
+    }
+
     @GetMapping("/review-cycle/{reviewCycleId}/count")
     @Operation(summary = "Get count of review cycle groups by review cycle ID")
     public ResponseEntity<Long> getCountByReviewCycleId(@PathVariable Long reviewCycleId) {
@@ -160,4 +405,12 @@ public class ReviewCycleGroupController {
         long count = reviewCycleGroupService.count();
         return ResponseEntity.ok(count);
     }
-}
\ No newline at end of file
+
+    // Validators still go out with the 304 so the client's cached copy stays current
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+}
@@ -1,6 +1,10 @@
 package gov.fdic.tip.controller;
 
+import gov.fdic.tip.dto.CursorPageDTO;
+import gov.fdic.tip.dto.MultiGetResultDTO;
+import gov.fdic.tip.dto.NameSuggestionDTO;
 import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.dto.UpsertResultDTO;
 import gov.fdic.tip.enums.GroupCriteriaType;
 import gov.fdic.tip.service.ReviewGroupCriteriaService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,10 +18,13 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -32,6 +39,10 @@ import java.util.List;
 @Tag(name = "Review Group Criteria", description = "APIs for managing review group criteria in the TIP system")
 public class ReviewGroupCriteriaController {
 
+    // The criteria types only change with a release, so clients and proxies may keep them for a day
+    private static final CacheControl CRITERIA_TYPES_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+    private static final String CRITERIA_TYPES_ETAG = VersionTags.ofNames(GroupCriteriaType.values());
+
     private final ReviewGroupCriteriaService reviewGroupCriteriaService;
 
     public ReviewGroupCriteriaController(ReviewGroupCriteriaService reviewGroupCriteriaService) {
@@ -43,16 +54,30 @@ public class ReviewGroupCriteriaController {
         description = "Retrieves a specific review group criteria by its unique identifier"
     )
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Review group criteria found successfully"),
+        @ApiResponse(responseCode = "200", description = "Review group criteria found successfully; the ETag is its version"),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the version sent as If-None-Match", content = @Content),
         @ApiResponse(responseCode = "404", description = "Review group criteria not found", content = @Content),
         @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
     })
     @GetMapping("/{id}")
     public ResponseEntity<ReviewGroupCriteriaDTO> getById(
             @Parameter(description = "ID of the review group criteria to retrieve", example = "1", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String current = VersionTags.of(reviewGroupCriteriaService.findVersionById(id));
+            if (VersionTags.matches(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(current)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+        }
         ReviewGroupCriteriaDTO criteria = reviewGroupCriteriaService.findById(id);
-        return ResponseEntity.ok(criteria);
+        return ResponseEntity.ok()
+                .eTag(VersionTags.of(criteria.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(criteria);
     }
 
     @Operation(
@@ -66,6 +91,19 @@ public class ReviewGroupCriteriaController {
         return ResponseEntity.ok(criteriaList);
     }
 
+    @Operation(
+        summary = "Get many review group criteria by ID",
+        description = "Criteria in the order their ids were requested; ids without a criteria are listed in missing"
+    )
+    @ApiResponse(responseCode = "200", description = "Criteria resolved successfully")
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResultDTO<ReviewGroupCriteriaDTO>> getByIds(
+            @Parameter(description = "IDs of the review group criteria to retrieve", example = "1,2,3", required = true)
+            @RequestParam List<Long> ids) {
+        MultiGetResultDTO<ReviewGroupCriteriaDTO> result = reviewGroupCriteriaService.findByIds(ids);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(
         summary = "Get paginated review group criteria",
         description = "Retrieves review group criteria with pagination support"
@@ -79,6 +117,35 @@ public class ReviewGroupCriteriaController {
         return ResponseEntity.ok(criteriaPage);
     }
 
+    @Operation(
+        summary = "Get review group criteria one keyset page at a time",
+        description = "Seeks past the cursor instead of using an offset, so every page costs the same. "
+                + "Pass nextCursor from the previous page as cursor; the total is only counted when includeTotal is true."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page of review group criteria retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort key, page size or cursor", content = @Content)
+    })
+    @GetMapping("/keyset")
+    public ResponseEntity<CursorPageDTO<ReviewGroupCriteriaDTO>> getAllKeyset(
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            
+            @Parameter(description = "Sort key", schema = @Schema(allowableValues = {"criteriaName", "reviewGroupCriteriaId"}))
+            @RequestParam(defaultValue = "criteriaName") String sortBy,
+            
+            @Parameter(description = "Sort direction", schema = @Schema(allowableValues = {"asc", "desc"}))
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Also count all matching rows")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        CursorPageDTO<ReviewGroupCriteriaDTO> page = reviewGroupCriteriaService.findAllKeyset(size, sortBy, sortDirection, cursor, includeTotal);
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(
         summary = "Create a new review group criteria",
         description = "Creates a new review group criteria with the provided details"
@@ -97,17 +164,18 @@ public class ReviewGroupCriteriaController {
             @RequestHeader("X-User-Id") String createdBy) {
         
         ReviewGroupCriteriaDTO createdCriteria = reviewGroupCriteriaService.create(criteriaDTO, createdBy);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdCriteria);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(VersionTags.of(createdCriteria.getVersion())).body(createdCriteria);
     }
 
     @Operation(
         summary = "Update an existing review group criteria",
-        description = "Updates the details of an existing review group criteria"
+        description = "Updates the details of an existing review group criteria; with If-Match, only while it still has that ETag"
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Review group criteria updated successfully"),
         @ApiResponse(responseCode = "404", description = "Review group criteria not found", content = @Content),
-        @ApiResponse(responseCode = "409", description = "Review group criteria with same name already exists", content = @Content)
+        @ApiResponse(responseCode = "409", description = "Review group criteria with same name already exists", content = @Content),
+        @ApiResponse(responseCode = "412", description = "Review group criteria was modified since the If-Match ETag", content = @Content)
     })
     @PutMapping("/{id}")
     public ResponseEntity<ReviewGroupCriteriaDTO> update(
@@ -117,11 +185,40 @@ public class ReviewGroupCriteriaController {
             @Parameter(description = "Updated review group criteria details", required = true)
             @Valid @RequestBody ReviewGroupCriteriaDTO criteriaDTO,
             
+            @Parameter(description = "Username of the updater", example = "system-admin", required = true)
+            @RequestHeader("X-User-Id") String updatedBy,
+            
+            @Parameter(description = "ETag from a previous read; the update is rejected once the criteria has changed", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        
+        Long expectedVersion = VersionTags.expectedVersion(ifMatch, "ReviewGroupCriteria", id);
+        ReviewGroupCriteriaDTO updatedCriteria = reviewGroupCriteriaService.update(id, criteriaDTO, updatedBy, expectedVersion);
+        return ResponseEntity.ok().eTag(VersionTags.of(updatedCriteria.getVersion())).body(updatedCriteria);
+    }
+
+    @Operation(
+        summary = "Create or update the review group criteria with the given name",
+        description = "Creates the criteria when no criteria has this name, otherwise updates it"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Review group criteria created successfully"),
+        @ApiResponse(responseCode = "200", description = "Review group criteria updated successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data or name not matching the path", content = @Content)
+    })
+    @PutMapping("/by-name/{criteriaName}")
+    public ResponseEntity<ReviewGroupCriteriaDTO> upsertByName(
+            @Parameter(description = "Name of the review group criteria", example = "Asset Size", required = true)
+            @PathVariable String criteriaName,
+            
+            @Parameter(description = "Review group criteria details", required = true)
+            @Valid @RequestBody ReviewGroupCriteriaDTO criteriaDTO,
+            
             @Parameter(description = "Username of the updater", example = "system-admin", required = true)
             @RequestHeader("X-User-Id") String updatedBy) {
         
-        ReviewGroupCriteriaDTO updatedCriteria = reviewGroupCriteriaService.update(id, criteriaDTO, updatedBy);
-        return ResponseEntity.ok(updatedCriteria);
+        UpsertResultDTO<ReviewGroupCriteriaDTO> result = reviewGroupCriteriaService.upsertByName(criteriaName, criteriaDTO, updatedBy);
+        return ResponseEntity.status(result.created() ? HttpStatus.CREATED : HttpStatus.OK)
+                .eTag(VersionTags.of(result.value().getVersion())).body(result.value());
     }
 
     @Operation(
@@ -172,6 +269,61 @@ public class ReviewGroupCriteriaController {
         return ResponseEntity.ok(results);
     }
 
+    @Operation(
+        summary = "Search criteria by name one keyset page at a time",
+        description = "Keyset-paginated variant of the name search; pass nextCursor from the previous page as cursor"
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Page of search results retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Unsupported sort key, page size or cursor", content = @Content)
+    })
+    @GetMapping("/search/keyset")
+    public ResponseEntity<CursorPageDTO<ReviewGroupCriteriaDTO>> searchByCriteriaNameKeyset(
+            @Parameter(description = "Criteria name to search for", example = "Quality", required = true)
+            @RequestParam String criteriaName,
+            
+            @Parameter(description = "Page size", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            
+            @Parameter(description = "Sort key", schema = @Schema(allowableValues = {"criteriaName", "reviewGroupCriteriaId"}))
+            @RequestParam(defaultValue = "criteriaName") String sortBy,
+            
+            @Parameter(description = "Sort direction", schema = @Schema(allowableValues = {"asc", "desc"}))
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            
+            @Parameter(description = "nextCursor of the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            
+            @Parameter(description = "Also count all matching rows")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        CursorPageDTO<ReviewGroupCriteriaDTO> page = reviewGroupCriteriaService.searchByCriteriaNameKeyset(
+                criteriaName, size, sortBy, sortDirection, cursor, includeTotal);
+        return ResponseEntity.ok(page);
+    }
+
+    @Operation(
+        summary = "Suggest criteria names for typeahead",
+        description = "Returns the best matches for a partial name, case-insensitive: exact matches first, "
+                + "then names starting with the query, then names with a word starting with it, then any other match. "
+                + "Queries of one or two characters only match at the start of a word."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Limit out of range", content = @Content)
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<NameSuggestionDTO>> suggestCriteriaNames(
+            @Parameter(description = "Partial criteria name", example = "qual", required = true)
+            @RequestParam String q,
+            
+            @Parameter(description = "Maximum number of suggestions", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        
+        List<NameSuggestionDTO> suggestions = reviewGroupCriteriaService.suggestByCriteriaName(q, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
     @Operation(
         summary = "Count criteria by type",
         description = "Returns the count of review group criteria for a specific type"
@@ -208,6 +360,10 @@ public class ReviewGroupCriteriaController {
     @GetMapping("/types")
     public ResponseEntity<GroupCriteriaType[]> getAllCriteriaTypes() {
         GroupCriteriaType[] types = GroupCriteriaType.values();
-        return ResponseEntity.ok(types);
+        // Spring answers a matching If-None-Match with 304 from the ETag set here
+        return ResponseEntity.ok()
+                .eTag(CRITERIA_TYPES_ETAG)
+                .cacheControl(CRITERIA_TYPES_CACHE)
+                .body(types);
     }
 }
\ No newline at end of file
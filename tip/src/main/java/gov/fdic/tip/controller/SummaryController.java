@@ -0,0 +1,41 @@
+package gov.fdic.tip.controller;
+
+import gov.fdic.tip.dto.ReviewCycleGroupFacetsDTO;
+import gov.fdic.tip.dto.SummaryDTO;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.service.ReviewGroupCriteriaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Dashboard endpoint that replaces a round trip per count endpoint with one request.
+ */
+@RestController
+@RequestMapping("/api/v1/summary")
+@Tag(name = "Summary", description = "APIs for dashboard counts")
+public class SummaryController {
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewGroupCriteriaService reviewGroupCriteriaService;
+
+    @GetMapping
+    @Operation(summary = "Get the counts of review cycle groups and review group criteria by every facet",
+               description = "Served from the materialized counters when they are enabled")
+    public ResponseEntity<SummaryDTO> getSummary() {
+        ReviewCycleGroupFacetsDTO reviewCycleGroups = reviewCycleGroupService.countFacets();
+        Map<GroupCriteriaType, Long> criteriaByType = reviewGroupCriteriaService.countsByCriteriaType();
+        long criteria = criteriaByType.values().stream().mapToLong(Long::longValue).sum();
+        return ResponseEntity.ok(new SummaryDTO(reviewCycleGroups, criteria, criteriaByType));
+    }
+}
@@ -0,0 +1,138 @@
+package gov.fdic.tip.controller;
+
+import gov.fdic.tip.exception.PreconditionFailedException;
+import org.springframework.http.ETag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * ETags of versioned resources: the entity version as a strong tag, e.g. "3". Writes take the
+ * expected version from If-Match and leave the comparison to the service. Collections are tagged
+ * with a digest of their (id, version) pairs, which changes whenever a member is added, removed or
+ * updated.
+ * Single resources also carry Last-Modified from their audit timestamp, for clients that only
+ * revalidate with If-Modified-Since. Collections do not: removing a member leaves the newest
+ * timestamp unchanged, so only their ETag can tell.
+ */
+final class VersionTags {
+
+    private VersionTags() {
+    }
+
+    static String of(Long version) {
+        return String.valueOf(version);
+    }
+
+    static String ofVersions(Map<Long, Long> versionsById) {
+        StringBuilder content = new StringBuilder();
+        new TreeMap<>(versionsById).forEach((id, version) -> content.append(id).append(':').append(version).append(';'));
+        return digest(content.toString());
+    }
+
+    // TreeMap rather than Collectors.toMap, which rejects the null version of an unsaved DTO
+    static <T> String ofVersions(List<T> items, Function<T, Long> id, Function<T, Long> version) {
+        Map<Long, Long> versionsById = new TreeMap<>();
+        for (T item : items) {
+            versionsById.put(id.apply(item), version.apply(item));
+        }
+        return ofVersions(versionsById);
+    }
+
+    static String ofNames(Enum<?>[] values) {
+        StringBuilder content = new StringBuilder();
+        for (Enum<?> value : values) {
+            content.append(value.name()).append(';');
+        }
+        return digest(content.toString());
+    }
+
+    /**
+     * Whether an If-None-Match header matches the current tag, so a GET can answer 304. Uses the
+     * weak comparison the header calls for; an absent header never matches.
+     */
+    static boolean matches(String ifNoneMatch, String tag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        ETag current = new ETag(tag, false);
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The Last-Modified value of an audit timestamp, which is stamped in the JVM's zone. HTTP dates
+     * have whole seconds, so the fraction is dropped. Null for rows written before auditing.
+     */
+    static Instant lastModified(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return null;
+        }
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Whether a resource last modified at updatedAt is unchanged since an If-Modified-Since date, so
+     * a GET can answer 304. An absent or unparseable date, or an unknown timestamp, never matches.
+     */
+    static boolean notModifiedSince(String ifModifiedSince, LocalDateTime updatedAt) {
+        Instant lastModified = lastModified(updatedAt);
+        if (ifModifiedSince == null || ifModifiedSince.isBlank() || lastModified == null) {
+            return false;
+        }
+        try {
+            Instant since = ZonedDateTime.parse(ifModifiedSince.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return !lastModified.isAfter(since);
+        } catch (DateTimeParseException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * The version an If-Match header requires, or null when it is absent or "*". A weak tag, a list
+     * of tags or anything that is not a version can never match, so it fails the precondition.
+     */
+    static Long expectedVersion(String ifMatch, String resourceName, Long id) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.size() == 1 && tags.get(0).isWildcard()) {
+            return null;
+        }
+        if (tags.size() != 1 || tags.get(0).weak()) {
+            throw new PreconditionFailedException(resourceName, id);
+        }
+        try {
+            return Long.valueOf(tags.get(0).tag());
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException(resourceName, id);
+        }
+    }
+
+    private static String digest(String content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-item outcome of a bulk write, in the same order as the request payload.
+ */
+public class BatchResultDTO {
+
+    public enum Status { CREATED, DUPLICATE, INVALID, FAILED }
+
+    @JsonProperty("total")
+    private int total;
+
+    @JsonProperty("created")
+    private int created;
+
+    @JsonProperty("failed")
+    private int failed;
+
+    @JsonProperty("items")
+    private List<ItemResult> items = new ArrayList<>();
+
+    public BatchResultDTO() {}
+
+    public BatchResultDTO(int expectedSize) {
+        this.items = new ArrayList<>(expectedSize);
+    }
+
+    public void add(ItemResult item) {
+        items.add(item);
+        total++;
+        if (item.getStatus() == Status.CREATED) {
+            created++;
+        } else {
+            failed++;
+        }
+    }
+
+    public int getTotal() { return total; }
+    public int getCreated() { return created; }
+    public int getFailed() { return failed; }
+    public List<ItemResult> getItems() { return items; }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+
+        @JsonProperty("index")
+        private int index;
+
+        @JsonProperty("status")
+        private Status status;
+
+        @JsonProperty("id")
+        private Long id;
+
+        @JsonProperty("name")
+        private String name;
+
+        @JsonProperty("errorCode")
+        private String errorCode;
+
+        @JsonProperty("message")
+        private String message;
+
+        public ItemResult() {}
+
+        private ItemResult(int index, Status status, Long id, String name, String errorCode, String message) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.name = name;
+            this.errorCode = errorCode;
+            this.message = message;
+        }
+
+        public static ItemResult created(int index, Long id, String name) {
+            return new ItemResult(index, Status.CREATED, id, name, null, null);
+        }
+
+        public static ItemResult rejected(int index, Status status, String name, String errorCode, String message) {
+            return new ItemResult(index, status, null, name, errorCode, message);
+        }
+
+        public int getIndex() { return index; }
+        public Status getStatus() { return status; }
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getErrorCode() { return errorCode; }
+        public String getMessage() { return message; }
+    }
+}
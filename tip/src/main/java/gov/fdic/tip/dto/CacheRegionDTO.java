@@ -0,0 +1,15 @@
+package gov.fdic.tip.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Size and statistics of one service cache on this node, counted since startup.
+ */
+public record CacheRegionDTO(String name, long size, long hitCount, long missCount, double hitRatio,
+                             long evictionCount, long loadCount, double averageLoadMillis) {
+
+    public static CacheRegionDTO of(String name, long size, CacheStats stats) {
+        return new CacheRegionDTO(name, size, stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), stats.loadCount(), stats.averageLoadPenalty() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,38 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * One batch of the change feed, oldest change first. nextCursor is always present: pass it back as
+ * since to continue, immediately while hasMore is true and on the next poll otherwise.
+ */
+public class ChangeFeedDTO<T> {
+
+    @JsonProperty("changes")
+    private List<T> changes;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("hasMore")
+    private boolean hasMore;
+
+    public ChangeFeedDTO() {}
+
+    public ChangeFeedDTO(List<T> changes, String nextCursor, boolean hasMore) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<T> getChanges() { return changes; }
+    public void setChanges(List<T> changes) { this.changes = changes; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public boolean isHasMore() { return hasMore; }
+    public void setHasMore(boolean hasMore) { this.hasMore = hasMore; }
+}
@@ -0,0 +1,54 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated result. Pass nextCursor back as the cursor parameter to fetch the
+ * following page; totalElements is only present when the caller asked for it.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageDTO<T> {
+
+    @JsonProperty("content")
+    private List<T> content;
+
+    @JsonProperty("size")
+    private int size;
+
+    @JsonProperty("hasNext")
+    private boolean hasNext;
+
+    @JsonProperty("nextCursor")
+    private String nextCursor;
+
+    @JsonProperty("totalElements")
+    private Long totalElements;
+
+    public CursorPageDTO() {}
+
+    public CursorPageDTO(List<T> content, int size, boolean hasNext, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    public List<T> getContent() { return content; }
+    public void setContent(List<T> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public Long getTotalElements() { return totalElements; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+}
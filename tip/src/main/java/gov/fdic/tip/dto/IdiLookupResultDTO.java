@@ -0,0 +1,39 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of resolving many IDIs at once: each matched IDI maps to the ids of its groups, and
+ * every referenced group is listed once.
+ */
+public class IdiLookupResultDTO {
+
+    @JsonProperty("groupIdsByIdi")
+    private Map<String, List<Long>> groupIdsByIdi;
+
+    @JsonProperty("groups")
+    private List<ReviewCycleGroupDTO> groups;
+
+    @JsonProperty("unmatchedIdis")
+    private List<String> unmatchedIdis;
+
+    public IdiLookupResultDTO() {}
+
+    public IdiLookupResultDTO(Map<String, List<Long>> groupIdsByIdi, List<ReviewCycleGroupDTO> groups, List<String> unmatchedIdis) {
+        this.groupIdsByIdi = groupIdsByIdi;
+        this.groups = groups;
+        this.unmatchedIdis = unmatchedIdis;
+    }
+
+    public Map<String, List<Long>> getGroupIdsByIdi() { return groupIdsByIdi; }
+    public void setGroupIdsByIdi(Map<String, List<Long>> groupIdsByIdi) { this.groupIdsByIdi = groupIdsByIdi; }
+
+    public List<ReviewCycleGroupDTO> getGroups() { return groups; }
+    public void setGroups(List<ReviewCycleGroupDTO> groups) { this.groups = groups; }
+
+    public List<String> getUnmatchedIdis() { return unmatchedIdis; }
+    public void setUnmatchedIdis(List<String> unmatchedIdis) { this.unmatchedIdis = unmatchedIdis; }
+}
@@ -0,0 +1,47 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Running totals of a file import. An error means the file could not be read past some row.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportProgressDTO {
+
+    @JsonProperty("rowsRead")
+    private long rowsRead;
+
+    @JsonProperty("groupsRead")
+    private long groupsRead;
+
+    @JsonProperty("created")
+    private long created;
+
+    @JsonProperty("rejected")
+    private long rejected;
+
+    @JsonProperty("done")
+    private boolean done;
+
+    @JsonProperty("error")
+    private String error;
+
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getGroupsRead() { return groupsRead; }
+    public void setGroupsRead(long groupsRead) { this.groupsRead = groupsRead; }
+
+    public long getCreated() { return created; }
+    public void setCreated(long created) { this.created = created; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public boolean isDone() { return done; }
+    public void setDone(boolean done) { this.done = done; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
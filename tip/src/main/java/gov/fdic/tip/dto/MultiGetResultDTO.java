@@ -0,0 +1,28 @@
+package gov.fdic.tip.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of fetching many keys at once. found holds what each key resolved to, in the order the
+ * keys were requested with duplicates dropped; every key that resolved to nothing is in missing.
+ */
+public record MultiGetResultDTO<V>(Map<Long, V> found, List<Long> missing) {
+
+    public static <V> MultiGetResultDTO<V> of(Collection<Long> requested, Map<Long, V> loaded) {
+        Map<Long, V> found = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long key : requested) {
+            V value = loaded.get(key);
+            if (value != null) {
+                found.put(key, value);
+            } else {
+                missing.add(key);
+            }
+        }
+        return new MultiGetResultDTO<>(found, missing);
+    }
+}
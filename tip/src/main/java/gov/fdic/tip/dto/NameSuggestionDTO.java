@@ -0,0 +1,28 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Typeahead suggestion: just enough to render the option and fetch the full record when chosen.
+ */
+public class NameSuggestionDTO {
+
+    @JsonProperty("id")
+    private Long id;
+
+    @JsonProperty("name")
+    private String name;
+
+    public NameSuggestionDTO() {}
+
+    public NameSuggestionDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
@@ -0,0 +1,31 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Fields applied to every group of a review cycle at once; fields left null are not changed.
+ */
+public class ReviewCycleGroupBulkUpdateDTO {
+
+    @JsonProperty("booleanState")
+    private Boolean booleanState;
+
+    @Size(max = 100, message = "Review frequency must be at most 100 characters")
+    @JsonProperty("reviewFrequency")
+    private String reviewFrequency;
+
+    @Min(value = 0, message = "Reviews per year must not be negative")
+    @JsonProperty("reviewsPerYear")
+    private Integer reviewsPerYear;
+
+    public Boolean getBooleanState() { return booleanState; }
+    public void setBooleanState(Boolean booleanState) { this.booleanState = booleanState; }
+
+    public String getReviewFrequency() { return reviewFrequency; }
+    public void setReviewFrequency(String reviewFrequency) { this.reviewFrequency = reviewFrequency; }
+
+    public Integer getReviewsPerYear() { return reviewsPerYear; }
+    public void setReviewsPerYear(Integer reviewsPerYear) { this.reviewsPerYear = reviewsPerYear; }
+}
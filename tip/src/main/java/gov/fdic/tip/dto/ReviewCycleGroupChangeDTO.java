@@ -0,0 +1,68 @@
+package gov.fdic.tip.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the change feed: a group as it now stands, or the tombstone of a deleted one, which
+ * carries no group.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReviewCycleGroupChangeDTO {
+
+    public enum ChangeType { UPSERTED, DELETED }
+
+    @JsonProperty("changeType")
+    private ChangeType changeType;
+
+    @JsonProperty("reviewCycleGroupId")
+    private Long reviewCycleGroupId;
+
+    @JsonProperty("reviewCycleId")
+    private Long reviewCycleId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSSS")
+    @JsonProperty("changedAt")
+    private LocalDateTime changedAt;
+
+    @JsonProperty("group")
+    private ReviewCycleGroupDTO group;
+
+    public ReviewCycleGroupChangeDTO() {}
+
+    public ReviewCycleGroupChangeDTO(ChangeType changeType, Long reviewCycleGroupId, Long reviewCycleId,
+                                     LocalDateTime changedAt, ReviewCycleGroupDTO group) {
+        this.changeType = changeType;
+        this.reviewCycleGroupId = reviewCycleGroupId;
+        this.reviewCycleId = reviewCycleId;
+        this.changedAt = changedAt;
+        this.group = group;
+    }
+
+    public static ReviewCycleGroupChangeDTO upserted(ReviewCycleGroupDTO group) {
+        return new ReviewCycleGroupChangeDTO(ChangeType.UPSERTED, group.getReviewCycleGroupId(), group.getReviewCycleId(),
+                group.getUpdatedDttm(), group);
+    }
+
+    public static ReviewCycleGroupChangeDTO deleted(Long reviewCycleGroupId, Long reviewCycleId, LocalDateTime deletedAt) {
+        return new ReviewCycleGroupChangeDTO(ChangeType.DELETED, reviewCycleGroupId, reviewCycleId, deletedAt, null);
+    }
+
+    public ChangeType getChangeType() { return changeType; }
+    public void setChangeType(ChangeType changeType) { this.changeType = changeType; }
+
+    public Long getReviewCycleGroupId() { return reviewCycleGroupId; }
+    public void setReviewCycleGroupId(Long reviewCycleGroupId) { this.reviewCycleGroupId = reviewCycleGroupId; }
+
+    public Long getReviewCycleId() { return reviewCycleId; }
+    public void setReviewCycleId(Long reviewCycleId) { this.reviewCycleId = reviewCycleId; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+    public void setChangedAt(LocalDateTime changedAt) { this.changedAt = changedAt; }
+
+    public ReviewCycleGroupDTO getGroup() { return group; }
+    public void setGroup(ReviewCycleGroupDTO group) { this.group = group; }
+}
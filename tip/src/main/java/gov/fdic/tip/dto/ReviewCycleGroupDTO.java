@@ -67,6 +67,10 @@ public class ReviewCycleGroupDTO {
     @JsonProperty("updatedDttm")
     private LocalDateTime updatedDttm;
 
+    // Also sent as the ETag; ignored on writes, which take the expected version from If-Match
+    @JsonProperty("version")
+    private Long version;
+
     // Validation groups
     public interface CreateGroup {}
     public interface UpdateGroup {}
@@ -80,6 +84,28 @@ public class ReviewCycleGroupDTO {
         this.reviewTypeId = reviewTypeId;
     }
 
+    // Target of the repository's constructor-expression projections; listOfIdis is attached afterwards
+    public ReviewCycleGroupDTO(Long reviewCycleGroupId, String reviewGroupName, Long reviewCycleId, Long reviewTypeId,
+                               Long reviewConditionId, Integer rangeStart, Integer rangeEnd, Boolean booleanState,
+                               String reviewFrequency, Integer reviewsPerYear, String createdBy, String updatedBy,
+                               LocalDateTime createdDttm, LocalDateTime updatedDttm, Long version) {
+        this.reviewCycleGroupId = reviewCycleGroupId;
+        this.reviewGroupName = reviewGroupName;
+        this.reviewCycleId = reviewCycleId;
+        this.reviewTypeId = reviewTypeId;
+        this.reviewConditionId = reviewConditionId;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.booleanState = booleanState;
+        this.reviewFrequency = reviewFrequency;
+        this.reviewsPerYear = reviewsPerYear;
+        this.createdBy = createdBy;
+        this.updatedBy = updatedBy;
+        this.createdDttm = createdDttm;
+        this.updatedDttm = updatedDttm;
+        this.version = version;
+    }
+
     // Getters and Setters
     public Long getReviewCycleGroupId() { return reviewCycleGroupId; }
     public void setReviewCycleGroupId(Long reviewCycleGroupId) { this.reviewCycleGroupId = reviewCycleGroupId; }
@@ -125,4 +151,7 @@ public class ReviewCycleGroupDTO {
 
     public LocalDateTime getUpdatedDttm() { return updatedDttm; }
     public void setUpdatedDttm(LocalDateTime updatedDttm) { this.updatedDttm = updatedDttm; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
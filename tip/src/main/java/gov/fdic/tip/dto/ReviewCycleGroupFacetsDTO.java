@@ -0,0 +1,11 @@
+package gov.fdic.tip.dto;
+
+import java.util.Map;
+
+/**
+ * Number of review cycle groups in total and per review cycle, review type and boolean state.
+ * Keys without groups are left out; groups with a null facet are only counted in the total.
+ */
+public record ReviewCycleGroupFacetsDTO(long total, Map<Long, Long> byReviewCycleId, Map<Long, Long> byReviewTypeId,
+                                        Map<Boolean, Long> byBooleanState) {
+}
@@ -0,0 +1,45 @@
+package gov.fdic.tip.dto;
+
+/**
+ * Predicates of the composite group query, bound from request parameters. Every field left null
+ * is not filtered on; the rest must all match.
+ */
+public class ReviewCycleGroupFilterDTO {
+
+    private Long reviewCycleId;
+
+    private Long reviewTypeId;
+
+    private Long reviewConditionId;
+
+    private Boolean booleanState;
+
+    // Groups whose range [rangeStart, rangeEnd] contains this value
+    private Integer value;
+
+    private String idi;
+
+    // Case-sensitive, so an index on the name can serve it
+    private String namePrefix;
+
+    public Long getReviewCycleId() { return reviewCycleId; }
+    public void setReviewCycleId(Long reviewCycleId) { this.reviewCycleId = reviewCycleId; }
+
+    public Long getReviewTypeId() { return reviewTypeId; }
+    public void setReviewTypeId(Long reviewTypeId) { this.reviewTypeId = reviewTypeId; }
+
+    public Long getReviewConditionId() { return reviewConditionId; }
+    public void setReviewConditionId(Long reviewConditionId) { this.reviewConditionId = reviewConditionId; }
+
+    public Boolean getBooleanState() { return booleanState; }
+    public void setBooleanState(Boolean booleanState) { this.booleanState = booleanState; }
+
+    public Integer getValue() { return value; }
+    public void setValue(Integer value) { this.value = value; }
+
+    public String getIdi() { return idi; }
+    public void setIdi(String idi) { this.idi = idi; }
+
+    public String getNamePrefix() { return namePrefix; }
+    public void setNamePrefix(String namePrefix) { this.namePrefix = namePrefix; }
+}
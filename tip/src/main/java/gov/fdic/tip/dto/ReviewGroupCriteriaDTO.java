@@ -46,6 +46,11 @@ public class ReviewGroupCriteriaDTO {
             accessMode = Schema.AccessMode.READ_ONLY)
     private String updatedBy;
 
+    @Schema(description = "Version of the record, also sent as the ETag; send it back in If-Match to update",
+            example = "3",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     // Constructors
     public ReviewGroupCriteriaDTO() {
     }
@@ -56,6 +61,17 @@ public class ReviewGroupCriteriaDTO {
         this.criteriaType = criteriaType;
     }
 
+    // Target of the repository's constructor-expression projections
+    public ReviewGroupCriteriaDTO(Long reviewGroupCriteriaId, String criteriaName, GroupCriteriaType criteriaType,
+                                  String createdBy, String updatedBy, Long version) {
+        this.reviewGroupCriteriaId = reviewGroupCriteriaId;
+        this.criteriaName = criteriaName;
+        this.criteriaType = criteriaType;
+        this.createdBy = createdBy;
+        this.updatedBy = updatedBy;
+        this.version = version;
+    }
+
     // Getters and Setters
     public Long getReviewGroupCriteriaId() {
         return reviewGroupCriteriaId;
@@ -97,6 +113,14 @@ public class ReviewGroupCriteriaDTO {
         this.updatedBy = updatedBy;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "ReviewGroupCriteriaDTO{" +
@@ -105,6 +129,7 @@ public class ReviewGroupCriteriaDTO {
                 ", criteriaType=" + criteriaType +
                 ", createdBy='" + createdBy + '\'' +
                 ", updatedBy='" + updatedBy + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
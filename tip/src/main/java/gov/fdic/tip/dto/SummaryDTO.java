@@ -0,0 +1,13 @@
+package gov.fdic.tip.dto;
+
+import gov.fdic.tip.enums.GroupCriteriaType;
+
+import java.util.Map;
+
+/**
+ * Every count the dashboard shows, in one response. Criteria are counted for every type, zero
+ * included.
+ */
+public record SummaryDTO(ReviewCycleGroupFacetsDTO reviewCycleGroups, long reviewGroupCriteria,
+                         Map<GroupCriteriaType, Long> reviewGroupCriteriaByType) {
+}
@@ -0,0 +1,7 @@
+package gov.fdic.tip.dto;
+
+/**
+ * Outcome of a create-or-update by name: the stored value and whether it was newly created.
+ */
+public record UpsertResultDTO<T>(T value, boolean created) {
+}
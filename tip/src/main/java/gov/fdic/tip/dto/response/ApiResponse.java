@@ -1,6 +1,9 @@
 package gov.fdic.tip.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import gov.fdic.tip.constants.AppConstants;
+import org.slf4j.MDC;
+
 import java.time.LocalDateTime;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -11,6 +14,7 @@ public class ApiResponse<T> {
     private LocalDateTime timestamp;
     private String requestId; 
 
+    // The request id defaults to the one RequestTracingFilter put in the MDC; withRequestId overrides it
     private ApiResponse(boolean success, String message, T data, String requestId) {
         this.success = success;
         this.message = message;
@@ -20,19 +24,19 @@ public class ApiResponse<T> {
     }
 
     public static <T> ApiResponse<T> success(String message, T data) {
-        return new ApiResponse<>(true, message, data, null);
+        return new ApiResponse<>(true, message, data, MDC.get(AppConstants.REQUEST_ID_MDC_KEY));
     }
 
     public static <T> ApiResponse<T> success(String message) {
-        return new ApiResponse<>(true, message, null, null);
+        return new ApiResponse<>(true, message, null, MDC.get(AppConstants.REQUEST_ID_MDC_KEY));
     }
 
     public static <T> ApiResponse<T> error(String message) {
-        return new ApiResponse<>(false, message, null, null);
+        return new ApiResponse<>(false, message, null, MDC.get(AppConstants.REQUEST_ID_MDC_KEY));
     }
 
     public static <T> ApiResponse<T> error(String message, T data) {
-        return new ApiResponse<>(false, message, data, null);
+        return new ApiResponse<>(false, message, data, MDC.get(AppConstants.REQUEST_ID_MDC_KEY));
     }
 
     // Getters
@@ -2,6 +2,9 @@ package gov.fdic.tip.entity;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.hibernate.annotations.ColumnDefault;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -24,11 +27,19 @@ public abstract class BaseEntity {
     @Column(name = "updated_by", length = 100)
     private String updatedBy;
 
+    // Both stamped by the lifecycle callbacks below; updatedAt also drives the change feed
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Optimistic lock: every update increments it and only applies while it still matches.
+    // The default mirrors migration V5 for rows inserted outside JPA.
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
     
      
      
@@ -48,6 +59,32 @@ public abstract class BaseEntity {
     
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    /**
+     * The clock used for audit timestamps, also by bulk statements that bypass the callbacks.
+     * Truncated to the microseconds the database stores, so a timestamp read back compares equal
+     * to the one written.
+     */
+    public static LocalDateTime auditTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = auditTimestamp();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        updatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = auditTimestamp();
+    }
     
       
     
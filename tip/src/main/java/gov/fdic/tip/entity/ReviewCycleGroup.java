@@ -2,6 +2,10 @@ package gov.fdic.tip.entity;
 
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -9,8 +13,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 
 /**
@@ -21,11 +28,35 @@ import jakarta.persistence.Table;
  * Entity class representing a Review Cycle Group.
  */
 @Entity
-@Table(name = "review_cycle_group")
+// (name, id) backs keyset pagination by name; the primary key covers keyset pagination by id.
+// (change_number, id) backs the change feed, which seeks past its cursor in that order.
+// The rest back the filters of the composite query (ReviewCycleGroupSpecifications).
+@Table(name = "review_cycle_group",
+       uniqueConstraints = @UniqueConstraint(name = ReviewCycleGroup.NAME_CONSTRAINT, columnNames = "review_group_name"),
+       indexes = {
+           @Index(name = "idx_review_cycle_group_name_id", columnList = "review_group_name, review_cycle_group_id"),
+           @Index(name = "idx_review_cycle_group_change_number_id", columnList = "change_number, review_cycle_group_id"),
+           @Index(name = "idx_review_cycle_group_cycle_type_id", columnList = "review_cycle_id, review_type_id, review_cycle_group_id"),
+           @Index(name = "idx_review_cycle_group_type_id", columnList = "review_type_id, review_cycle_group_id"),
+           @Index(name = "idx_review_cycle_group_condition_id", columnList = "review_condition_id, review_cycle_group_id"),
+           @Index(name = "idx_review_cycle_group_range", columnList = "range_start, range_end")
+       })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReviewCycleGroup.CACHE_REGION)
 public class ReviewCycleGroup extends BaseEntity {
 
+    // Enforces unique names in the database; inserts rely on it instead of checking first
+    public static final String NAME_CONSTRAINT = "uk_review_cycle_group_name";
+
+    // Second-level cache regions, created with their size and TTL by SecondLevelCacheConfig
+    public static final String CACHE_REGION = "review_cycle_group";
+    public static final String IDIS_CACHE_REGION = "review_cycle_group_idis";
+    public static final String QUERY_CACHE_REGION = "review_cycle_group_queries";
+
+    // Pooled sequence (allocationSize matches hibernate.jdbc.batch_size) so inserts can be batched;
+    // IDENTITY forces Hibernate to execute every insert immediately to read back the key.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_cycle_group_seq")
+    @SequenceGenerator(name = "review_cycle_group_seq", sequenceName = "review_cycle_group_seq", allocationSize = 20)
     @Column(name = "review_cycle_group_id")
     private Long reviewCycleGroupId;
 
@@ -50,8 +81,12 @@ public class ReviewCycleGroup extends BaseEntity {
     @Column(name = "boolean_state")
     private Boolean booleanState;
 
+    // Loaded in batches for paged reads; non-paged finders fetch it eagerly via @EntityGraph.
     @ElementCollection
-    @CollectionTable(name = "review_cycle_group_idis", joinColumns = @JoinColumn(name = "review_cycle_group_id"))
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReviewCycleGroup.IDIS_CACHE_REGION)
+    @CollectionTable(name = "review_cycle_group_idis", joinColumns = @JoinColumn(name = "review_cycle_group_id"),
+                     indexes = @Index(name = "idx_review_cycle_group_idis_idi", columnList = "idi_value, review_cycle_group_id"))
     @Column(name = "idi_value")
     private List<String> listOfIdis;
 
@@ -61,6 +96,11 @@ public class ReviewCycleGroup extends BaseEntity {
     @Column(name = "reviews_per_year")
     private Integer reviewsPerYear;
 
+    // Position in the change feed, drawn from review_cycle_group_change_seq by the transaction that
+    // last wrote the group (ReviewCycleGroupService); groups written any other way are not fed
+    @Column(name = "change_number")
+    private Long changeNumber;
+
     
 
     // Constructors
@@ -111,5 +151,8 @@ public class ReviewCycleGroup extends BaseEntity {
     public Integer getReviewsPerYear() { return reviewsPerYear; }
     public void setReviewsPerYear(Integer reviewsPerYear) { this.reviewsPerYear = reviewsPerYear; }
 
+    public Long getChangeNumber() { return changeNumber; }
+    public void setChangeNumber(Long changeNumber) { this.changeNumber = changeNumber; }
+
    
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package gov.fdic.tip.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+
+/**
+ * Record of a deleted Review Cycle Group, kept so the change feed can tell consumers to drop it.
+ * Group ids come from a sequence and are never reused, so the id alone identifies the tombstone.
+ */
+@Entity
+@Table(name = "review_cycle_group_tombstone",
+       indexes = @Index(name = "idx_review_cycle_group_tombstone_change_number_id",
+                        columnList = "change_number, review_cycle_group_id"))
+public class ReviewCycleGroupTombstone {
+
+    @Id
+    @Column(name = "review_cycle_group_id")
+    private Long reviewCycleGroupId;
+
+    @Column(name = "review_cycle_id")
+    private Long reviewCycleId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    // Drawn by the deleting transaction from the same sequence as ReviewCycleGroup.changeNumber
+    @Column(name = "change_number", nullable = false)
+    private Long changeNumber;
+
+    // Constructors
+    public ReviewCycleGroupTombstone() {
+    }
+
+    // Getters and Setters
+    public Long getReviewCycleGroupId() { return reviewCycleGroupId; }
+    public void setReviewCycleGroupId(Long reviewCycleGroupId) { this.reviewCycleGroupId = reviewCycleGroupId; }
+
+    public Long getReviewCycleId() { return reviewCycleId; }
+    public void setReviewCycleId(Long reviewCycleId) { this.reviewCycleId = reviewCycleId; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+
+    public Long getChangeNumber() { return changeNumber; }
+    public void setChangeNumber(Long changeNumber) { this.changeNumber = changeNumber; }
+}
@@ -11,11 +11,18 @@ import jakarta.persistence.*;
  * Entity class representing Review Group Criteria.
  */
 @Entity
-@Table(name = "review_group_criteria")
+// (name, id) backs keyset pagination by name; the primary key covers keyset pagination by id
+@Table(name = "review_group_criteria",
+       uniqueConstraints = @UniqueConstraint(name = ReviewGroupCriteria.NAME_CONSTRAINT, columnNames = "criteria_name"),
+       indexes = @Index(name = "idx_review_group_criteria_name_id", columnList = "criteria_name, review_group_criteria_id"))
 public class ReviewGroupCriteria extends BaseEntity {
 
+    // Enforces unique names in the database; inserts rely on it instead of checking first
+    public static final String NAME_CONSTRAINT = "uk_review_group_criteria_name";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_group_criteria_seq")
+    @SequenceGenerator(name = "review_group_criteria_seq", sequenceName = "review_group_criteria_seq", allocationSize = 20)
     @Column(name = "review_group_criteria_id")
     private Long reviewGroupCriteriaId;
 
@@ -1,16 +1,33 @@
 package gov.fdic.tip.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "review_types")
 public class ReviewTypes extends BaseEntity {
 
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "review_type_id")
+	private Long reviewTypeId;
+
 	private String name;
 	private String description;
 
 	// Getters and setters
+	public Long getReviewTypeId() {
+		return reviewTypeId;
+	}
+
+	public void setReviewTypeId(Long reviewTypeId) {
+		this.reviewTypeId = reviewTypeId;
+	}
+
 	public String getName() {
 		return name;
 	}
@@ -0,0 +1,72 @@
+package gov.fdic.tip.event;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Published by ReviewCycleGroupService whenever groups are written, so in-memory read models
+ * can follow the database once the surrounding transaction commits. Besides the groups, it names
+ * every review cycle and review type whose set of groups may have changed, before and after the
+ * write, so caches keyed by them can be evicted without a lookup.
+ */
+public class ReviewCycleGroupChangedEvent {
+
+    public enum ChangeType { UPSERTED, DELETED }
+
+    private final ChangeType changeType;
+    private final List<ReviewCycleGroupDTO> groups;
+    private final List<Long> deletedIds;
+    private final Set<Long> reviewCycleIds;
+    private final Set<Long> reviewTypeIds;
+
+    private ReviewCycleGroupChangedEvent(ChangeType changeType, List<ReviewCycleGroupDTO> groups, List<Long> deletedIds,
+                                         Set<Long> reviewCycleIds, Set<Long> reviewTypeIds) {
+        this.changeType = changeType;
+        this.groups = groups;
+        this.deletedIds = deletedIds;
+        this.reviewCycleIds = reviewCycleIds;
+        this.reviewTypeIds = reviewTypeIds;
+    }
+
+    /**
+     * Groups that were created, or updated without moving to another review cycle or review type.
+     */
+    public static ReviewCycleGroupChangedEvent upserted(List<ReviewCycleGroupDTO> groups) {
+        return new ReviewCycleGroupChangedEvent(ChangeType.UPSERTED, List.copyOf(groups), Collections.emptyList(),
+                keys(groups.stream().map(ReviewCycleGroupDTO::getReviewCycleId)),
+                keys(groups.stream().map(ReviewCycleGroupDTO::getReviewTypeId)));
+    }
+
+    /**
+     * A group that was updated from the given review cycle and review type; null for a new group.
+     */
+    public static ReviewCycleGroupChangedEvent upserted(ReviewCycleGroupDTO group, Long previousReviewCycleId,
+                                                        Long previousReviewTypeId) {
+        return new ReviewCycleGroupChangedEvent(ChangeType.UPSERTED, List.of(group), Collections.emptyList(),
+                keys(Stream.of(group.getReviewCycleId(), previousReviewCycleId)),
+                keys(Stream.of(group.getReviewTypeId(), previousReviewTypeId)));
+    }
+
+    public static ReviewCycleGroupChangedEvent deleted(List<Long> ids, Collection<Long> reviewCycleIds,
+                                                       Collection<Long> reviewTypeIds) {
+        return new ReviewCycleGroupChangedEvent(ChangeType.DELETED, Collections.emptyList(), List.copyOf(ids),
+                keys(reviewCycleIds.stream()), keys(reviewTypeIds.stream()));
+    }
+
+    private static Set<Long> keys(Stream<Long> ids) {
+        return ids.filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+    }
+
+    public ChangeType getChangeType() { return changeType; }
+    public List<ReviewCycleGroupDTO> getGroups() { return groups; }
+    public List<Long> getDeletedIds() { return deletedIds; }
+    public Set<Long> getReviewCycleIds() { return reviewCycleIds; }
+    public Set<Long> getReviewTypeIds() { return reviewTypeIds; }
+}
@@ -0,0 +1,37 @@
+package gov.fdic.tip.event;
+
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Published by ReviewGroupCriteriaService whenever criteria are written, so in-memory read models
+ * can follow the database once the surrounding transaction commits.
+ */
+public class ReviewGroupCriteriaChangedEvent {
+
+    public enum ChangeType { UPSERTED, DELETED }
+
+    private final ChangeType changeType;
+    private final List<ReviewGroupCriteriaDTO> criteria;
+    private final List<Long> deletedIds;
+
+    private ReviewGroupCriteriaChangedEvent(ChangeType changeType, List<ReviewGroupCriteriaDTO> criteria, List<Long> deletedIds) {
+        this.changeType = changeType;
+        this.criteria = criteria;
+        this.deletedIds = deletedIds;
+    }
+
+    public static ReviewGroupCriteriaChangedEvent upserted(List<ReviewGroupCriteriaDTO> criteria) {
+        return new ReviewGroupCriteriaChangedEvent(ChangeType.UPSERTED, List.copyOf(criteria), Collections.emptyList());
+    }
+
+    public static ReviewGroupCriteriaChangedEvent deleted(List<Long> ids) {
+        return new ReviewGroupCriteriaChangedEvent(ChangeType.DELETED, Collections.emptyList(), List.copyOf(ids));
+    }
+
+    public ChangeType getChangeType() { return changeType; }
+    public List<ReviewGroupCriteriaDTO> getCriteria() { return criteria; }
+    public List<Long> getDeletedIds() { return deletedIds; }
+}
@@ -0,0 +1,18 @@
+package gov.fdic.tip.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a conditional write names a version other than the current one, either because
+ * If-Match was stale or because a concurrent update committed first. Answered with 412.
+ */
+@ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+public class PreconditionFailedException extends BusinessException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String resourceName, Long id) {
+        super("VERSION_MISMATCH", String.format("%s with id %d has been modified; reload it and retry", resourceName, id));
+    }
+}
@@ -0,0 +1,30 @@
+package gov.fdic.tip.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Recognises unique constraint violations by constraint name, so an insert can be attempted
+ * directly and a clash reported as a business error instead of being checked for beforehand.
+ */
+public final class UniqueConstraints {
+
+    private UniqueConstraints() {
+    }
+
+    /**
+     * Whether the failure was caused by the named constraint. Matching is by containment because
+     * some databases report the backing index (H2: PUBLIC.UK_..._INDEX_4) rather than the constraint.
+     */
+    public static boolean isViolated(DataIntegrityViolationException ex, String constraintName) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName() != null
+                        && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+            }
+        }
+        return false;
+    }
+}
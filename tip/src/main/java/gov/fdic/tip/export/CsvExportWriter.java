@@ -0,0 +1,85 @@
+package gov.fdic.tip.export;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header row and one row per group and IDI; a group without IDIs gets a single
+ * row with an empty idi. Text starting with a character a spreadsheet would read as the start of a
+ * formula (=, +, -, @, tab or carriage return) is prefixed with a single quote, so an exported name
+ * or IDI cannot run as one when the file is opened. Numbers are written as they are.
+ */
+class CsvExportWriter implements ReviewCycleGroupExportWriter {
+
+    private static final String FORMULA_STARTS = "=+-@\t\r";
+
+    private final Writer writer;
+    private ReviewCycleGroupDTO group;
+    private boolean groupHasIdis;
+
+    CsvExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (Column column : COLUMNS) {
+            writer.write(column.name());
+            writer.write(',');
+        }
+        writer.write(IDI_COLUMN);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void startGroup(ReviewCycleGroupDTO group) {
+        this.group = group;
+        this.groupHasIdis = false;
+    }
+
+    @Override
+    public void idi(String idi) throws IOException {
+        groupHasIdis = true;
+        writeRow(idi);
+    }
+
+    @Override
+    public void endGroup() throws IOException {
+        if (!groupHasIdis) {
+            writeRow(null);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRow(String idi) throws IOException {
+        for (Column column : COLUMNS) {
+            writeField(column.value().apply(group));
+            writer.write(',');
+        }
+        writeField(idi);
+        writer.write("\r\n");
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && FORMULA_STARTS.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
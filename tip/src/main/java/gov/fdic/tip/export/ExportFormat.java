@@ -0,0 +1,53 @@
+package gov.fdic.tip.export;
+
+import gov.fdic.tip.exception.BusinessException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Supported export formats, with their content type, file extension and writer.
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv;charset=UTF-8", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public ReviewCycleGroupExportWriter writer(OutputStream out) throws IOException {
+        return switch (this) {
+            case NDJSON -> new NdjsonExportWriter(out);
+            case CSV -> new CsvExportWriter(out);
+            case XLSX -> new XlsxExportWriter(out);
+        };
+    }
+
+    public static ExportFormat fromParameter(String format) {
+        for (ExportFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new BusinessException("INVALID_EXPORT_FORMAT", "Export format must be one of "
+                + Arrays.stream(values()).map(value -> value.extension).collect(Collectors.joining(", "))
+                + ": " + format);
+    }
+}
@@ -0,0 +1,53 @@
+package gov.fdic.tip.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON object per line per group, with its IDIs as the listOfIdis array.
+ */
+class NdjsonExportWriter implements ReviewCycleGroupExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+
+    NdjsonExportWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out);
+        // Lines are separated explicitly instead of by the default space between root values
+        generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void startGroup(ReviewCycleGroupDTO group) throws IOException {
+        generator.writeStartObject();
+        for (Column column : COLUMNS) {
+            generator.writeObjectField(column.name(), column.value().apply(group));
+        }
+        generator.writeArrayFieldStart("listOfIdis");
+    }
+
+    @Override
+    public void idi(String idi) throws IOException {
+        generator.writeString(idi);
+    }
+
+    @Override
+    public void endGroup() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.close();
+    }
+}
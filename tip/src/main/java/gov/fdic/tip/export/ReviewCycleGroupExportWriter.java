@@ -0,0 +1,50 @@
+package gov.fdic.tip.export;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Writes an export as it is read: each group is announced with startGroup, followed by its IDIs one
+ * at a time and endGroup, so neither the groups nor the IDIs of one group are ever held together.
+ * The group passed to startGroup carries no IDIs.
+ */
+public interface ReviewCycleGroupExportWriter {
+
+    // Exported group fields, in column order; tabular formats add an idi column after them
+    List<Column> COLUMNS = List.of(
+            new Column("reviewCycleGroupId", ReviewCycleGroupDTO::getReviewCycleGroupId),
+            new Column("reviewGroupName", ReviewCycleGroupDTO::getReviewGroupName),
+            new Column("reviewCycleId", ReviewCycleGroupDTO::getReviewCycleId),
+            new Column("reviewTypeId", ReviewCycleGroupDTO::getReviewTypeId),
+            new Column("reviewConditionId", ReviewCycleGroupDTO::getReviewConditionId),
+            new Column("rangeStart", ReviewCycleGroupDTO::getRangeStart),
+            new Column("rangeEnd", ReviewCycleGroupDTO::getRangeEnd),
+            new Column("booleanState", ReviewCycleGroupDTO::getBooleanState),
+            new Column("reviewFrequency", ReviewCycleGroupDTO::getReviewFrequency),
+            new Column("reviewsPerYear", ReviewCycleGroupDTO::getReviewsPerYear),
+            new Column("createdBy", ReviewCycleGroupDTO::getCreatedBy),
+            new Column("updatedBy", ReviewCycleGroupDTO::getUpdatedBy),
+            // As ISO-8601 text, which every format can write without a date codec
+            new Column("createdDttm", group -> Objects.toString(group.getCreatedDttm(), null)),
+            new Column("updatedDttm", group -> Objects.toString(group.getUpdatedDttm(), null)));
+
+    String IDI_COLUMN = "idi";
+
+    void startGroup(ReviewCycleGroupDTO group) throws IOException;
+
+    void idi(String idi) throws IOException;
+
+    void endGroup() throws IOException;
+
+    /**
+     * Completes the document and flushes it; the underlying stream is left open.
+     */
+    void finish() throws IOException;
+
+    record Column(String name, Function<ReviewCycleGroupDTO, Object> value) {
+    }
+}
@@ -0,0 +1,170 @@
+package gov.fdic.tip.export;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal SpreadsheetML workbook written straight into a zip stream: inline strings, no shared
+ * string table or styles, so nothing accumulates per row. Same rows as the CSV export; a new sheet
+ * is started whenever one reaches the Excel row limit. The workbook part, which lists the sheets,
+ * is written last.
+ */
+class XlsxExportWriter implements ReviewCycleGroupExportWriter {
+
+    // Excel's row limit per sheet, including the header row
+    static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private static final String SHEET_NAME = "Review Cycle Groups";
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+    private static final String DOCUMENT_RELATIONSHIP = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final int maxRowsPerSheet;
+    private int sheets;
+    private int rowsInSheet;
+    private ReviewCycleGroupDTO group;
+    private boolean groupHasIdis;
+
+    XlsxExportWriter(OutputStream out) throws IOException {
+        this(out, MAX_ROWS_PER_SHEET);
+    }
+
+    XlsxExportWriter(OutputStream out, int maxRowsPerSheet) throws IOException {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8));
+        this.maxRowsPerSheet = maxRowsPerSheet;
+        writeEntry("[Content_Types].xml", XML_DECLARATION
+                + "<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+                + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+                + "<Default Extension=\"xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>"
+                + "<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>"
+                + "</Types>");
+        writeEntry("_rels/.rels", XML_DECLARATION
+                + "<Relationships xmlns=\"" + RELATIONSHIPS_NS + "\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + DOCUMENT_RELATIONSHIP + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>");
+        startSheet();
+    }
+
+    @Override
+    public void startGroup(ReviewCycleGroupDTO group) {
+        this.group = group;
+        this.groupHasIdis = false;
+    }
+
+    @Override
+    public void idi(String idi) throws IOException {
+        groupHasIdis = true;
+        writeRow(idi);
+    }
+
+    @Override
+    public void endGroup() throws IOException {
+        if (!groupHasIdis) {
+            writeRow(null);
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        endSheet();
+        StringBuilder workbook = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(MAIN_NS).append("\" xmlns:r=\"").append(DOCUMENT_RELATIONSHIP).append("\"><sheets>");
+        StringBuilder relationships = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"").append(RELATIONSHIPS_NS).append("\">");
+        for (int sheet = 1; sheet <= sheets; sheet++) {
+            workbook.append("<sheet name=\"").append(sheet == 1 ? SHEET_NAME : SHEET_NAME + " " + sheet)
+                    .append("\" sheetId=\"").append(sheet).append("\" r:id=\"rId").append(sheet).append("\"/>");
+            relationships.append("<Relationship Id=\"rId").append(sheet).append("\" Type=\"").append(DOCUMENT_RELATIONSHIP)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(sheet).append(".xml\"/>");
+        }
+        writeEntry("xl/workbook.xml", workbook.append("</sheets></workbook>").toString());
+        writeEntry("xl/_rels/workbook.xml.rels", relationships.append("</Relationships>").toString());
+        zip.finish();
+        zip.flush();
+    }
+
+    private void writeRow(String idi) throws IOException {
+        if (rowsInSheet == maxRowsPerSheet) {
+            endSheet();
+            startSheet();
+        }
+        writer.write("<row>");
+        for (Column column : COLUMNS) {
+            writeCell(column.value().apply(group));
+        }
+        writeCell(idi);
+        writer.write("</row>");
+        rowsInSheet++;
+    }
+
+    private void startSheet() throws IOException {
+        sheets++;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheets + ".xml"));
+        writer.write(XML_DECLARATION);
+        writer.write("<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData><row>");
+        for (Column column : COLUMNS) {
+            writeCell(column.name());
+        }
+        writeCell(IDI_COLUMN);
+        writer.write("</row>");
+        rowsInSheet = 1;
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    // Cells carry no reference, so an empty cell must still be written to keep the columns aligned
+    private void writeCell(Object value) throws IOException {
+        if (value == null) {
+            writer.write("<c/>");
+        } else if (value instanceof Number) {
+            writer.write("<c><v>" + value + "</v></c>");
+        } else if (value instanceof Boolean bool) {
+            writer.write(bool ? "<c t=\"b\"><v>1</v></c>" : "<c t=\"b\"><v>0</v></c>");
+        } else {
+            writer.write("<c t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+            writeEscaped(value.toString());
+            writer.write("</t></is></c>");
+        }
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '&' -> writer.write("&amp;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    // Control characters other than tab and line breaks are not allowed in XML 1.0
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,80 @@
+package gov.fdic.tip.filter;
+
+import gov.fdic.tip.config.ReadWriteRoutingDataSource;
+import gov.fdic.tip.config.ReadYourWrites;
+import gov.fdic.tip.constants.AppConstants;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Keeps read-your-writes per client when reads are routed to replicas. The deadline until which the
+ * client's reads go to the primary travels in the TIP-Primary-Until cookie, or for clients without
+ * cookies in the X-Primary-Until header: it is read into the request's ReadYourWrites, and set
+ * again in both whenever one of the request's writes commits, which is before the body goes out
+ * for the usual controller. The value comes from the client, so it is cut down to at most one
+ * sticky window from now; a client can keep only its own reads on the primary, and not for longer
+ * than a write of its own would.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "app.config.datasource.routing.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long latest = System.currentTimeMillis() + routingDataSource.getStickyWindow().toMillis();
+        ReadYourWrites.start(Math.min(primaryUntil(request), latest), until -> {
+            if (!response.isCommitted()) {
+                response.setHeader(AppConstants.PRIMARY_UNTIL_HEADER, Long.toString(until));
+                Cookie cookie = new Cookie(AppConstants.PRIMARY_UNTIL_COOKIE, Long.toString(until));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge((int) Math.max(1, (until - System.currentTimeMillis() + 999) / 1000));
+                response.addCookie(cookie);
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.stop();
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        long primaryUntil = parse(request.getHeader(AppConstants.PRIMARY_UNTIL_HEADER));
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (AppConstants.PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                    primaryUntil = Math.max(primaryUntil, parse(cookie.getValue()));
+                }
+            }
+        }
+        return primaryUntil;
+    }
+
+    private static long parse(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
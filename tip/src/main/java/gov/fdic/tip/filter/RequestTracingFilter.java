@@ -0,0 +1,140 @@
+package gov.fdic.tip.filter;
+
+import gov.fdic.tip.constants.AppConstants;
+import gov.fdic.tip.metrics.SqlStatementStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Gives every request an id, taken from X-Request-Id when the caller sent a sane one, and keeps it in
+ * the MDC and the response header. While the request runs, the statements executed on its thread are
+ * counted and timed; the totals go out as X-Sql-Count and X-Sql-Time (milliseconds), written when the
+ * response body is first opened, as headers cannot be added after that.
+ * A statement shape repeated more than sql.n-plus-one.threshold times is logged as a likely N+1, or
+ * fails the request when sql.n-plus-one.fail is set, which the test profile does.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestTracingFilter.class);
+
+    private static final Pattern VALID_REQUEST_ID = Pattern.compile("[A-Za-z0-9._:-]{1,64}");
+
+    @Value("${app.config.sql.n-plus-one.threshold:10}")
+    private int nPlusOneThreshold;
+
+    @Value("${app.config.sql.n-plus-one.fail:false}")
+    private boolean failOnNPlusOne;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = request.getHeader(AppConstants.REQUEST_ID_HEADER);
+        if (requestId == null || !VALID_REQUEST_ID.matcher(requestId).matches()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        MDC.put(AppConstants.REQUEST_ID_MDC_KEY, requestId);
+        response.setHeader(AppConstants.REQUEST_ID_HEADER, requestId);
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+        SqlHeadersResponse tracedResponse = new SqlHeadersResponse(response, statistics);
+        try {
+            filterChain.doFilter(request, tracedResponse);
+            tracedResponse.writeSqlHeaders();
+            checkRepeatedStatements(request, statistics);
+        } finally {
+            SqlStatementStatistics.stop();
+            MDC.remove(AppConstants.REQUEST_ID_MDC_KEY);
+        }
+    }
+
+    private void checkRepeatedStatements(HttpServletRequest request, SqlStatementStatistics statistics) {
+        Map<String, Integer> repeated = statistics.repeatedShapes(nPlusOneThreshold);
+        if (repeated.isEmpty()) {
+            return;
+        }
+        repeated.forEach((shape, times) -> logger.warn("Possible N+1 in {} {}: {} executions of {}",
+                request.getMethod(), request.getRequestURI(), times, shape));
+        if (failOnNPlusOne) {
+            throw new IllegalStateException("Possible N+1 in " + request.getMethod() + " " + request.getRequestURI()
+                    + ": statements repeated more than " + nPlusOneThreshold + " times " + repeated);
+        }
+    }
+
+    /**
+     * Sets the SQL headers the moment the body or an error is about to go out, and once more at the
+     * end for responses without a body.
+     */
+    private static final class SqlHeadersResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementStatistics statistics;
+
+        SqlHeadersResponse(HttpServletResponse response, SqlStatementStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        void writeSqlHeaders() {
+            if (!isCommitted()) {
+                setHeader(AppConstants.SQL_COUNT_HEADER, Integer.toString(statistics.getCount()));
+                setHeader(AppConstants.SQL_TIME_HEADER,
+                        String.format(Locale.ROOT, "%.3f", statistics.getNanos() / 1_000_000.0));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeSqlHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeSqlHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeSqlHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeSqlHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeSqlHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeSqlHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package gov.fdic.tip.importer;
+
+import gov.fdic.tip.exception.BusinessException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV in UTF-8, with or without a byte order mark; records may end with CRLF or LF and
+ * quoted fields may span lines. Only the current record is buffered.
+ */
+class CsvImportRowSource implements ImportRowSource {
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int rowNumber;
+    private boolean atEnd;
+
+    CsvImportRowSource(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    @Override
+    public List<String> next() throws IOException {
+        while (!atEnd) {
+            List<String> row = readRecord();
+            if (row.stream().anyMatch(cell -> cell != null)) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readRecord() throws IOException {
+        rowNumber++;
+        List<String> row = new ArrayList<>();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        field.setLength(0);
+        while (true) {
+            int c = reader.read();
+            if (quoted) {
+                if (c == -1) {
+                    throw invalid("unterminated quoted field");
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0 && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                row.add(cell());
+                wasQuoted = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                atEnd = c == -1;
+                row.add(cell());
+                return row;
+            } else {
+                append((char) c);
+            }
+        }
+    }
+
+    private void append(char c) {
+        if (field.length() == MAX_CELL_LENGTH) {
+            throw invalid("field longer than " + MAX_CELL_LENGTH + " characters");
+        }
+        field.append(c);
+    }
+
+    private String cell() {
+        String value = field.toString().trim();
+        field.setLength(0);
+        return value.isEmpty() ? null : value;
+    }
+
+    private BusinessException invalid(String reason) {
+        return new BusinessException("INVALID_IMPORT_FILE", "Row " + rowNumber + ": " + reason);
+    }
+}
@@ -0,0 +1,57 @@
+package gov.fdic.tip.importer;
+
+import gov.fdic.tip.exception.BusinessException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Supported import formats, recognised by file extension, with their reader.
+ */
+public enum ImportFormat {
+
+    CSV("csv"),
+    XLSX("xlsx");
+
+    private final String extension;
+
+    ImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Opens a reader over the upload and reads its header row; the caller closes the reader.
+     */
+    public ReviewCycleGroupImportReader reader(InputStream in) throws IOException {
+        ImportRowSource rows = switch (this) {
+            case CSV -> new CsvImportRowSource(in);
+            case XLSX -> new XlsxImportRowSource(in);
+        };
+        try {
+            return new ReviewCycleGroupImportReader(rows);
+        } catch (IOException | RuntimeException ex) {
+            rows.close();
+            throw ex;
+        }
+    }
+
+    public static ImportFormat fromFilename(String filename) {
+        int dot = filename == null ? -1 : filename.lastIndexOf('.');
+        if (dot >= 0) {
+            for (ImportFormat candidate : values()) {
+                if (candidate.extension.equalsIgnoreCase(filename.substring(dot + 1))) {
+                    return candidate;
+                }
+            }
+        }
+        throw new BusinessException("INVALID_IMPORT_FORMAT", "Import file must be one of "
+                + Arrays.stream(values()).map(value -> "." + value.extension).collect(Collectors.joining(", "))
+                + ": " + filename);
+    }
+}
@@ -0,0 +1,25 @@
+package gov.fdic.tip.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Rows of an uploaded file, read one at a time. The first row returned is the header; rows whose
+ * cells are all blank are skipped.
+ */
+interface ImportRowSource extends Closeable {
+
+    // Excel's limit for the text of one cell; longer CSV fields are rejected rather than buffered
+    int MAX_CELL_LENGTH = 32_767;
+
+    /**
+     * Returns the cells of the next row, blank cells as null, or null at the end of the file.
+     */
+    List<String> next() throws IOException;
+
+    /**
+     * 1-based number of the row last returned, header rows included.
+     */
+    int rowNumber();
+}
@@ -0,0 +1,39 @@
+package gov.fdic.tip.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.fdic.tip.dto.BatchResultDTO.ItemResult;
+import gov.fdic.tip.dto.ImportProgressDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Streams import outcomes as newline-delimited JSON.
+ */
+class NdjsonImportListener implements ReviewCycleGroupImportListener {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final OutputStream out;
+
+    NdjsonImportListener(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void rejected(ItemResult item) throws IOException {
+        writeLine("rejected", item);
+    }
+
+    @Override
+    public void progress(ImportProgressDTO progress) throws IOException {
+        writeLine("progress", progress);
+        out.flush();
+    }
+
+    private void writeLine(String type, Object value) throws IOException {
+        out.write(OBJECT_MAPPER.writeValueAsBytes(Map.of(type, value)));
+        out.write('\n');
+    }
+}
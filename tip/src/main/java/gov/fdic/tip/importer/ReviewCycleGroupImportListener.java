@@ -0,0 +1,29 @@
+package gov.fdic.tip.importer;
+
+import gov.fdic.tip.dto.BatchResultDTO.ItemResult;
+import gov.fdic.tip.dto.ImportProgressDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Receives the outcome of an import while it runs: each rejected group as soon as it is known, and
+ * the running totals after every chunk and once more at the end.
+ */
+public interface ReviewCycleGroupImportListener {
+
+    /**
+     * A group that was not imported; its index is the number of the group's first row in the file.
+     */
+    void rejected(ItemResult item) throws IOException;
+
+    void progress(ImportProgressDTO progress) throws IOException;
+
+    /**
+     * Writes one JSON object per line, {"rejected":{...}} or {"progress":{...}}, flushing after
+     * every progress line.
+     */
+    static ReviewCycleGroupImportListener ndjson(OutputStream out) {
+        return new NdjsonImportListener(out);
+    }
+}
@@ -0,0 +1,178 @@
+package gov.fdic.tip.importer;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.export.ReviewCycleGroupExportWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads groups from rows laid out like the csv and xlsx exports: a header naming the columns, then
+ * one row per group and IDI. Consecutive rows with the same reviewGroupName make up one group whose
+ * fields are taken from its first row. Column names are matched case-insensitively and may come in
+ * any order; reviewCycleGroupId, the audit columns and unknown columns are ignored.
+ */
+public class ReviewCycleGroupImportReader implements Closeable {
+
+    // Export columns that an import sets; the id and audit columns are assigned on insert instead
+    private static final Map<String, BiConsumer<ReviewCycleGroupDTO, String>> FIELDS = Map.of(
+            "reviewGroupName", ReviewCycleGroupDTO::setReviewGroupName,
+            "reviewCycleId", (group, value) -> group.setReviewCycleId(parseLong("reviewCycleId", value)),
+            "reviewTypeId", (group, value) -> group.setReviewTypeId(parseLong("reviewTypeId", value)),
+            "reviewConditionId", (group, value) -> group.setReviewConditionId(parseLong("reviewConditionId", value)),
+            "rangeStart", (group, value) -> group.setRangeStart(parseInteger("rangeStart", value)),
+            "rangeEnd", (group, value) -> group.setRangeEnd(parseInteger("rangeEnd", value)),
+            "booleanState", (group, value) -> group.setBooleanState(parseBoolean("booleanState", value)),
+            "reviewFrequency", ReviewCycleGroupDTO::setReviewFrequency,
+            "reviewsPerYear", (group, value) -> group.setReviewsPerYear(parseInteger("reviewsPerYear", value)));
+
+    private static final String NAME_COLUMN = "reviewGroupName";
+
+    private final ImportRowSource rows;
+    private final List<BiConsumer<ReviewCycleGroupDTO, String>> fieldByColumn = new ArrayList<>();
+    private final int nameColumn;
+    private final int idiColumn;
+    private List<String> pending;
+    private int pendingRowNumber;
+    private long rowsRead;
+    private BusinessException lookaheadFailure;
+
+    ReviewCycleGroupImportReader(ImportRowSource rows) throws IOException {
+        this.rows = rows;
+        List<String> header = rows.next();
+        if (header == null) {
+            throw new BusinessException("INVALID_IMPORT_FILE", "The file is empty");
+        }
+        int name = -1;
+        int idi = -1;
+        for (int column = 0; column < header.size(); column++) {
+            String heading = header.get(column) == null ? "" : header.get(column);
+            BiConsumer<ReviewCycleGroupDTO, String> field = null;
+            for (Map.Entry<String, BiConsumer<ReviewCycleGroupDTO, String>> candidate : FIELDS.entrySet()) {
+                if (candidate.getKey().equalsIgnoreCase(heading)) {
+                    field = candidate.getValue();
+                    name = candidate.getKey().equals(NAME_COLUMN) ? column : name;
+                }
+            }
+            idi = ReviewCycleGroupExportWriter.IDI_COLUMN.equalsIgnoreCase(heading) ? column : idi;
+            fieldByColumn.add(field);
+        }
+        if (name < 0) {
+            throw new BusinessException("INVALID_IMPORT_FILE", "Header row has no " + NAME_COLUMN + " column");
+        }
+        this.nameColumn = name;
+        this.idiColumn = idi;
+        advance();
+    }
+
+    /**
+     * Returns the next group with all its IDIs, or null at the end of the file.
+     */
+    public ImportedGroup next() throws IOException {
+        if (lookaheadFailure != null) {
+            throw lookaheadFailure;
+        }
+        if (pending == null) {
+            return null;
+        }
+        int rowNumber = pendingRowNumber;
+        ReviewCycleGroupDTO group = new ReviewCycleGroupDTO();
+        group.setListOfIdis(new ArrayList<>());
+        String error = null;
+        for (int column = 0; column < fieldByColumn.size(); column++) {
+            String value = cell(pending, column);
+            if (fieldByColumn.get(column) != null && value != null) {
+                try {
+                    fieldByColumn.get(column).accept(group, value);
+                } catch (IllegalArgumentException ex) {
+                    error = error == null ? ex.getMessage() : error + "; " + ex.getMessage();
+                }
+            }
+        }
+        addIdi(group);
+        advance();
+        String name = group.getReviewGroupName();
+        while (name != null && pending != null && name.equals(cell(pending, nameColumn))) {
+            addIdi(group);
+            advance();
+        }
+        return new ImportedGroup(rowNumber, group, error);
+    }
+
+    /**
+     * Data rows consumed by the groups returned so far.
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+    // A malformed row met while looking ahead is reported by the following call to next(), so the
+    // group read up to it is still returned
+    private void advance() throws IOException {
+        try {
+            pending = rows.next();
+            pendingRowNumber = rows.rowNumber();
+        } catch (BusinessException ex) {
+            pending = null;
+            lookaheadFailure = ex;
+        }
+    }
+
+    private void addIdi(ReviewCycleGroupDTO group) {
+        String idi = cell(pending, idiColumn);
+        if (idi != null) {
+            group.getListOfIdis().add(idi);
+        }
+        rowsRead++;
+    }
+
+    private static String cell(List<String> row, int column) {
+        return column >= 0 && column < row.size() ? row.get(column) : null;
+    }
+
+    // Spreadsheets may store whole numbers as 4.0 or 1E2
+    private static Long parseLong(String column, String value) {
+        try {
+            return new BigDecimal(value).longValueExact();
+        } catch (ArithmeticException | NumberFormatException ex) {
+            throw new IllegalArgumentException(column + " is not a whole number: " + value);
+        }
+    }
+
+    private static Integer parseInteger(String column, String value) {
+        try {
+            return new BigDecimal(value).intValueExact();
+        } catch (ArithmeticException | NumberFormatException ex) {
+            throw new IllegalArgumentException(column + " is not a whole number: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String column, String value) {
+        if ("true".equalsIgnoreCase(value) || "1".equals(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(value) || "0".equals(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException(column + " is not true or false: " + value);
+    }
+
+    /**
+     * A group read from the file, with the number of its first row and, when one of its cells could
+     * not be parsed, the reason.
+     */
+    public record ImportedGroup(int rowNumber, ReviewCycleGroupDTO group, String error) {
+    }
+}
@@ -0,0 +1,299 @@
+package gov.fdic.tip.importer;
+
+import gov.fdic.tip.exception.BusinessException;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+/**
+ * Reads the worksheets of a workbook in workbook order with a StAX pull parser, one row at a time.
+ * The upload is spooled to a temporary file first, because Excel writes the shared string table
+ * after the sheets; that table is the only part held in memory. The header row of every sheet after
+ * the first is skipped, so workbooks split across sheets by the export read back as one table.
+ */
+class XlsxImportRowSource implements ImportRowSource {
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXmlInputFactory();
+
+    private final Path file;
+    private ZipFile zip;
+    private List<String> sharedStrings;
+    private Iterator<String> sheets;
+    private InputStream sheetStream;
+    private XMLStreamReader sheet;
+    private int sheetsOpened;
+    private int rowNumber;
+
+    XlsxImportRowSource(InputStream in) throws IOException {
+        this.file = Files.createTempFile("review-cycle-group-import-", ".xlsx");
+        try {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            this.zip = new ZipFile(file.toFile());
+            this.sharedStrings = readSharedStrings();
+            this.sheets = readSheetEntries().iterator();
+        } catch (ZipException | XMLStreamException ex) {
+            close();
+            throw new BusinessException("INVALID_IMPORT_FILE", "Not a readable xlsx workbook: " + ex.getMessage());
+        } catch (IOException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public List<String> next() throws IOException {
+        try {
+            while (true) {
+                if (sheet == null) {
+                    if (!sheets.hasNext()) {
+                        return null;
+                    }
+                    openSheet(sheets.next());
+                    if (sheetsOpened > 1) {
+                        readRow();
+                    }
+                }
+                List<String> row = readRow();
+                if (row == null) {
+                    closeSheet();
+                } else if (row.stream().anyMatch(cell -> cell != null)) {
+                    return row;
+                }
+            }
+        } catch (XMLStreamException ex) {
+            throw invalid("malformed worksheet: " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public int rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            closeSheet();
+            if (zip != null) {
+                zip.close();
+            }
+        } catch (XMLStreamException ex) {
+            // Only the parser's own state is lost; the stream itself is closed below
+        } finally {
+            if (sheetStream != null) {
+                sheetStream.close();
+            }
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void openSheet(String entryName) throws IOException, XMLStreamException {
+        ZipEntry entry = zip.getEntry(entryName);
+        if (entry == null) {
+            throw invalid("worksheet " + entryName + " is missing");
+        }
+        sheetStream = zip.getInputStream(entry);
+        sheet = XML_INPUT_FACTORY.createXMLStreamReader(sheetStream);
+        sheetsOpened++;
+    }
+
+    private void closeSheet() throws IOException, XMLStreamException {
+        if (sheet != null) {
+            sheet.close();
+            sheet = null;
+        }
+        if (sheetStream != null) {
+            sheetStream.close();
+            sheetStream = null;
+        }
+    }
+
+    // Returns null once the sheet has no more rows
+    private List<String> readRow() throws XMLStreamException {
+        while (sheet.hasNext()) {
+            if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                rowNumber++;
+                List<String> row = new ArrayList<>();
+                while (sheet.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    if ("c".equals(sheet.getLocalName())) {
+                        readCell(row);
+                    } else {
+                        skipElement(sheet);
+                    }
+                }
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private void readCell(List<String> row) throws XMLStreamException {
+        String reference = sheet.getAttributeValue(null, "r");
+        String type = sheet.getAttributeValue(null, "t");
+        int column = reference != null ? columnIndex(reference) : row.size();
+        String value = null;
+        StringBuilder inline = new StringBuilder();
+        while (sheet.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String element = sheet.getLocalName();
+            if ("v".equals(element)) {
+                value = sheet.getElementText();
+            } else if ("is".equals(element)) {
+                readText(sheet, inline);
+            } else {
+                skipElement(sheet);
+            }
+        }
+        String text = switch (type == null ? "n" : type) {
+            case "s" -> sharedString(value);
+            case "b" -> value == null ? null : String.valueOf("1".equals(value.trim()));
+            case "inlineStr" -> inline.toString();
+            default -> value;
+        };
+        if (text != null && text.length() > MAX_CELL_LENGTH) {
+            throw invalid("cell longer than " + MAX_CELL_LENGTH + " characters");
+        }
+        while (row.size() <= column) {
+            row.add(null);
+        }
+        row.set(column, text == null || text.isBlank() ? null : text.trim());
+    }
+
+    private String sharedString(String value) {
+        try {
+            return sharedStrings.get(Integer.parseInt(value.trim()));
+        } catch (NullPointerException | NumberFormatException | IndexOutOfBoundsException ex) {
+            throw invalid("unknown shared string " + value);
+        }
+    }
+
+    // "BC12" -> 54; the reference's row part is ignored
+    private int columnIndex(String reference) {
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + Character.toUpperCase(reference.charAt(i)) - 'A' + 1;
+        }
+        if (column == 0) {
+            throw invalid("invalid cell reference " + reference);
+        }
+        return column - 1;
+    }
+
+    private List<String> readSharedStrings() throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        ZipEntry entry = zip.getEntry("xl/sharedStrings.xml");
+        if (entry == null) {
+            return strings;
+        }
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && "si".equals(reader.getLocalName())) {
+                    StringBuilder text = new StringBuilder();
+                    readText(reader, text);
+                    strings.add(text.toString());
+                }
+            }
+            reader.close();
+        }
+        return strings;
+    }
+
+    // Concatenates the t elements of a string item, plain or rich text, leaving out phonetic runs
+    private static void readText(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("t".equals(reader.getLocalName())) {
+                    text.append(reader.getElementText());
+                } else if ("rPh".equals(reader.getLocalName())) {
+                    skipElement(reader);
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    // Worksheet part names in the order the workbook lists its sheets
+    private List<String> readSheetEntries() throws IOException, XMLStreamException {
+        Map<String, String> targets = new HashMap<>();
+        for (Map<String, String> relationship : readElements("xl/_rels/workbook.xml.rels", "Relationship")) {
+            String target = relationship.get("Target");
+            targets.put(relationship.get("Id"), target.startsWith("/") ? target.substring(1) : "xl/" + target);
+        }
+        List<String> entries = new ArrayList<>();
+        for (Map<String, String> sheetElement : readElements("xl/workbook.xml", "sheet")) {
+            String target = targets.get(sheetElement.get("id"));
+            if (target == null) {
+                throw invalid("sheet " + sheetElement.get("name") + " has no worksheet part");
+            }
+            entries.add(target);
+        }
+        return entries;
+    }
+
+    // Attributes, by local name, of every element with the given local name in a small part
+    private List<Map<String, String>> readElements(String entryName, String element) throws IOException, XMLStreamException {
+        ZipEntry entry = zip.getEntry(entryName);
+        if (entry == null) {
+            throw new BusinessException("INVALID_IMPORT_FILE", "Not a readable xlsx workbook: " + entryName + " is missing");
+        }
+        List<Map<String, String>> elements = new ArrayList<>();
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && element.equals(reader.getLocalName())) {
+                    Map<String, String> attributes = new HashMap<>();
+                    for (int i = 0; i < reader.getAttributeCount(); i++) {
+                        attributes.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                    }
+                    elements.add(attributes);
+                }
+            }
+            reader.close();
+        }
+        return elements;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private BusinessException invalid(String reason) {
+        return new BusinessException("INVALID_IMPORT_FILE", "Row " + rowNumber + ": " + reason);
+    }
+
+    // Uploaded documents are untrusted: no DTDs, no external entities
+    private static XMLInputFactory newXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
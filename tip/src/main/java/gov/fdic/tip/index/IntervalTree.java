@@ -0,0 +1,199 @@
+package gov.fdic.tip.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable interval tree answering "which closed intervals [start, end] contain a point" in
+ * O(log n + k). It is a treap ordered by start, then key, where every node stores the maximum end
+ * of its subtree so branches that cannot contain the point are skipped. Adding or removing an
+ * interval copies only the O(log n) nodes on its path and returns a new tree sharing the rest,
+ * so readers holding the old tree are unaffected.
+ */
+public final class IntervalTree<T> {
+
+    private static final IntervalTree<?> EMPTY = new IntervalTree<>(null);
+
+    private final Node<T> root;
+
+    private IntervalTree(Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> IntervalTree<T> empty() {
+        return (IntervalTree<T>) EMPTY;
+    }
+
+    public static <T> IntervalTree<T> build(List<Interval<T>> intervals) {
+        if (intervals.isEmpty()) {
+            return empty();
+        }
+        @SuppressWarnings("unchecked")
+        Interval<T>[] sorted = intervals.toArray(new Interval[0]);
+        Arrays.sort(sorted, Comparator.<Interval<T>>comparingInt(Interval::start).thenComparingLong(Interval::key));
+
+        // Cartesian tree over the sorted intervals in one pass: a node's parent is the nearest
+        // higher-priority interval on either side
+        int n = sorted.length;
+        int[] priorities = new int[n];
+        int[] left = new int[n];
+        int[] right = new int[n];
+        int[] stack = new int[n];
+        int top = -1;
+        for (int i = 0; i < n; i++) {
+            priorities[i] = ThreadLocalRandom.current().nextInt();
+            right[i] = -1;
+            int last = -1;
+            while (top >= 0 && priorities[stack[top]] < priorities[i]) {
+                last = stack[top--];
+            }
+            left[i] = last;
+            if (top >= 0) {
+                right[stack[top]] = i;
+            }
+            stack[++top] = i;
+        }
+        return new IntervalTree<>(materialize(stack[0], sorted, priorities, left, right));
+    }
+
+    private static <T> Node<T> materialize(int i, Interval<T>[] sorted, int[] priorities, int[] left, int[] right) {
+        if (i < 0) {
+            return null;
+        }
+        return new Node<>(sorted[i], priorities[i], materialize(left[i], sorted, priorities, left, right),
+                materialize(right[i], sorted, priorities, left, right));
+    }
+
+    public int size() {
+        return root == null ? 0 : root.size;
+    }
+
+    /**
+     * A tree that also holds the interval. Intervals that will be removed later need a key unique
+     * among those with the same start.
+     */
+    public IntervalTree<T> with(Interval<T> interval) {
+        Node<T>[] parts = split(root, interval.start(), interval.key(), false);
+        Node<T> node = new Node<>(interval, ThreadLocalRandom.current().nextInt(), null, null);
+        return new IntervalTree<>(merge(merge(parts[0], node), parts[1]));
+    }
+
+    /**
+     * A tree without the interval(s) with this start and key.
+     */
+    public IntervalTree<T> without(int start, long key) {
+        Node<T>[] below = split(root, start, key, false);
+        Node<T>[] rest = split(below[1], start, key, true);
+        if (rest[0] == null) {
+            return this;
+        }
+        Node<T> merged = merge(below[0], rest[1]);
+        return merged == null ? empty() : new IntervalTree<>(merged);
+    }
+
+    /**
+     * Returns the values of all intervals containing the point, ordered by interval start.
+     */
+    public List<T> stab(int point) {
+        List<T> matches = new ArrayList<>();
+        collect(root, point, matches);
+        return matches;
+    }
+
+    private static <T> void collect(Node<T> node, int point, List<T> matches) {
+        if (node == null || node.maxEnd < point) {
+            return;
+        }
+        collect(node.left, point, matches);
+        // Everything from here to the right starts after the point
+        if (node.interval.start() > point) {
+            return;
+        }
+        if (node.interval.end() >= point) {
+            matches.add(node.interval.value());
+        }
+        collect(node.right, point, matches);
+    }
+
+    // Splits into the nodes ordered before (start, key), or up to and including it, and the rest
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] split(Node<T> node, int start, long key, boolean inclusive) {
+        if (node == null) {
+            return new Node[2];
+        }
+        int cmp = Integer.compare(node.interval.start(), start);
+        if (cmp == 0) {
+            cmp = Long.compare(node.interval.key(), key);
+        }
+        if (cmp < 0 || (inclusive && cmp == 0)) {
+            Node<T>[] parts = split(node.right, start, key, inclusive);
+            parts[0] = node.withChildren(node.left, parts[0]);
+            return parts;
+        }
+        Node<T>[] parts = split(node.left, start, key, inclusive);
+        parts[1] = node.withChildren(parts[1], node.right);
+        return parts;
+    }
+
+    // Every node of a is ordered before every node of b
+    private static <T> Node<T> merge(Node<T> a, Node<T> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        if (a.priority >= b.priority) {
+            return a.withChildren(a.left, merge(a.right, b));
+        }
+        return b.withChildren(merge(a, b.left), b.right);
+    }
+
+    private static final class Node<T> {
+
+        final Interval<T> interval;
+        final int priority;
+        final Node<T> left;
+        final Node<T> right;
+        final int maxEnd;
+        final int size;
+
+        Node(Interval<T> interval, int priority, Node<T> left, Node<T> right) {
+            this.interval = interval;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            int max = interval.end();
+            int count = 1;
+            if (left != null) {
+                max = Math.max(max, left.maxEnd);
+                count += left.size;
+            }
+            if (right != null) {
+                max = Math.max(max, right.maxEnd);
+                count += right.size;
+            }
+            this.maxEnd = max;
+            this.size = count;
+        }
+
+        Node<T> withChildren(Node<T> newLeft, Node<T> newRight) {
+            return newLeft == left && newRight == right ? this : new Node<>(interval, priority, newLeft, newRight);
+        }
+    }
+
+    /**
+     * A closed interval and its value. The key tells apart intervals sharing a start; it only
+     * matters for intervals that are removed with {@link #without}.
+     */
+    public record Interval<T>(int start, int end, long key, T value) {
+
+        public Interval(int start, int end, T value) {
+            this(start, end, 0L, value);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package gov.fdic.tip.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Case-insensitive substring index over names, for typeahead and "name contains" search. Every
+ * trigram of a case-folded name maps to the ascending ids of the names containing it; a query of
+ * three characters or more intersects the postings of its trigrams, and the survivors are verified
+ * against the current name. Shorter queries would hit a posting list of nearly every name, so they
+ * are not posted: typeahead answers them from the names with a word starting with the query, kept
+ * per 1- and 2-character word prefix in suggestion order, so only the top matches are read, and
+ * "name contains" scans the names, which it has to return most of anyway.
+ * A name is changed by touching only the postings and prefixes of its old and new name. There is a
+ * single writer at a time; readers never block, and a reader racing a change sees the name either
+ * before or after it.
+ */
+public final class NameSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+    private final Map<Long, String> foldedById = new ConcurrentHashMap<>();
+
+    // Posting arrays are replaced (never mutated) on change
+    private final Map<String, long[]> postings = new ConcurrentHashMap<>();
+
+    // Names by the 1- and 2-character prefixes of their words, each set in suggestion order for its prefix
+    private final Map<String, NavigableSet<Candidate>> byWordPrefix = new ConcurrentHashMap<>();
+
+    private NameSearchIndex() {
+    }
+
+    public static NameSearchIndex empty() {
+        return new NameSearchIndex();
+    }
+
+    public static NameSearchIndex build(Map<Long, String> namesById) {
+        NameSearchIndex index = new NameSearchIndex();
+        Map<String, List<Long>> grams = new HashMap<>();
+        namesById.forEach((id, name) -> {
+            if (name != null) {
+                String folded = fold(name);
+                index.namesById.put(id, name);
+                index.foldedById.put(id, folded);
+                for (String gram : grams(folded)) {
+                    grams.computeIfAbsent(gram, k -> new ArrayList<>()).add(id);
+                }
+                Candidate candidate = new Candidate(id, name, folded);
+                for (String prefix : wordPrefixes(folded)) {
+                    index.wordPrefixSet(prefix).add(candidate);
+                }
+            }
+        });
+        grams.forEach((gram, ids) -> {
+            long[] posting = ids.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(posting);
+            index.postings.put(gram, posting);
+        });
+        return index;
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    /**
+     * Indexes the name under the id, replacing the name it had. A null name removes the id.
+     */
+    public void put(long id, String name) {
+        if (name == null) {
+            remove(id);
+            return;
+        }
+        String folded = fold(name);
+        String previous = foldedById.get(id);
+        Set<String> before = previous == null ? Set.of() : grams(previous);
+        Set<String> after = grams(folded);
+        // The name goes in first so readers that meet the id in a posting can verify it
+        namesById.put(id, name);
+        foldedById.put(id, folded);
+        for (String gram : before) {
+            if (!after.contains(gram)) {
+                postings.computeIfPresent(gram, (k, ids) -> SortedIds.without(ids, id));
+            }
+        }
+        for (String gram : after) {
+            if (!before.contains(gram)) {
+                postings.merge(gram, new long[] { id }, (ids, single) -> SortedIds.with(ids, id));
+            }
+        }
+        if (!folded.equals(previous)) {
+            // Added before the old entries go, which readers skip as they no longer match the folded name
+            Candidate candidate = new Candidate(id, name, folded);
+            for (String prefix : wordPrefixes(folded)) {
+                wordPrefixSet(prefix).add(candidate);
+            }
+            if (previous != null) {
+                removeWordPrefixes(id, previous);
+            }
+        }
+    }
+
+    public void remove(long id) {
+        String previous = foldedById.remove(id);
+        namesById.remove(id);
+        if (previous != null) {
+            for (String gram : grams(previous)) {
+                postings.computeIfPresent(gram, (k, ids) -> SortedIds.without(ids, id));
+            }
+            removeWordPrefixes(id, previous);
+        }
+    }
+
+    private NavigableSet<Candidate> wordPrefixSet(String prefix) {
+        return byWordPrefix.computeIfAbsent(prefix, k -> new ConcurrentSkipListSet<>(suggestionOrder(k)));
+    }
+
+    private void removeWordPrefixes(long id, String folded) {
+        Candidate stale = new Candidate(id, null, folded);
+        for (String prefix : wordPrefixes(folded)) {
+            byWordPrefix.computeIfPresent(prefix, (k, candidates) -> {
+                candidates.remove(stale);
+                return candidates.isEmpty() ? null : candidates;
+            });
+        }
+    }
+
+    /**
+     * Ids of all names containing the query, ignoring case, in name order.
+     */
+    public long[] containing(String query) {
+        List<Candidate> found = matches(fold(query));
+        found.sort(Candidate.BY_NAME);
+        long[] result = new long[found.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = found.get(i).id();
+        }
+        return result;
+    }
+
+    /**
+     * The best {@code limit} matches for a typeahead query: exact matches first, then names starting
+     * with the query, then names with a word starting with it, then any other name containing it.
+     * Within a rank shorter names come first, then name order. Queries of one or two characters
+     * only match at the start of a word.
+     */
+    public List<Match> suggest(String query, int limit) {
+        String q = fold(query == null ? null : query.strip());
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (q.length() < GRAM) {
+            return suggestByWordPrefix(q, limit);
+        }
+        Comparator<Candidate> best = suggestionOrder(q);
+        // Max-heap of the current top matches, so the worst is evicted first
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, best.reversed());
+        for (Candidate candidate : matches(q)) {
+            top.add(candidate);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Candidate> ranked = new ArrayList<>(top);
+        ranked.sort(best);
+        List<Match> result = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            result.add(new Match(candidate.id(), candidate.name()));
+        }
+        return result;
+    }
+
+    // Reads the set in order, so only the matches returned and any stale entries are touched
+    private List<Match> suggestByWordPrefix(String q, int limit) {
+        NavigableSet<Candidate> candidates = byWordPrefix.get(q);
+        if (candidates == null) {
+            return List.of();
+        }
+        List<Match> result = new ArrayList<>(limit);
+        for (Candidate candidate : candidates) {
+            String name = namesById.get(candidate.id());
+            if (name != null && candidate.folded().equals(foldedById.get(candidate.id()))) {
+                result.add(new Match(candidate.id(), name));
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Candidate> matches(String q) {
+        if (q.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (q.length() < GRAM) {
+            List<Candidate> scanned = new ArrayList<>();
+            foldedById.forEach((id, folded) -> {
+                String name = namesById.get(id);
+                if (name != null && folded.contains(q)) {
+                    scanned.add(new Candidate(id, name, folded));
+                }
+            });
+            return scanned;
+        }
+        // Start from the rarest trigram and intersect with the rest
+        List<long[]> lists = new ArrayList<>();
+        for (int start = 0; start + GRAM <= q.length(); start++) {
+            long[] list = postings.get(q.substring(start, start + GRAM));
+            if (list == null) {
+                return new ArrayList<>();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        long[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = SortedIds.intersect(candidates, lists.get(i));
+        }
+        List<Candidate> confirmed = new ArrayList<>(candidates.length);
+        for (long id : candidates) {
+            String name = namesById.get(id);
+            String folded = foldedById.get(id);
+            if (name != null && folded != null && folded.contains(q)) {
+                confirmed.add(new Candidate(id, name, folded));
+            }
+        }
+        return confirmed;
+    }
+
+    private static Set<String> grams(String folded) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start + GRAM <= folded.length(); start++) {
+            grams.add(folded.substring(start, start + GRAM));
+        }
+        return grams;
+    }
+
+    // The 1- and 2-character prefixes of the words of the name, where rank counts a word as starting
+    private static Set<String> wordPrefixes(String folded) {
+        Set<String> prefixes = new HashSet<>();
+        for (int at = 0; at < folded.length(); at++) {
+            boolean wordStart = at == 0 || !Character.isLetterOrDigit(folded.charAt(at - 1));
+            if (wordStart && !Character.isWhitespace(folded.charAt(at))) {
+                for (int len = 1; len < GRAM && at + len <= folded.length(); len++) {
+                    prefixes.add(folded.substring(at, at + len));
+                }
+            }
+        }
+        return prefixes;
+    }
+
+    private static Comparator<Candidate> suggestionOrder(String q) {
+        return Comparator.comparingInt((Candidate c) -> rank(c.folded(), q))
+                .thenComparingInt(c -> c.folded().length())
+                .thenComparing(Candidate.BY_NAME);
+    }
+
+    private static int rank(String name, String q) {
+        if (name.equals(q)) {
+            return 0;
+        }
+        if (name.startsWith(q)) {
+            return 1;
+        }
+        for (int at = name.indexOf(q); at >= 0; at = name.indexOf(q, at + 1)) {
+            if (!Character.isLetterOrDigit(name.charAt(at - 1))) {
+                return 2;
+            }
+        }
+        return 3;
+    }
+
+    private static String fold(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Candidate(long id, String name, String folded) {
+        static final Comparator<Candidate> BY_NAME =
+                Comparator.comparing(Candidate::folded).thenComparingLong(Candidate::id);
+    }
+
+    public record Match(long id, String name) {
+    }
+}
@@ -0,0 +1,227 @@
+package gov.fdic.tip.index;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupFacetsDTO;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Materialized counts of review cycle groups, in total and per review cycle, review type and
+ * boolean state, so the count endpoints and the dashboard summary never run a COUNT query.
+ *
+ * Local writes are applied incrementally through ReviewCycleGroupChangedEvent after each commit.
+ * The facets last seen for each group are remembered, so an update or delete can take the group
+ * out of the buckets it was counted in. That also makes applying an event that a concurrent
+ * rebuild already saw harmless. The counts are rebuilt from the database on a schedule, which
+ * picks up other nodes' writes and corrects any drift. A rebuild reads and counts outside the
+ * monitor, and applies the events that arrived meanwhile again on top of its counts.
+ */
+@Component
+public class ReviewCycleGroupCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewCycleGroupCounters.class);
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Value("${app.config.index.enabled:true}")
+    private boolean enabled;
+
+    // Writers hold the monitor and add to the counters in place; readers never lock. Rebuilds
+    // are serialized on their own lock and take the monitor only to swap.
+    private final Object reconcileLock = new Object();
+    private volatile Counts counts = new Counts();
+    private Map<Long, Facets> facetsById = new HashMap<>();
+    private volatile boolean ready;
+
+    // Events applied while a rebuild reads the database, to apply again on its counts; null while
+    // no rebuild runs
+    private List<ReviewCycleGroupChangedEvent> eventsDuringReconcile;
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    public long count() {
+        return counts.total.sum();
+    }
+
+    public long countByReviewCycleId(Long reviewCycleId) {
+        LongAdder counter = reviewCycleId == null ? null : counts.byReviewCycleId.get(reviewCycleId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    public ReviewCycleGroupFacetsDTO countFacets() {
+        return counts.toDto();
+    }
+
+    /**
+     * Counts rows of [reviewCycleGroupId, reviewCycleId, reviewTypeId, booleanState] in one pass,
+     * for when the counters are not available.
+     */
+    public static ReviewCycleGroupFacetsDTO tally(List<Object[]> facetRows) {
+        Counts tallied = new Counts();
+        for (Object[] row : facetRows) {
+            tallied.add(Facets.of(row), 1);
+        }
+        return tallied.toDto();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${app.config.index.counters-reconcile-interval-ms:60000}",
+               fixedDelayString = "${app.config.index.counters-reconcile-interval-ms:60000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds the counters from the database. Change events committed while it reads are counted
+     * as usual and once more on the rebuilt counts, where those it already saw change nothing.
+     */
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (reconcileLock) {
+            long start = System.currentTimeMillis();
+            synchronized (this) {
+                eventsDuringReconcile = new ArrayList<>();
+            }
+            try {
+                List<Object[]> rows = reviewCycleGroupRepository.findAllFacets();
+                Map<Long, Facets> loaded = new HashMap<>(rows.size() * 2);
+                Counts rebuilt = new Counts();
+                for (Object[] row : rows) {
+                    Facets facets = Facets.of(row);
+                    loaded.put((Long) row[0], facets);
+                    rebuilt.add(facets, 1);
+                }
+                synchronized (this) {
+                    Counts previous = counts;
+                    facetsById = loaded;
+                    counts = rebuilt;
+                    eventsDuringReconcile.forEach(this::apply);
+                    if (ready && !rebuilt.toDto().equals(previous.toDto())) {
+                        logger.info("ReviewCycleGroup counters differed from the database, now counting {} groups (was {})",
+                                rebuilt.total.sum(), previous.total.sum());
+                    }
+                    ready = true;
+                }
+                logger.debug("Counted {} ReviewCycleGroups in {} ms", rows.size(), System.currentTimeMillis() - start);
+            } finally {
+                synchronized (this) {
+                    eventsDuringReconcile = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewCycleGroupChanged(ReviewCycleGroupChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            apply(event);
+            if (eventsDuringReconcile != null) {
+                eventsDuringReconcile.add(event);
+            }
+        }
+    }
+
+    // Called with the monitor held
+    private void apply(ReviewCycleGroupChangedEvent event) {
+        for (ReviewCycleGroupDTO group : event.getGroups()) {
+            Facets facets = Facets.of(group);
+            Facets previous = facetsById.put(group.getReviewCycleGroupId(), facets);
+            if (previous != null) {
+                counts.add(previous, -1);
+            }
+            counts.add(facets, 1);
+        }
+        for (Long id : event.getDeletedIds()) {
+            Facets previous = facetsById.remove(id);
+            if (previous != null) {
+                counts.add(previous, -1);
+            }
+        }
+    }
+
+    private record Facets(Long reviewCycleId, Long reviewTypeId, Boolean booleanState) {
+
+        static Facets of(ReviewCycleGroupDTO group) {
+            return new Facets(group.getReviewCycleId(), group.getReviewTypeId(), group.getBooleanState());
+        }
+
+        static Facets of(Object[] row) {
+            return new Facets((Long) row[1], (Long) row[2], (Boolean) row[3]);
+        }
+    }
+
+    // Buckets that drop to zero stay until the next rebuild but are never reported
+    private static final class Counts {
+
+        final LongAdder total = new LongAdder();
+        final Map<Long, LongAdder> byReviewCycleId = new ConcurrentHashMap<>();
+        final Map<Long, LongAdder> byReviewTypeId = new ConcurrentHashMap<>();
+        final LongAdder booleanStateTrue = new LongAdder();
+        final LongAdder booleanStateFalse = new LongAdder();
+
+        void add(Facets facets, int delta) {
+            total.add(delta);
+            add(byReviewCycleId, facets.reviewCycleId(), delta);
+            add(byReviewTypeId, facets.reviewTypeId(), delta);
+            if (facets.booleanState() != null) {
+                (facets.booleanState() ? booleanStateTrue : booleanStateFalse).add(delta);
+            }
+        }
+
+        ReviewCycleGroupFacetsDTO toDto() {
+            Map<Boolean, Long> byBooleanState = new LinkedHashMap<>();
+            putIfPositive(byBooleanState, Boolean.TRUE, booleanStateTrue.sum());
+            putIfPositive(byBooleanState, Boolean.FALSE, booleanStateFalse.sum());
+            return new ReviewCycleGroupFacetsDTO(total.sum(), sums(byReviewCycleId), sums(byReviewTypeId), byBooleanState);
+        }
+
+        private static void add(Map<Long, LongAdder> counters, Long key, int delta) {
+            if (key != null) {
+                counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        }
+
+        private static Map<Long, Long> sums(Map<Long, LongAdder> counters) {
+            Map<Long, Long> sums = new TreeMap<>();
+            counters.forEach((key, counter) -> putIfPositive(sums, key, counter.sum()));
+            return sums;
+        }
+
+        private static <K> void putIfPositive(Map<K, Long> sums, K key, long sum) {
+            if (sum > 0) {
+                sums.put(key, sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package gov.fdic.tip.index;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
+import gov.fdic.tip.mapper.ReviewCycleGroupMapper;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewCycleGroupTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory read model of all review cycle groups: an interval tree over rangeStart/rangeEnd,
+ * an inverted index from IDI to the ids of the groups listing it, and an n-gram index over group names. Loaded once the application is ready,
+ * and kept in sync with local writes through ReviewCycleGroupChangedEvent after each transaction
+ * commits. A change touches only the changed groups' postings, intervals and name grams, and is
+ * dropped when the index already holds the same or a newer version of the group. Writes on other
+ * nodes are picked up by polling the highest change numbers and reloading when they have moved,
+ * and a periodic reload catches anything else.
+ *
+ * A reload reads and builds outside the monitor, so change events are not held up by it; the
+ * events that arrive meanwhile are applied again on the loaded data when it is swapped in.
+ * Readers get immutable snapshots and never block on writers; returned DTOs are shared and
+ * must be treated as read-only.
+ */
+@Component
+public class ReviewCycleGroupIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewCycleGroupIndex.class);
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private ReviewCycleGroupTombstoneRepository reviewCycleGroupTombstoneRepository;
+
+    @Autowired
+    private ReviewCycleGroupMapper reviewCycleGroupMapper;
+
+    @Value("${app.config.index.enabled:true}")
+    private boolean enabled;
+
+    // Writers hold the monitor; readers only ever see fully built maps and arrays. Reloads are
+    // serialized on their own lock and take the monitor only to swap.
+    private final Object reloadLock = new Object();
+    private volatile Map<Long, ReviewCycleGroupDTO> groupsById = new ConcurrentHashMap<>();
+
+    // IDI -> sorted group ids. Postings are primitive arrays replaced (never mutated) on change,
+    // and IDI keys are interned instances shared with the stored DTOs' lists.
+    private volatile Map<String, long[]> groupIdsByIdi = new ConcurrentHashMap<>();
+
+    private volatile RangeSnapshot ranges = RangeSnapshot.EMPTY;
+    private volatile NameSearchIndex names = NameSearchIndex.empty();
+    private volatile boolean ready;
+
+    // Events applied while a reload reads the database, to apply again on what it read; null
+    // while no reload runs
+    private List<ReviewCycleGroupChangedEvent> eventsDuringReload;
+
+    // Highest change numbers as of the last reload; null until the first one
+    private volatile List<Long> fingerprint;
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    /**
+     * Groups whose [rangeStart, rangeEnd] contains the value, optionally limited to one review cycle.
+     */
+    public List<ReviewCycleGroupDTO> findByValueInRange(int value, Long reviewCycleId) {
+        RangeSnapshot snapshot = ranges;
+        IntervalTree<ReviewCycleGroupDTO> tree = reviewCycleId == null
+                ? snapshot.all()
+                : snapshot.byReviewCycleId().getOrDefault(reviewCycleId, IntervalTree.empty());
+        return tree.stab(value);
+    }
+
+    public ReviewCycleGroupDTO findById(long id) {
+        return groupsById.get(id);
+    }
+
+    /**
+     * Ids of the groups whose IDI list contains the IDI, in ascending order.
+     */
+    public long[] findGroupIdsByIdi(String idi) {
+        return idi == null ? SortedIds.NONE : groupIdsByIdi.getOrDefault(idi, SortedIds.NONE);
+    }
+
+    public List<ReviewCycleGroupDTO> findByIdi(String idi) {
+        long[] ids = findGroupIdsByIdi(idi);
+        Map<Long, ReviewCycleGroupDTO> groups = groupsById;
+        List<ReviewCycleGroupDTO> matches = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            ReviewCycleGroupDTO group = groups.get(id);
+            if (group != null) {
+                matches.add(group);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Groups whose name contains the query, ignoring case, in name order.
+     */
+    public List<ReviewCycleGroupDTO> findByNameContaining(String query) {
+        long[] ids = names.containing(query);
+        Map<Long, ReviewCycleGroupDTO> groups = groupsById;
+        List<ReviewCycleGroupDTO> matches = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            ReviewCycleGroupDTO group = groups.get(id);
+            if (group != null) {
+                matches.add(group);
+            }
+        }
+        return matches;
+    }
+
+    public List<NameSearchIndex.Match> suggestByName(String query, int limit) {
+        return names.suggest(query, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${app.config.index.refresh-interval-ms:300000}",
+               fixedDelayString = "${app.config.index.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Reloads when a group has been written or deleted since the last reload, on this node or
+     * another. The fingerprint is two index lookups, so this can run far more often than the
+     * periodic reload. Local writes move it too, which costs at most one redundant reload per
+     * interval.
+     */
+    @Scheduled(initialDelayString = "${app.config.index.poll-interval-ms:30000}",
+               fixedDelayString = "${app.config.index.poll-interval-ms:30000}")
+    public void pollForChanges() {
+        if (!enabled) {
+            return;
+        }
+        if (!currentFingerprint().equals(fingerprint)) {
+            logger.info("ReviewCycleGroups changed since the last load, reloading index");
+            reload();
+        }
+    }
+
+    /**
+     * Replaces the index with the current database contents. Reading and building run outside
+     * the monitor; change events committed meanwhile are applied to the index being replaced as
+     * usual and once more to the loaded data, where those the load already saw are stale.
+     */
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (reloadLock) {
+            long start = System.currentTimeMillis();
+            synchronized (this) {
+                eventsDuringReload = new ArrayList<>();
+            }
+            try {
+                // Read first, so a write committed between the two reads only causes one extra reload
+                List<Long> loadedFingerprint = currentFingerprint();
+                List<ReviewCycleGroupDTO> groups = reviewCycleGroupRepository.findAllDtosWithIdis();
+                Map<Long, ReviewCycleGroupDTO> loadedGroups = new ConcurrentHashMap<>(groups.size() * 2);
+                Map<String, List<Long>> loadedIdis = new HashMap<>();
+                for (ReviewCycleGroupDTO group : groups) {
+                    loadedGroups.put(group.getReviewCycleGroupId(), group);
+                    internIdis(group);
+                    for (String idi : distinctIdis(group)) {
+                        loadedIdis.computeIfAbsent(idi, k -> new ArrayList<>()).add(group.getReviewCycleGroupId());
+                    }
+                }
+                Map<String, long[]> loadedPostings = new ConcurrentHashMap<>(loadedIdis.size() * 2);
+                loadedIdis.forEach((idi, ids) -> {
+                    long[] postings = ids.stream().mapToLong(Long::longValue).toArray();
+                    Arrays.sort(postings);
+                    loadedPostings.put(idi, postings);
+                });
+                RangeSnapshot loadedRanges = buildRanges(loadedGroups.values());
+                Map<Long, String> namesById = new HashMap<>(loadedGroups.size() * 2);
+                loadedGroups.forEach((id, group) -> namesById.put(id, group.getReviewGroupName()));
+                NameSearchIndex loadedNames = NameSearchIndex.build(namesById);
+
+                synchronized (this) {
+                    groupsById = loadedGroups;
+                    groupIdsByIdi = loadedPostings;
+                    ranges = loadedRanges;
+                    names = loadedNames;
+                    eventsDuringReload.forEach(this::apply);
+                    fingerprint = loadedFingerprint;
+                    ready = true;
+                }
+                logger.info("Loaded {} ReviewCycleGroups into index in {} ms", groups.size(), System.currentTimeMillis() - start);
+            } finally {
+                synchronized (this) {
+                    eventsDuringReload = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewCycleGroupsChanged(ReviewCycleGroupChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            apply(event);
+            if (eventsDuringReload != null) {
+                eventsDuringReload.add(event);
+            }
+        }
+    }
+
+    // Called with the monitor held
+    private void apply(ReviewCycleGroupChangedEvent event) {
+        RangeUpdate rangeUpdate = new RangeUpdate(ranges);
+        if (event.getChangeType() == ReviewCycleGroupChangedEvent.ChangeType.UPSERTED) {
+            for (ReviewCycleGroupDTO changed : event.getGroups()) {
+                ReviewCycleGroupDTO previous = groupsById.get(changed.getReviewCycleGroupId());
+                if (isStale(previous, changed)) {
+                    logger.debug("Ignoring stale change of ReviewCycleGroup {} at version {}, indexed version {}",
+                            changed.getReviewCycleGroupId(), changed.getVersion(), previous.getVersion());
+                    continue;
+                }
+                ReviewCycleGroupDTO group = reviewCycleGroupMapper.copy(changed);
+                internIdis(group);
+                groupsById.put(group.getReviewCycleGroupId(), group);
+                updatePostings(group.getReviewCycleGroupId(), previous, group);
+                rangeUpdate.replace(previous, group);
+                names.put(group.getReviewCycleGroupId(), group.getReviewGroupName());
+            }
+        } else {
+            for (Long id : event.getDeletedIds()) {
+                ReviewCycleGroupDTO previous = groupsById.remove(id);
+                if (previous != null) {
+                    updatePostings(id, previous, null);
+                    rangeUpdate.replace(previous, null);
+                    names.remove(id);
+                }
+            }
+        }
+        ranges = rangeUpdate.snapshot();
+    }
+
+    private List<Long> currentFingerprint() {
+        return List.of(reviewCycleGroupRepository.findMaxChangeNumber(),
+                reviewCycleGroupTombstoneRepository.findMaxChangeNumber());
+    }
+
+    // Events can be delivered out of commit order; one no newer than the indexed group is stale
+    private static boolean isStale(ReviewCycleGroupDTO previous, ReviewCycleGroupDTO changed) {
+        return previous != null && previous.getVersion() != null && changed.getVersion() != null
+                && changed.getVersion() <= previous.getVersion();
+    }
+
+    private void updatePostings(long groupId, ReviewCycleGroupDTO previous, ReviewCycleGroupDTO current) {
+        Set<String> before = previous == null ? Collections.emptySet() : distinctIdis(previous);
+        Set<String> after = current == null ? Collections.emptySet() : distinctIdis(current);
+        for (String idi : before) {
+            if (!after.contains(idi)) {
+                groupIdsByIdi.computeIfPresent(idi, (k, ids) -> SortedIds.without(ids, groupId));
+            }
+        }
+        for (String idi : after) {
+            if (!before.contains(idi)) {
+                groupIdsByIdi.merge(idi, new long[] { groupId }, (ids, single) -> SortedIds.with(ids, groupId));
+            }
+        }
+    }
+
+    private static Set<String> distinctIdis(ReviewCycleGroupDTO group) {
+        Set<String> idis = new HashSet<>();
+        if (group.getListOfIdis() != null) {
+            for (String idi : group.getListOfIdis()) {
+                if (idi != null) {
+                    idis.add(idi);
+                }
+            }
+        }
+        return idis;
+    }
+
+    /**
+     * Interns the group's IDI strings so each distinct IDI is held once, and shared with the index
+     * keys, however many groups list it.
+     */
+    private static void internIdis(ReviewCycleGroupDTO group) {
+        List<String> idis = group.getListOfIdis();
+        if (idis == null) {
+            return;
+        }
+        List<String> interned = new ArrayList<>(idis.size());
+        for (String idi : idis) {
+            interned.add(idi == null ? null : idi.intern());
+        }
+        group.setListOfIdis(interned);
+    }
+
+    private static RangeSnapshot buildRanges(Collection<ReviewCycleGroupDTO> groups) {
+        List<IntervalTree.Interval<ReviewCycleGroupDTO>> all = new ArrayList<>(groups.size());
+        Map<Long, List<IntervalTree.Interval<ReviewCycleGroupDTO>>> byCycle = new HashMap<>();
+        for (ReviewCycleGroupDTO group : groups) {
+            if (hasRange(group)) {
+                IntervalTree.Interval<ReviewCycleGroupDTO> interval = interval(group);
+                all.add(interval);
+                if (group.getReviewCycleId() != null) {
+                    byCycle.computeIfAbsent(group.getReviewCycleId(), k -> new ArrayList<>()).add(interval);
+                }
+            }
+        }
+        Map<Long, IntervalTree<ReviewCycleGroupDTO>> cycleTrees = new HashMap<>(byCycle.size() * 2);
+        byCycle.forEach((cycleId, intervals) -> cycleTrees.put(cycleId, IntervalTree.build(intervals)));
+        return new RangeSnapshot(IntervalTree.build(all), Collections.unmodifiableMap(cycleTrees));
+    }
+
+    private static boolean hasRange(ReviewCycleGroupDTO group) {
+        return group != null && group.getRangeStart() != null && group.getRangeEnd() != null;
+    }
+
+    // Keyed by group id so the interval can be found again when the group changes
+    private static IntervalTree.Interval<ReviewCycleGroupDTO> interval(ReviewCycleGroupDTO group) {
+        return new IntervalTree.Interval<>(group.getRangeStart(), group.getRangeEnd(), group.getReviewCycleGroupId(), group);
+    }
+
+    /**
+     * Applies the changes of one event to copies of the trees, each an O(log n) path copy, so
+     * readers keep seeing the previous snapshot until the event has been applied in full.
+     */
+    private static final class RangeUpdate {
+
+        private IntervalTree<ReviewCycleGroupDTO> all;
+        private final Map<Long, IntervalTree<ReviewCycleGroupDTO>> byCycle;
+
+        RangeUpdate(RangeSnapshot snapshot) {
+            this.all = snapshot.all();
+            this.byCycle = new HashMap<>(snapshot.byReviewCycleId());
+        }
+
+        void replace(ReviewCycleGroupDTO previous, ReviewCycleGroupDTO current) {
+            if (hasRange(previous)) {
+                all = all.without(previous.getRangeStart(), previous.getReviewCycleGroupId());
+                if (previous.getReviewCycleId() != null) {
+                    byCycle.computeIfPresent(previous.getReviewCycleId(), (cycleId, tree) -> {
+                        IntervalTree<ReviewCycleGroupDTO> remaining =
+                                tree.without(previous.getRangeStart(), previous.getReviewCycleGroupId());
+                        return remaining.size() == 0 ? null : remaining;
+                    });
+                }
+            }
+            if (hasRange(current)) {
+                IntervalTree.Interval<ReviewCycleGroupDTO> interval = interval(current);
+                all = all.with(interval);
+                if (current.getReviewCycleId() != null) {
+                    byCycle.merge(current.getReviewCycleId(), IntervalTree.<ReviewCycleGroupDTO>empty().with(interval),
+                            (tree, single) -> tree.with(interval));
+                }
+            }
+        }
+
+        RangeSnapshot snapshot() {
+            return new RangeSnapshot(all, Collections.unmodifiableMap(byCycle));
+        }
+    }
+
+    private record RangeSnapshot(IntervalTree<ReviewCycleGroupDTO> all,
+                                 Map<Long, IntervalTree<ReviewCycleGroupDTO>> byReviewCycleId) {
+        static final RangeSnapshot EMPTY = new RangeSnapshot(IntervalTree.empty(), Collections.emptyMap());
+    }
+}
@@ -0,0 +1,236 @@
+package gov.fdic.tip.index;
+
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.event.ReviewGroupCriteriaChangedEvent;
+import gov.fdic.tip.mapper.ReviewGroupCriteriaMapper;
+import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory read model of all review group criteria: by id, by type in an EnumMap, by exact name,
+ * and through an n-gram index over names. Loaded once the application is ready and kept in sync
+ * with local writes through ReviewGroupCriteriaChangedEvent after each transaction commits.
+ * Writes on other nodes are picked up by polling a one-row fingerprint of the table and reloading
+ * only when it has changed.
+ *
+ * Every change builds a new snapshot and swaps it in with a single write, so a reader never sees
+ * the type lists and the name lookups disagree. Returned DTOs and lists are shared and must be
+ * treated as read-only.
+ */
+@Component
+public class ReviewGroupCriteriaIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewGroupCriteriaIndex.class);
+
+    private static final Comparator<ReviewGroupCriteriaDTO> BY_ID =
+            Comparator.comparing(ReviewGroupCriteriaDTO::getReviewGroupCriteriaId);
+
+    @Autowired
+    private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
+
+    @Autowired
+    private ReviewGroupCriteriaMapper reviewGroupCriteriaMapper;
+
+    @Value("${app.config.index.enabled:true}")
+    private boolean enabled;
+
+    // Writers hold the monitor; readers only ever see a fully built snapshot
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean ready;
+
+    // Table fingerprint as of the last reload; null until the first one
+    private List<Object> fingerprint;
+
+    public boolean isAvailable() {
+        return enabled && ready;
+    }
+
+    public ReviewGroupCriteriaDTO findById(long id) {
+        return snapshot.byId().get(id);
+    }
+
+    /**
+     * Criteria of the type in id order; empty for null.
+     */
+    public List<ReviewGroupCriteriaDTO> findByCriteriaType(GroupCriteriaType criteriaType) {
+        return criteriaType == null ? List.of() : snapshot.byType().getOrDefault(criteriaType, List.of());
+    }
+
+    /**
+     * Criteria of any of the types in id order, each listed once however often its type is given.
+     */
+    public List<ReviewGroupCriteriaDTO> findByCriteriaTypes(Collection<GroupCriteriaType> criteriaTypes) {
+        Map<GroupCriteriaType, List<ReviewGroupCriteriaDTO>> byType = snapshot.byType();
+        EnumSet<GroupCriteriaType> types = EnumSet.noneOf(GroupCriteriaType.class);
+        criteriaTypes.stream().filter(Objects::nonNull).forEach(types::add);
+        List<ReviewGroupCriteriaDTO> matches = new ArrayList<>();
+        for (GroupCriteriaType type : types) {
+            matches.addAll(byType.getOrDefault(type, List.of()));
+        }
+        matches.sort(BY_ID);
+        return matches;
+    }
+
+    public long countByCriteriaType(GroupCriteriaType criteriaType) {
+        return findByCriteriaType(criteriaType).size();
+    }
+
+    public long count() {
+        return snapshot.byId().size();
+    }
+
+    /**
+     * Count per criteria type from a single snapshot, so the counts always add up.
+     */
+    public Map<GroupCriteriaType, Long> countsByCriteriaType() {
+        Map<GroupCriteriaType, List<ReviewGroupCriteriaDTO>> byType = snapshot.byType();
+        Map<GroupCriteriaType, Long> counts = new EnumMap<>(GroupCriteriaType.class);
+        for (GroupCriteriaType criteriaType : GroupCriteriaType.values()) {
+            counts.put(criteriaType, (long) byType.getOrDefault(criteriaType, List.of()).size());
+        }
+        return counts;
+    }
+
+    /**
+     * Whether a criteria has exactly this name, matching the unique constraint on criteria_name.
+     */
+    public boolean existsByCriteriaName(String criteriaName) {
+        return criteriaName != null && snapshot.idsByName().containsKey(criteriaName);
+    }
+
+    /**
+     * Criteria whose name contains the query, ignoring case, in name order.
+     */
+    public List<ReviewGroupCriteriaDTO> findByNameContaining(String query) {
+        Snapshot current = snapshot;
+        long[] ids = current.names().containing(query);
+        List<ReviewGroupCriteriaDTO> matches = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            ReviewGroupCriteriaDTO match = current.byId().get(id);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        return matches;
+    }
+
+    public List<NameSearchIndex.Match> suggestByName(String query, int limit) {
+        return snapshot.names().suggest(query, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Reloads when another node has written since the last reload. The fingerprint is one
+     * aggregate over a small table, so this can run far more often than a full reload. Local
+     * writes change it too, which costs at most one redundant reload per interval.
+     */
+    @Scheduled(initialDelayString = "${app.config.index.criteria-poll-interval-ms:10000}",
+               fixedDelayString = "${app.config.index.criteria-poll-interval-ms:10000}")
+    public synchronized void pollForChanges() {
+        if (!enabled) {
+            return;
+        }
+        List<Object> current = currentFingerprint();
+        if (!current.equals(fingerprint)) {
+            logger.info("ReviewGroupCriteria changed since the last load, reloading index");
+            reload();
+        }
+    }
+
+    /**
+     * Replaces the index with the current database contents, holding the monitor so a change event
+     * committed mid-load is applied after the loaded data.
+     */
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        // Read first, so a write committed between the two reads only causes one extra reload
+        List<Object> loadedFingerprint = currentFingerprint();
+        List<ReviewGroupCriteriaDTO> criteria = reviewGroupCriteriaRepository.findAllDtos();
+        Map<Long, ReviewGroupCriteriaDTO> loaded = new HashMap<>(criteria.size() * 2);
+        for (ReviewGroupCriteriaDTO dto : criteria) {
+            loaded.put(dto.getReviewGroupCriteriaId(), dto);
+        }
+        snapshot = Snapshot.of(loaded);
+        fingerprint = loadedFingerprint;
+        ready = true;
+        logger.info("Loaded {} ReviewGroupCriteria into index in {} ms", criteria.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewGroupCriteriaChanged(ReviewGroupCriteriaChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (this) {
+            Map<Long, ReviewGroupCriteriaDTO> changed = new HashMap<>(snapshot.byId());
+            if (event.getChangeType() == ReviewGroupCriteriaChangedEvent.ChangeType.UPSERTED) {
+                for (ReviewGroupCriteriaDTO criteria : event.getCriteria()) {
+                    changed.put(criteria.getReviewGroupCriteriaId(), reviewGroupCriteriaMapper.copy(criteria));
+                }
+            } else {
+                event.getDeletedIds().forEach(changed::remove);
+            }
+            snapshot = Snapshot.of(changed);
+        }
+    }
+
+    private List<Object> currentFingerprint() {
+        return Arrays.asList(reviewGroupCriteriaRepository.findChangeFingerprint().get(0));
+    }
+
+    private record Snapshot(Map<Long, ReviewGroupCriteriaDTO> byId,
+                            Map<GroupCriteriaType, List<ReviewGroupCriteriaDTO>> byType,
+                            Map<String, Long> idsByName,
+                            NameSearchIndex names) {
+
+        static final Snapshot EMPTY = of(Map.of());
+
+        static Snapshot of(Map<Long, ReviewGroupCriteriaDTO> byId) {
+            Map<GroupCriteriaType, List<ReviewGroupCriteriaDTO>> byType = new EnumMap<>(GroupCriteriaType.class);
+            Map<String, Long> idsByName = new HashMap<>(byId.size() * 2);
+            Map<Long, String> namesById = new HashMap<>(byId.size() * 2);
+            for (ReviewGroupCriteriaDTO criteria : byId.values()) {
+                if (criteria.getCriteriaType() != null) {
+                    byType.computeIfAbsent(criteria.getCriteriaType(), type -> new ArrayList<>()).add(criteria);
+                }
+                idsByName.put(criteria.getCriteriaName(), criteria.getReviewGroupCriteriaId());
+                namesById.put(criteria.getReviewGroupCriteriaId(), criteria.getCriteriaName());
+            }
+            byType.replaceAll((type, criteria) -> {
+                criteria.sort(BY_ID);
+                return Collections.unmodifiableList(criteria);
+            });
+            return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byType),
+                    idsByName, NameSearchIndex.build(namesById));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package gov.fdic.tip.index;
+
+import java.util.Arrays;
+
+/**
+ * Copy-on-write edits of ascending id arrays, the posting lists of the in-memory indexes. The
+ * arrays handed in are never changed, so readers holding them are unaffected.
+ */
+final class SortedIds {
+
+    static final long[] NONE = new long[0];
+
+    private SortedIds() {
+    }
+
+    static long[] with(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return ids;
+        }
+        int insertAt = -pos - 1;
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, insertAt);
+        copy[insertAt] = id;
+        System.arraycopy(ids, insertAt, copy, insertAt + 1, ids.length - insertAt);
+        return copy;
+    }
+
+    // Returning null from computeIfPresent drops keys no id is posted under any more
+    static long[] without(long[] ids, long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, pos);
+        System.arraycopy(ids, pos + 1, copy, pos, ids.length - pos - 1);
+        return copy;
+    }
+
+    static long[] intersect(long[] a, long[] b) {
+        long[] out = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+}
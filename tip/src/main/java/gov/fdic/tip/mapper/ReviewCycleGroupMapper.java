@@ -23,22 +23,29 @@ import java.util.List;
 @Mapper(componentModel = "spring")
 public interface ReviewCycleGroupMapper {
 
+    // Audit timestamps and the change number are stamped on the server and never taken from a client
     @Mapping(target = "reviewCycleGroupId", ignore = true)
-<<<<<<< HEAD
-=======
-    @Mapping(target = "createdDttm", ignore = true)
-    @Mapping(target = "updatedDttm", ignore = true)
->>>>>>> ca99b032b7275102ef2f56e461047c742bbe0ade
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "changeNumber", ignore = true)
     ReviewCycleGroup toEntity(ReviewCycleGroupDTO dto);
 
+    @Mapping(source = "createdAt", target = "createdDttm")
+    @Mapping(source = "updatedAt", target = "updatedDttm")
     ReviewCycleGroupDTO toDto(ReviewCycleGroup entity);
 
     @Mapping(target = "reviewCycleGroupId", ignore = true)
-    @Mapping(target = "createdDttm", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
-    @Mapping(target = "updatedDttm", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "changeNumber", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(ReviewCycleGroupDTO dto, @MappingTarget ReviewCycleGroup entity);
 
     List<ReviewCycleGroupDTO> toDtoList(List<ReviewCycleGroup> entities);
+
+    // Detached copy (including a new IDI list) for read models that must not share caller-owned DTOs
+    ReviewCycleGroupDTO copy(ReviewCycleGroupDTO dto);
 }
\ No newline at end of file
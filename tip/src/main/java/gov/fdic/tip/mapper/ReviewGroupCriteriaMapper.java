@@ -23,14 +23,23 @@ public interface ReviewGroupCriteriaMapper {
 
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     ReviewGroupCriteria toEntity(ReviewGroupCriteriaDTO dto);
 
     ReviewGroupCriteriaDTO toDto(ReviewGroupCriteria entity);
 
     List<ReviewGroupCriteriaDTO> toDtoList(List<ReviewGroupCriteria> entities);
 
+    // Detached copy for read models that must not share instances with callers
+    ReviewGroupCriteriaDTO copy(ReviewGroupCriteriaDTO dto);
+
     @Mapping(target = "reviewGroupCriteriaId", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     void updateEntityFromDto(ReviewGroupCriteriaDTO dto, @MappingTarget ReviewGroupCriteria entity);
 }
\ No newline at end of file
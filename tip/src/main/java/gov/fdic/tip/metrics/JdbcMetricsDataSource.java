@@ -0,0 +1,179 @@
+package gov.fdic.tip.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps the application data source so that every executed JDBC batch is recorded in the
+ * jdbc.batch.size distribution, tagged with the statement's operation and table. Hibernate's
+ * statistics only count batches, not how full they were, which is what shows whether
+ * hibernate.jdbc.batch_size and order_inserts/order_updates actually take effect.
+ * Every execution (a batch counts once) is also timed into the SqlStatementStatistics of the
+ * current request, if one is being recorded.
+ * Connections and statements are JDK proxies; everything except the execute and batch calls is
+ * passed through.
+ */
+public class JdbcMetricsDataSource extends DelegatingDataSource {
+
+    public static final String BATCH_SIZE_METER = "jdbc.batch.size";
+
+    // Hibernate writes one statement per table, so operation and table keep the tag values bounded
+    private static final Pattern DML = Pattern.compile(
+            "^\\s*(insert\\s+into|update|delete\\s+from|merge\\s+into)\\s+([\\w.\"]+)", Pattern.CASE_INSENSITIVE);
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public JdbcMetricsDataSource(DataSource targetDataSource, ObjectProvider<MeterRegistry> meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    void recordBatch(String sql, int size) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null || size == 0) {
+            return;
+        }
+        String operation = "other";
+        String table = "unknown";
+        Matcher matcher = sql == null ? null : DML.matcher(sql);
+        if (matcher != null && matcher.find()) {
+            operation = matcher.group(1).split("\\s+")[0].toLowerCase(Locale.ROOT);
+            table = matcher.group(2).replace("\"", "").toLowerCase(Locale.ROOT);
+        }
+        DistributionSummary.builder(BATCH_SIZE_METER)
+                .description("Number of statements sent in one JDBC batch")
+                .baseUnit("statements")
+                .tag("operation", operation)
+                .tag("table", table)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(registry)
+                .record(size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(JdbcMetricsDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            Object result = JdbcMetricsDataSource.invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, null));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private String sql;
+        private int pending;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "addBatch":
+                    if (args != null && sql == null) {
+                        sql = (String) args[0];
+                    }
+                    Object added = JdbcMetricsDataSource.invoke(target, method, args);
+                    pending++;
+                    return added;
+                case "clearBatch":
+                    pending = 0;
+                    break;
+                case "executeBatch":
+                case "executeLargeBatch":
+                    int size = pending;
+                    pending = 0;
+                    Object executed = timed(sql, method, args);
+                    recordBatch(sql, size);
+                    return executed;
+                case "execute":
+                case "executeQuery":
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                    return timed(args == null ? sql : (String) args[0], method, args);
+                default:
+                    break;
+            }
+            return JdbcMetricsDataSource.invoke(target, method, args);
+        }
+
+        private Object timed(String executedSql, Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return JdbcMetricsDataSource.invoke(target, method, args);
+            } finally {
+                SqlStatementStatistics.record(executedSql, System.nanoTime() - start);
+            }
+        }
+    }
+}
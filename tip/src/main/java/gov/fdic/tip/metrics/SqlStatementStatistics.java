@@ -0,0 +1,89 @@
+package gov.fdic.tip.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements executed on the current thread while a recording is open: how many, how long they took
+ * and how often each statement shape came up. RequestTracingFilter opens one per request and
+ * JdbcMetricsDataSource feeds it, so statements run on other threads are not included: those of the
+ * import's parallel validation, or of any async or StreamingResponseBody work, are missing from
+ * X-Sql-Count and X-Sql-Time. Those headers are set as the body is opened, so for a body
+ * written while it is read, such as the export's, they only cover the statements run before it.
+ * A shape is the SQL with literals and IN-list lengths taken out, which makes the same lookup repeated
+ * per row (the N+1 pattern) show up as one shape with a high count.
+ */
+public final class SqlStatementStatistics {
+
+    private static final ThreadLocal<SqlStatementStatistics> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int count;
+    private long nanos;
+    private final Map<String, Integer> countsByShape = new HashMap<>();
+
+    private SqlStatementStatistics() {
+    }
+
+    /**
+     * Opens a recording for the current thread, replacing any left open.
+     */
+    public static SqlStatementStatistics start() {
+        SqlStatementStatistics statistics = new SqlStatementStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatementStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    public static void record(String sql, long elapsedNanos) {
+        SqlStatementStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.count++;
+            statistics.nanos += elapsedNanos;
+            statistics.countsByShape.merge(shapeOf(sql), 1, Integer::sum);
+        }
+    }
+
+    public static String shapeOf(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("?...");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * The shapes executed more than the given number of times, with how often they were.
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        countsByShape.forEach((shape, times) -> {
+            if (times > threshold) {
+                repeated.put(shape, times);
+            }
+        });
+        return repeated;
+    }
+}
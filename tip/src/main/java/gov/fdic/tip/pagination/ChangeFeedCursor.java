@@ -0,0 +1,44 @@
+package gov.fdic.tip.pagination;
+
+import gov.fdic.tip.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a change feed: the change number and id of the last change served. Changes are read
+ * in (changeNumber, id) order, so the cursor only ever moves forward. Clients treat it as opaque.
+ */
+public record ChangeFeedCursor(long changeNumber, long id) {
+
+    // Before every change; where a feed starts when the client has no cursor yet
+    public static final ChangeFeedCursor START = new ChangeFeedCursor(0L, 0L);
+
+    public static ChangeFeedCursor parse(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return START;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('/');
+            String changeNumber = decoded.substring(0, separator);
+            long id = Long.parseLong(decoded.substring(separator + 1));
+            if (changeNumber.indexOf('T') >= 0) {
+                // Issued when the feed was ordered by change time: that position cannot be mapped to a
+                // change number, so the client syncs again from the start
+                LocalDateTime.parse(changeNumber);
+                return START;
+            }
+            return new ChangeFeedCursor(Long.parseLong(changeNumber), id);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new BusinessException("INVALID_CURSOR", "Cursor is malformed");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((changeNumber + "/" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
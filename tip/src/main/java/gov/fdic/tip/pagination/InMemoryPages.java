@@ -0,0 +1,45 @@
+package gov.fdic.tip.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Applies a Pageable to results already held in memory (e.g. served by an index), so such reads
+ * return the same Page shape as the repository-backed ones.
+ */
+public final class InMemoryPages {
+
+    private InMemoryPages() {
+    }
+
+    /**
+     * @param items         all matches, in the order to use when the pageable is unsorted
+     * @param comparatorFor comparator for one ascending sort order; only called for whitelisted properties
+     */
+    public static <T> Page<T> page(List<T> items, Pageable pageable, Function<Sort.Order, Comparator<T>> comparatorFor) {
+        List<T> sorted = items;
+        if (pageable.getSort().isSorted()) {
+            Comparator<T> comparator = null;
+            for (Sort.Order order : pageable.getSort()) {
+                Comparator<T> next = comparatorFor.apply(order);
+                next = order.isDescending() ? next.reversed() : next;
+                comparator = comparator == null ? next : comparator.thenComparing(next);
+            }
+            sorted = new ArrayList<>(items);
+            sorted.sort(comparator);
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(sorted, pageable, sorted.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+        return new PageImpl<>(new ArrayList<>(sorted.subList(from, to)), pageable, sorted.size());
+    }
+}
@@ -0,0 +1,122 @@
+package gov.fdic.tip.pagination;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gov.fdic.tip.dto.CursorPageDTO;
+import gov.fdic.tip.exception.BusinessException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset (seek) pagination support for one entity: a whitelist of index-backed sort keys and an opaque
+ * cursor carrying the sort key values of the last row served. Each page is fetched with
+ * "WHERE (key, id) > (:key, :id) ORDER BY key, id LIMIT n + 1", so its cost does not depend on depth.
+ */
+public final class KeysetPager {
+
+    private static final ObjectMapper CURSOR_MAPPER = new ObjectMapper();
+
+    private final String idProperty;
+    private final Map<String, Class<?>> sortKeys;
+
+    /**
+     * @param idProperty unique tie-breaker appended to every sort
+     * @param sortKeys   properties that may be sorted on, with their Java types; must include idProperty
+     */
+    public KeysetPager(String idProperty, Map<String, Class<?>> sortKeys) {
+        this.idProperty = idProperty;
+        this.sortKeys = Map.copyOf(sortKeys);
+    }
+
+    /**
+     * Builds the sort for a whitelisted key, with the id appended as tie-breaker.
+     */
+    public Sort sort(String sortBy, String sortDirection) {
+        requireAllowed(sortBy);
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sortDirection)
+                .orElseThrow(() -> new BusinessException("INVALID_SORT_DIRECTION",
+                    "Sort direction must be asc or desc: " + sortDirection));
+        Sort sort = Sort.by(direction, sortBy);
+        return sortBy.equals(idProperty) ? sort : sort.and(Sort.by(direction, idProperty));
+    }
+
+    /**
+     * Rejects any order on a property outside the whitelist; used by the offset endpoints as well.
+     */
+    public void requireAllowed(Sort sort) {
+        sort.forEach(order -> requireAllowed(order.getProperty()));
+    }
+
+    private void requireAllowed(String property) {
+        if (!sortKeys.containsKey(property)) {
+            throw new BusinessException("INVALID_SORT_KEY",
+                "Cannot sort by " + property + "; allowed: " + String.join(", ", sortKeys.keySet().stream().sorted().toList()));
+        }
+    }
+
+    /**
+     * Decodes the cursor into the position after which the next page starts; a missing cursor means
+     * the first page. The cursor must have been issued for the same sort.
+     */
+    public KeysetScrollPosition position(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Cursor decoded;
+        try {
+            decoded = CURSOR_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), Cursor.class);
+        } catch (IllegalArgumentException | IOException ex) {
+            throw new BusinessException("INVALID_CURSOR", "Cursor is malformed");
+        }
+        if (decoded.keys() == null || !sort.toString().equals(decoded.sort())) {
+            throw new BusinessException("INVALID_CURSOR", "Cursor was issued for a different sort");
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            Object value = decoded.keys().get(order.getProperty());
+            if (value == null) {
+                throw new BusinessException("INVALID_CURSOR", "Cursor is missing " + order.getProperty());
+            }
+            try {
+                keys.put(order.getProperty(), CURSOR_MAPPER.convertValue(value, sortKeys.get(order.getProperty())));
+            } catch (IllegalArgumentException ex) {
+                throw new BusinessException("INVALID_CURSOR", "Cursor is malformed");
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    /**
+     * Maps a window into a page, with the cursor of its last row when more rows follow.
+     */
+    public <E, D> CursorPageDTO<D> toPage(Window<E> window, Sort sort, Function<List<E>, List<D>> mapper, Long totalElements) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = encode(new Cursor(sort.toString(), new LinkedHashMap<>(last.getKeys())));
+        }
+        return new CursorPageDTO<>(mapper.apply(window.getContent()), window.size(), window.hasNext(), nextCursor, totalElements);
+    }
+
+    private static String encode(Cursor cursor) {
+        try {
+            byte[] json = CURSOR_MAPPER.writeValueAsString(cursor).getBytes(StandardCharsets.UTF_8);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Cannot encode cursor", ex);
+        }
+    }
+
+    private record Cursor(String sort, Map<String, Object> keys) {
+    }
+}
@@ -1,15 +1,33 @@
 package gov.fdic.tip.repository;
 
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
 import gov.fdic.tip.entity.ReviewCycleGroup;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * @author Prasad Ravva
@@ -20,28 +38,241 @@ import java.util.Optional;
  */
 
 @Repository
-public interface ReviewCycleGroupRepository extends JpaRepository<ReviewCycleGroup, Long> {
+public interface ReviewCycleGroupRepository extends JpaRepository<ReviewCycleGroup, Long>, JpaSpecificationExecutor<ReviewCycleGroup> {
+
+    // listOfIdis is fetched with the owning rows wherever the result is not paged; paged queries
+    // keep SQL-level LIMIT/OFFSET and load the collections with one batched query per page instead.
+    String IDIS_GRAPH = "listOfIdis";
+
+    @Override
+    @EntityGraph(attributePaths = IDIS_GRAPH)
+    List<ReviewCycleGroup> findAll();
+
+    // Served from the second-level cache once loaded, IDIs included
+    @Override
+    @EntityGraph(attributePaths = IDIS_GRAPH)
+    Optional<ReviewCycleGroup> findById(Long id);
+
+    // The read queries the service runs go through the query cache, which drops a result as soon as
+    // this node writes to review_cycle_group or its IDIs. The write paths (findByReviewCycleGroupId,
+    // findByReviewGroupName for upserts) and the version probes stay uncached so they always see
+    // the database.
+    @Override
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    boolean existsById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = IDIS_GRAPH)
+    List<ReviewCycleGroup> findAllById(Iterable<Long> ids);
 
     Optional<ReviewCycleGroup> findByReviewGroupName(String reviewGroupName);
+
+    // Same row as findById but with listOfIdis left lazy, so a stale If-Match fails before it is read
+    Optional<ReviewCycleGroup> findByReviewCycleGroupId(Long reviewCycleGroupId);
+
+    // Validators for conditional GETs: versions only, no IDIs
+    @Query("SELECT rcg.version FROM ReviewCycleGroup rcg WHERE rcg.reviewCycleGroupId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // Audit timestamp only, for If-Modified-Since
+    @Query("SELECT rcg.updatedAt FROM ReviewCycleGroup rcg WHERE rcg.reviewCycleGroupId = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // Rows of [reviewCycleGroupId, version]
+    @Query("SELECT rcg.reviewCycleGroupId, rcg.version FROM ReviewCycleGroup rcg WHERE rcg.reviewCycleId = :reviewCycleId")
+    List<Object[]> findVersionsByReviewCycleId(@Param("reviewCycleId") Long reviewCycleId);
     
-    List<ReviewCycleGroup> findByReviewCycleId(Long reviewCycleId);
-    
-    List<ReviewCycleGroup> findByReviewTypeId(Long reviewTypeId);
-    
-    List<ReviewCycleGroup> findByReviewConditionId(Long reviewConditionId);
+    // Rows of [idi, reviewCycleGroupId]
+    @Query("SELECT idi, rcg.reviewCycleGroupId FROM ReviewCycleGroup rcg JOIN rcg.listOfIdis idi WHERE idi IN :idis")
+    List<Object[]> findGroupIdsByIdiIn(@Param("idis") Collection<String> idis);
     
-    List<ReviewCycleGroup> findByBooleanState(Boolean booleanState);
+    Page<ReviewCycleGroup> findByReviewGroupNameContainingIgnoreCase(String reviewGroupName, Pageable pageable);
     
-    @Query("SELECT rcg FROM ReviewCycleGroup rcg WHERE rcg.rangeStart <= :value AND rcg.rangeEnd >= :value")
-    List<ReviewCycleGroup> findByValueInRange(@Param("value") Integer value);
+    // Keyset pagination: seek past the position instead of OFFSET, and no COUNT query
+    Window<ReviewCycleGroup> findBy(ScrollPosition position, Sort sort, Limit limit);
     
-    @Query("SELECT rcg FROM ReviewCycleGroup rcg WHERE :idi MEMBER OF rcg.listOfIdis")
-    List<ReviewCycleGroup> findByListOfIdisContaining(@Param("idi") String idi);
+    Window<ReviewCycleGroup> findByReviewGroupNameContainingIgnoreCase(String reviewGroupName, ScrollPosition position, Sort sort, Limit limit);
     
-    Page<ReviewCycleGroup> findByReviewGroupNameContainingIgnoreCase(String reviewGroupName, Pageable pageable);
+    long countByReviewGroupNameContainingIgnoreCase(String reviewGroupName);
     
     @Query("SELECT COUNT(rcg) FROM ReviewCycleGroup rcg WHERE rcg.reviewCycleId = :reviewCycleId")
     long countByReviewCycleId(@Param("reviewCycleId") Long reviewCycleId);
     
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
     boolean existsByReviewGroupName(String reviewGroupName);
+    
+    // Read-only projections: rows go straight into DTOs, with no managed entities, no dirty-checking
+    // snapshots and no MapStruct copy. IDIs are attached afterwards by withIdis.
+    String DTO_SELECT = "SELECT new gov.fdic.tip.dto.ReviewCycleGroupDTO(rcg.reviewCycleGroupId, rcg.reviewGroupName, "
+            + "rcg.reviewCycleId, rcg.reviewTypeId, rcg.reviewConditionId, rcg.rangeStart, rcg.rangeEnd, rcg.booleanState, "
+            + "rcg.reviewFrequency, rcg.reviewsPerYear, rcg.createdBy, rcg.updatedBy, rcg.createdAt, rcg.updatedAt, "
+            + "rcg.version) FROM ReviewCycleGroup rcg";
+    
+    // Largest IN list sent when attaching IDIs
+    int IDI_FETCH_CHUNK = 1000;
+    
+    @Query(DTO_SELECT)
+    List<ReviewCycleGroupDTO> findAllDtos();
+    
+    @Query(value = DTO_SELECT, countQuery = "SELECT COUNT(rcg) FROM ReviewCycleGroup rcg")
+    Page<ReviewCycleGroupDTO> findAllDtos(Pageable pageable);
+    
+    @Query(DTO_SELECT + " WHERE rcg.reviewCycleGroupId IN :ids")
+    List<ReviewCycleGroupDTO> findDtosByReviewCycleGroupIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query(DTO_SELECT + " WHERE rcg.reviewCycleId IN :reviewCycleIds")
+    List<ReviewCycleGroupDTO> findDtosByReviewCycleIdIn(@Param("reviewCycleIds") Collection<Long> reviewCycleIds);
+    
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    @Query(DTO_SELECT + " WHERE rcg.reviewCycleId = :reviewCycleId")
+    List<ReviewCycleGroupDTO> findDtosByReviewCycleId(@Param("reviewCycleId") Long reviewCycleId);
+    
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    @Query(DTO_SELECT + " WHERE rcg.reviewTypeId = :reviewTypeId")
+    List<ReviewCycleGroupDTO> findDtosByReviewTypeId(@Param("reviewTypeId") Long reviewTypeId);
+    
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    @Query(DTO_SELECT + " WHERE rcg.booleanState = :booleanState")
+    List<ReviewCycleGroupDTO> findDtosByBooleanState(@Param("booleanState") Boolean booleanState);
+    
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    @Query(DTO_SELECT + " WHERE rcg.rangeStart <= :value AND rcg.rangeEnd >= :value")
+    List<ReviewCycleGroupDTO> findDtosByValueInRange(@Param("value") Integer value);
+    
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    @Query(DTO_SELECT + " WHERE rcg.reviewCycleId = :reviewCycleId AND rcg.rangeStart <= :value AND rcg.rangeEnd >= :value")
+    List<ReviewCycleGroupDTO> findDtosByValueInRangeAndReviewCycleId(@Param("value") Integer value, @Param("reviewCycleId") Long reviewCycleId);
+    
+    // Rows of [changeNumber, reviewCycleGroupId, updatedAt] after the change feed cursor (changeNumber, id),
+    // in feed order; the groups themselves are only read for the changes that are served
+    @Query("SELECT rcg.changeNumber, rcg.reviewCycleGroupId, rcg.updatedAt FROM ReviewCycleGroup rcg "
+            + "WHERE rcg.changeNumber > :after OR (rcg.changeNumber = :after AND rcg.reviewCycleGroupId > :afterId) "
+            + "ORDER BY rcg.changeNumber, rcg.reviewCycleGroupId")
+    List<Object[]> findChangesAfter(@Param("after") long after, @Param("afterId") long afterId, Limit limit);
+
+    // With ReviewCycleGroupTombstoneRepository.findMaxChangeNumber, the fingerprint the index polls:
+    // every write through the service moves one of them. A lookup at the end of the feed index.
+    @Query("SELECT COALESCE(MAX(rcg.changeNumber), 0) FROM ReviewCycleGroup rcg")
+    long findMaxChangeNumber();
+
+    // Drawn once by every transaction that writes groups or tombstones. It must not flush the
+    // entities waiting to be stamped with it, and a read-only transaction cannot draw it.
+    @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "SELECT nextval('review_cycle_group_change_seq')", nativeQuery = true)
+    long nextChangeNumber();
+    
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    @Query(DTO_SELECT + " WHERE :idi MEMBER OF rcg.listOfIdis")
+    List<ReviewCycleGroupDTO> findDtosByListOfIdisContaining(@Param("idi") String idi);
+    
+    // Same escaping and case folding as the derived findByReviewGroupNameContainingIgnoreCase
+    @Query(value = DTO_SELECT + " WHERE UPPER(rcg.reviewGroupName) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()}",
+           countQuery = "SELECT COUNT(rcg) FROM ReviewCycleGroup rcg WHERE UPPER(rcg.reviewGroupName) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()}")
+    Page<ReviewCycleGroupDTO> findDtosByReviewGroupNameContainingIgnoreCase(String reviewGroupName, Pageable pageable);
+    
+    // Rows of [reviewCycleGroupId, idi]; cached too, so withIdis on a cached projection needs no
+    // round trip either
+    @QueryHints({@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+                 @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = ReviewCycleGroup.QUERY_CACHE_REGION)})
+    @Query("SELECT rcg.reviewCycleGroupId, idi FROM ReviewCycleGroup rcg JOIN rcg.listOfIdis idi WHERE rcg.reviewCycleGroupId IN :ids")
+    List<Object[]> findIdisByReviewCycleGroupIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Rows of [reviewCycleGroupId, idi] for every group
+    @Query("SELECT rcg.reviewCycleGroupId, idi FROM ReviewCycleGroup rcg JOIN rcg.listOfIdis idi")
+    List<Object[]> findAllIdis();
+    
+    /**
+     * Fills listOfIdis of projected groups with one query per IDI_FETCH_CHUNK groups; groups without
+     * IDIs get an empty list, as with the entity mapping.
+     */
+    default List<ReviewCycleGroupDTO> withIdis(List<ReviewCycleGroupDTO> groups) {
+        Map<Long, ReviewCycleGroupDTO> byId = byIdWithEmptyIdis(groups);
+        List<Long> ids = new ArrayList<>(byId.keySet());
+        for (int from = 0; from < ids.size(); from += IDI_FETCH_CHUNK) {
+            addIdis(byId, findIdisByReviewCycleGroupIdIn(ids.subList(from, Math.min(from + IDI_FETCH_CHUNK, ids.size()))));
+        }
+        return groups;
+    }
+    
+    /**
+     * All groups with their IDIs in two queries. Reading every IDI row unfiltered is cheaper than
+     * an IN list naming every group; rows of groups inserted between the two queries are skipped.
+     */
+    default List<ReviewCycleGroupDTO> findAllDtosWithIdis() {
+        List<ReviewCycleGroupDTO> groups = findAllDtos();
+        addIdis(byIdWithEmptyIdis(groups), findAllIdis());
+        return groups;
+    }
+    
+    private static Map<Long, ReviewCycleGroupDTO> byIdWithEmptyIdis(List<ReviewCycleGroupDTO> groups) {
+        Map<Long, ReviewCycleGroupDTO> byId = new HashMap<>(groups.size() * 2);
+        for (ReviewCycleGroupDTO group : groups) {
+            group.setListOfIdis(new ArrayList<>());
+            byId.put(group.getReviewCycleGroupId(), group);
+        }
+        return byId;
+    }
+    
+    private static void addIdis(Map<Long, ReviewCycleGroupDTO> byId, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            ReviewCycleGroupDTO group = byId.get((Long) row[0]);
+            if (group != null) {
+                group.getListOfIdis().add((String) row[1]);
+            }
+        }
+    }
+    
+    // Rows fetched per round trip by the export streams; the driver only holds this many at a time
+    String EXPORT_FETCH_SIZE = "1000";
+    
+    // Must be consumed inside a transaction and closed; ordered by id to be merged with streamAllIdis
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(DTO_SELECT + " ORDER BY rcg.reviewCycleGroupId")
+    Stream<ReviewCycleGroupDTO> streamAllDtos();
+    
+    // Rows of [reviewCycleGroupId, idi] ordered by group id; same rules as streamAllDtos
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("SELECT rcg.reviewCycleGroupId, idi FROM ReviewCycleGroup rcg JOIN rcg.listOfIdis idi ORDER BY rcg.reviewCycleGroupId")
+    Stream<Object[]> streamAllIdis();
+    
+    @Query("SELECT rcg.reviewGroupName FROM ReviewCycleGroup rcg WHERE rcg.reviewGroupName IN :names")
+    List<String> findExistingReviewGroupNames(@Param("names") Collection<String> names);
+
+    // Rows of [reviewCycleGroupId, reviewCycleId, reviewTypeId, booleanState]: what the counters
+    // keep per group, without the IDIs
+    @Query("SELECT rcg.reviewCycleGroupId, rcg.reviewCycleId, rcg.reviewTypeId, rcg.booleanState FROM ReviewCycleGroup rcg")
+    List<Object[]> findAllFacets();
+
+    // Rows of [reviewCycleGroupId, reviewTypeId]
+    @Query("SELECT rcg.reviewCycleGroupId, rcg.reviewTypeId FROM ReviewCycleGroup rcg WHERE rcg.reviewCycleId = :reviewCycleId")
+    List<Object[]> findIdsAndReviewTypeIdsByReviewCycleId(@Param("reviewCycleId") Long reviewCycleId);
+
+    // Bulk DML by review cycle: single statements that bypass the persistence context, which is
+    // flushed before and cleared after each of them so no stale entity survives.
+
+    // Hibernate first deletes the matching review_cycle_group_idis rows with one statement of its own
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ReviewCycleGroup rcg WHERE rcg.reviewCycleId = :reviewCycleId")
+    int deleteAllByReviewCycleId(@Param("reviewCycleId") Long reviewCycleId);
+
+    // A null parameter leaves its column unchanged; the version is bumped like any entity update
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReviewCycleGroup rcg SET rcg.version = rcg.version + 1, rcg.booleanState = COALESCE(:booleanState, rcg.booleanState), "
+            + "rcg.reviewFrequency = COALESCE(:reviewFrequency, rcg.reviewFrequency), "
+            + "rcg.reviewsPerYear = COALESCE(:reviewsPerYear, rcg.reviewsPerYear), "
+            + "rcg.updatedBy = :updatedBy, rcg.updatedAt = :updatedAt, rcg.changeNumber = :changeNumber "
+            + "WHERE rcg.reviewCycleId = :reviewCycleId")
+    int updateAllByReviewCycleId(@Param("reviewCycleId") Long reviewCycleId, @Param("booleanState") Boolean booleanState,
+                                 @Param("reviewFrequency") String reviewFrequency, @Param("reviewsPerYear") Integer reviewsPerYear,
+                                 @Param("updatedBy") String updatedBy, @Param("updatedAt") LocalDateTime updatedAt,
+                                 @Param("changeNumber") long changeNumber);
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package gov.fdic.tip.repository;
+
+import gov.fdic.tip.dto.ReviewCycleGroupFilterDTO;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specifications that combine the per-field finders of ReviewCycleGroupRepository into a single
+ * WHERE clause. The predicates line up with the composite indexes of V7__composite_filter_indexes.
+ */
+public final class ReviewCycleGroupSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ReviewCycleGroupSpecifications() {
+    }
+
+    /**
+     * Every non-null field of the filter as one conjunction; an empty filter matches all groups.
+     */
+    public static Specification<ReviewCycleGroup> matching(ReviewCycleGroupFilterDTO filter) {
+        List<Specification<ReviewCycleGroup>> predicates = new ArrayList<>();
+        if (filter.getReviewCycleId() != null) {
+            predicates.add(equal("reviewCycleId", filter.getReviewCycleId()));
+        }
+        if (filter.getReviewTypeId() != null) {
+            predicates.add(equal("reviewTypeId", filter.getReviewTypeId()));
+        }
+        if (filter.getReviewConditionId() != null) {
+            predicates.add(equal("reviewConditionId", filter.getReviewConditionId()));
+        }
+        if (filter.getBooleanState() != null) {
+            predicates.add(equal("booleanState", filter.getBooleanState()));
+        }
+        if (filter.getValue() != null) {
+            predicates.add(valueInRange(filter.getValue()));
+        }
+        if (filter.getIdi() != null) {
+            predicates.add(containsIdi(filter.getIdi()));
+        }
+        if (filter.getNamePrefix() != null && !filter.getNamePrefix().isEmpty()) {
+            predicates.add(namePrefix(filter.getNamePrefix()));
+        }
+        return Specification.allOf(predicates);
+    }
+
+    private static Specification<ReviewCycleGroup> equal(String property, Object value) {
+        return (root, query, cb) -> cb.equal(root.get(property), value);
+    }
+
+    public static Specification<ReviewCycleGroup> valueInRange(int value) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get("rangeStart"), value),
+                cb.greaterThanOrEqualTo(root.get("rangeEnd"), value));
+    }
+
+    // EXISTS (... WHERE idi_value = ?) rather than MEMBER OF, whose "? IN (SELECT idi_value ...)" is
+    // not an equality on idi_value, so the IDI index can seek; a semi-join never repeats a group
+    public static Specification<ReviewCycleGroup> containsIdi(String idi) {
+        return (root, query, cb) -> {
+            Subquery<Integer> idis = query.subquery(Integer.class);
+            Join<ReviewCycleGroup, String> idiValue = idis.correlate(root).join("listOfIdis");
+            return cb.exists(idis.select(cb.literal(1)).where(cb.equal(idiValue, idi)));
+        };
+    }
+
+    // LIKE 'prefix%' with the wildcards in the prefix escaped; a leading literal keeps it sargable
+    public static Specification<ReviewCycleGroup> namePrefix(String prefix) {
+        String escaped = prefix.replace(String.valueOf(LIKE_ESCAPE), "" + LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return (root, query, cb) -> cb.like(root.get("reviewGroupName"), escaped + "%", LIKE_ESCAPE);
+    }
+}
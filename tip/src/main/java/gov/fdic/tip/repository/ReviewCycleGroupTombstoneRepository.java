@@ -0,0 +1,43 @@
+package gov.fdic.tip.repository;
+
+import gov.fdic.tip.entity.ReviewCycleGroupTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the tombstones of deleted review cycle groups, read by the change feed.
+ */
+
+@Repository
+public interface ReviewCycleGroupTombstoneRepository extends JpaRepository<ReviewCycleGroupTombstone, Long> {
+
+    // Written with INSERT ... SELECT before the groups are deleted, so no group is loaded for it
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ReviewCycleGroupTombstone (reviewCycleGroupId, reviewCycleId, deletedAt, changeNumber) "
+            + "SELECT rcg.reviewCycleGroupId, rcg.reviewCycleId, :deletedAt, :changeNumber FROM ReviewCycleGroup rcg "
+            + "WHERE rcg.reviewCycleGroupId = :id")
+    int insertForReviewCycleGroupId(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt,
+                                    @Param("changeNumber") long changeNumber);
+
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO ReviewCycleGroupTombstone (reviewCycleGroupId, reviewCycleId, deletedAt, changeNumber) "
+            + "SELECT rcg.reviewCycleGroupId, rcg.reviewCycleId, :deletedAt, :changeNumber FROM ReviewCycleGroup rcg "
+            + "WHERE rcg.reviewCycleId = :reviewCycleId")
+    int insertForReviewCycleId(@Param("reviewCycleId") Long reviewCycleId, @Param("deletedAt") LocalDateTime deletedAt,
+                               @Param("changeNumber") long changeNumber);
+
+    // Tombstones after the change feed cursor (changeNumber, id), in feed order
+    @Query("SELECT t FROM ReviewCycleGroupTombstone t WHERE t.changeNumber > :after "
+            + "OR (t.changeNumber = :after AND t.reviewCycleGroupId > :afterId) ORDER BY t.changeNumber, t.reviewCycleGroupId")
+    List<ReviewCycleGroupTombstone> findDeletedAfter(@Param("after") long after, @Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(t.changeNumber), 0) FROM ReviewCycleGroupTombstone t")
+    long findMaxChangeNumber();
+}
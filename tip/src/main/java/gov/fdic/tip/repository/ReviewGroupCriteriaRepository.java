@@ -1,15 +1,21 @@
 package gov.fdic.tip.repository;
 
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
 import gov.fdic.tip.entity.ReviewGroupCriteria;
 import gov.fdic.tip.enums.GroupCriteriaType;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +31,10 @@ public interface ReviewGroupCriteriaRepository extends JpaRepository<ReviewGroup
 
     // Find by criteria name (exact match)
     Optional<ReviewGroupCriteria> findByCriteriaName(String criteriaName);
+
+    // Version only, to validate a conditional GET without loading the row
+    @Query("SELECT rgc.version FROM ReviewGroupCriteria rgc WHERE rgc.reviewGroupCriteriaId = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
     
     // Find by criteria type
     List<ReviewGroupCriteria> findByCriteriaType(GroupCriteriaType criteriaType);
@@ -35,6 +45,14 @@ public interface ReviewGroupCriteriaRepository extends JpaRepository<ReviewGroup
     // Find by criteria name containing with pagination
     Page<ReviewGroupCriteria> findByCriteriaNameContainingIgnoreCase(String criteriaName, Pageable pageable);
     
+    // Keyset pagination: seek past the position instead of OFFSET, and no COUNT query
+    Window<ReviewGroupCriteria> findBy(ScrollPosition position, Sort sort, Limit limit);
+    
+    Window<ReviewGroupCriteria> findByCriteriaNameContainingIgnoreCase(String criteriaName, ScrollPosition position, Sort sort, Limit limit);
+    
+    // Count by criteria name containing (case-insensitive)
+    long countByCriteriaNameContainingIgnoreCase(String criteriaName);
+    
     // Check if criteria name exists
     boolean existsByCriteriaName(String criteriaName);
     
@@ -48,6 +66,42 @@ public interface ReviewGroupCriteriaRepository extends JpaRepository<ReviewGroup
     // Count by criteria type
     long countByCriteriaType(GroupCriteriaType criteriaType);
     
+    // Rows of [criteriaType, count]; types without criteria are left out
+    @Query("SELECT r.criteriaType, COUNT(r) FROM ReviewGroupCriteria r GROUP BY r.criteriaType")
+    List<Object[]> countGroupedByCriteriaType();
+    
+    // One row of [count, sum of versions, highest id]. Any create, update or delete on any node
+    // changes it: every update bumps a version and ids are never reused.
+    @Query("SELECT COUNT(r), COALESCE(SUM(r.version), 0), COALESCE(MAX(r.reviewGroupCriteriaId), 0) FROM ReviewGroupCriteria r")
+    List<Object[]> findChangeFingerprint();
+    
     // Find all with pagination and sorting
     Page<ReviewGroupCriteria> findAll(Pageable pageable);
+    
+    // Read-only projections straight into DTOs: no managed entities and no MapStruct copy
+    String DTO_SELECT = "SELECT new gov.fdic.tip.dto.ReviewGroupCriteriaDTO(r.reviewGroupCriteriaId, r.criteriaName, "
+            + "r.criteriaType, r.createdBy, r.updatedBy, r.version) FROM ReviewGroupCriteria r";
+    
+    @Query(DTO_SELECT)
+    List<ReviewGroupCriteriaDTO> findAllDtos();
+    
+    @Query(value = DTO_SELECT, countQuery = "SELECT COUNT(r) FROM ReviewGroupCriteria r")
+    Page<ReviewGroupCriteriaDTO> findAllDtos(Pageable pageable);
+    
+    @Query(DTO_SELECT + " WHERE r.reviewGroupCriteriaId IN :ids")
+    List<ReviewGroupCriteriaDTO> findDtosByReviewGroupCriteriaIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query(DTO_SELECT + " WHERE r.criteriaType = :criteriaType")
+    List<ReviewGroupCriteriaDTO> findDtosByCriteriaType(@Param("criteriaType") GroupCriteriaType criteriaType);
+    
+    @Query(DTO_SELECT + " WHERE r.criteriaType IN :criteriaTypes")
+    List<ReviewGroupCriteriaDTO> findDtosByCriteriaTypeIn(@Param("criteriaTypes") List<GroupCriteriaType> criteriaTypes);
+    
+    // Same escaping and case folding as the derived findByCriteriaNameContainingIgnoreCase
+    @Query(DTO_SELECT + " WHERE UPPER(r.criteriaName) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()}")
+    List<ReviewGroupCriteriaDTO> findDtosByCriteriaNameContainingIgnoreCase(String criteriaName);
+    
+    @Query(value = DTO_SELECT + " WHERE UPPER(r.criteriaName) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()}",
+           countQuery = "SELECT COUNT(r) FROM ReviewGroupCriteria r WHERE UPPER(r.criteriaName) LIKE UPPER(CONCAT('%', :#{escape([0])}, '%')) ESCAPE :#{escapeCharacter()}")
+    Page<ReviewGroupCriteriaDTO> findDtosByCriteriaNameContainingIgnoreCase(String criteriaName, Pageable pageable);
 }
\ No newline at end of file
@@ -1,22 +1,92 @@
 package gov.fdic.tip.service;
 
+import gov.fdic.tip.cache.ReviewCycleGroupCaches;
+import gov.fdic.tip.dto.BatchResultDTO;
+import gov.fdic.tip.dto.BatchResultDTO.ItemResult;
+import gov.fdic.tip.dto.ChangeFeedDTO;
+import gov.fdic.tip.dto.CursorPageDTO;
+import gov.fdic.tip.dto.IdiLookupResultDTO;
+import gov.fdic.tip.dto.ImportProgressDTO;
+import gov.fdic.tip.dto.MultiGetResultDTO;
+import gov.fdic.tip.dto.NameSuggestionDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupChangeDTO;
 import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupFacetsDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupFilterDTO;
+import gov.fdic.tip.dto.UpsertResultDTO;
+import gov.fdic.tip.entity.BaseEntity;
 import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.entity.ReviewCycleGroupTombstone;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
 import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.exception.PreconditionFailedException;
 import gov.fdic.tip.exception.ResourceNotFoundException;
+import gov.fdic.tip.exception.UniqueConstraints;
+import gov.fdic.tip.export.ExportFormat;
+import gov.fdic.tip.export.ReviewCycleGroupExportWriter;
+import gov.fdic.tip.importer.ImportFormat;
+import gov.fdic.tip.importer.ReviewCycleGroupImportListener;
+import gov.fdic.tip.importer.ReviewCycleGroupImportReader;
+import gov.fdic.tip.importer.ReviewCycleGroupImportReader.ImportedGroup;
+import gov.fdic.tip.index.ReviewCycleGroupCounters;
+import gov.fdic.tip.index.ReviewCycleGroupIndex;
 import gov.fdic.tip.mapper.ReviewCycleGroupMapper;
+import gov.fdic.tip.pagination.ChangeFeedCursor;
+import gov.fdic.tip.pagination.InMemoryPages;
+import gov.fdic.tip.pagination.KeysetPager;
 import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewCycleGroupSpecifications;
+import gov.fdic.tip.repository.ReviewCycleGroupTombstoneRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Cache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * @author Prasad Ravva
@@ -32,148 +102,946 @@ public class ReviewCycleGroupService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewCycleGroupService.class);
 
+    // Sort keys backed by an index; the id is appended to every keyset sort as tie-breaker
+    private static final KeysetPager KEYSET_PAGER = new KeysetPager("reviewCycleGroupId",
+            Map.of("reviewCycleGroupId", Long.class, "reviewGroupName", String.class));
+
+    // Second-level cache role of the IDIs collection
+    private static final String IDIS_ROLE = ReviewCycleGroup.class.getName() + ".listOfIdis";
+
     @Autowired
     private ReviewCycleGroupRepository reviewCycleGroupRepository;
 
+    @Autowired
+    private ReviewCycleGroupTombstoneRepository reviewCycleGroupTombstoneRepository;
+
     @Autowired
     private ReviewCycleGroupMapper reviewCycleGroupMapper;
 
+    @Autowired
+    private ReviewCycleGroupIndex reviewCycleGroupIndex;
+
+    @Autowired
+    private ReviewCycleGroupCounters reviewCycleGroupCounters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${feature.flags.enable-batch-operations:true}")
+    private boolean batchOperationsEnabled;
+
+    @Value("${feature.flags.enable-export-functionality:true}")
+    private boolean exportEnabled;
+
+    @Value("${app.config.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${app.config.batch.max-items:10000}")
+    private int batchMaxItems;
+
+    @Value("${file.allowed-extensions:.csv,.xlsx}")
+    private List<String> allowedFileExtensions;
+
+    @Value("${app.config.api.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.config.changes.settle-window:5s}")
+    private Duration changesSettleWindow;
+
     // CRUD Operations
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ReviewCycleGroupCaches.BY_ID, sync = true, condition = ReviewCycleGroupCaches.CACHEABLE)
     public ReviewCycleGroupDTO findById(Long id) {
         logger.info("Finding ReviewCycleGroup with ID: {}", id);
         
         ReviewCycleGroup reviewCycleGroup = reviewCycleGroupRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("ReviewCycleGroup", id));
         
-        return reviewCycleGroupMapper.toDto(reviewCycleGroup);
+        return readOnly(reviewCycleGroupMapper.toDto(reviewCycleGroup));
+    }
+
+    /**
+     * The current version of a group, read with a single-column query so that a conditional GET
+     * can be answered without loading the IDIs. Read from the database rather than the index, which
+     * only picks up other nodes' writes on its periodic reload.
+     */
+    @Transactional(readOnly = true)
+    public long findVersionById(Long id) {
+        return reviewCycleGroupRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ReviewCycleGroup", id));
+    }
+
+    /**
+     * The audit timestamp for If-Modified-Since, or null when the group is missing or was written
+     * before auditing; the caller then reads the group itself, which reports a missing one.
+     */
+    @Transactional(readOnly = true)
+    public LocalDateTime findLastModifiedById(Long id) {
+        return reviewCycleGroupRepository.findUpdatedAtById(id).orElse(null);
+    }
+
+    /**
+     * Drops the cached group, for a conditional GET whose version probe found the cached copy behind
+     * the database, as after a write on another node; the next findById reads it again. Its
+     * second-level cache entries are dropped too, since they are just as stale.
+     */
+    @CacheEvict(cacheNames = ReviewCycleGroupCaches.BY_ID)
+    public void evictCachedById(Long id) {
+        logger.debug("Evicting stale cached ReviewCycleGroup with ID: {}", id);
+        Cache secondLevel = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        secondLevel.evictEntityData(ReviewCycleGroup.class, id);
+        secondLevel.evictCollectionData(IDIS_ROLE, id);
     }
 
     @Transactional(readOnly = true)
     public List<ReviewCycleGroupDTO> findAll() {
         logger.info("Finding all ReviewCycleGroups");
-        List<ReviewCycleGroup> reviewCycleGroups = reviewCycleGroupRepository.findAll();
-        return reviewCycleGroupMapper.toDtoList(reviewCycleGroups);
+        return reviewCycleGroupRepository.findAllDtosWithIdis();
     }
 
     @Transactional(readOnly = true)
     public Page<ReviewCycleGroupDTO> findAllPaginated(Pageable pageable) {
         logger.info("Finding paginated ReviewCycleGroups");
+        KEYSET_PAGER.requireAllowed(pageable.getSort());
         
-        Page<ReviewCycleGroup> reviewCycleGroupPage = reviewCycleGroupRepository.findAll(pageable);
-        List<ReviewCycleGroupDTO> dtos = reviewCycleGroupMapper.toDtoList(reviewCycleGroupPage.getContent());
+        Page<ReviewCycleGroupDTO> reviewCycleGroupPage = reviewCycleGroupRepository.findAllDtos(pageable);
+        reviewCycleGroupRepository.withIdis(reviewCycleGroupPage.getContent());
         
-        return new PageImpl<>(dtos, pageable, reviewCycleGroupPage.getTotalElements());
+        return reviewCycleGroupPage;
+    }
+
+    /**
+     * Keyset-paginated read: pages are fetched by seeking past the cursor, so latency stays flat
+     * however deep the caller scrolls. The total is only counted when asked for.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewCycleGroupDTO> findAllKeyset(int size, String sortBy, String sortDirection,
+                                                            String cursor, boolean includeTotal) {
+        logger.info("Finding keyset page of ReviewCycleGroups sorted by {} {}", sortBy, sortDirection);
+        Sort sort = KEYSET_PAGER.sort(sortBy, sortDirection);
+        Window<ReviewCycleGroup> window = reviewCycleGroupRepository.findBy(
+                KEYSET_PAGER.position(cursor, sort), sort, pageLimit(size));
+        Long total = includeTotal ? reviewCycleGroupRepository.count() : null;
+        return KEYSET_PAGER.toPage(window, sort, reviewCycleGroupMapper::toDtoList, total);
+    }
+
+    /**
+     * Groups matching every predicate set in the filter, one keyset page at a time. The predicates
+     * go into a single WHERE clause instead of one finder call per field intersected by the caller.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewCycleGroupDTO> findByFilter(ReviewCycleGroupFilterDTO filter, int size, String sortBy,
+                                                           String sortDirection, String cursor, boolean includeTotal) {
+        logger.info("Querying ReviewCycleGroups sorted by {} {}", sortBy, sortDirection);
+        Sort sort = KEYSET_PAGER.sort(sortBy, sortDirection);
+        Limit limit = pageLimit(size);
+        ScrollPosition position = KEYSET_PAGER.position(cursor, sort);
+        Specification<ReviewCycleGroup> specification = ReviewCycleGroupSpecifications.matching(filter);
+        Window<ReviewCycleGroup> window = reviewCycleGroupRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(limit.max()).scroll(position));
+        Long total = includeTotal ? reviewCycleGroupRepository.count(specification) : null;
+        return KEYSET_PAGER.toPage(window, sort, reviewCycleGroupMapper::toDtoList, total);
+    }
+
+    /**
+     * Groups written and deleted since the cursor, in the order they changed, for consumers that
+     * sync incrementally instead of reading everything. Every transaction that writes groups or
+     * tombstones draws one change number from a database sequence right before its writes, so the
+     * order does not depend on any node's clock.
+     * <p>
+     * A transaction can still draw its number before another one and commit after it, and its
+     * changes only become visible then. Changes younger than the settle window (by the time they
+     * were written) are therefore held back until a later poll, and the cursor never moves past one
+     * of them. This is only as good as the window: a change whose transaction commits more than the
+     * settle window after drawing its number, or whose node's clock is off by more than that, can
+     * land behind a consumer's cursor and is never served to it.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDTO<ReviewCycleGroupChangeDTO> findChanges(String since, int size) {
+        ChangeFeedCursor cursor = ChangeFeedCursor.parse(since);
+        // One more than asked for from each source tells whether anything is left after this batch
+        Limit fetch = Limit.of(pageLimit(size).max() + 1);
+        LocalDateTime settled = BaseEntity.auditTimestamp().minus(changesSettleWindow);
+
+        List<Change> changes = new ArrayList<>();
+        for (Object[] row : reviewCycleGroupRepository.findChangesAfter(cursor.changeNumber(), cursor.id(), fetch)) {
+            changes.add(new Change((Long) row[0], (Long) row[1], (LocalDateTime) row[2], null));
+        }
+        for (ReviewCycleGroupTombstone tombstone : reviewCycleGroupTombstoneRepository.findDeletedAfter(
+                cursor.changeNumber(), cursor.id(), fetch)) {
+            changes.add(new Change(tombstone.getChangeNumber(), tombstone.getReviewCycleGroupId(),
+                    tombstone.getDeletedAt(), tombstone));
+        }
+        changes.sort(Comparator.comparingLong(Change::changeNumber).thenComparingLong(Change::id));
+
+        // The batch ends at the first change still settling, so nothing after it is skipped
+        int end = 0;
+        while (end < Math.min(size, changes.size()) && changes.get(end).isSettled(settled)) {
+            end++;
+        }
+        boolean hasMore = end < changes.size() && changes.get(end).isSettled(settled);
+        List<Change> batch = changes.subList(0, end);
+
+        Map<Long, ReviewCycleGroupDTO> groupsById = new HashMap<>();
+        List<Long> upsertedIds = batch.stream().filter(change -> change.tombstone() == null).map(Change::id).toList();
+        if (!upsertedIds.isEmpty()) {
+            reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleGroupIdIn(upsertedIds))
+                    .forEach(group -> groupsById.put(group.getReviewCycleGroupId(), group));
+        }
+        List<ReviewCycleGroupChangeDTO> served = new ArrayList<>(batch.size());
+        for (Change change : batch) {
+            ReviewCycleGroupTombstone tombstone = change.tombstone();
+            if (tombstone != null) {
+                served.add(ReviewCycleGroupChangeDTO.deleted(tombstone.getReviewCycleGroupId(),
+                        tombstone.getReviewCycleId(), tombstone.getDeletedAt()));
+            } else if (groupsById.containsKey(change.id())) {
+                // A group deleted since is left out; its tombstone comes later in the feed
+                served.add(ReviewCycleGroupChangeDTO.upserted(groupsById.get(change.id())));
+            }
+        }
+        ChangeFeedCursor next = batch.isEmpty() ? cursor
+                : new ChangeFeedCursor(batch.get(batch.size() - 1).changeNumber(), batch.get(batch.size() - 1).id());
+        logger.info("Serving {} ReviewCycleGroup changes after change number {}", served.size(), cursor.changeNumber());
+        return new ChangeFeedDTO<>(served, next.encode(), hasMore);
     }
 
     public ReviewCycleGroupDTO create(ReviewCycleGroupDTO reviewCycleGroupDTO, String createdBy) {
         logger.info("Creating new ReviewCycleGroup with name: {}", reviewCycleGroupDTO.getReviewGroupName());
         
-        // Check if review group name already exists
-        if (reviewCycleGroupRepository.existsByReviewGroupName(reviewCycleGroupDTO.getReviewGroupName())) {
-            throw new BusinessException("REVIEW_GROUP_EXISTS", 
-                "ReviewCycleGroup with name already exists: " + reviewCycleGroupDTO.getReviewGroupName());
-        }
-        
         ReviewCycleGroup reviewCycleGroup = reviewCycleGroupMapper.toEntity(reviewCycleGroupDTO);
         reviewCycleGroup.setCreatedBy(createdBy);
         reviewCycleGroup.setUpdatedBy(createdBy);
         
-        ReviewCycleGroup savedReviewCycleGroup = reviewCycleGroupRepository.save(reviewCycleGroup);
+        // The unique name constraint rejects duplicates, so there is no existence check up front
+        ReviewCycleGroup savedReviewCycleGroup = saveAndFlush(reviewCycleGroup);
         
         logger.info("Created ReviewCycleGroup with ID: {}", savedReviewCycleGroup.getReviewCycleGroupId());
-        return reviewCycleGroupMapper.toDto(savedReviewCycleGroup);
+        ReviewCycleGroupDTO createdDTO = reviewCycleGroupMapper.toDto(savedReviewCycleGroup);
+        eventPublisher.publishEvent(ReviewCycleGroupChangedEvent.upserted(List.of(createdDTO)));
+        return createdDTO;
+    }
+
+    /**
+     * Updates the group with the given name, or creates it when there is none. Each attempt runs in
+     * its own transaction; when a concurrent request creates the same name first, the insert fails
+     * on the unique constraint and is retried once as an update.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UpsertResultDTO<ReviewCycleGroupDTO> upsertByName(String reviewGroupName, ReviewCycleGroupDTO reviewCycleGroupDTO,
+                                                             String updatedBy) {
+        if (!reviewGroupName.equals(reviewCycleGroupDTO.getReviewGroupName())) {
+            throw new BusinessException("NAME_MISMATCH",
+                "reviewGroupName in the body must match the path: " + reviewCycleGroupDTO.getReviewGroupName());
+        }
+        logger.info("Upserting ReviewCycleGroup with name: {}", reviewGroupName);
+        try {
+            return transactionTemplate.execute(status -> upsertOnce(reviewCycleGroupDTO, updatedBy));
+        } catch (BusinessException ex) {
+            if (!"REVIEW_GROUP_EXISTS".equals(ex.getErrorCode())) {
+                throw ex;
+            }
+            logger.info("ReviewCycleGroup {} was created concurrently, retrying as update", reviewGroupName);
+            return transactionTemplate.execute(status -> upsertOnce(reviewCycleGroupDTO, updatedBy));
+        }
+    }
+
+    private UpsertResultDTO<ReviewCycleGroupDTO> upsertOnce(ReviewCycleGroupDTO reviewCycleGroupDTO, String updatedBy) {
+        Optional<ReviewCycleGroup> existing = reviewCycleGroupRepository.findByReviewGroupName(reviewCycleGroupDTO.getReviewGroupName());
+        ReviewCycleGroup reviewCycleGroup;
+        Long previousReviewCycleId = null;
+        Long previousReviewTypeId = null;
+        if (existing.isPresent()) {
+            reviewCycleGroup = existing.get();
+            previousReviewCycleId = reviewCycleGroup.getReviewCycleId();
+            previousReviewTypeId = reviewCycleGroup.getReviewTypeId();
+            reviewCycleGroupMapper.updateEntityFromDto(reviewCycleGroupDTO, reviewCycleGroup);
+        } else {
+            reviewCycleGroup = reviewCycleGroupMapper.toEntity(reviewCycleGroupDTO);
+            reviewCycleGroup.setCreatedBy(updatedBy);
+        }
+        reviewCycleGroup.setUpdatedBy(updatedBy);
+        ReviewCycleGroupDTO savedDTO = reviewCycleGroupMapper.toDto(saveAndFlush(reviewCycleGroup));
+        eventPublisher.publishEvent(ReviewCycleGroupChangedEvent.upserted(savedDTO, previousReviewCycleId, previousReviewTypeId));
+        return new UpsertResultDTO<>(savedDTO, existing.isEmpty());
+    }
+
+    // Flushes so a duplicate name or a lost version race surfaces here rather than at commit. The
+    // change number is drawn last, to keep the time from drawing it to the commit short.
+    private ReviewCycleGroup saveAndFlush(ReviewCycleGroup reviewCycleGroup) {
+        reviewCycleGroup.setChangeNumber(reviewCycleGroupRepository.nextChangeNumber());
+        try {
+            return reviewCycleGroupRepository.saveAndFlush(reviewCycleGroup);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            throw new PreconditionFailedException("ReviewCycleGroup", reviewCycleGroup.getReviewCycleGroupId());
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolated(ex, ReviewCycleGroup.NAME_CONSTRAINT)) {
+                throw new BusinessException("REVIEW_GROUP_EXISTS",
+                    "ReviewCycleGroup with name already exists: " + reviewCycleGroup.getReviewGroupName());
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Creates review cycle groups in bulk. Names are checked against the database in one query,
+     * then valid items are inserted chunk by chunk, each chunk in its own transaction, with the
+     * persistence context cleared after every chunk so large payloads are never fully managed.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResultDTO createAll(List<ReviewCycleGroupDTO> reviewCycleGroupDTOs, String createdBy) {
+        if (!batchOperationsEnabled) {
+            throw new BusinessException("BATCH_OPERATIONS_DISABLED", "Batch operations are disabled");
+        }
+        if (reviewCycleGroupDTOs.size() > batchMaxItems) {
+            throw new BusinessException("BATCH_TOO_LARGE",
+                "Batch size " + reviewCycleGroupDTOs.size() + " exceeds maximum of " + batchMaxItems);
+        }
+        logger.info("Creating {} ReviewCycleGroups in chunks of {}", reviewCycleGroupDTOs.size(), batchChunkSize);
+
+        Set<String> requestedNames = reviewCycleGroupDTOs.stream()
+                .map(ReviewCycleGroupDTO::getReviewGroupName)
+                .filter(name -> name != null)
+                .collect(Collectors.toSet());
+        Set<String> takenNames = requestedNames.isEmpty() ? new HashSet<>()
+                : new HashSet<>(reviewCycleGroupRepository.findExistingReviewGroupNames(requestedNames));
+
+        ItemResult[] results = new ItemResult[reviewCycleGroupDTOs.size()];
+        List<Integer> chunk = new ArrayList<>(batchChunkSize);
+        for (int i = 0; i < reviewCycleGroupDTOs.size(); i++) {
+            ReviewCycleGroupDTO dto = reviewCycleGroupDTOs.get(i);
+            String message = validationMessage(dto);
+            if (message != null) {
+                results[i] = ItemResult.rejected(i, BatchResultDTO.Status.INVALID, dto.getReviewGroupName(),
+                        "VALIDATION_FAILED", message);
+            } else if (!takenNames.add(dto.getReviewGroupName())) {
+                results[i] = ItemResult.rejected(i, BatchResultDTO.Status.DUPLICATE, dto.getReviewGroupName(),
+                        "REVIEW_GROUP_EXISTS", "ReviewCycleGroup with name already exists: " + dto.getReviewGroupName());
+            } else {
+                chunk.add(i);
+                if (chunk.size() == batchChunkSize) {
+                    insertChunk(reviewCycleGroupDTOs, chunk, createdBy, results);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(reviewCycleGroupDTOs, chunk, createdBy, results);
+        }
+
+        BatchResultDTO batchResult = new BatchResultDTO(results.length);
+        for (ItemResult result : results) {
+            batchResult.add(result);
+        }
+        logger.info("Bulk create finished: {} created, {} rejected", batchResult.getCreated(), batchResult.getFailed());
+        return batchResult;
+    }
+
+    private void insertChunk(List<ReviewCycleGroupDTO> reviewCycleGroupDTOs, List<Integer> chunk,
+                             String createdBy, ItemResult[] results) {
+        try {
+            List<ReviewCycleGroup> saved = saveChunk(chunk.stream().map(reviewCycleGroupDTOs::get).toList(), createdBy);
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = ItemResult.created(chunk.get(i), saved.get(i).getReviewCycleGroupId(),
+                        saved.get(i).getReviewGroupName());
+            }
+        } catch (RuntimeException ex) {
+            // One bad row rolls back the whole chunk, so retry the rows singly to find it
+            logger.warn("Bulk create chunk of {} ReviewCycleGroups failed, retrying one at a time", chunk.size(), ex);
+            for (Integer index : chunk) {
+                ReviewCycleGroupDTO dto = reviewCycleGroupDTOs.get(index);
+                try {
+                    ReviewCycleGroup saved = saveChunk(List.of(dto), createdBy).get(0);
+                    results[index] = ItemResult.created(index, saved.getReviewCycleGroupId(), saved.getReviewGroupName());
+                } catch (RuntimeException rowEx) {
+                    results[index] = insertFailure(index, dto.getReviewGroupName(), rowEx);
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps a failed single-row insert to an error code and a message fit for the client. The
+     * exception itself, whose message can carry SQL and bound values, only goes to the log.
+     */
+    private ItemResult insertFailure(int index, String name, RuntimeException ex) {
+        logger.error("Insert of ReviewCycleGroup '{}' failed", name, ex);
+        if (ex instanceof DataIntegrityViolationException violation) {
+            if (UniqueConstraints.isViolated(violation, ReviewCycleGroup.NAME_CONSTRAINT)) {
+                return ItemResult.rejected(index, BatchResultDTO.Status.DUPLICATE, name,
+                        "REVIEW_GROUP_EXISTS", "ReviewCycleGroup with name already exists: " + name);
+            }
+            return ItemResult.rejected(index, BatchResultDTO.Status.FAILED, name,
+                    "CONSTRAINT_VIOLATION", "ReviewCycleGroup violates a database constraint");
+        }
+        return ItemResult.rejected(index, BatchResultDTO.Status.FAILED, name,
+                "INSERT_FAILED", "ReviewCycleGroup could not be saved");
+    }
+
+    /**
+     * Imports groups and their IDIs from an uploaded csv or xlsx file laid out like the export. The
+     * file is read a group at a time; groups are validated in parallel and inserted chunk by chunk,
+     * each chunk in its own transaction, so memory use depends on the chunk size and not on the
+     * size of the file. Rejected groups and progress are reported to the listener as they happen.
+     * Chunks committed before a malformed row stay imported; the groups read after the last commit
+     * are dropped and the returned totals carry the error.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ImportProgressDTO importAll(String filename, InputStream in, String createdBy,
+                                       ReviewCycleGroupImportListener listener) throws IOException {
+        if (!batchOperationsEnabled) {
+            throw new BusinessException("BATCH_OPERATIONS_DISABLED", "Batch operations are disabled");
+        }
+        ImportFormat format = ImportFormat.fromFilename(filename);
+        if (allowedFileExtensions.stream().noneMatch(extension -> extension.trim().equalsIgnoreCase("." + format.getExtension()))) {
+            throw new BusinessException("INVALID_IMPORT_FORMAT", "Uploads of ." + format.getExtension() + " files are not allowed");
+        }
+        logger.info("Importing ReviewCycleGroups from {} in chunks of {}", filename, batchChunkSize);
+
+        ImportProgressDTO progress = new ImportProgressDTO();
+        try (ReviewCycleGroupImportReader reader = format.reader(in)) {
+            List<ImportedGroup> chunk = new ArrayList<>(batchChunkSize);
+            while (true) {
+                ImportedGroup group;
+                try {
+                    group = reader.next();
+                } catch (BusinessException ex) {
+                    progress.setError(ex.getMessage() + "; the " + chunk.size()
+                            + " groups read since the last committed chunk were not imported");
+                    break;
+                }
+                if (group != null) {
+                    chunk.add(group);
+                }
+                if (chunk.size() == batchChunkSize || (group == null && !chunk.isEmpty())) {
+                    importChunk(chunk, createdBy, listener, progress);
+                    progress.setRowsRead(reader.getRowsRead());
+                    listener.progress(progress);
+                    chunk.clear();
+                }
+                if (group == null) {
+                    break;
+                }
+            }
+            progress.setRowsRead(reader.getRowsRead());
+        }
+        progress.setDone(true);
+        listener.progress(progress);
+        logger.info("Import of {} finished: {} rows, {} created, {} rejected{}", filename, progress.getRowsRead(),
+                progress.getCreated(), progress.getRejected(), progress.getError() == null ? "" : ", " + progress.getError());
+        return progress;
+    }
+
+    private void importChunk(List<ImportedGroup> chunk, String createdBy, ReviewCycleGroupImportListener listener,
+                             ImportProgressDTO progress) throws IOException {
+        // Validator is thread-safe; parse errors found while reading take precedence
+        String[] errors = new String[chunk.size()];
+        IntStream.range(0, chunk.size()).parallel().forEach(i -> errors[i] = chunk.get(i).error() != null
+                ? chunk.get(i).error() : validationMessage(chunk.get(i).group()));
+
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (errors[i] == null) {
+                names.add(chunk.get(i).group().getReviewGroupName());
+            }
+        }
+        Set<String> takenNames = names.isEmpty() ? new HashSet<>()
+                : new HashSet<>(reviewCycleGroupRepository.findExistingReviewGroupNames(names));
+
+        List<ImportedGroup> accepted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportedGroup group = chunk.get(i);
+            String name = group.group().getReviewGroupName();
+            if (errors[i] != null) {
+                rejectImported(group, BatchResultDTO.Status.INVALID, "VALIDATION_FAILED", errors[i], listener, progress);
+            } else if (!takenNames.add(name)) {
+                rejectImported(group, BatchResultDTO.Status.DUPLICATE, "REVIEW_GROUP_EXISTS",
+                        "ReviewCycleGroup with name already exists: " + name, listener, progress);
+            } else {
+                accepted.add(group);
+            }
+        }
+        progress.setGroupsRead(progress.getGroupsRead() + chunk.size());
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            saveChunk(accepted.stream().map(ImportedGroup::group).toList(), createdBy);
+            progress.setCreated(progress.getCreated() + accepted.size());
+        } catch (RuntimeException ex) {
+            logger.warn("Import chunk of {} ReviewCycleGroups failed, retrying one at a time", accepted.size(), ex);
+            for (ImportedGroup group : accepted) {
+                try {
+                    saveChunk(List.of(group.group()), createdBy);
+                    progress.setCreated(progress.getCreated() + 1);
+                } catch (RuntimeException rowEx) {
+                    progress.setRejected(progress.getRejected() + 1);
+                    listener.rejected(insertFailure(group.rowNumber(), group.group().getReviewGroupName(), rowEx));
+                }
+            }
+        }
+    }
+
+    private void rejectImported(ImportedGroup group, BatchResultDTO.Status status, String errorCode, String message,
+                                ReviewCycleGroupImportListener listener, ImportProgressDTO progress) throws IOException {
+        progress.setRejected(progress.getRejected() + 1);
+        listener.rejected(ItemResult.rejected(group.rowNumber(), status, group.group().getReviewGroupName(),
+                errorCode, message));
+    }
+
+    /**
+     * Inserts the groups in a new transaction and returns them with their generated ids. The
+     * persistence context is cleared afterwards, so the returned entities are detached.
+     */
+    private List<ReviewCycleGroup> saveChunk(List<ReviewCycleGroupDTO> reviewCycleGroupDTOs, String createdBy) {
+        return transactionTemplate.execute(status -> {
+            List<ReviewCycleGroup> entities = new ArrayList<>(reviewCycleGroupDTOs.size());
+            long changeNumber = reviewCycleGroupRepository.nextChangeNumber();
+            for (ReviewCycleGroupDTO reviewCycleGroupDTO : reviewCycleGroupDTOs) {
+                ReviewCycleGroup reviewCycleGroup = reviewCycleGroupMapper.toEntity(reviewCycleGroupDTO);
+                reviewCycleGroup.setCreatedBy(createdBy);
+                reviewCycleGroup.setUpdatedBy(createdBy);
+                reviewCycleGroup.setChangeNumber(changeNumber);
+                entities.add(reviewCycleGroup);
+            }
+            reviewCycleGroupRepository.saveAll(entities);
+            reviewCycleGroupRepository.flush();
+            eventPublisher.publishEvent(ReviewCycleGroupChangedEvent.upserted(reviewCycleGroupMapper.toDtoList(entities)));
+            entityManager.clear();
+            return entities;
+        });
+    }
+
+    // Bean validation messages joined in a stable order, or null when the group is valid
+    private String validationMessage(ReviewCycleGroupDTO reviewCycleGroupDTO) {
+        Set<ConstraintViolation<ReviewCycleGroupDTO>> violations = validator.validate(reviewCycleGroupDTO);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
     }
 
     public ReviewCycleGroupDTO update(Long id, ReviewCycleGroupDTO reviewCycleGroupDTO, String updatedBy) {
+        return update(id, reviewCycleGroupDTO, updatedBy, null);
+    }
+
+    /**
+     * Updates the group only while its version equals expectedVersion (any version when null).
+     * A stale version is rejected before the IDIs are read; one that goes stale before the flush
+     * is caught by the versioned UPDATE itself. Either way the result is a 412.
+     */
+    public ReviewCycleGroupDTO update(Long id, ReviewCycleGroupDTO reviewCycleGroupDTO, String updatedBy, Long expectedVersion) {
         logger.info("Updating ReviewCycleGroup with ID: {}", id);
         
-        ReviewCycleGroup existingReviewCycleGroup = reviewCycleGroupRepository.findById(id)
+        ReviewCycleGroup existingReviewCycleGroup = reviewCycleGroupRepository.findByReviewCycleGroupId(id)
                 .orElseThrow(() -> new ResourceNotFoundException("ReviewCycleGroup", id));
-        
-        // Check if new name conflicts with existing groups (excluding current)
-        if (reviewCycleGroupDTO.getReviewGroupName() != null && 
-            !existingReviewCycleGroup.getReviewGroupName().equals(reviewCycleGroupDTO.getReviewGroupName()) &&
-            reviewCycleGroupRepository.existsByReviewGroupName(reviewCycleGroupDTO.getReviewGroupName())) {
-            throw new BusinessException("REVIEW_GROUP_EXISTS", 
-                "ReviewCycleGroup with name already exists: " + reviewCycleGroupDTO.getReviewGroupName());
+        if (expectedVersion != null && !expectedVersion.equals(existingReviewCycleGroup.getVersion())) {
+            throw new PreconditionFailedException("ReviewCycleGroup", id);
         }
+        Long previousReviewCycleId = existingReviewCycleGroup.getReviewCycleId();
+        Long previousReviewTypeId = existingReviewCycleGroup.getReviewTypeId();
         
         reviewCycleGroupMapper.updateEntityFromDto(reviewCycleGroupDTO, existingReviewCycleGroup);
         existingReviewCycleGroup.setUpdatedBy(updatedBy);
          
-        ReviewCycleGroup updatedReviewCycleGroup = reviewCycleGroupRepository.save(existingReviewCycleGroup);
+        // A rename onto a taken name is rejected by the unique name constraint
+        ReviewCycleGroup updatedReviewCycleGroup = saveAndFlush(existingReviewCycleGroup);
         
         logger.info("Updated ReviewCycleGroup with ID: {}", id);
-        return reviewCycleGroupMapper.toDto(updatedReviewCycleGroup);
+        ReviewCycleGroupDTO updatedDTO = reviewCycleGroupMapper.toDto(updatedReviewCycleGroup);
+        eventPublisher.publishEvent(ReviewCycleGroupChangedEvent.upserted(updatedDTO, previousReviewCycleId, previousReviewTypeId));
+        return updatedDTO;
     }
 
     public void delete(Long id) {
         logger.info("Deleting ReviewCycleGroup with ID: {}", id);
         
-        if (!reviewCycleGroupRepository.existsById(id)) {
-            throw new ResourceNotFoundException("ReviewCycleGroup", id);
-        }
+        // Loaded rather than checked for existence: deleting it needs the entity anyway, and the
+        // caches need its review cycle and review type
+        ReviewCycleGroup reviewCycleGroup = reviewCycleGroupRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ReviewCycleGroup", id));
         
-        reviewCycleGroupRepository.deleteById(id);
+        reviewCycleGroupTombstoneRepository.insertForReviewCycleGroupId(id, BaseEntity.auditTimestamp(),
+                reviewCycleGroupRepository.nextChangeNumber());
+        reviewCycleGroupRepository.delete(reviewCycleGroup);
+        eventPublisher.publishEvent(ReviewCycleGroupChangedEvent.deleted(List.of(id),
+                List.of(reviewCycleGroup.getReviewCycleId()), List.of(reviewCycleGroup.getReviewTypeId())));
         logger.info("Deleted ReviewCycleGroup with ID: {}", id);
     }
 
+    /**
+     * Deletes every group of a review cycle with one statement for the IDI rows and one for the
+     * groups, instead of loading and deleting the groups one by one.
+     */
+    public int deleteByReviewCycleId(Long reviewCycleId) {
+        if (!batchOperationsEnabled) {
+            throw new BusinessException("BATCH_OPERATIONS_DISABLED", "Batch operations are disabled");
+        }
+        logger.info("Deleting all ReviewCycleGroups of reviewCycleId: {}", reviewCycleId);
+        // The ids and review types are only needed to tell the read models and caches what went away
+        List<Long> ids = new ArrayList<>();
+        Set<Long> reviewTypeIds = new HashSet<>();
+        for (Object[] row : reviewCycleGroupRepository.findIdsAndReviewTypeIdsByReviewCycleId(reviewCycleId)) {
+            ids.add((Long) row[0]);
+            reviewTypeIds.add((Long) row[1]);
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        reviewCycleGroupTombstoneRepository.insertForReviewCycleId(reviewCycleId, BaseEntity.auditTimestamp(),
+                reviewCycleGroupRepository.nextChangeNumber());
+        int deleted = reviewCycleGroupRepository.deleteAllByReviewCycleId(reviewCycleId);
+        eventPublisher.publishEvent(ReviewCycleGroupChangedEvent.deleted(ids, List.of(reviewCycleId), reviewTypeIds));
+        logger.info("Deleted {} ReviewCycleGroups of reviewCycleId: {}", deleted, reviewCycleId);
+        return deleted;
+    }
+
+    /**
+     * Applies the non-null fields of the update to every group of a review cycle with a single
+     * UPDATE statement. The updated groups are read back once so the read models can follow.
+     */
+    public int updateByReviewCycleId(Long reviewCycleId, ReviewCycleGroupBulkUpdateDTO update, String updatedBy) {
+        if (!batchOperationsEnabled) {
+            throw new BusinessException("BATCH_OPERATIONS_DISABLED", "Batch operations are disabled");
+        }
+        if (update.getBooleanState() == null && update.getReviewFrequency() == null && update.getReviewsPerYear() == null) {
+            throw new BusinessException("EMPTY_UPDATE", "At least one of booleanState, reviewFrequency or reviewsPerYear is required");
+        }
+        logger.info("Updating all ReviewCycleGroups of reviewCycleId: {}", reviewCycleId);
+        int updated = reviewCycleGroupRepository.updateAllByReviewCycleId(reviewCycleId, update.getBooleanState(),
+                update.getReviewFrequency(), update.getReviewsPerYear(), updatedBy, BaseEntity.auditTimestamp(),
+                reviewCycleGroupRepository.nextChangeNumber());
+        if (updated > 0) {
+            eventPublisher.publishEvent(ReviewCycleGroupChangedEvent.upserted(
+                    reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleId(reviewCycleId))));
+        }
+        logger.info("Updated {} ReviewCycleGroups of reviewCycleId: {}", updated, reviewCycleId);
+        return updated;
+    }
+
     // Custom Business Methods
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ReviewCycleGroupCaches.BY_REVIEW_CYCLE_ID, sync = true, condition = ReviewCycleGroupCaches.CACHEABLE)
     public List<ReviewCycleGroupDTO> findByReviewCycleId(Long reviewCycleId) {
         logger.info("Finding ReviewCycleGroups by reviewCycleId: {}", reviewCycleId);
-        List<ReviewCycleGroup> reviewCycleGroups = reviewCycleGroupRepository.findByReviewCycleId(reviewCycleId);
-        return reviewCycleGroupMapper.toDtoList(reviewCycleGroups);
+        return readOnly(reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleId(reviewCycleId)));
     }
 
+    // Group id to version for every group of a review cycle; the validator behind its list ETag
     @Transactional(readOnly = true)
+    public Map<Long, Long> findVersionsByReviewCycleId(Long reviewCycleId) {
+        Map<Long, Long> versions = new TreeMap<>();
+        for (Object[] row : reviewCycleGroupRepository.findVersionsByReviewCycleId(reviewCycleId)) {
+            versions.put((Long) row[0], (Long) row[1]);
+        }
+        return versions;
+    }
+
+    // As evictCachedById, for the cached groups of a review cycle; their query results and IDIs are
+    // not kept by review cycle in the second-level cache, so those regions are dropped whole
+    @CacheEvict(cacheNames = ReviewCycleGroupCaches.BY_REVIEW_CYCLE_ID)
+    public void evictCachedByReviewCycleId(Long reviewCycleId) {
+        logger.debug("Evicting stale cached ReviewCycleGroups of reviewCycleId: {}", reviewCycleId);
+        Cache secondLevel = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        secondLevel.evictQueryRegion(ReviewCycleGroup.QUERY_CACHE_REGION);
+        secondLevel.evictCollectionData(IDIS_ROLE);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = ReviewCycleGroupCaches.BY_REVIEW_TYPE_ID, sync = true, condition = ReviewCycleGroupCaches.CACHEABLE)
     public List<ReviewCycleGroupDTO> findByReviewTypeId(Long reviewTypeId) {
         logger.info("Finding ReviewCycleGroups by reviewTypeId: {}", reviewTypeId);
-        List<ReviewCycleGroup> reviewCycleGroups = reviewCycleGroupRepository.findByReviewTypeId(reviewTypeId);
-        return reviewCycleGroupMapper.toDtoList(reviewCycleGroups);
+        return readOnly(reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewTypeId(reviewTypeId)));
     }
 
     @Transactional(readOnly = true)
     public List<ReviewCycleGroupDTO> findByBooleanState(Boolean booleanState) {
         logger.info("Finding ReviewCycleGroups by booleanState: {}", booleanState);
-        List<ReviewCycleGroup> reviewCycleGroups = reviewCycleGroupRepository.findByBooleanState(booleanState);
-        return reviewCycleGroupMapper.toDtoList(reviewCycleGroups);
+        return reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByBooleanState(booleanState));
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReviewCycleGroupDTO> findByValueInRange(Integer value) {
-        logger.info("Finding ReviewCycleGroups with value {} in range", value);
-        List<ReviewCycleGroup> reviewCycleGroups = reviewCycleGroupRepository.findByValueInRange(value);
-        return reviewCycleGroupMapper.toDtoList(reviewCycleGroups);
+        return findByValueInRange(value, null);
     }
 
-    @Transactional(readOnly = true)
+    // SUPPORTS: served from the in-memory index without opening a transaction (and connection)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<ReviewCycleGroupDTO> findByValueInRange(Integer value, Long reviewCycleId) {
+        logger.info("Finding ReviewCycleGroups with value {} in range (reviewCycleId: {})", value, reviewCycleId);
+        if (reviewCycleGroupIndex.isAvailable()) {
+            return reviewCycleGroupIndex.findByValueInRange(value, reviewCycleId);
+        }
+        List<ReviewCycleGroupDTO> reviewCycleGroups = reviewCycleId == null
+                ? reviewCycleGroupRepository.findDtosByValueInRange(value)
+                : reviewCycleGroupRepository.findDtosByValueInRangeAndReviewCycleId(value, reviewCycleId);
+        return reviewCycleGroupRepository.withIdis(reviewCycleGroups);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReviewCycleGroupDTO> findByListOfIdisContaining(String idi) {
         logger.info("Finding ReviewCycleGroups containing IDI: {}", idi);
-        List<ReviewCycleGroup> reviewCycleGroups = reviewCycleGroupRepository.findByListOfIdisContaining(idi);
-        return reviewCycleGroupMapper.toDtoList(reviewCycleGroups);
+        if (reviewCycleGroupIndex.isAvailable()) {
+            return reviewCycleGroupIndex.findByIdi(idi);
+        }
+        return reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByListOfIdisContaining(idi));
+    }
+
+    /**
+     * Resolves many IDIs to their groups in one call, from the in-memory index when available,
+     * otherwise with IN-list queries of at most app.config.batch.chunk-size IDIs each.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public IdiLookupResultDTO findByListOfIdisIn(Collection<String> idis) {
+        if (idis.size() > batchMaxItems) {
+            throw new BusinessException("BATCH_TOO_LARGE",
+                "IDI lookup size " + idis.size() + " exceeds maximum of " + batchMaxItems);
+        }
+        logger.info("Finding ReviewCycleGroups for {} IDIs", idis.size());
+        Set<String> requested = new LinkedHashSet<>(idis);
+        Map<String, List<Long>> groupIdsByIdi = new LinkedHashMap<>();
+        Map<Long, ReviewCycleGroupDTO> groups = new LinkedHashMap<>();
+
+        if (reviewCycleGroupIndex.isAvailable()) {
+            for (String idi : requested) {
+                List<Long> ids = new ArrayList<>();
+                for (long id : reviewCycleGroupIndex.findGroupIdsByIdi(idi)) {
+                    ReviewCycleGroupDTO group = groups.computeIfAbsent(id, reviewCycleGroupIndex::findById);
+                    if (group != null) {
+                        ids.add(id);
+                    }
+                }
+                if (!ids.isEmpty()) {
+                    groupIdsByIdi.put(idi, ids);
+                }
+            }
+        } else {
+            List<String> pending = new ArrayList<>(requested);
+            Map<String, List<Long>> found = new LinkedHashMap<>();
+            for (int from = 0; from < pending.size(); from += batchChunkSize) {
+                List<String> chunk = pending.subList(from, Math.min(from + batchChunkSize, pending.size()));
+                for (Object[] row : reviewCycleGroupRepository.findGroupIdsByIdiIn(chunk)) {
+                    found.computeIfAbsent((String) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+                }
+            }
+            for (String idi : requested) {
+                List<Long> ids = found.get(idi);
+                if (ids != null) {
+                    groupIdsByIdi.put(idi, ids.stream().distinct().sorted().toList());
+                }
+            }
+            List<Long> allIds = groupIdsByIdi.values().stream().flatMap(List::stream).distinct().toList();
+            for (int from = 0; from < allIds.size(); from += batchChunkSize) {
+                List<Long> chunk = allIds.subList(from, Math.min(from + batchChunkSize, allIds.size()));
+                for (ReviewCycleGroupDTO group : reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleGroupIdIn(chunk))) {
+                    groups.put(group.getReviewCycleGroupId(), group);
+                }
+            }
+        }
+
+        List<String> unmatched = requested.stream().filter(idi -> !groupIdsByIdi.containsKey(idi)).toList();
+        return new IdiLookupResultDTO(groupIdsByIdi, new ArrayList<>(groups.values()), unmatched);
+    }
+
+    /**
+     * Resolves many group ids in one call with IN-list queries of at most app.config.batch.chunk-size
+     * ids each, the IDIs of every chunk loaded in one more query. Always read from the database: the
+     * in-memory index of this node may not have seen writes made on other nodes yet.
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResultDTO<ReviewCycleGroupDTO> findByIds(Collection<Long> ids) {
+        List<Long> requested = distinctKeys(ids, "Id");
+        logger.info("Finding ReviewCycleGroups for {} ids", requested.size());
+        Map<Long, ReviewCycleGroupDTO> groups = new HashMap<>();
+        for (int from = 0; from < requested.size(); from += batchChunkSize) {
+            List<Long> chunk = requested.subList(from, Math.min(from + batchChunkSize, requested.size()));
+            for (ReviewCycleGroupDTO group : reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleGroupIdIn(chunk))) {
+                groups.put(group.getReviewCycleGroupId(), group);
+            }
+        }
+        return MultiGetResultDTO.of(requested, groups);
+    }
+
+    /**
+     * The groups of many review cycles, ordered by id within each cycle, with one IN-list query
+     * per app.config.batch.chunk-size cycles. Cycles without groups are reported as missing.
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResultDTO<List<ReviewCycleGroupDTO>> findByReviewCycleIds(Collection<Long> reviewCycleIds) {
+        List<Long> requested = distinctKeys(reviewCycleIds, "Review cycle id");
+        logger.info("Finding ReviewCycleGroups for {} reviewCycleIds", requested.size());
+        Map<Long, List<ReviewCycleGroupDTO>> groupsByReviewCycleId = new HashMap<>();
+        for (int from = 0; from < requested.size(); from += batchChunkSize) {
+            List<Long> chunk = requested.subList(from, Math.min(from + batchChunkSize, requested.size()));
+            for (ReviewCycleGroupDTO group : reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleIdIn(chunk))) {
+                groupsByReviewCycleId.computeIfAbsent(group.getReviewCycleId(), k -> new ArrayList<>()).add(group);
+            }
+        }
+        groupsByReviewCycleId.values().forEach(groups -> groups.sort(Comparator.comparing(ReviewCycleGroupDTO::getReviewCycleGroupId)));
+        return MultiGetResultDTO.of(requested, groupsByReviewCycleId);
+    }
+
+    private List<Long> distinctKeys(Collection<Long> keys, String kind) {
+        if (keys.size() > batchMaxItems) {
+            throw new BusinessException("BATCH_TOO_LARGE",
+                kind + " lookup size " + keys.size() + " exceeds maximum of " + batchMaxItems);
+        }
+        return keys.stream().filter(Objects::nonNull).distinct().toList();
     }
 
     @Transactional(readOnly = true)
     public Page<ReviewCycleGroupDTO> searchByGroupName(String reviewGroupName, Pageable pageable) {
         logger.info("Searching ReviewCycleGroups by name: {}", reviewGroupName);
-        Page<ReviewCycleGroup> reviewCycleGroupPage = reviewCycleGroupRepository.findByReviewGroupNameContainingIgnoreCase(reviewGroupName, pageable);
-        List<ReviewCycleGroupDTO> dtos = reviewCycleGroupMapper.toDtoList(reviewCycleGroupPage.getContent());
-        return new PageImpl<>(dtos, pageable, reviewCycleGroupPage.getTotalElements());
+        KEYSET_PAGER.requireAllowed(pageable.getSort());
+        if (reviewCycleGroupIndex.isAvailable()) {
+            return InMemoryPages.page(reviewCycleGroupIndex.findByNameContaining(reviewGroupName), pageable,
+                    order -> "reviewGroupName".equals(order.getProperty())
+                            ? Comparator.comparing(ReviewCycleGroupDTO::getReviewGroupName)
+                            : Comparator.comparing(ReviewCycleGroupDTO::getReviewCycleGroupId));
+        }
+        Page<ReviewCycleGroupDTO> reviewCycleGroupPage = reviewCycleGroupRepository.findDtosByReviewGroupNameContainingIgnoreCase(reviewGroupName, pageable);
+        reviewCycleGroupRepository.withIdis(reviewCycleGroupPage.getContent());
+        return reviewCycleGroupPage;
+    }
+
+    /**
+     * Ranked typeahead matches for a partial group name: exact, then prefix, then word prefix, then
+     * any substring, with one- and two-character queries matching word starts only. Served from the
+     * in-memory name index; the database fallback only orders by name.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<NameSuggestionDTO> suggestByGroupName(String query, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new BusinessException("INVALID_PAGE_SIZE", "Suggestion limit must be between 1 and " + maxPageSize);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (reviewCycleGroupIndex.isAvailable()) {
+            return reviewCycleGroupIndex.suggestByName(query, limit).stream()
+                    .map(match -> new NameSuggestionDTO(match.id(), match.name()))
+                    .toList();
+        }
+        return reviewCycleGroupRepository.findByReviewGroupNameContainingIgnoreCase(query.strip(),
+                        ScrollPosition.keyset(), Sort.by("reviewGroupName", "reviewCycleGroupId"), Limit.of(limit))
+                .map(group -> new NameSuggestionDTO(group.getReviewCycleGroupId(), group.getReviewGroupName()))
+                .getContent();
     }
 
     @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewCycleGroupDTO> searchByGroupNameKeyset(String reviewGroupName, int size, String sortBy,
+                                                                      String sortDirection, String cursor, boolean includeTotal) {
+        logger.info("Searching keyset page of ReviewCycleGroups by name: {}", reviewGroupName);
+        Sort sort = KEYSET_PAGER.sort(sortBy, sortDirection);
+        Window<ReviewCycleGroup> window = reviewCycleGroupRepository.findByReviewGroupNameContainingIgnoreCase(
+                reviewGroupName, KEYSET_PAGER.position(cursor, sort), sort, pageLimit(size));
+        Long total = includeTotal ? reviewCycleGroupRepository.countByReviewGroupNameContainingIgnoreCase(reviewGroupName) : null;
+        return KEYSET_PAGER.toPage(window, sort, reviewCycleGroupMapper::toDtoList, total);
+    }
+
+    private Limit pageLimit(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new BusinessException("INVALID_PAGE_SIZE", "Page size must be between 1 and " + maxPageSize);
+        }
+        return Limit.of(size);
+    }
+
+    /**
+     * Writes every group with its IDIs to the stream as the rows arrive. Groups and IDIs are read
+     * through two cursors ordered by group id and merged, so memory use does not depend on the
+     * number of groups or IDIs. IDI rows of a group missing from the group cursor are skipped.
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(ExportFormat format, OutputStream out) throws IOException {
+        if (!exportEnabled) {
+            throw new BusinessException("EXPORT_DISABLED", "Export is disabled");
+        }
+        logger.info("Exporting all ReviewCycleGroups as {}", format);
+        ReviewCycleGroupExportWriter writer = format.writer(out);
+        long exported = 0;
+        try (Stream<ReviewCycleGroupDTO> groups = reviewCycleGroupRepository.streamAllDtos();
+             Stream<Object[]> idis = reviewCycleGroupRepository.streamAllIdis()) {
+            Iterator<Object[]> idiRows = idis.iterator();
+            Object[] idiRow = idiRows.hasNext() ? idiRows.next() : null;
+            for (Iterator<ReviewCycleGroupDTO> groupRows = groups.iterator(); groupRows.hasNext(); exported++) {
+                ReviewCycleGroupDTO group = groupRows.next();
+                long groupId = group.getReviewCycleGroupId();
+                writer.startGroup(group);
+                while (idiRow != null && (Long) idiRow[0] <= groupId) {
+                    if ((Long) idiRow[0] == groupId) {
+                        writer.idi((String) idiRow[1]);
+                    }
+                    idiRow = idiRows.hasNext() ? idiRows.next() : null;
+                }
+                writer.endGroup();
+            }
+        }
+        writer.finish();
+        logger.info("Exported {} ReviewCycleGroups as {}", exported, format);
+    }
+
+    // SUPPORTS: answered from the materialized counters without opening a transaction (and connection)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Cacheable(cacheNames = ReviewCycleGroupCaches.COUNT_BY_REVIEW_CYCLE_ID, sync = true, condition = ReviewCycleGroupCaches.CACHEABLE)
     public long countByReviewCycleId(Long reviewCycleId) {
+        if (reviewCycleGroupCounters.isAvailable()) {
+            return reviewCycleGroupCounters.countByReviewCycleId(reviewCycleId);
+        }
         return reviewCycleGroupRepository.countByReviewCycleId(reviewCycleId);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return reviewCycleGroupRepository.existsById(id);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long count() {
+        if (reviewCycleGroupCounters.isAvailable()) {
+            return reviewCycleGroupCounters.count();
+        }
         return reviewCycleGroupRepository.count();
     }
+
+    /**
+     * Counts of groups in total and per review cycle, review type and boolean state. Without the
+     * counters they are tallied from one projection query rather than a COUNT per facet.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public ReviewCycleGroupFacetsDTO countFacets() {
+        if (reviewCycleGroupCounters.isAvailable()) {
+            return reviewCycleGroupCounters.countFacets();
+        }
+        return ReviewCycleGroupCounters.tally(reviewCycleGroupRepository.findAllFacets());
+    }
+
+    // Results of the cached reads are shared by every caller: their lists are made unmodifiable,
+    // and like the index's DTOs they must otherwise be treated as read-only
+    private static ReviewCycleGroupDTO readOnly(ReviewCycleGroupDTO reviewCycleGroupDTO) {
+        if (reviewCycleGroupDTO.getListOfIdis() != null) {
+            reviewCycleGroupDTO.setListOfIdis(Collections.unmodifiableList(reviewCycleGroupDTO.getListOfIdis()));
+        }
+        return reviewCycleGroupDTO;
+    }
+
+    private static List<ReviewCycleGroupDTO> readOnly(List<ReviewCycleGroupDTO> reviewCycleGroupDTOs) {
+        reviewCycleGroupDTOs.forEach(ReviewCycleGroupService::readOnly);
+        return Collections.unmodifiableList(reviewCycleGroupDTOs);
+    }
+
+    // A position in the change feed; tombstone is null for a written group
+    private record Change(long changeNumber, long id, LocalDateTime changedAt, ReviewCycleGroupTombstone tombstone) {
+
+        boolean isSettled(LocalDateTime settled) {
+            return changedAt == null || !changedAt.isAfter(settled);
+        }
+    }
 }
\ No newline at end of file
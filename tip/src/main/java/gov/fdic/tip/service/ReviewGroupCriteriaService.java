@@ -1,19 +1,48 @@
 package gov.fdic.tip.service;
 
+import gov.fdic.tip.dto.CursorPageDTO;
+import gov.fdic.tip.dto.MultiGetResultDTO;
+import gov.fdic.tip.dto.NameSuggestionDTO;
 import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.dto.UpsertResultDTO;
 import gov.fdic.tip.entity.ReviewGroupCriteria;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.event.ReviewGroupCriteriaChangedEvent;
+import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.exception.PreconditionFailedException;
 import gov.fdic.tip.exception.ResourceNotFoundException;
+import gov.fdic.tip.exception.UniqueConstraints;
+import gov.fdic.tip.index.ReviewGroupCriteriaIndex;
+import gov.fdic.tip.mapper.ReviewGroupCriteriaMapper;
+import gov.fdic.tip.pagination.InMemoryPages;
+import gov.fdic.tip.pagination.KeysetPager;
 import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * @author Your Name
@@ -28,12 +57,34 @@ public class ReviewGroupCriteriaService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewGroupCriteriaService.class);
 
+    // Sort keys backed by an index; the id is appended to every keyset sort as tie-breaker
+    private static final KeysetPager KEYSET_PAGER = new KeysetPager("reviewGroupCriteriaId",
+            Map.of("reviewGroupCriteriaId", Long.class, "criteriaName", String.class));
+
     @Autowired
     private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
 
     @Autowired
     private ReviewGroupCriteriaMapper reviewGroupCriteriaMapper;
 
+    @Autowired
+    private ReviewGroupCriteriaIndex reviewGroupCriteriaIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.config.api.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.config.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${app.config.batch.max-items:10000}")
+    private int batchMaxItems;
+
     // CRUD Operations
     
     @Transactional(readOnly = true)
@@ -46,63 +97,162 @@ public class ReviewGroupCriteriaService {
         return reviewGroupCriteriaMapper.toDto(criteria);
     }
 
+    /**
+     * Resolves many criteria ids in one call with IN-list queries of at most
+     * app.config.batch.chunk-size ids each. Always read from the database: the in-memory index of
+     * this node may not have seen writes made on other nodes yet.
+     */
+    @Transactional(readOnly = true)
+    public MultiGetResultDTO<ReviewGroupCriteriaDTO> findByIds(Collection<Long> ids) {
+        if (ids.size() > batchMaxItems) {
+            throw new BusinessException("BATCH_TOO_LARGE",
+                "Id lookup size " + ids.size() + " exceeds maximum of " + batchMaxItems);
+        }
+        List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+        logger.info("Finding ReviewGroupCriteria for {} ids", requested.size());
+        Map<Long, ReviewGroupCriteriaDTO> criteria = new HashMap<>();
+        for (int from = 0; from < requested.size(); from += batchChunkSize) {
+            List<Long> chunk = requested.subList(from, Math.min(from + batchChunkSize, requested.size()));
+            for (ReviewGroupCriteriaDTO found : reviewGroupCriteriaRepository.findDtosByReviewGroupCriteriaIdIn(chunk)) {
+                criteria.put(found.getReviewGroupCriteriaId(), found);
+            }
+        }
+        return MultiGetResultDTO.of(requested, criteria);
+    }
+
+    @Transactional(readOnly = true)
+    public long findVersionById(Long id) {
+        return reviewGroupCriteriaRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("ReviewGroupCriteria", id));
+    }
+
     @Transactional(readOnly = true)
     public List<ReviewGroupCriteriaDTO> findAll() {
         logger.info("Finding all ReviewGroupCriteria");
-        List<ReviewGroupCriteria> criteriaList = reviewGroupCriteriaRepository.findAll();
-        return reviewGroupCriteriaMapper.toDtoList(criteriaList);
+        return reviewGroupCriteriaRepository.findAllDtos();
     }
 
     @Transactional(readOnly = true)
     public Page<ReviewGroupCriteriaDTO> findAllPaginated(Pageable pageable) {
         logger.info("Finding paginated ReviewGroupCriteria");
+        KEYSET_PAGER.requireAllowed(pageable.getSort());
         
-        Page<ReviewGroupCriteria> criteriaPage = reviewGroupCriteriaRepository.findAll(pageable);
-        List<ReviewGroupCriteriaDTO> dtos = reviewGroupCriteriaMapper.toDtoList(criteriaPage.getContent());
-        
-        return new PageImpl<>(dtos, pageable, criteriaPage.getTotalElements());
+        return reviewGroupCriteriaRepository.findAllDtos(pageable);
+    }
+
+    /**
+     * Keyset-paginated read: pages are fetched by seeking past the cursor, so latency stays flat
+     * however deep the caller scrolls. The total is only counted when asked for.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewGroupCriteriaDTO> findAllKeyset(int size, String sortBy, String sortDirection,
+                                                               String cursor, boolean includeTotal) {
+        logger.info("Finding keyset page of ReviewGroupCriteria sorted by {} {}", sortBy, sortDirection);
+        Sort sort = KEYSET_PAGER.sort(sortBy, sortDirection);
+        Window<ReviewGroupCriteria> window = reviewGroupCriteriaRepository.findBy(
+                KEYSET_PAGER.position(cursor, sort), sort, pageLimit(size));
+        Long total = includeTotal ? reviewGroupCriteriaRepository.count() : null;
+        return KEYSET_PAGER.toPage(window, sort, reviewGroupCriteriaMapper::toDtoList, total);
     }
 
     public ReviewGroupCriteriaDTO create(ReviewGroupCriteriaDTO criteriaDTO, String createdBy) {
         logger.info("Creating new ReviewGroupCriteria with name: {}", criteriaDTO.getCriteriaName());
         
-        // Check if criteria name already exists
-        if (reviewGroupCriteriaRepository.existsByCriteriaName(criteriaDTO.getCriteriaName())) {
-            throw new BusinessException("CRITERIA_EXISTS", 
-                "ReviewGroupCriteria with name already exists: " + criteriaDTO.getCriteriaName());
-        }
-        
         ReviewGroupCriteria criteria = reviewGroupCriteriaMapper.toEntity(criteriaDTO);
         criteria.setCreatedBy(createdBy);
         criteria.setUpdatedBy(createdBy);
         
-        ReviewGroupCriteria savedCriteria = reviewGroupCriteriaRepository.save(criteria);
+        // The unique name constraint rejects duplicates, so there is no existence check up front
+        ReviewGroupCriteria savedCriteria = saveAndFlush(criteria);
         
         logger.info("Created ReviewGroupCriteria with ID: {}", savedCriteria.getReviewGroupCriteriaId());
-        return reviewGroupCriteriaMapper.toDto(savedCriteria);
+        ReviewGroupCriteriaDTO createdDTO = reviewGroupCriteriaMapper.toDto(savedCriteria);
+        eventPublisher.publishEvent(ReviewGroupCriteriaChangedEvent.upserted(List.of(createdDTO)));
+        return createdDTO;
+    }
+
+    /**
+     * Updates the criteria with the given name, or creates it when there is none. Each attempt runs
+     * in its own transaction; when a concurrent request creates the same name first, the insert
+     * fails on the unique constraint and is retried once as an update.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UpsertResultDTO<ReviewGroupCriteriaDTO> upsertByName(String criteriaName, ReviewGroupCriteriaDTO criteriaDTO,
+                                                                String updatedBy) {
+        if (!criteriaName.equals(criteriaDTO.getCriteriaName())) {
+            throw new BusinessException("NAME_MISMATCH",
+                "criteriaName in the body must match the path: " + criteriaDTO.getCriteriaName());
+        }
+        logger.info("Upserting ReviewGroupCriteria with name: {}", criteriaName);
+        try {
+            return transactionTemplate.execute(status -> upsertOnce(criteriaDTO, updatedBy));
+        } catch (BusinessException ex) {
+            if (!"CRITERIA_EXISTS".equals(ex.getErrorCode())) {
+                throw ex;
+            }
+            logger.info("ReviewGroupCriteria {} was created concurrently, retrying as update", criteriaName);
+            return transactionTemplate.execute(status -> upsertOnce(criteriaDTO, updatedBy));
+        }
+    }
+
+    private UpsertResultDTO<ReviewGroupCriteriaDTO> upsertOnce(ReviewGroupCriteriaDTO criteriaDTO, String updatedBy) {
+        Optional<ReviewGroupCriteria> existing = reviewGroupCriteriaRepository.findByCriteriaName(criteriaDTO.getCriteriaName());
+        ReviewGroupCriteria criteria;
+        if (existing.isPresent()) {
+            criteria = existing.get();
+            reviewGroupCriteriaMapper.updateEntityFromDto(criteriaDTO, criteria);
+        } else {
+            criteria = reviewGroupCriteriaMapper.toEntity(criteriaDTO);
+            criteria.setCreatedBy(updatedBy);
+        }
+        criteria.setUpdatedBy(updatedBy);
+        ReviewGroupCriteriaDTO savedDTO = reviewGroupCriteriaMapper.toDto(saveAndFlush(criteria));
+        eventPublisher.publishEvent(ReviewGroupCriteriaChangedEvent.upserted(List.of(savedDTO)));
+        return new UpsertResultDTO<>(savedDTO, existing.isEmpty());
+    }
+
+    // Flushes so a duplicate name or a lost version race surfaces here rather than at commit
+    private ReviewGroupCriteria saveAndFlush(ReviewGroupCriteria criteria) {
+        try {
+            return reviewGroupCriteriaRepository.saveAndFlush(criteria);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            throw new PreconditionFailedException("ReviewGroupCriteria", criteria.getReviewGroupCriteriaId());
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueConstraints.isViolated(ex, ReviewGroupCriteria.NAME_CONSTRAINT)) {
+                throw new BusinessException("CRITERIA_EXISTS",
+                    "ReviewGroupCriteria with name already exists: " + criteria.getCriteriaName());
+            }
+            throw ex;
+        }
     }
 
     public ReviewGroupCriteriaDTO update(Long id, ReviewGroupCriteriaDTO criteriaDTO, String updatedBy) {
+        return update(id, criteriaDTO, updatedBy, null);
+    }
+
+    /**
+     * Updates the criteria only while its version equals expectedVersion (any version when null);
+     * otherwise, or when a concurrent update commits first, throws PreconditionFailedException.
+     */
+    public ReviewGroupCriteriaDTO update(Long id, ReviewGroupCriteriaDTO criteriaDTO, String updatedBy, Long expectedVersion) {
         logger.info("Updating ReviewGroupCriteria with ID: {}", id);
         
         ReviewGroupCriteria existingCriteria = reviewGroupCriteriaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("ReviewGroupCriteria", id));
-        
-        // Check if new name conflicts with existing criteria (excluding current)
-        if (criteriaDTO.getCriteriaName() != null && 
-            !existingCriteria.getCriteriaName().equals(criteriaDTO.getCriteriaName()) &&
-            reviewGroupCriteriaRepository.existsByCriteriaNameAndIdNot(criteriaDTO.getCriteriaName(), id)) {
-            throw new BusinessException("CRITERIA_EXISTS", 
-                "ReviewGroupCriteria with name already exists: " + criteriaDTO.getCriteriaName());
+        if (expectedVersion != null && !expectedVersion.equals(existingCriteria.getVersion())) {
+            throw new PreconditionFailedException("ReviewGroupCriteria", id);
         }
         
         reviewGroupCriteriaMapper.updateEntityFromDto(criteriaDTO, existingCriteria);
         existingCriteria.setUpdatedBy(updatedBy);
          
-        ReviewGroupCriteria updatedCriteria = reviewGroupCriteriaRepository.save(existingCriteria);
+        // A rename onto a taken name is rejected by the unique name constraint
+        ReviewGroupCriteria updatedCriteria = saveAndFlush(existingCriteria);
         
         logger.info("Updated ReviewGroupCriteria with ID: {}", id);
-        return reviewGroupCriteriaMapper.toDto(updatedCriteria);
+        ReviewGroupCriteriaDTO updatedDTO = reviewGroupCriteriaMapper.toDto(updatedCriteria);
+        eventPublisher.publishEvent(ReviewGroupCriteriaChangedEvent.upserted(List.of(updatedDTO)));
+        return updatedDTO;
     }
 
     public void delete(Long id) {
@@ -113,56 +263,139 @@ public class ReviewGroupCriteriaService {
         }
         
         reviewGroupCriteriaRepository.deleteById(id);
+        eventPublisher.publishEvent(ReviewGroupCriteriaChangedEvent.deleted(List.of(id)));
         logger.info("Deleted ReviewGroupCriteria with ID: {}", id);
     }
 
     // Custom Business Methods
     
-    @Transactional(readOnly = true)
+    // SUPPORTS: served from the in-memory index without opening a transaction (and connection)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReviewGroupCriteriaDTO> findByCriteriaType(GroupCriteriaType criteriaType) {
         logger.info("Finding ReviewGroupCriteria by type: {}", criteriaType);
-        List<ReviewGroupCriteria> criteriaList = reviewGroupCriteriaRepository.findByCriteriaType(criteriaType);
-        return reviewGroupCriteriaMapper.toDtoList(criteriaList);
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.findByCriteriaType(criteriaType);
+        }
+        return reviewGroupCriteriaRepository.findDtosByCriteriaType(criteriaType);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReviewGroupCriteriaDTO> findByCriteriaNameContaining(String criteriaName) {
         logger.info("Finding ReviewGroupCriteria by name containing: {}", criteriaName);
-        List<ReviewGroupCriteria> criteriaList = reviewGroupCriteriaRepository.findByCriteriaNameContainingIgnoreCase(criteriaName);
-        return reviewGroupCriteriaMapper.toDtoList(criteriaList);
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.findByNameContaining(criteriaName);
+        }
+        return reviewGroupCriteriaRepository.findDtosByCriteriaNameContainingIgnoreCase(criteriaName);
     }
 
-    @Transactional(readOnly = true)
+    // SUPPORTS: served from the in-memory index without opening a transaction (and connection)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Page<ReviewGroupCriteriaDTO> searchByCriteriaName(String criteriaName, Pageable pageable) {
         logger.info("Searching ReviewGroupCriteria by name: {}", criteriaName);
-        Page<ReviewGroupCriteria> criteriaPage = reviewGroupCriteriaRepository.findByCriteriaNameContainingIgnoreCase(criteriaName, pageable);
-        List<ReviewGroupCriteriaDTO> dtos = reviewGroupCriteriaMapper.toDtoList(criteriaPage.getContent());
-        return new PageImpl<>(dtos, pageable, criteriaPage.getTotalElements());
+        KEYSET_PAGER.requireAllowed(pageable.getSort());
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return InMemoryPages.page(reviewGroupCriteriaIndex.findByNameContaining(criteriaName), pageable,
+                    order -> "criteriaName".equals(order.getProperty())
+                            ? Comparator.comparing(ReviewGroupCriteriaDTO::getCriteriaName)
+                            : Comparator.comparing(ReviewGroupCriteriaDTO::getReviewGroupCriteriaId));
+        }
+        return reviewGroupCriteriaRepository.findDtosByCriteriaNameContainingIgnoreCase(criteriaName, pageable);
+    }
+
+    /**
+     * Ranked typeahead matches for a partial criteria name, served from the in-memory name index
+     * when it is enabled.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<NameSuggestionDTO> suggestByCriteriaName(String query, int limit) {
+        if (limit < 1 || limit > maxPageSize) {
+            throw new BusinessException("INVALID_PAGE_SIZE", "Suggestion limit must be between 1 and " + maxPageSize);
+        }
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.suggestByName(query, limit).stream()
+                    .map(match -> new NameSuggestionDTO(match.id(), match.name()))
+                    .toList();
+        }
+        return reviewGroupCriteriaRepository.findByCriteriaNameContainingIgnoreCase(query.strip(),
+                        ScrollPosition.keyset(), Sort.by("criteriaName", "reviewGroupCriteriaId"), Limit.of(limit))
+                .map(criteria -> new NameSuggestionDTO(criteria.getReviewGroupCriteriaId(), criteria.getCriteriaName()))
+                .getContent();
     }
 
     @Transactional(readOnly = true)
+    public CursorPageDTO<ReviewGroupCriteriaDTO> searchByCriteriaNameKeyset(String criteriaName, int size, String sortBy,
+                                                                            String sortDirection, String cursor, boolean includeTotal) {
+        logger.info("Searching keyset page of ReviewGroupCriteria by name: {}", criteriaName);
+        Sort sort = KEYSET_PAGER.sort(sortBy, sortDirection);
+        Window<ReviewGroupCriteria> window = reviewGroupCriteriaRepository.findByCriteriaNameContainingIgnoreCase(
+                criteriaName, KEYSET_PAGER.position(cursor, sort), sort, pageLimit(size));
+        Long total = includeTotal ? reviewGroupCriteriaRepository.countByCriteriaNameContainingIgnoreCase(criteriaName) : null;
+        return KEYSET_PAGER.toPage(window, sort, reviewGroupCriteriaMapper::toDtoList, total);
+    }
+
+    private Limit pageLimit(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new BusinessException("INVALID_PAGE_SIZE", "Page size must be between 1 and " + maxPageSize);
+        }
+        return Limit.of(size);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<ReviewGroupCriteriaDTO> findByCriteriaTypes(List<GroupCriteriaType> criteriaTypes) {
         logger.info("Finding ReviewGroupCriteria by multiple types: {}", criteriaTypes);
-        List<ReviewGroupCriteria> criteriaList = reviewGroupCriteriaRepository.findByCriteriaTypeIn(criteriaTypes);
-        return reviewGroupCriteriaMapper.toDtoList(criteriaList);
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.findByCriteriaTypes(criteriaTypes);
+        }
+        return reviewGroupCriteriaRepository.findDtosByCriteriaTypeIn(criteriaTypes);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long countByCriteriaType(GroupCriteriaType criteriaType) {
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.countByCriteriaType(criteriaType);
+        }
         return reviewGroupCriteriaRepository.countByCriteriaType(criteriaType);
     }
 
+    /**
+     * Count of criteria for every type, including the types that have none.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Map<GroupCriteriaType, Long> countsByCriteriaType() {
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.countsByCriteriaType();
+        }
+        Map<GroupCriteriaType, Long> counts = new EnumMap<>(GroupCriteriaType.class);
+        for (GroupCriteriaType criteriaType : GroupCriteriaType.values()) {
+            counts.put(criteriaType, 0L);
+        }
+        for (Object[] row : reviewGroupCriteriaRepository.countGroupedByCriteriaType()) {
+            counts.put((GroupCriteriaType) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return reviewGroupCriteriaRepository.existsById(id);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean existsByCriteriaName(String criteriaName) {
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.existsByCriteriaName(criteriaName);
+        }
         return reviewGroupCriteriaRepository.existsByCriteriaName(criteriaName);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public long count() {
+        if (reviewGroupCriteriaIndex.isAvailable()) {
+            return reviewGroupCriteriaIndex.count();
+        }
         return reviewGroupCriteriaRepository.count();
     }
 }
\ No newline at end of file
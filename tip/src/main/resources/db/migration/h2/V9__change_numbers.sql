@@ -0,0 +1,13 @@
+-- Twin of PostgreSQL V9: the change feed is ordered by change numbers from one sequence. An H2
+-- database starts empty, so there is nothing to number.
+
+CREATE SEQUENCE review_cycle_group_change_seq START WITH 1 INCREMENT BY 1;
+
+ALTER TABLE review_cycle_group ADD COLUMN change_number BIGINT;
+ALTER TABLE review_cycle_group_tombstone ADD COLUMN change_number BIGINT NOT NULL;
+
+DROP INDEX idx_review_cycle_group_updated_at_id;
+DROP INDEX idx_review_cycle_group_tombstone_deleted_at_id;
+
+CREATE INDEX idx_review_cycle_group_change_number_id ON review_cycle_group (change_number, review_cycle_group_id);
+CREATE INDEX idx_review_cycle_group_tombstone_change_number_id ON review_cycle_group_tombstone (change_number, review_cycle_group_id);
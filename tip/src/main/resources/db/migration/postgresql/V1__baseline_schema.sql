@@ -0,0 +1,45 @@
+-- Schema as it stood before the versioned migrations, so an empty database can be built from
+-- scratch. Databases that predate Flyway are baselined at version 1 (baseline-on-migrate) and
+-- skip this script. Ids start out as IDENTITY columns; V2 moves them to pooled sequences.
+
+CREATE TABLE IF NOT EXISTS review_cycle_group (
+    review_cycle_group_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    review_group_name     VARCHAR(255) NOT NULL,
+    review_cycle_id       BIGINT,
+    review_type_id        BIGINT,
+    review_condition_id   BIGINT,
+    range_start           INTEGER,
+    range_end             INTEGER,
+    boolean_state         BOOLEAN,
+    review_frequency      VARCHAR(100),
+    reviews_per_year      INTEGER,
+    created_by            VARCHAR(100),
+    updated_by            VARCHAR(100),
+    created_at            TIMESTAMP(6),
+    updated_at            TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS review_cycle_group_idis (
+    review_cycle_group_id BIGINT NOT NULL REFERENCES review_cycle_group (review_cycle_group_id),
+    idi_value             VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS review_group_criteria (
+    review_group_criteria_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    criteria_name            VARCHAR(255) NOT NULL,
+    criteria_type            VARCHAR(50) NOT NULL,
+    created_by               VARCHAR(100),
+    updated_by               VARCHAR(100),
+    created_at               TIMESTAMP(6),
+    updated_at               TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS review_types (
+    review_type_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name           VARCHAR(255),
+    description    VARCHAR(255),
+    created_by     VARCHAR(100),
+    updated_by     VARCHAR(100),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6)
+);
@@ -0,0 +1,18 @@
+-- Switch review_cycle_group / review_group_criteria ids from IDENTITY/serial to pooled sequences.
+-- INCREMENT BY must match @SequenceGenerator(allocationSize = 20). Hibernate's pooled optimizer
+-- treats each nextval as the top of a block of 20, so the sequence is positioned at
+-- MAX(id) + 20 to hand out MAX(id) + 1 as the first new id and keep all existing ids intact.
+
+CREATE SEQUENCE IF NOT EXISTS review_cycle_group_seq INCREMENT BY 20 MINVALUE 1;
+SELECT setval('review_cycle_group_seq',
+              COALESCE((SELECT MAX(review_cycle_group_id) FROM review_cycle_group), 0) + 20,
+              false);
+ALTER TABLE review_cycle_group ALTER COLUMN review_cycle_group_id DROP IDENTITY IF EXISTS;
+ALTER TABLE review_cycle_group ALTER COLUMN review_cycle_group_id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS review_group_criteria_seq INCREMENT BY 20 MINVALUE 1;
+SELECT setval('review_group_criteria_seq',
+              COALESCE((SELECT MAX(review_group_criteria_id) FROM review_group_criteria), 0) + 20,
+              false);
+ALTER TABLE review_group_criteria ALTER COLUMN review_group_criteria_id DROP IDENTITY IF EXISTS;
+ALTER TABLE review_group_criteria ALTER COLUMN review_group_criteria_id DROP DEFAULT;
@@ -0,0 +1,9 @@
+-- Composite (sort key, id) indexes backing keyset pagination. Each page seeks with
+-- WHERE (name, id) > (:name, :id) ORDER BY name, id LIMIT n, which these indexes answer
+-- without a sort or an offset scan. Sorting by id alone is served by the primary keys.
+
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_name_id
+    ON review_cycle_group (review_group_name, review_cycle_group_id);
+
+CREATE INDEX IF NOT EXISTS idx_review_group_criteria_name_id
+    ON review_group_criteria (criteria_name, review_group_criteria_id);
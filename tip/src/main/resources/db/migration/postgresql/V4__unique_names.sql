@@ -0,0 +1,10 @@
+-- Group and criteria names are unique. Creates insert directly and map a violation of these
+-- constraints to REVIEW_GROUP_EXISTS / CRITERIA_EXISTS instead of checking for the name first,
+-- which was racy under concurrent creates. Existing duplicate names must be resolved before
+-- this migration runs; it fails rather than picking a survivor.
+
+ALTER TABLE review_cycle_group
+    ADD CONSTRAINT uk_review_cycle_group_name UNIQUE (review_group_name);
+
+ALTER TABLE review_group_criteria
+    ADD CONSTRAINT uk_review_group_criteria_name UNIQUE (criteria_name);
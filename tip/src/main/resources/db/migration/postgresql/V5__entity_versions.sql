@@ -0,0 +1,9 @@
+-- Optimistic locking: BaseEntity.version is incremented by every update and checked in the
+-- UPDATE's WHERE clause; controllers expose it as the ETag and honour If-Match against it.
+-- Existing rows start at version 0.
+
+ALTER TABLE review_cycle_group ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE review_group_criteria ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE IF EXISTS review_types ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
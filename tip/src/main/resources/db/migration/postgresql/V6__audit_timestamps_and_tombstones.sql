@@ -0,0 +1,23 @@
+-- Audit timestamps are now stamped on every insert and update (BaseEntity), and updated_at drives
+-- the review cycle group change feed. Rows written before this had none, so they are backfilled
+-- once and show up in a consumer's first full sync.
+
+UPDATE review_cycle_group SET created_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+UPDATE review_cycle_group SET updated_at = COALESCE(updated_at, created_at) WHERE updated_at IS NULL;
+
+UPDATE review_group_criteria SET created_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+UPDATE review_group_criteria SET updated_at = COALESCE(updated_at, created_at) WHERE updated_at IS NULL;
+
+-- The feed seeks WHERE (updated_at, id) > (:at, :id) ORDER BY updated_at, id
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_updated_at_id
+    ON review_cycle_group (updated_at, review_cycle_group_id);
+
+-- Deletes leave a tombstone so the feed can report them; group ids are never reused
+CREATE TABLE IF NOT EXISTS review_cycle_group_tombstone (
+    review_cycle_group_id BIGINT PRIMARY KEY,
+    review_cycle_id       BIGINT,
+    deleted_at            TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_tombstone_deleted_at_id
+    ON review_cycle_group_tombstone (deleted_at, review_cycle_group_id);
@@ -0,0 +1,26 @@
+-- Composite indexes behind GET /review-cycle-groups/query, which ANDs any subset of its filters
+-- into one statement and pages by (sort key, id). The id is the trailing column so a filtered page
+-- sorted by id is read straight off the index. boolean_state is left unindexed: with two values it
+-- only narrows rows already found through one of these.
+
+-- review cycle alone, or with review type
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_cycle_type_id
+    ON review_cycle_group (review_cycle_id, review_type_id, review_cycle_group_id);
+
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_type_id
+    ON review_cycle_group (review_type_id, review_cycle_group_id);
+
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_condition_id
+    ON review_cycle_group (review_condition_id, review_cycle_group_id);
+
+-- value-in-range: range_start <= :value AND range_end >= :value
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_range
+    ON review_cycle_group (range_start, range_end);
+
+-- contains-IDI and the bulk IDI lookup probe the collection table by value
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_idis_idi
+    ON review_cycle_group_idis (idi_value, review_cycle_group_id);
+
+-- namePrefix is LIKE 'prefix%', which a btree under a non-C collation only serves with pattern ops
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_name_pattern
+    ON review_cycle_group (review_group_name text_pattern_ops);
@@ -0,0 +1,39 @@
+-- The change feed is ordered by a change number that every writing transaction draws from one
+-- sequence, instead of by updated_at: timestamps taken from the clocks of different nodes, in local
+-- time, do not sort in the order the changes were made. Existing groups and tombstones are numbered
+-- once in their old feed order; consumers holding an old cursor start again from the beginning.
+
+CREATE SEQUENCE IF NOT EXISTS review_cycle_group_change_seq START WITH 1 INCREMENT BY 1;
+
+ALTER TABLE review_cycle_group ADD COLUMN IF NOT EXISTS change_number BIGINT;
+ALTER TABLE review_cycle_group_tombstone ADD COLUMN IF NOT EXISTS change_number BIGINT;
+
+-- Group ids are never reused, so an id is either a group or a tombstone
+CREATE TEMPORARY TABLE review_cycle_group_change_numbers AS
+SELECT review_cycle_group_id, ROW_NUMBER() OVER (ORDER BY changed_at, review_cycle_group_id) AS change_number
+FROM (SELECT review_cycle_group_id, updated_at AS changed_at FROM review_cycle_group
+      UNION ALL
+      SELECT review_cycle_group_id, deleted_at FROM review_cycle_group_tombstone) changes;
+
+UPDATE review_cycle_group g SET change_number = c.change_number
+FROM review_cycle_group_change_numbers c WHERE c.review_cycle_group_id = g.review_cycle_group_id;
+
+UPDATE review_cycle_group_tombstone t SET change_number = c.change_number
+FROM review_cycle_group_change_numbers c WHERE c.review_cycle_group_id = t.review_cycle_group_id;
+
+SELECT setval('review_cycle_group_change_seq',
+              COALESCE((SELECT MAX(change_number) FROM review_cycle_group_change_numbers), 0) + 1, false);
+
+DROP TABLE review_cycle_group_change_numbers;
+
+ALTER TABLE review_cycle_group_tombstone ALTER COLUMN change_number SET NOT NULL;
+
+-- The feed seeks WHERE (change_number, id) > (:number, :id) ORDER BY change_number, id
+DROP INDEX IF EXISTS idx_review_cycle_group_updated_at_id;
+DROP INDEX IF EXISTS idx_review_cycle_group_tombstone_deleted_at_id;
+
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_change_number_id
+    ON review_cycle_group (change_number, review_cycle_group_id);
+
+CREATE INDEX IF NOT EXISTS idx_review_cycle_group_tombstone_change_number_id
+    ON review_cycle_group_tombstone (change_number, review_cycle_group_id);
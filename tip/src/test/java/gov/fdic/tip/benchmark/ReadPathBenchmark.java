@@ -0,0 +1,132 @@
+package gov.fdic.tip.benchmark;
+
+import gov.fdic.tip.TipApplication;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.entity.ReviewGroupCriteria;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.mapper.ReviewCycleGroupMapper;
+import gov.fdic.tip.mapper.ReviewGroupCriteriaMapper;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the entity + MapStruct list path with the DTO projection path, both inside a read-only
+ * transaction as the services run them, against the H2 test profile.
+ * Run with: mvn -Pbenchmark -DskipTests verify
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int IDIS_PER_GROUP = 5;
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+    private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
+    private ReviewCycleGroupMapper reviewCycleGroupMapper;
+    private ReviewGroupCriteriaMapper reviewGroupCriteriaMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TipApplication.class)
+                .web(WebApplicationType.NONE)
+                // As arguments, so they override spring.profiles.active from application.yml
+                .run("--spring.profiles.active=test", "--app.config.index.enabled=false", "--logging.level.gov.fdic.tip=WARN");
+        reviewCycleGroupRepository = context.getBean(ReviewCycleGroupRepository.class);
+        reviewGroupCriteriaRepository = context.getBean(ReviewGroupCriteriaRepository.class);
+        reviewCycleGroupMapper = context.getBean(ReviewCycleGroupMapper.class);
+        reviewGroupCriteriaMapper = context.getBean(ReviewGroupCriteriaMapper.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<ReviewCycleGroup> groups = new ArrayList<>(rows);
+        List<ReviewGroupCriteria> criteria = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ReviewCycleGroup group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithName("Benchmark Group " + i);
+            List<String> idis = new ArrayList<>(IDIS_PER_GROUP);
+            for (int j = 0; j < IDIS_PER_GROUP; j++) {
+                idis.add("IDI" + (i * IDIS_PER_GROUP + j));
+            }
+            group.setListOfIdis(idis);
+            groups.add(group);
+
+            ReviewGroupCriteria criterion = new ReviewGroupCriteria();
+            criterion.setCriteriaName("Benchmark Criteria " + i);
+            criterion.setCriteriaType(GroupCriteriaType.values()[i % GroupCriteriaType.values().length]);
+            criterion.setCreatedBy("benchmark");
+            criterion.setUpdatedBy("benchmark");
+            criteria.add(criterion);
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            reviewCycleGroupRepository.saveAll(groups);
+            reviewGroupCriteriaRepository.saveAll(criteria);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ReviewCycleGroupDTO> groupsEntityAndMapper() {
+        return readOnly.execute(status -> reviewCycleGroupMapper.toDtoList(reviewCycleGroupRepository.findAll()));
+    }
+
+    @Benchmark
+    public List<ReviewCycleGroupDTO> groupsProjection() {
+        return readOnly.execute(status -> reviewCycleGroupRepository.findAllDtosWithIdis());
+    }
+
+    @Benchmark
+    public List<ReviewGroupCriteriaDTO> criteriaEntityAndMapper() {
+        return readOnly.execute(status -> reviewGroupCriteriaMapper.toDtoList(reviewGroupCriteriaRepository.findAll()));
+    }
+
+    @Benchmark
+    public List<ReviewGroupCriteriaDTO> criteriaProjection() {
+        return readOnly.execute(status -> reviewGroupCriteriaRepository.findAllDtos());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ReadPathBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,112 @@
+package gov.fdic.tip.integration.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusOutputFormat;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.metrics.JdbcMetricsDataSource;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Checks the meters published for Prometheus after real work against H2. Not @Transactional, as the
+ * JDBC batches are only sent when the bulk create flushes and commits. Spring Boot tests turn metrics
+ * export off unless asked, hence @AutoConfigureObservability.
+ */
+@SpringBootTest
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class MetricsIntegrationTest {
+
+    private static final String CREATED_BY = "metrics-test-user";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PrometheusScrapeEndpoint prometheusScrapeEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should record how many statements each JDBC batch of a bulk create carried")
+    void shouldRecordJdbcBatchSizes() {
+        // Given
+        List<ReviewCycleGroupDTO> groups = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ReviewCycleGroupDTO group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+            group.setReviewGroupName("Metrics Group " + i);
+            groups.add(group);
+        }
+
+        // When
+        reviewCycleGroupService.createAll(groups, CREATED_BY);
+
+        // Then: five groups with three IDIs each, sent with batch_size 20
+        DistributionSummary idis = meterRegistry.get(JdbcMetricsDataSource.BATCH_SIZE_METER)
+                .tags("operation", "insert", "table", "review_cycle_group_idis")
+                .summary();
+        DistributionSummary groupInserts = meterRegistry.get(JdbcMetricsDataSource.BATCH_SIZE_METER)
+                .tags("operation", "insert", "table", "review_cycle_group")
+                .summary();
+        assertThat(idis.max()).isEqualTo(15);
+        assertThat(groupInserts.max()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should expose Hibernate, Hikari, repository and batch meters in the Prometheus scrape")
+    void shouldScrapeDataAccessMeters() {
+        // Given
+        reviewCycleGroupService.create(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(), CREATED_BY);
+        reviewCycleGroupRepository.count();
+
+        // When
+        byte[] body = prometheusScrapeEndpoint.scrape(PrometheusOutputFormat.CONTENT_TYPE_004, null).getBody();
+        String scrape = new String(body, StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(scrape)
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_inserts_total")
+                .contains("hibernate_collections_fetches_total")
+                .contains("hibernate_flushes_total")
+                .contains("hibernate_second_level_cache_requests_total")
+                .contains("hikaricp_connections_active")
+                .contains("hikaricp_connections_pending")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                .contains("jdbc_batch_size_statements_bucket")
+                .containsPattern("spring_data_repository_invocations_seconds_bucket\\{[^}]*method=\"count\"[^}]*"
+                        + "repository=\"ReviewCycleGroupRepository\"");
+    }
+}
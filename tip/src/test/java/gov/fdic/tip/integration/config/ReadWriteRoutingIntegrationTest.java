@@ -0,0 +1,174 @@
+package gov.fdic.tip.integration.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.config.ReadWriteRoutingDataSource;
+import gov.fdic.tip.config.ReadYourWrites;
+import gov.fdic.tip.constants.AppConstants;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.filter.ReadYourWritesFilter;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Routing against two H2 databases standing in for a primary and a replica. Replication is not
+ * simulated: the replica gets the primary's schema and only the rows a test inserts into it directly,
+ * so which database served a read is visible from its result. Not @Transactional, as routing is
+ * decided per transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "app.config.datasource.routing.enabled=true",
+    "app.config.datasource.routing.sticky-window=0s",
+    "app.config.datasource.routing.replicas[0].url=" + ReadWriteRoutingIntegrationTest.REPLICA_URL
+})
+class ReadWriteRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    private final String CREATED_BY = "routing-test-user";
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        primary = new JdbcTemplate(primaryDataSource);
+        // The replica pool is read-only, so seed it over a separate connection
+        replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        replica.execute("DROP ALL OBJECTS");
+        for (String statement : primary.queryForList("SCRIPT NODATA", String.class)) {
+            if (!statement.startsWith("CREATE USER")) {
+                replica.execute(statement);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.setStickyWindow(Duration.ZERO);
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replica and writes to the primary")
+    void shouldRouteReadsToReplicaAndWritesToPrimary() {
+        // Given
+        ReviewCycleGroupDTO created = reviewCycleGroupService.create(dto("Primary Group"), CREATED_BY);
+        replica.update("INSERT INTO review_cycle_group (review_cycle_group_id, review_group_name) VALUES (9001, 'Replica Group')");
+
+        // When
+        List<ReviewCycleGroupDTO> all = reviewCycleGroupService.findAll();
+
+        // Then
+        assertThat(primary.queryForList("SELECT review_group_name FROM review_cycle_group", String.class))
+                .containsExactly("Primary Group");
+        assertThat(all).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Replica Group");
+        assertThat(reviewCycleGroupService.existsById(9001L)).isTrue();
+        assertThat(reviewCycleGroupService.existsById(created.getReviewCycleGroupId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep a client's reads on the primary within the sticky window after its write, and only its reads")
+    void shouldReadOwnWritesWithinStickyWindow() throws Exception {
+        // Given
+        routingDataSource.setStickyWindow(Duration.ofMinutes(1));
+        replica.update("INSERT INTO review_cycle_group (review_cycle_group_id, review_group_name) VALUES (9001, 'Replica Group')");
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        readYourWritesFilter.doFilter(new MockHttpServletRequest("POST", "/api/v1/review-cycle-groups"), writeResponse,
+                (req, res) -> reviewCycleGroupService.create(dto("Primary Group"), CREATED_BY));
+        Cookie primaryUntil = writeResponse.getCookie(AppConstants.PRIMARY_UNTIL_COOKIE);
+
+        // When
+        MockHttpServletRequest sameClient = new MockHttpServletRequest("GET", "/api/v1/review-cycle-groups");
+        sameClient.setCookies(primaryUntil);
+        List<ReviewCycleGroupDTO> ownRead = findAllThroughFilter(sameClient);
+        List<ReviewCycleGroupDTO> otherRead = findAllThroughFilter(new MockHttpServletRequest("GET", "/api/v1/review-cycle-groups"));
+
+        // Then
+        assertThat(primaryUntil).isNotNull();
+        assertThat(primaryUntil.getMaxAge()).isBetween(1, 60);
+        assertThat(ownRead).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Primary Group");
+        assertThat(otherRead).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Replica Group");
+        assertThat(ReadYourWrites.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should accept the deadline as a header and cut one further out than the sticky window")
+    void shouldClampClientDeadline() throws Exception {
+        // Given
+        routingDataSource.setStickyWindow(Duration.ofMinutes(1));
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        readYourWritesFilter.doFilter(new MockHttpServletRequest("POST", "/api/v1/review-cycle-groups"), writeResponse,
+                (req, res) -> reviewCycleGroupService.create(dto("Primary Group"), CREATED_BY));
+        String headerDeadline = writeResponse.getHeader(AppConstants.PRIMARY_UNTIL_HEADER);
+        MockHttpServletRequest headerClient = new MockHttpServletRequest("GET", "/api/v1/review-cycle-groups");
+        headerClient.addHeader(AppConstants.PRIMARY_UNTIL_HEADER, headerDeadline);
+        MockHttpServletRequest forgedClient = new MockHttpServletRequest("GET", "/api/v1/review-cycle-groups");
+        forgedClient.setCookies(new Cookie(AppConstants.PRIMARY_UNTIL_COOKIE, Long.toString(Long.MAX_VALUE)));
+
+        // When
+        AtomicReference<Boolean> headerReadsFromPrimary = new AtomicReference<>();
+        readYourWritesFilter.doFilter(headerClient, new MockHttpServletResponse(),
+                (req, res) -> headerReadsFromPrimary.set(ReadYourWrites.current().readsFromPrimary()));
+        AtomicReference<Long> forgedDeadline = new AtomicReference<>();
+        long before = System.currentTimeMillis();
+        readYourWritesFilter.doFilter(forgedClient, new MockHttpServletResponse(),
+                (req, res) -> forgedDeadline.set(ReadYourWrites.current().getPrimaryUntilMillis()));
+
+        // Then
+        assertThat(headerDeadline).isNotNull();
+        assertThat(headerReadsFromPrimary.get()).isTrue();
+        assertThat(forgedDeadline.get()).isBetween(before, System.currentTimeMillis() + Duration.ofMinutes(1).toMillis());
+    }
+
+    private List<ReviewCycleGroupDTO> findAllThroughFilter(MockHttpServletRequest request) throws Exception {
+        AtomicReference<List<ReviewCycleGroupDTO>> groups = new AtomicReference<>();
+        readYourWritesFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> groups.set(reviewCycleGroupService.findAll()));
+        return groups.get();
+    }
+
+    private ReviewCycleGroupDTO dto(String name) {
+        return ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(name, null, null, null, null, null, null);
+    }
+}
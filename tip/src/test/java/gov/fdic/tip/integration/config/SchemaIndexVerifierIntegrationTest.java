@@ -0,0 +1,53 @@
+package gov.fdic.tip.integration.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import gov.fdic.tip.config.SchemaIndexVerifier;
+
+/**
+ * The context itself only starts when the migrated schema has every expected index; this class
+ * checks that a missing one is actually noticed.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SchemaIndexVerifierIntegrationTest {
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_review_group_criteria_type_id "
+                + "ON review_group_criteria (criteria_type, review_group_criteria_id)");
+    }
+
+    @Test
+    @DisplayName("Should find every expected index in the migrated schema and refuse to start without one")
+    void shouldReportMissingIndex() throws Exception {
+        // Given
+        assertThat(schemaIndexVerifier.findMissingIndexes()).isEmpty();
+
+        // When
+        jdbcTemplate.execute("DROP INDEX idx_review_group_criteria_type_id");
+
+        // Then
+        assertThat(schemaIndexVerifier.findMissingIndexes())
+                .containsExactly("review_group_criteria.idx_review_group_criteria_type_id");
+        assertThatThrownBy(() -> schemaIndexVerifier.run(new DefaultApplicationArguments()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("idx_review_group_criteria_type_id");
+    }
+}
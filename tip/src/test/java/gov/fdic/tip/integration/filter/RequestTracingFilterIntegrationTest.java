@@ -0,0 +1,110 @@
+package gov.fdic.tip.integration.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import gov.fdic.tip.constants.AppConstants;
+import gov.fdic.tip.dto.response.ApiResponse;
+import gov.fdic.tip.filter.RequestTracingFilter;
+
+/**
+ * Runs the filter around chains that query H2 through the instrumented data source, so the counts
+ * come from real JDBC executions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RequestTracingFilterIntegrationTest {
+
+    private static final String COUNT_GROUP = "select count(*) from review_cycle_group where review_cycle_id = ";
+
+    @Autowired
+    private RequestTracingFilter requestTracingFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should propagate a caller's request id into the MDC, the response and ApiResponse")
+    void shouldPropagateRequestId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/review-cycle-groups");
+        request.addHeader(AppConstants.REQUEST_ID_HEADER, "caller-42");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ApiResponse<Void>> body = new AtomicReference<>();
+
+        // When
+        requestTracingFilter.doFilter(request, response, (req, res) -> body.set(ApiResponse.success("ok")));
+
+        // Then
+        assertThat(response.getHeader(AppConstants.REQUEST_ID_HEADER)).isEqualTo("caller-42");
+        assertThat(body.get().getRequestId()).isEqualTo("caller-42");
+        assertThat(MDC.get(AppConstants.REQUEST_ID_MDC_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should replace an unusable request id with a generated one")
+    void shouldGenerateRequestId() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/review-cycle-groups");
+        request.addHeader(AppConstants.REQUEST_ID_HEADER, "bad id\r\nX-Injected: 1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        requestTracingFilter.doFilter(request, response, (req, res) -> { });
+
+        // Then
+        assertThat(response.getHeader(AppConstants.REQUEST_ID_HEADER)).hasSize(36);
+    }
+
+    @Test
+    @DisplayName("Should report the statements run before the body is written in the SQL headers")
+    void shouldCountStatementsOfRequest() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/summary");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        requestTracingFilter.doFilter(request, response, (req, res) -> {
+            jdbcTemplate.queryForObject("select count(*) from review_cycle_group", Long.class);
+            jdbcTemplate.queryForObject("select count(*) from review_group_criteria", Long.class);
+            res.getWriter().write("{}");
+            res.flushBuffer();
+            jdbcTemplate.queryForObject("select count(*) from review_group_criteria", Long.class);
+        });
+
+        // Then: the statement after the body went out is too late for the headers
+        assertThat(response.getHeader(AppConstants.SQL_COUNT_HEADER)).isEqualTo("2");
+        assertThat(Double.parseDouble(response.getHeader(AppConstants.SQL_TIME_HEADER))).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should fail a request that repeats one statement shape more than the threshold")
+    void shouldFailOnRepeatedStatements() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/review-cycle-groups");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When & Then: eleven lookups that differ only in a literal
+        assertThatThrownBy(() -> requestTracingFilter.doFilter(request, response, (req, res) -> {
+            for (int reviewCycleId = 1; reviewCycleId <= 11; reviewCycleId++) {
+                jdbcTemplate.queryForObject(COUNT_GROUP + reviewCycleId, Long.class);
+            }
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Possible N+1 in GET /api/v1/review-cycle-groups")
+                .hasMessageContaining(COUNT_GROUP + "?=11");
+        assertThat(response.getHeader(AppConstants.SQL_COUNT_HEADER)).isEqualTo("11");
+    }
+}
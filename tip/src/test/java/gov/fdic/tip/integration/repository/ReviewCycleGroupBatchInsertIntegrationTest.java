@@ -0,0 +1,88 @@
+package gov.fdic.tip.integration.repository;
+
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures insert throughput for ReviewCycleGroup (plus its review_cycle_group_idis rows) against H2
+ * with JDBC batching disabled (one round trip per row, the IDENTITY behaviour) and enabled
+ * (pooled sequence ids + hibernate.jdbc.batch_size).
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReviewCycleGroupBatchInsertIntegrationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewCycleGroupBatchInsertIntegrationTest.class);
+
+    private static final int GROUP_COUNT = 1000;
+    private static final int IDIS_PER_GROUP = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should batch group and IDI inserts instead of one statement per row")
+    void shouldBatchInserts() {
+        // Before: batching switched off for this session
+        InsertRun unbatched = insertGroups("unbatched", 1);
+
+        // After: pooled sequence ids let Hibernate group inserts by the configured batch size
+        InsertRun batched = insertGroups("batched", null);
+
+        logger.info("Inserted {} groups x {} IDIs: unbatched {} statements in {} ms, batched {} statements in {} ms",
+                GROUP_COUNT, IDIS_PER_GROUP, unbatched.statements, unbatched.millis, batched.statements, batched.millis);
+
+        long rows = (long) GROUP_COUNT * (1 + IDIS_PER_GROUP);
+        assertThat(unbatched.statements).isGreaterThanOrEqualTo(rows);
+        // batch_size 20 plus one sequence call per 20 ids
+        assertThat(batched.statements).isLessThan(rows / 10);
+        assertThat(batched.statements).isLessThan(unbatched.statements);
+    }
+
+    private InsertRun insertGroups(String prefix, Integer jdbcBatchSize) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(jdbcBatchSize);
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            ReviewCycleGroup group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithName(prefix + "-" + i);
+            group.setListOfIdis(Arrays.asList(prefix + "-A" + i, prefix + "-B" + i, prefix + "-C" + i));
+            entityManager.persist(group);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        session.setJdbcBatchSize(null);
+        return new InsertRun(statistics.getPrepareStatementCount(), millis);
+    }
+
+    private record InsertRun(long statements, long millis) {
+    }
+}
@@ -1,16 +1,20 @@
 package gov.fdic.tip.integration.repository;
 
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
 import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.mapper.ReviewCycleGroupMapper;
 import gov.fdic.tip.repository.ReviewCycleGroupRepository;
 import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
@@ -70,11 +74,11 @@ class ReviewCycleGroupRepositoryIntegrationTest {
         ReviewCycleGroup saved3 = entityManager.persistAndFlush(entity3);
 
         // When
-        List<ReviewCycleGroup> result = reviewCycleGroupRepository.findByListOfIdisContaining("IDI001");
+        List<ReviewCycleGroupDTO> result = reviewCycleGroupRepository.findDtosByListOfIdisContaining("IDI001");
 
         // Then
         assertThat(result).hasSize(2);
-        assertThat(result).extracting(ReviewCycleGroup::getReviewCycleGroupId)
+        assertThat(result).extracting(ReviewCycleGroupDTO::getReviewCycleGroupId)
                 .contains(saved1.getReviewCycleGroupId(), saved3.getReviewCycleGroupId());
     }
 
@@ -91,11 +95,11 @@ class ReviewCycleGroupRepositoryIntegrationTest {
         entityManager.persistAndFlush(entity3);
 
         // When
-        List<ReviewCycleGroup> result = reviewCycleGroupRepository.findByReviewCycleId(100L);
+        List<ReviewCycleGroupDTO> result = reviewCycleGroupRepository.findDtosByReviewCycleId(100L);
 
         // Then
         assertThat(result).hasSize(2);
-        assertThat(result).extracting(ReviewCycleGroup::getReviewCycleId)
+        assertThat(result).extracting(ReviewCycleGroupDTO::getReviewCycleId)
                 .containsOnly(100L);
     }
 
@@ -169,11 +173,57 @@ class ReviewCycleGroupRepositoryIntegrationTest {
         entityManager.persistAndFlush(entity3);
 
         // When
-        List<ReviewCycleGroup> result = reviewCycleGroupRepository.findByBooleanState(true);
+        List<ReviewCycleGroupDTO> result = reviewCycleGroupRepository.findDtosByBooleanState(true);
 
         // Then
         assertThat(result).hasSize(2);
-        assertThat(result).extracting(ReviewCycleGroup::getBooleanState)
+        assertThat(result).extracting(ReviewCycleGroupDTO::getBooleanState)
                 .containsOnly(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should resolve several IDIs to group ids in one query")
+    void shouldFindGroupIdsByIdiIn() {
+        // Given
+        ReviewCycleGroup saved1 = entityManager.persistAndFlush(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithIdis(
+                Arrays.asList("IDI001", "IDI002")));
+        ReviewCycleGroup saved2 = entityManager.persistAndFlush(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithIdis(
+                Arrays.asList("IDI002", "IDI003")));
+
+        // When
+        List<Object[]> rows = reviewCycleGroupRepository.findGroupIdsByIdiIn(Arrays.asList("IDI002", "IDI003", "IDI999"));
+
+        // Then
+        assertThat(rows).extracting(row -> row[0] + ":" + row[1]).containsExactlyInAnyOrder(
+                "IDI002:" + saved1.getReviewCycleGroupId(),
+                "IDI002:" + saved2.getReviewCycleGroupId(),
+                "IDI003:" + saved2.getReviewCycleGroupId());
+    }
+
+    @Test
+    @DisplayName("Should project the same DTOs as the entity mapping, including IDIs")
+    void shouldProjectSameDtosAsMapper() {
+        // Given
+        entityManager.persist(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithIdis(Arrays.asList("IDI001", "IDI002")));
+        entityManager.persist(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithIdis(Arrays.asList()));
+        entityManager.persist(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithIdis(Arrays.asList("IDI003")));
+        entityManager.flush();
+        entityManager.clear();
+        ReviewCycleGroupMapper mapper = Mappers.getMapper(ReviewCycleGroupMapper.class);
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by("reviewCycleGroupId"));
+
+        // When
+        List<ReviewCycleGroupDTO> projected = reviewCycleGroupRepository.findAllDtosWithIdis();
+        Page<ReviewCycleGroupDTO> projectedPage = reviewCycleGroupRepository.findAllDtos(pageable);
+        reviewCycleGroupRepository.withIdis(projectedPage.getContent());
+
+        // Then
+        assertThat(projected).usingRecursiveFieldByFieldElementComparatorIgnoringFields("listOfIdis")
+                .containsExactlyInAnyOrderElementsOf(mapper.toDtoList(reviewCycleGroupRepository.findAll()));
+        assertThat(projected).allSatisfy(dto -> assertThat(dto.getListOfIdis()).containsExactlyInAnyOrderElementsOf(
+                reviewCycleGroupRepository.findById(dto.getReviewCycleGroupId()).orElseThrow().getListOfIdis()));
+        assertThat(projectedPage.getTotalElements()).isEqualTo(3);
+        assertThat(projectedPage.getContent()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(mapper.toDtoList(reviewCycleGroupRepository.findAll(pageable).getContent()));
+    }
+}
@@ -0,0 +1,193 @@
+package gov.fdic.tip.integration.repository;
+
+import gov.fdic.tip.dto.ReviewCycleGroupFilterDTO;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewCycleGroupSpecifications;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "gov.fdic.tip.integration.repository.ReviewCycleGroupSpecificationsIntegrationTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+class ReviewCycleGroupSpecificationsIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    private ReviewCycleGroup alpha;
+    private ReviewCycleGroup alphabet;
+    private ReviewCycleGroup beta;
+    private ReviewCycleGroup wildcard;
+
+    @BeforeEach
+    void setUp() {
+        alpha = save("Alpha", 1L, 2L, true, 100, 500, List.of("IDI001", "IDI002"));
+        alphabet = save("Alphabet", 1L, 2L, true, 300, 900, List.of("IDI002"));
+        beta = save("Beta", 1L, 3L, false, 100, 500, List.of("IDI002"));
+        wildcard = save("Al%_pha", 2L, 2L, true, 100, 500, List.of("IDI003"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should AND every filter that is set and ignore the ones that are not")
+    void shouldCombineFilters() {
+        assertThat(idsMatching(new ReviewCycleGroupFilterDTO())).containsExactly(
+                alpha.getReviewCycleGroupId(), alphabet.getReviewCycleGroupId(), beta.getReviewCycleGroupId(), wildcard.getReviewCycleGroupId());
+
+        ReviewCycleGroupFilterDTO filter = new ReviewCycleGroupFilterDTO();
+        filter.setReviewCycleId(1L);
+        filter.setReviewTypeId(2L);
+        filter.setBooleanState(true);
+        filter.setIdi("IDI002");
+        assertThat(idsMatching(filter)).containsExactly(alpha.getReviewCycleGroupId(), alphabet.getReviewCycleGroupId());
+
+        filter.setValue(200);
+        filter.setNamePrefix("Alph");
+        assertThat(idsMatching(filter)).containsExactly(alpha.getReviewCycleGroupId());
+
+        ReviewCycleGroupFilterDTO condition = new ReviewCycleGroupFilterDTO();
+        condition.setReviewConditionId(3L);
+        condition.setIdi("IDI999");
+        assertThat(idsMatching(condition)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match the name prefix literally, wildcards included")
+    void shouldEscapeNamePrefix() {
+        ReviewCycleGroupFilterDTO filter = new ReviewCycleGroupFilterDTO();
+        filter.setNamePrefix("Al%_");
+
+        assertThat(idsMatching(filter)).containsExactly(wildcard.getReviewCycleGroupId());
+    }
+
+    @Test
+    @DisplayName("Should page a filtered query by keyset")
+    void shouldScrollFilteredQuery() {
+        // Given
+        ReviewCycleGroupFilterDTO filter = new ReviewCycleGroupFilterDTO();
+        filter.setReviewCycleId(1L);
+        Specification<ReviewCycleGroup> specification = ReviewCycleGroupSpecifications.matching(filter);
+        Sort sort = Sort.by("reviewGroupName").and(Sort.by("reviewCycleGroupId"));
+
+        // When
+        Window<ReviewCycleGroup> first = reviewCycleGroupRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(2).scroll(ScrollPosition.keyset()));
+        Window<ReviewCycleGroup> second = reviewCycleGroupRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(2).scroll(first.positionAt(first.size() - 1)));
+
+        // Then
+        assertThat(first.getContent()).extracting(ReviewCycleGroup::getReviewGroupName).containsExactly("Alpha", "Alphabet");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(ReviewCycleGroup::getReviewGroupName).containsExactly("Beta");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should plan the SQL Hibernate emits for each filter on its composite index")
+    void shouldUseCompositeIndexes() {
+        ReviewCycleGroupFilterDTO cycleAndType = new ReviewCycleGroupFilterDTO();
+        cycleAndType.setReviewCycleId(1L);
+        cycleAndType.setReviewTypeId(2L);
+        assertThat(planOf(cycleAndType, 1L, 2L)).containsIgnoringCase("idx_review_cycle_group_cycle_type_id");
+
+        ReviewCycleGroupFilterDTO typeAndState = new ReviewCycleGroupFilterDTO();
+        typeAndState.setReviewTypeId(2L);
+        typeAndState.setBooleanState(true);
+        assertThat(planOf(typeAndState, 2L, true)).containsIgnoringCase("idx_review_cycle_group_type_id");
+
+        ReviewCycleGroupFilterDTO condition = new ReviewCycleGroupFilterDTO();
+        condition.setReviewConditionId(3L);
+        assertThat(planOf(condition, 3L)).containsIgnoringCase("idx_review_cycle_group_condition_id");
+
+        ReviewCycleGroupFilterDTO value = new ReviewCycleGroupFilterDTO();
+        value.setValue(200);
+        assertThat(planOf(value, 200, 200)).containsIgnoringCase("idx_review_cycle_group_range");
+
+        ReviewCycleGroupFilterDTO namePrefix = new ReviewCycleGroupFilterDTO();
+        namePrefix.setNamePrefix("Alph");
+        // Any index leading with the name will do, as long as the prefix becomes a range seek
+        assertThat(planOf(namePrefix, "Alph%")).containsIgnoringCase("review_group_name >= 'Alph'");
+
+        ReviewCycleGroupFilterDTO idi = new ReviewCycleGroupFilterDTO();
+        idi.setIdi("IDI002");
+        // The EXISTS seeks the IDI index on the value, then the group
+        assertThat(planOf(idi, "IDI002")).containsIgnoringCase("idx_review_cycle_group_idis_idi: idi_value = ?1");
+    }
+
+    private List<Long> idsMatching(ReviewCycleGroupFilterDTO filter) {
+        return reviewCycleGroupRepository.findAll(ReviewCycleGroupSpecifications.matching(filter), Sort.by("reviewCycleGroupId"))
+                .stream()
+                .map(ReviewCycleGroup::getReviewCycleGroupId)
+                .toList();
+    }
+
+    // EXPLAIN of the query Hibernate sent for the filter, with the parameters bound in order
+    private String planOf(ReviewCycleGroupFilterDTO filter, Object... parameters) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        idsMatching(filter);
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase().contains("from review_cycle_group "))
+                .findFirst()
+                .orElseThrow();
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    explain.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        });
+    }
+
+    private ReviewCycleGroup save(String name, Long reviewCycleId, Long reviewTypeId, boolean booleanState,
+                                  int rangeStart, int rangeEnd, List<String> idis) {
+        ReviewCycleGroup group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithName(name);
+        group.setReviewCycleId(reviewCycleId);
+        group.setReviewTypeId(reviewTypeId);
+        group.setBooleanState(booleanState);
+        group.setRangeStart(rangeStart);
+        group.setRangeEnd(rangeEnd);
+        group.setListOfIdis(new ArrayList<>(idis));
+        return entityManager.persist(group);
+    }
+
+    // Registered by class name above, so Hibernate records every statement it prepares here
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
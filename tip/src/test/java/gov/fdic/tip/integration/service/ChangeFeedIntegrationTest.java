@@ -0,0 +1,215 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.ChangeFeedDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupChangeDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupChangeDTO.ChangeType;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewCycleGroupTombstoneRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+
+/**
+ * The feed reads committed rows and tombstones, so this class is deliberately not @Transactional
+ * and cleans up after each test. The settle window is switched off so changes are served at once.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.config.changes.settle-window=0s")
+class ChangeFeedIntegrationTest {
+
+    private static final String USER = "change-feed-test-user";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private ReviewCycleGroupTombstoneRepository reviewCycleGroupTombstoneRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewCycleGroupTombstoneRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewCycleGroupTombstoneRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should stamp creation and update times and expose them on the DTO")
+    void shouldStampAuditTimestamps() {
+        // Given
+        ReviewCycleGroupDTO created = create("Audited Group");
+
+        // When
+        created.setReviewsPerYear(6);
+        ReviewCycleGroupDTO updated = reviewCycleGroupService.update(created.getReviewCycleGroupId(), created, USER);
+
+        // Then
+        assertThat(created.getCreatedDttm()).isNotNull().isEqualTo(created.getUpdatedDttm());
+        assertThat(updated.getCreatedDttm()).isEqualTo(created.getCreatedDttm());
+        assertThat(updated.getUpdatedDttm()).isAfter(created.getUpdatedDttm());
+        assertThat(reviewCycleGroupService.findByReviewCycleId(created.getReviewCycleId()))
+                .extracting(ReviewCycleGroupDTO::getUpdatedDttm)
+                .containsExactly(updated.getUpdatedDttm());
+    }
+
+    @Test
+    @DisplayName("Should report the latest state of each written group and a tombstone for each deleted one")
+    void shouldFeedUpsertsAndTombstones() {
+        // Given
+        ReviewCycleGroupDTO kept = create("Kept Group");
+        ReviewCycleGroupDTO deleted = create("Deleted Group");
+        kept.setListOfIdis(new ArrayList<>(List.of("IDI100")));
+        ReviewCycleGroupDTO idisChanged = reviewCycleGroupService.update(kept.getReviewCycleGroupId(), kept, USER);
+        reviewCycleGroupService.delete(deleted.getReviewCycleGroupId());
+
+        // When
+        ChangeFeedDTO<ReviewCycleGroupChangeDTO> feed = reviewCycleGroupService.findChanges(null, 10);
+        ChangeFeedDTO<ReviewCycleGroupChangeDTO> next = reviewCycleGroupService.findChanges(feed.getNextCursor(), 10);
+
+        // Then
+        assertThat(feed.getChanges()).extracting(ReviewCycleGroupChangeDTO::getChangeType, ReviewCycleGroupChangeDTO::getReviewCycleGroupId)
+                .containsExactly(
+                        tuple(ChangeType.UPSERTED, kept.getReviewCycleGroupId()),
+                        tuple(ChangeType.DELETED, deleted.getReviewCycleGroupId()));
+        // A change to the IDIs alone still moves the group forward in the feed
+        assertThat(idisChanged.getUpdatedDttm()).isAfter(kept.getUpdatedDttm());
+        assertThat(feed.getChanges().get(0).getGroup().getListOfIdis()).containsExactly("IDI100");
+        assertThat(feed.getChanges().get(1).getGroup()).isNull();
+        assertThat(feed.getChanges().get(1).getReviewCycleId()).isEqualTo(deleted.getReviewCycleId());
+        assertThat(feed.isHasMore()).isFalse();
+        assertThat(next.getChanges()).isEmpty();
+        assertThat(next.getNextCursor()).isEqualTo(feed.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should page through the feed without repeating or skipping a change")
+    void shouldPageThroughFeed() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(create("Paged Group " + i).getReviewCycleGroupId());
+        }
+
+        // When
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        boolean hasMore = true;
+        int batches = 0;
+        while (hasMore) {
+            ChangeFeedDTO<ReviewCycleGroupChangeDTO> feed = reviewCycleGroupService.findChanges(cursor, 2);
+            feed.getChanges().forEach(change -> seen.add(change.getReviewCycleGroupId()));
+            cursor = feed.getNextCursor();
+            hasMore = feed.isHasMore();
+            batches++;
+        }
+
+        // Then
+        assertThat(seen).containsExactlyElementsOf(ids);
+        assertThat(batches).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should move bulk-updated groups forward in the feed and tombstone bulk-deleted ones")
+    void shouldFeedBulkChanges() {
+        // Given
+        ReviewCycleGroupDTO first = create("Bulk Group A");
+        create("Bulk Group B");
+        String cursor = reviewCycleGroupService.findChanges(null, 10).getNextCursor();
+        ReviewCycleGroupBulkUpdateDTO update = new ReviewCycleGroupBulkUpdateDTO();
+        update.setReviewsPerYear(2);
+
+        // When
+        reviewCycleGroupService.updateByReviewCycleId(first.getReviewCycleId(), update, USER);
+        ChangeFeedDTO<ReviewCycleGroupChangeDTO> afterUpdate = reviewCycleGroupService.findChanges(cursor, 10);
+        reviewCycleGroupService.deleteByReviewCycleId(first.getReviewCycleId());
+        ChangeFeedDTO<ReviewCycleGroupChangeDTO> afterDelete = reviewCycleGroupService.findChanges(afterUpdate.getNextCursor(), 10);
+
+        // Then
+        assertThat(afterUpdate.getChanges()).hasSize(2)
+                .allSatisfy(change -> assertThat(change.getGroup().getReviewsPerYear()).isEqualTo(2));
+        assertThat(afterDelete.getChanges()).hasSize(2)
+                .extracting(ReviewCycleGroupChangeDTO::getChangeType)
+                .containsOnly(ChangeType.DELETED);
+    }
+
+    @Test
+    @DisplayName("Should serve a change stamped with an earlier time by a node whose clock is behind")
+    void shouldOrderByChangeNumberNotClock() {
+        // Given
+        ReviewCycleGroupDTO first = create("Clock Group A");
+        create("Clock Group B");
+        String cursor = reviewCycleGroupService.findChanges(null, 10).getNextCursor();
+        ReviewCycleGroupDTO late = create("Clock Group C");
+        jdbcTemplate.update("UPDATE review_cycle_group SET updated_at = ? WHERE review_cycle_group_id = ?",
+                first.getUpdatedDttm().minusHours(1), late.getReviewCycleGroupId());
+
+        // When
+        ChangeFeedDTO<ReviewCycleGroupChangeDTO> feed = reviewCycleGroupService.findChanges(cursor, 10);
+
+        // Then
+        assertThat(feed.getChanges()).extracting(ReviewCycleGroupChangeDTO::getReviewCycleGroupId)
+                .containsExactly(late.getReviewCycleGroupId());
+    }
+
+    @Test
+    @DisplayName("Should start again from the beginning for a cursor issued before change numbers")
+    void shouldRestartFromTimeCursor() {
+        // Given
+        ReviewCycleGroupDTO group = create("Legacy Cursor Group");
+        String legacyCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("2025-09-28T10:15:30.123456/" + group.getReviewCycleGroupId()).getBytes(StandardCharsets.UTF_8));
+
+        // When
+        ChangeFeedDTO<ReviewCycleGroupChangeDTO> feed = reviewCycleGroupService.findChanges(legacyCursor, 10);
+
+        // Then
+        assertThat(feed.getChanges()).extracting(ReviewCycleGroupChangeDTO::getReviewCycleGroupId)
+                .containsExactly(group.getReviewCycleGroupId());
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor it did not issue")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> reviewCycleGroupService.findChanges("not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo("INVALID_CURSOR");
+    }
+
+    private ReviewCycleGroupDTO create(String name) {
+        return reviewCycleGroupService.create(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(
+                name, null, null, null, null, null, null), USER);
+    }
+}
@@ -0,0 +1,199 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.exception.PreconditionFailedException;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.service.ReviewGroupCriteriaService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Version checks only matter across committed transactions, so this class is deliberately not
+ * @Transactional and cleans up after each test instead.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OptimisticLockingIntegrationTest {
+
+    private static final String USER = "locking-test-user";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private ReviewGroupCriteriaService reviewGroupCriteriaService;
+
+    @Autowired
+    private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewGroupCriteriaRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewGroupCriteriaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should bump the version on every update and reject a stale one without loading the IDIs")
+    void shouldRejectStaleGroupVersion() {
+        // Given
+        ReviewCycleGroupDTO created = reviewCycleGroupService.create(
+                ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(), USER);
+        Long id = created.getReviewCycleGroupId();
+        created.setReviewsPerYear(6);
+        ReviewCycleGroupDTO updated = reviewCycleGroupService.update(id, created, USER, created.getVersion());
+
+        // When
+        statistics.clear();
+        created.setReviewsPerYear(12);
+
+        // Then
+        assertThat(created.getVersion()).isZero();
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> reviewCycleGroupService.update(id, created, USER, created.getVersion()))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(reviewCycleGroupService.findById(id).getReviewsPerYear()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should check and bump the version in the UPDATE statement itself")
+    void shouldUpdateCriteriaWithOneVersionedStatement() {
+        // Given
+        ReviewGroupCriteriaDTO created = reviewGroupCriteriaService.create(criteria("Asset Size"), USER);
+        created.setCriteriaType(GroupCriteriaType.COMPLIANCE);
+
+        // When
+        statistics.clear();
+        ReviewGroupCriteriaDTO updated = reviewGroupCriteriaService.update(
+                created.getReviewGroupCriteriaId(), created, USER, created.getVersion());
+
+        // Then: the read and one UPDATE ... WHERE id = ? AND version = ?
+        assertThat(updated.getVersion()).isEqualTo(created.getVersion() + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer a lost race between read and write with a failed precondition")
+    void shouldRejectUpdateThatLosesRace() {
+        // Given
+        ReviewGroupCriteriaDTO created = reviewGroupCriteriaService.create(criteria("Region"), USER);
+        Long id = created.getReviewGroupCriteriaId();
+
+        // When: another writer commits after this transaction has read version 0, so the version
+        // check before the write still passes and only the versioned UPDATE can catch it
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            reviewGroupCriteriaRepository.findById(id).orElseThrow();
+            commitConcurrentUpdate(id);
+            ReviewGroupCriteriaDTO stale = criteria("Region");
+            stale.setCriteriaType(GroupCriteriaType.QUALITY);
+            reviewGroupCriteriaService.update(id, stale, USER, 0L);
+        })).isInstanceOf(PreconditionFailedException.class);
+
+        // Then
+        assertThat(reviewGroupCriteriaService.findById(id).getCriteriaType()).isEqualTo(GroupCriteriaType.COMPLIANCE);
+    }
+
+    @Test
+    @DisplayName("Should bump the version of every group touched by a bulk update")
+    void shouldBumpVersionOnBulkUpdate() {
+        // Given
+        ReviewCycleGroupDTO created = reviewCycleGroupService.create(
+                ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(), USER);
+        ReviewCycleGroupBulkUpdateDTO update = new ReviewCycleGroupBulkUpdateDTO();
+        update.setBooleanState(false);
+
+        // When
+        reviewCycleGroupService.updateByReviewCycleId(created.getReviewCycleId(), update, USER);
+
+        // Then
+        assertThat(reviewCycleGroupService.findById(created.getReviewCycleGroupId()).getVersion()).isEqualTo(1L);
+        assertThatThrownBy(() -> reviewCycleGroupService.update(created.getReviewCycleGroupId(), created, USER, 0L))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    @DisplayName("Should read the validators for conditional GETs without loading any IDIs")
+    void shouldReadVersionsWithoutIdis() {
+        // Given
+        ReviewCycleGroupDTO created = reviewCycleGroupService.create(
+                ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(), USER);
+        created.setReviewsPerYear(6);
+        reviewCycleGroupService.update(created.getReviewCycleGroupId(), created, USER);
+
+        // When
+        statistics.clear();
+        long version = reviewCycleGroupService.findVersionById(created.getReviewCycleGroupId());
+        Map<Long, Long> versions = reviewCycleGroupService.findVersionsByReviewCycleId(created.getReviewCycleId());
+
+        // Then
+        assertThat(version).isEqualTo(1L);
+        assertThat(versions).containsExactly(Map.entry(created.getReviewCycleGroupId(), 1L));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    private void commitConcurrentUpdate(Long id) {
+        Thread writer = new Thread(() -> {
+            ReviewGroupCriteriaDTO concurrent = criteria("Region");
+            concurrent.setCriteriaType(GroupCriteriaType.COMPLIANCE);
+            reviewGroupCriteriaService.update(id, concurrent, "other-user");
+        });
+        writer.start();
+        try {
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ReviewGroupCriteriaDTO criteria(String name) {
+        ReviewGroupCriteriaDTO criteria = new ReviewGroupCriteriaDTO();
+        criteria.setCriteriaName(name);
+        criteria.setCriteriaType(GroupCriteriaType.FINANCIAL);
+        return criteria;
+    }
+}
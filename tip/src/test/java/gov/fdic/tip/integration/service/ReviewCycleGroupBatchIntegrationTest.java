@@ -0,0 +1,133 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.BatchResultDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+
+/**
+ * Bulk create commits chunk by chunk, so this class is deliberately not @Transactional
+ * and cleans up after each test instead.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.config.batch.chunk-size=50")
+class ReviewCycleGroupBatchIntegrationTest {
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    private final String CREATED_BY = "batch-test-user";
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create all groups with their IDIs across several chunks")
+    void shouldCreateAllGroupsAcrossChunks() {
+        // Given
+        List<ReviewCycleGroupDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            ReviewCycleGroupDTO dto = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+            dto.setReviewGroupName("Batch Group " + i);
+            dto.setListOfIdis(Arrays.asList("IDI-" + i, "IDI-X"));
+            dtos.add(dto);
+        }
+
+        // When
+        BatchResultDTO result = reviewCycleGroupService.createAll(dtos, CREATED_BY);
+
+        // Then
+        assertThat(result.getTotal()).isEqualTo(120);
+        assertThat(result.getCreated()).isEqualTo(120);
+        assertThat(result.getItems()).extracting(BatchResultDTO.ItemResult::getIndex)
+                .containsExactlyElementsOf(IntStream.range(0, 120).boxed().toList());
+        assertThat(result.getItems()).allSatisfy(item -> assertThat(item.getId()).isNotNull());
+        assertThat(reviewCycleGroupRepository.count()).isEqualTo(120);
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-X")).hasSize(120);
+    }
+
+    @Test
+    @DisplayName("Should report duplicates and invalid items without failing the rest")
+    void shouldReportPerItemRejections() {
+        // Given
+        ReviewCycleGroupDTO existing = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        existing.setReviewGroupName("Existing Group");
+        reviewCycleGroupService.create(existing, CREATED_BY);
+
+        ReviewCycleGroupDTO clashesWithDatabase = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        clashesWithDatabase.setReviewGroupName("Existing Group");
+        ReviewCycleGroupDTO first = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        first.setReviewGroupName("New Group");
+        ReviewCycleGroupDTO clashesWithPayload = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        clashesWithPayload.setReviewGroupName("New Group");
+        ReviewCycleGroupDTO invalid = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        invalid.setReviewGroupName("Invalid Group");
+        invalid.setReviewCycleId(null);
+
+        // When
+        BatchResultDTO result = reviewCycleGroupService.createAll(
+                Arrays.asList(clashesWithDatabase, first, clashesWithPayload, invalid), CREATED_BY);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getItems()).extracting(BatchResultDTO.ItemResult::getStatus).containsExactly(
+                BatchResultDTO.Status.DUPLICATE, BatchResultDTO.Status.CREATED,
+                BatchResultDTO.Status.DUPLICATE, BatchResultDTO.Status.INVALID);
+        assertThat(result.getItems().get(3).getMessage()).isEqualTo("Review cycle ID is required");
+        assertThat(reviewCycleGroupRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the rest of a chunk when one row is refused by the database")
+    void shouldRetryFailedChunkRowByRow() {
+        // Given: review_frequency is VARCHAR(100) and not checked by bean validation
+        List<ReviewCycleGroupDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ReviewCycleGroupDTO dto = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+            dto.setReviewGroupName("Retry Group " + i);
+            dtos.add(dto);
+        }
+        dtos.get(1).setReviewFrequency("X".repeat(101));
+
+        // When
+        BatchResultDTO result = reviewCycleGroupService.createAll(dtos, CREATED_BY);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getItems()).extracting(BatchResultDTO.ItemResult::getStatus).containsExactly(
+                BatchResultDTO.Status.CREATED, BatchResultDTO.Status.FAILED, BatchResultDTO.Status.CREATED);
+        BatchResultDTO.ItemResult failed = result.getItems().get(1);
+        assertThat(failed.getErrorCode()).isEqualTo("CONSTRAINT_VIOLATION");
+        assertThat(failed.getMessage()).doesNotContainIgnoringCase("insert");
+        assertThat(reviewCycleGroupRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,193 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.controller.SummaryController;
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupFacetsDTO;
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.dto.SummaryDTO;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.index.ReviewCycleGroupCounters;
+import gov.fdic.tip.index.ReviewGroupCriteriaIndex;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.service.ReviewGroupCriteriaService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The counters follow committed writes, so this class is not @Transactional.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.config.index.enabled=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReviewCycleGroupCountersIntegrationTest {
+
+    private static final String CREATED_BY = "counters-test-user";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private ReviewCycleGroupCounters reviewCycleGroupCounters;
+
+    @Autowired
+    private ReviewGroupCriteriaService reviewGroupCriteriaService;
+
+    @Autowired
+    private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
+
+    @Autowired
+    private ReviewGroupCriteriaIndex reviewGroupCriteriaIndex;
+
+    @Autowired
+    private SummaryController summaryController;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    @Test
+    @DisplayName("Should count without a query and follow create, update, bulk update and deletes")
+    void shouldKeepCountersInSyncWithWrites() {
+        // Given
+        ReviewCycleGroupDTO first = create("First", 1L, 2L, true);
+        create("Second", 1L, 3L, true);
+        ReviewCycleGroupDTO third = create("Third", 4L, 2L, false);
+
+        // When
+        statistics.clear();
+        long total = reviewCycleGroupService.count();
+        long cycleOne = reviewCycleGroupService.countByReviewCycleId(1L);
+        ReviewCycleGroupFacetsDTO facets = reviewCycleGroupService.countFacets();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(total).isEqualTo(3);
+        assertThat(cycleOne).isEqualTo(2);
+        assertThat(facets.byReviewCycleId()).containsExactly(Map.entry(1L, 2L), Map.entry(4L, 1L));
+        assertThat(facets.byReviewTypeId()).containsExactly(Map.entry(2L, 2L), Map.entry(3L, 1L));
+        assertThat(facets.byBooleanState()).containsExactly(Map.entry(true, 2L), Map.entry(false, 1L));
+
+        // An update moves a group out of the buckets it was counted in
+        first.setReviewCycleId(4L);
+        first.setReviewTypeId(5L);
+        reviewCycleGroupService.update(first.getReviewCycleGroupId(), first, CREATED_BY);
+        assertThat(reviewCycleGroupService.countByReviewCycleId(1L)).isEqualTo(1);
+        assertThat(reviewCycleGroupService.countFacets().byReviewTypeId())
+                .containsExactly(Map.entry(2L, 1L), Map.entry(3L, 1L), Map.entry(5L, 1L));
+
+        // A bulk update flips the boolean state of the whole cycle
+        ReviewCycleGroupBulkUpdateDTO update = new ReviewCycleGroupBulkUpdateDTO();
+        update.setBooleanState(true);
+        reviewCycleGroupService.updateByReviewCycleId(4L, update, CREATED_BY);
+        assertThat(reviewCycleGroupService.countFacets().byBooleanState()).containsExactly(Map.entry(true, 3L));
+
+        // Single and bulk deletes take the groups out again
+        reviewCycleGroupService.delete(third.getReviewCycleGroupId());
+        assertThat(reviewCycleGroupService.count()).isEqualTo(2);
+        reviewCycleGroupService.deleteByReviewCycleId(1L);
+        ReviewCycleGroupFacetsDTO remaining = reviewCycleGroupService.countFacets();
+        assertThat(remaining.total()).isEqualTo(1);
+        assertThat(remaining.byReviewCycleId()).containsExactly(Map.entry(4L, 1L));
+        assertThat(remaining.byReviewTypeId()).containsExactly(Map.entry(5L, 1L));
+        assertThat(reviewCycleGroupService.countByReviewCycleId(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pick up writes that bypass the service when reconciling")
+    void shouldReconcileForeignWrites() {
+        // Given
+        create("Local", 1L, 2L, true);
+
+        // When: a write that bypasses the service, as one on another node would
+        reviewCycleGroupRepository.save(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithReviewCycleId(7L));
+        long beforeReconcile = reviewCycleGroupService.count();
+        reviewCycleGroupCounters.reconcile();
+
+        // Then
+        assertThat(beforeReconcile).isEqualTo(1);
+        assertThat(reviewCycleGroupService.count()).isEqualTo(2);
+        assertThat(reviewCycleGroupService.countByReviewCycleId(7L)).isEqualTo(1);
+        assertThat(reviewCycleGroupService.countFacets()).isEqualTo(
+                ReviewCycleGroupCounters.tally(reviewCycleGroupRepository.findAllFacets()));
+    }
+
+    @Test
+    @DisplayName("Should return every group facet and criteria type count in one summary without a query")
+    void shouldSummarizeWithoutQueries() {
+        // Given
+        create("Summarized", 1L, 2L, false);
+        createCriteria("Asset Size", GroupCriteriaType.FINANCIAL);
+        createCriteria("Region", GroupCriteriaType.RISK_BASED);
+        createCriteria("Capital Ratio", GroupCriteriaType.FINANCIAL);
+
+        // When
+        statistics.clear();
+        SummaryDTO summary = summaryController.getSummary().getBody();
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(summary.reviewCycleGroups().total()).isEqualTo(1);
+        assertThat(summary.reviewCycleGroups().byBooleanState()).containsExactly(Map.entry(false, 1L));
+        assertThat(summary.reviewGroupCriteria()).isEqualTo(3);
+        assertThat(summary.reviewGroupCriteriaByType())
+                .hasSize(GroupCriteriaType.values().length)
+                .containsEntry(GroupCriteriaType.FINANCIAL, 2L)
+                .containsEntry(GroupCriteriaType.RISK_BASED, 1L)
+                .containsEntry(GroupCriteriaType.QUALITY, 0L);
+    }
+
+    private void cleanUp() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewGroupCriteriaRepository.deleteAll();
+        reviewCycleGroupCounters.reconcile();
+        reviewGroupCriteriaIndex.reload();
+    }
+
+    private ReviewCycleGroupDTO create(String name, Long reviewCycleId, Long reviewTypeId, boolean booleanState) {
+        return reviewCycleGroupService.create(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(
+                name, reviewCycleId, reviewTypeId, null, null, booleanState, null), CREATED_BY);
+    }
+
+    private void createCriteria(String name, GroupCriteriaType type) {
+        ReviewGroupCriteriaDTO criteria = new ReviewGroupCriteriaDTO();
+        criteria.setCriteriaName(name);
+        criteria.setCriteriaType(type);
+        reviewGroupCriteriaService.create(criteria, CREATED_BY);
+    }
+}
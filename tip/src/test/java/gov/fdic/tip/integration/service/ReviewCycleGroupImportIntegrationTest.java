@@ -0,0 +1,142 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.BatchResultDTO;
+import gov.fdic.tip.dto.BatchResultDTO.ItemResult;
+import gov.fdic.tip.dto.ImportProgressDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.importer.ReviewCycleGroupImportListener;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+
+/**
+ * Imports commit chunk by chunk, so this class is deliberately not @Transactional
+ * and cleans up after each test instead.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.config.batch.chunk-size=2")
+class ReviewCycleGroupImportIntegrationTest {
+
+    private static final String HEADER = "reviewGroupName,reviewCycleId,reviewTypeId,rangeStart,rangeEnd,idi\n";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    private final String CREATED_BY = "import-test-user";
+
+    private final List<ItemResult> rejected = new ArrayList<>();
+    private final List<ImportProgressDTO> progress = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import groups chunk by chunk and report rejected rows")
+    void shouldImportGroupsAndReportRejectedRows() throws Exception {
+        // Given
+        ReviewCycleGroupDTO existing = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        existing.setReviewGroupName("Existing Group");
+        existing.setListOfIdis(List.of("IDI999"));
+        reviewCycleGroupService.create(existing, CREATED_BY);
+        String csv = HEADER
+                + "Group A,1,2,100,500,IDI001\n"
+                + "Group A,1,2,100,500,IDI002\n"
+                + "Existing Group,1,2,100,500,IDI003\n"
+                + "Group B,,2,100,500,\n"
+                + "Group C,1,2,x,500,IDI004\n"
+                + "Group D,1,2,100,500,IDI001\n";
+
+        // When
+        ImportProgressDTO result = reviewCycleGroupService.importAll("groups.csv", csv(csv), CREATED_BY, listener());
+
+        // Then
+        assertThat(result.getRowsRead()).isEqualTo(6);
+        assertThat(result.getGroupsRead()).isEqualTo(5);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getError()).isNull();
+        assertThat(rejected).extracting(ItemResult::getIndex).containsExactly(4, 5, 6);
+        assertThat(rejected).extracting(ItemResult::getStatus).containsExactly(
+                BatchResultDTO.Status.DUPLICATE, BatchResultDTO.Status.INVALID, BatchResultDTO.Status.INVALID);
+        assertThat(rejected.get(1).getMessage()).isEqualTo("Review cycle ID is required");
+        assertThat(rejected.get(2).getMessage()).isEqualTo("rangeStart is not a whole number: x");
+        assertThat(progress).hasSize(4);
+        assertThat(progress.get(0).getGroupsRead()).isEqualTo(2);
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI001"))
+                .extracting(ReviewCycleGroupDTO::getReviewGroupName)
+                .containsExactlyInAnyOrder("Group A", "Group D");
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI002")).singleElement()
+                .satisfies(group -> assertThat(group.getCreatedBy()).isEqualTo(CREATED_BY));
+    }
+
+    @Test
+    @DisplayName("Should keep committed chunks and stop at a malformed row")
+    void shouldStopAtMalformedRow() throws Exception {
+        // Given
+        String csv = HEADER
+                + "Group A,1,2,100,500,IDI001\n"
+                + "Group B,1,2,100,500,IDI002\n"
+                + "Group C,1,2,100,500,IDI003\n"
+                + "\"Group D,1,2,100,500,IDI004\n";
+
+        // When
+        ImportProgressDTO result = reviewCycleGroupService.importAll("groups.csv", csv(csv), CREATED_BY, listener());
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.isDone()).isTrue();
+        assertThat(result.getError())
+                .isEqualTo("Row 5: unterminated quoted field; the 1 groups read since the last committed chunk were not imported");
+        assertThat(reviewCycleGroupRepository.count()).isEqualTo(2);
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ReviewCycleGroupImportListener listener() {
+        return new ReviewCycleGroupImportListener() {
+            @Override
+            public void rejected(ItemResult item) {
+                rejected.add(item);
+            }
+
+            @Override
+            public void progress(ImportProgressDTO snapshot) {
+                ImportProgressDTO copy = new ImportProgressDTO();
+                copy.setGroupsRead(snapshot.getGroupsRead());
+                copy.setDone(snapshot.isDone());
+                progress.add(copy);
+            }
+        };
+    }
+}
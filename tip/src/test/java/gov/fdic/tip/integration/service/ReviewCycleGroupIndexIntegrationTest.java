@@ -0,0 +1,283 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.IdiLookupResultDTO;
+import gov.fdic.tip.dto.MultiGetResultDTO;
+import gov.fdic.tip.dto.NameSuggestionDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
+import gov.fdic.tip.index.ReviewCycleGroupIndex;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The index follows committed writes, so this class is not @Transactional.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.config.index.enabled=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReviewCycleGroupIndexIntegrationTest {
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private ReviewCycleGroupIndex reviewCycleGroupIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private final String CREATED_BY = "index-test-user";
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewCycleGroupIndex.reload();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewCycleGroupIndex.reload();
+    }
+
+    @Test
+    @DisplayName("Should answer range lookups from the index and follow create, update and delete")
+    void shouldKeepRangeIndexInSyncWithWrites() {
+        // Given
+        ReviewCycleGroupDTO low = create("Low", 1L, 0, 100);
+        ReviewCycleGroupDTO mid = create("Mid", 1L, 50, 150);
+        ReviewCycleGroupDTO other = create("Other Cycle", 2L, 80, 120);
+
+        // When
+        statistics.clear();
+        List<ReviewCycleGroupDTO> all = reviewCycleGroupService.findByValueInRange(90);
+        List<ReviewCycleGroupDTO> cycleTwo = reviewCycleGroupService.findByValueInRange(90, 2L);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(all).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactlyInAnyOrder("Low", "Mid", "Other Cycle");
+        assertThat(cycleTwo).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Other Cycle");
+
+        // Update moves a group to another cycle and range
+        mid.setRangeStart(500);
+        mid.setRangeEnd(600);
+        mid.setReviewCycleId(2L);
+        reviewCycleGroupService.update(mid.getReviewCycleGroupId(), mid, CREATED_BY);
+
+        assertThat(reviewCycleGroupService.findByValueInRange(90, 1L)).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Low");
+        assertThat(reviewCycleGroupService.findByValueInRange(550, 2L)).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Mid");
+
+        // Delete removes it from every scope
+        reviewCycleGroupService.delete(other.getReviewCycleGroupId());
+        assertThat(reviewCycleGroupService.findByValueInRange(90)).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Low");
+        assertThat(reviewCycleGroupService.findByValueInRange(90, 2L)).isEmpty();
+        assertThat(low.getReviewCycleGroupId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should answer IDI lookups from the inverted index and follow writes")
+    void shouldKeepIdiIndexInSyncWithWrites() {
+        // Given
+        ReviewCycleGroupDTO first = createWithIdis("First", "IDI-1", "IDI-2");
+        ReviewCycleGroupDTO second = createWithIdis("Second", "IDI-2", "IDI-3");
+
+        // When
+        statistics.clear();
+        List<ReviewCycleGroupDTO> shared = reviewCycleGroupService.findByListOfIdisContaining("IDI-2");
+        IdiLookupResultDTO lookup = reviewCycleGroupService.findByListOfIdisIn(Arrays.asList("IDI-1", "IDI-3", "IDI-404"));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(shared).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("First", "Second");
+        assertThat(lookup.getGroupIdsByIdi()).containsEntry("IDI-1", List.of(first.getReviewCycleGroupId()))
+                .containsEntry("IDI-3", List.of(second.getReviewCycleGroupId()));
+        assertThat(lookup.getGroups()).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("First", "Second");
+        assertThat(lookup.getUnmatchedIdis()).containsExactly("IDI-404");
+
+        // Update replaces the IDI list
+        first.setListOfIdis(Arrays.asList("IDI-9"));
+        reviewCycleGroupService.update(first.getReviewCycleGroupId(), first, CREATED_BY);
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-1")).isEmpty();
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-2")).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Second");
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-9")).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("First");
+
+        // Delete drops the postings
+        reviewCycleGroupService.delete(second.getReviewCycleGroupId());
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-3")).isEmpty();
+
+        // Reload from the database gives the same answers
+        reviewCycleGroupIndex.reload();
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-9")).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("First");
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should answer name search and suggestions from the name index and follow writes")
+    void shouldKeepNameIndexInSyncWithWrites() {
+        // Given
+        create("Quality Control", 1L, 0, 10);
+        ReviewCycleGroupDTO asset = create("Asset Quality", 1L, 0, 10);
+        create("Liquidity", 1L, 0, 10);
+
+        // When
+        statistics.clear();
+        List<NameSuggestionDTO> suggestions = reviewCycleGroupService.suggestByGroupName("qual", 10);
+        Page<ReviewCycleGroupDTO> page = reviewCycleGroupService.searchByGroupName("QUAL", PageRequest.of(0, 1));
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(suggestions).extracting(NameSuggestionDTO::getName).containsExactly("Quality Control", "Asset Quality");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(ReviewCycleGroupDTO::getReviewGroupName).containsExactly("Asset Quality");
+
+        // Rename and delete are reflected
+        asset.setReviewGroupName("Asset Review");
+        reviewCycleGroupService.update(asset.getReviewCycleGroupId(), asset, CREATED_BY);
+        assertThat(reviewCycleGroupService.suggestByGroupName("qual", 10)).extracting(NameSuggestionDTO::getName).containsExactly("Quality Control");
+        assertThat(reviewCycleGroupService.suggestByGroupName("asset r", 10)).extracting(NameSuggestionDTO::getName).containsExactly("Asset Review");
+        reviewCycleGroupService.delete(asset.getReviewCycleGroupId());
+        assertThat(reviewCycleGroupService.suggestByGroupName("asset", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should bulk update and delete a review cycle with a fixed number of statements and follow in the index")
+    void shouldBulkUpdateAndDeleteByReviewCycle() {
+        // Given
+        for (int i = 0; i < 25; i++) {
+            createWithIdis("Cycle One " + i, "IDI-A" + i, "IDI-SHARED");
+        }
+        ReviewCycleGroupDTO other = create("Other Cycle", 2L, 0, 100);
+        ReviewCycleGroupBulkUpdateDTO update = new ReviewCycleGroupBulkUpdateDTO();
+        update.setBooleanState(false);
+        update.setReviewFrequency("ANNUAL");
+
+        // When
+        statistics.clear();
+        int updated = reviewCycleGroupService.updateByReviewCycleId(1L, update, "bulk-user");
+        long updateStatements = statistics.getPrepareStatementCount();
+
+        // Then: the change number, the UPDATE, and the groups and their IDIs read back
+        assertThat(updated).isEqualTo(25);
+        assertThat(updateStatements).isEqualTo(4);
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-SHARED")).hasSize(25).allSatisfy(group -> {
+            assertThat(group.getBooleanState()).isFalse();
+            assertThat(group.getReviewFrequency()).isEqualTo("ANNUAL");
+            assertThat(group.getReviewsPerYear()).isEqualTo(4);
+            assertThat(group.getUpdatedBy()).isEqualTo("bulk-user");
+        });
+        assertThat(reviewCycleGroupService.findById(other.getReviewCycleGroupId()).getBooleanState()).isTrue();
+
+        // When
+        statistics.clear();
+        int deleted = reviewCycleGroupService.deleteByReviewCycleId(1L);
+        long deleteStatements = statistics.getPrepareStatementCount();
+
+        // Then: the ids, the change number, one INSERT ... SELECT for the tombstones, the IDI rows and the groups
+        assertThat(deleted).isEqualTo(25);
+        assertThat(deleteStatements).isEqualTo(5);
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-SHARED")).isEmpty();
+        assertThat(reviewCycleGroupService.suggestByGroupName("cycle one", 10)).isEmpty();
+        assertThat(reviewCycleGroupRepository.count()).isEqualTo(1);
+        reviewCycleGroupIndex.reload();
+        assertThat(reviewCycleGroupService.findByListOfIdisContaining("IDI-SHARED")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore a change event older than the indexed version of the group")
+    void shouldIgnoreStaleChangeEvents() {
+        // Given
+        ReviewCycleGroupDTO original = create("Original", 1L, 0, 100);
+        ReviewCycleGroupDTO renamed = reviewCycleGroupService.findById(original.getReviewCycleGroupId());
+        renamed.setReviewGroupName("Renamed");
+        renamed.setRangeStart(200);
+        renamed.setRangeEnd(300);
+        reviewCycleGroupService.update(renamed.getReviewCycleGroupId(), renamed, CREATED_BY);
+
+        // When: the create event arrives again after the update
+        reviewCycleGroupIndex.onReviewCycleGroupsChanged(ReviewCycleGroupChangedEvent.upserted(List.of(original)));
+
+        // Then
+        assertThat(reviewCycleGroupIndex.findById(original.getReviewCycleGroupId()).getReviewGroupName()).isEqualTo("Renamed");
+        assertThat(reviewCycleGroupIndex.findByValueInRange(50, null)).isEmpty();
+        assertThat(reviewCycleGroupIndex.findByValueInRange(250, 1L)).extracting(ReviewCycleGroupDTO::getReviewGroupName)
+                .containsExactly("Renamed");
+        assertThat(reviewCycleGroupIndex.findByNameContaining("orig")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve ids from the database, not from an index that missed a write")
+    void shouldMultiGetFromDatabase() {
+        // Given: a rename committed without an event, as made on another node
+        ReviewCycleGroupDTO group = create("Before", 1L, 0, 100);
+        ReviewCycleGroup entity = reviewCycleGroupRepository.findById(group.getReviewCycleGroupId()).orElseThrow();
+        entity.setReviewGroupName("After");
+        reviewCycleGroupRepository.save(entity);
+
+        // When
+        MultiGetResultDTO<ReviewCycleGroupDTO> result = reviewCycleGroupService.findByIds(List.of(group.getReviewCycleGroupId()));
+
+        // Then
+        assertThat(reviewCycleGroupIndex.findById(group.getReviewCycleGroupId()).getReviewGroupName()).isEqualTo("Before");
+        assertThat(result.found().get(group.getReviewCycleGroupId()).getReviewGroupName()).isEqualTo("After");
+    }
+
+    @Test
+    @DisplayName("Should pick up a write made on another node on the next poll")
+    void shouldPollForOtherNodesWrites() {
+        // Given: a rename committed without an event, stamped as the service on another node does
+        ReviewCycleGroupDTO group = create("Before", 1L, 0, 100);
+        ReviewCycleGroup entity = reviewCycleGroupRepository.findById(group.getReviewCycleGroupId()).orElseThrow();
+        entity.setReviewGroupName("After");
+        entity.setChangeNumber(reviewCycleGroupRepository.nextChangeNumber());
+        reviewCycleGroupRepository.save(entity);
+
+        // When
+        reviewCycleGroupIndex.pollForChanges();
+
+        // Then
+        assertThat(reviewCycleGroupIndex.findById(group.getReviewCycleGroupId()).getReviewGroupName()).isEqualTo("After");
+        assertThat(reviewCycleGroupService.suggestByGroupName("aft", 10)).extracting(NameSuggestionDTO::getName)
+                .containsExactly("After");
+    }
+
+    private ReviewCycleGroupDTO createWithIdis(String name, String... idis) {
+        return reviewCycleGroupService.create(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(
+                name, null, null, null, null, null, List.of(idis)), CREATED_BY);
+    }
+
+    private ReviewCycleGroupDTO create(String name, Long reviewCycleId, int rangeStart, int rangeEnd) {
+        return reviewCycleGroupService.create(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(
+                name, reviewCycleId, null, rangeStart, rangeEnd, null, null), CREATED_BY);
+    }
+}
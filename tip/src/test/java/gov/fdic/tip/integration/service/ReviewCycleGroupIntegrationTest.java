@@ -3,10 +3,14 @@ package gov.fdic.tip.integration.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +22,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import gov.fdic.tip.dto.IdiLookupResultDTO;
 import gov.fdic.tip.dto.ReviewCycleGroupDTO;
 import gov.fdic.tip.entity.ReviewCycleGroup;
 import gov.fdic.tip.exception.BusinessException;
 import gov.fdic.tip.exception.ResourceNotFoundException;
+import gov.fdic.tip.export.ExportFormat;
 import gov.fdic.tip.repository.ReviewCycleGroupRepository;
 import gov.fdic.tip.service.ReviewCycleGroupService;
 import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
@@ -326,4 +332,64 @@ class ReviewCycleGroupServiceIntegrationTest {
         assertThat(exists).isTrue();
         assertThat(notExists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should resolve several IDIs to their ReviewCycleGroups")
+    void shouldFindReviewCycleGroupsByListOfIdis() {
+        // Given
+        ReviewCycleGroupDTO dto1 = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        dto1.setReviewGroupName("Group 1");
+        dto1.setListOfIdis(Arrays.asList("IDI001", "IDI002"));
+
+        ReviewCycleGroupDTO dto2 = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        dto2.setReviewGroupName("Group 2");
+        dto2.setListOfIdis(Arrays.asList("IDI002", "IDI003"));
+
+        ReviewCycleGroupDTO created1 = reviewCycleGroupService.create(dto1, CREATED_BY);
+        ReviewCycleGroupDTO created2 = reviewCycleGroupService.create(dto2, CREATED_BY);
+
+        // When
+        IdiLookupResultDTO result = reviewCycleGroupService.findByListOfIdisIn(Arrays.asList("IDI002", "IDI999"));
+
+        // Then
+        assertThat(result.getGroupIdsByIdi()).containsOnlyKeys("IDI002");
+        assertThat(result.getGroupIdsByIdi().get("IDI002"))
+                .containsExactly(created1.getReviewCycleGroupId(), created2.getReviewCycleGroupId());
+        assertThat(result.getGroups()).hasSize(2);
+        assertThat(result.getUnmatchedIdis()).containsExactly("IDI999");
+    }
+
+    @Test
+    @DisplayName("Should export every group with its own IDIs")
+    void shouldExportGroupsWithTheirIdis() throws Exception {
+        // Given
+        ReviewCycleGroupDTO dto1 = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        dto1.setReviewGroupName("Group 1");
+        dto1.setListOfIdis(Arrays.asList("IDI001", "IDI002"));
+
+        ReviewCycleGroupDTO dto2 = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        dto2.setReviewGroupName("Group 2");
+        dto2.setListOfIdis(Arrays.asList());
+
+        ReviewCycleGroupDTO dto3 = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        dto3.setReviewGroupName("Group 3");
+        dto3.setListOfIdis(Arrays.asList("IDI003"));
+
+        reviewCycleGroupService.create(dto1, CREATED_BY);
+        reviewCycleGroupService.create(dto2, CREATED_BY);
+        reviewCycleGroupService.create(dto3, CREATED_BY);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        reviewCycleGroupService.exportAll(ExportFormat.NDJSON, out);
+
+        // Then
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(line -> {
+            JsonNode group = objectMapper.readTree(line);
+            return group.get("reviewGroupName").asText() + "=" + group.get("listOfIdis");
+        }).containsExactly("Group 1=[\"IDI001\",\"IDI002\"]", "Group 2=[]", "Group 3=[\"IDI003\"]");
+    }
+}
@@ -0,0 +1,154 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.CursorPageDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReviewCycleGroupKeysetPaginationIntegrationTest {
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        List<ReviewCycleGroup> groups = new ArrayList<>();
+        // Names repeat the same few prefixes so the id tie-breaker matters
+        for (int i = 0; i < 45; i++) {
+            groups.add(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithName("Group " + (char) ('A' + i % 5) + " " + (i % 7)));
+        }
+        for (int i = 0; i < groups.size(); i++) {
+            groups.get(i).setReviewGroupName(groups.get(i).getReviewGroupName() + "-" + i);
+        }
+        reviewCycleGroupRepository.saveAll(groups);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should walk every group exactly once, in sort order, following the cursors")
+    void shouldWalkAllPagesInOrder() {
+        // Given
+        List<String> expected = reviewCycleGroupRepository.findAll().stream()
+                .map(ReviewCycleGroup::getReviewGroupName)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        // When
+        List<String> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageDTO<ReviewCycleGroupDTO> page = reviewCycleGroupService.findAllKeyset(10, "reviewGroupName", "desc", cursor, false);
+            page.getContent().forEach(dto -> walked.add(dto.getReviewGroupName()));
+            assertThat(page.getTotalElements()).isNull();
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        assertThat(pages).isEqualTo(5);
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should issue the same statements for the first and the last page, with no COUNT")
+    void shouldKeepStatementCountFlatAcrossPageDepth() {
+        // Given
+        CursorPageDTO<ReviewCycleGroupDTO> first = reviewCycleGroupService.findAllKeyset(5, "reviewCycleGroupId", "asc", null, false);
+        String cursor = first.getNextCursor();
+        for (int i = 0; i < 7; i++) {
+            cursor = reviewCycleGroupService.findAllKeyset(5, "reviewCycleGroupId", "asc", cursor, false).getNextCursor();
+        }
+
+        // When: both pages start cold, the first one's IDIs would otherwise come from the cache
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics.clear();
+        reviewCycleGroupService.findAllKeyset(5, "reviewCycleGroupId", "asc", null, false);
+        long firstPageStatements = statistics.getPrepareStatementCount();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics.clear();
+        CursorPageDTO<ReviewCycleGroupDTO> last = reviewCycleGroupService.findAllKeyset(5, "reviewCycleGroupId", "asc", cursor, false);
+        long lastPageStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertThat(last.getContent()).hasSize(5);
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(lastPageStatements).isEqualTo(firstPageStatements).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should page search results and count them only when asked")
+    void shouldPageSearchResults() {
+        // When
+        CursorPageDTO<ReviewCycleGroupDTO> first = reviewCycleGroupService.searchByGroupNameKeyset("group a", 4, "reviewGroupName", "asc", null, true);
+        CursorPageDTO<ReviewCycleGroupDTO> second = reviewCycleGroupService.searchByGroupNameKeyset("group a", 4, "reviewGroupName", "asc", first.getNextCursor(), false);
+        CursorPageDTO<ReviewCycleGroupDTO> third = reviewCycleGroupService.searchByGroupNameKeyset("group a", 4, "reviewGroupName", "asc", second.getNextCursor(), false);
+
+        // Then
+        assertThat(first.getTotalElements()).isEqualTo(9);
+        assertThat(first.getContent()).hasSize(4);
+        assertThat(second.getContent()).hasSize(4);
+        assertThat(third.getContent()).hasSize(1);
+        assertThat(third.isHasNext()).isFalse();
+        assertThat(second.getContent().get(0).getReviewGroupName())
+                .isGreaterThan(first.getContent().get(3).getReviewGroupName());
+    }
+
+    @Test
+    @DisplayName("Should reject unindexed sort keys, foreign cursors and tampered cursors")
+    void shouldRejectInvalidRequests() {
+        String idCursor = reviewCycleGroupService.findAllKeyset(10, "reviewCycleGroupId", "asc", null, false).getNextCursor();
+
+        assertThatThrownBy(() -> reviewCycleGroupService.findAllKeyset(10, "reviewFrequency", "asc", null, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_SORT_KEY");
+        assertThatThrownBy(() -> reviewCycleGroupService.findAllPaginated(PageRequest.of(0, 10, Sort.by("reviewFrequency"))))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_SORT_KEY");
+        assertThatThrownBy(() -> reviewCycleGroupService.findAllKeyset(10, "reviewGroupName", "asc", idCursor, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_CURSOR");
+        assertThatThrownBy(() -> reviewCycleGroupService.findAllKeyset(10, "reviewCycleGroupId", "asc", "not-a-cursor", false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_CURSOR");
+        assertThatThrownBy(() -> reviewCycleGroupService.findAllKeyset(0, "reviewCycleGroupId", "asc", null, false))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INVALID_PAGE_SIZE");
+    }
+}
@@ -0,0 +1,120 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.MultiGetResultDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards against N+1 loading of listOfIdis: the number of SQL statements issued by each read
+ * must not depend on how many groups match.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ReviewCycleGroupQueryCountIntegrationTest {
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should issue the same number of statements for 3 and 60 groups")
+    void shouldKeepStatementCountConstantAsGroupsGrow() {
+        long[] small = measureAllReads(3);
+        reviewCycleGroupRepository.deleteAll();
+        long[] large = measureAllReads(60);
+
+        assertThat(large).containsExactly(small);
+    }
+
+    @Test
+    @DisplayName("Should resolve many ids and review cycles in request order with the misses listed")
+    void shouldMultiGetInRequestOrder() {
+        // Given
+        ReviewCycleGroup first = reviewCycleGroupRepository.save(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithReviewCycleId(1L));
+        ReviewCycleGroup second = reviewCycleGroupRepository.save(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithReviewCycleId(1L));
+        ReviewCycleGroup third = reviewCycleGroupRepository.save(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithReviewCycleId(4L));
+        Long unknownId = third.getReviewCycleGroupId() + 1000;
+
+        // When
+        statistics.clear();
+        MultiGetResultDTO<ReviewCycleGroupDTO> byIds = reviewCycleGroupService.findByIds(
+                List.of(third.getReviewCycleGroupId(), unknownId, first.getReviewCycleGroupId(), third.getReviewCycleGroupId()));
+        long byIdsStatements = statistics.getPrepareStatementCount();
+        MultiGetResultDTO<List<ReviewCycleGroupDTO>> byCycles = reviewCycleGroupService.findByReviewCycleIds(List.of(4L, 9L, 1L));
+
+        // Then: one statement for the groups and one for their IDIs, per lookup
+        assertThat(byIdsStatements).isEqualTo(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(byIds.found().keySet()).containsExactly(third.getReviewCycleGroupId(), first.getReviewCycleGroupId());
+        assertThat(byIds.found().get(first.getReviewCycleGroupId()).getListOfIdis()).containsExactly("IDI001", "IDI002", "IDI003");
+        assertThat(byIds.missing()).containsExactly(unknownId);
+        assertThat(byCycles.found().keySet()).containsExactly(4L, 1L);
+        assertThat(byCycles.found().get(1L)).extracting(ReviewCycleGroupDTO::getReviewCycleGroupId)
+                .containsExactly(first.getReviewCycleGroupId(), second.getReviewCycleGroupId());
+        assertThat(byCycles.missing()).containsExactly(9L);
+    }
+
+    private long[] measureAllReads(int groupCount) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            ReviewCycleGroup group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithName("Group " + groupCount + "-" + i);
+            group.setListOfIdis(Arrays.asList("IDI-" + i, "IDI-SHARED"));
+            ids.add(reviewCycleGroupRepository.save(group).getReviewCycleGroupId());
+        }
+
+        return new long[] {
+            statementsFor(() -> reviewCycleGroupService.findAll()),
+            statementsFor(() -> reviewCycleGroupService.findByReviewCycleId(1L)),
+            statementsFor(() -> reviewCycleGroupService.findByReviewTypeId(2L)),
+            statementsFor(() -> reviewCycleGroupService.findByBooleanState(true)),
+            statementsFor(() -> reviewCycleGroupService.findByValueInRange(200)),
+            statementsFor(() -> reviewCycleGroupService.findByListOfIdisContaining("IDI-SHARED")),
+            statementsFor(() -> reviewCycleGroupService.findAllPaginated(PageRequest.of(0, 100))),
+            statementsFor(() -> reviewCycleGroupService.searchByGroupName("Group", PageRequest.of(0, 100))),
+            statementsFor(() -> reviewCycleGroupService.findByIds(ids)),
+            statementsFor(() -> reviewCycleGroupService.findByReviewCycleIds(List.of(1L, 2L)))
+        };
+    }
+
+    private long statementsFor(Supplier<?> read) {
+        statistics.clear();
+        read.get();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,130 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.entity.ReviewGroupCriteria;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.index.ReviewGroupCriteriaIndex;
+import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
+import gov.fdic.tip.service.ReviewGroupCriteriaService;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The index follows committed writes, so this class is not @Transactional.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "app.config.index.enabled=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ReviewGroupCriteriaIndexIntegrationTest {
+
+    private static final String CREATED_BY = "criteria-index-test-user";
+
+    @Autowired
+    private ReviewGroupCriteriaService reviewGroupCriteriaService;
+
+    @Autowired
+    private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
+
+    @Autowired
+    private ReviewGroupCriteriaIndex reviewGroupCriteriaIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reviewGroupCriteriaRepository.deleteAll();
+        reviewGroupCriteriaIndex.reload();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewGroupCriteriaRepository.deleteAll();
+        reviewGroupCriteriaIndex.reload();
+    }
+
+    @Test
+    @DisplayName("Should answer type lookups, counts and name checks without a query and follow local writes")
+    void shouldServeTypeLookupsWithoutQueries() {
+        // Given
+        ReviewGroupCriteriaDTO assetSize = create("Asset Size", GroupCriteriaType.FINANCIAL);
+        create("Capital Ratio", GroupCriteriaType.FINANCIAL);
+        ReviewGroupCriteriaDTO region = create("Region", GroupCriteriaType.RISK_BASED);
+
+        // When
+        statistics.clear();
+        assetSize.setCriteriaType(GroupCriteriaType.COMPLIANCE);
+        reviewGroupCriteriaService.update(assetSize.getReviewGroupCriteriaId(), assetSize, CREATED_BY);
+        reviewGroupCriteriaService.delete(region.getReviewGroupCriteriaId());
+        long writeStatements = statistics.getPrepareStatementCount();
+        List<ReviewGroupCriteriaDTO> financial = reviewGroupCriteriaService.findByCriteriaType(GroupCriteriaType.FINANCIAL);
+        List<ReviewGroupCriteriaDTO> several = reviewGroupCriteriaService.findByCriteriaTypes(
+                Arrays.asList(GroupCriteriaType.COMPLIANCE, GroupCriteriaType.FINANCIAL, GroupCriteriaType.COMPLIANCE, null));
+        long riskBased = reviewGroupCriteriaService.countByCriteriaType(GroupCriteriaType.RISK_BASED);
+        boolean exists = reviewGroupCriteriaService.existsByCriteriaName("Asset Size");
+        boolean existsIgnoringCase = reviewGroupCriteriaService.existsByCriteriaName("asset size");
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(writeStatements);
+        assertThat(financial).extracting(ReviewGroupCriteriaDTO::getCriteriaName).containsExactly("Capital Ratio");
+        assertThat(several).extracting(ReviewGroupCriteriaDTO::getCriteriaName).containsExactly("Asset Size", "Capital Ratio");
+        assertThat(riskBased).isZero();
+        assertThat(exists).isTrue();
+        assertThat(existsIgnoringCase).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reload when the table changes behind its back, and only then")
+    void shouldReloadOnForeignWrites() {
+        // Given
+        create("Asset Size", GroupCriteriaType.FINANCIAL);
+        reviewGroupCriteriaIndex.pollForChanges();
+
+        // When: a write that bypasses the service, as one on another node would
+        statistics.clear();
+        reviewGroupCriteriaIndex.pollForChanges();
+        long unchangedStatements = statistics.getPrepareStatementCount();
+        ReviewGroupCriteria foreign = new ReviewGroupCriteria();
+        foreign.setCriteriaName("Foreign Criteria");
+        foreign.setCriteriaType(GroupCriteriaType.FINANCIAL);
+        foreign.setCreatedBy("other-node");
+        foreign.setUpdatedBy("other-node");
+        reviewGroupCriteriaRepository.save(foreign);
+        boolean beforePoll = reviewGroupCriteriaService.existsByCriteriaName("Foreign Criteria");
+        reviewGroupCriteriaIndex.pollForChanges();
+
+        // Then: the unchanged poll is a single aggregate query
+        assertThat(unchangedStatements).isEqualTo(1);
+        assertThat(beforePoll).isFalse();
+        assertThat(reviewGroupCriteriaService.existsByCriteriaName("Foreign Criteria")).isTrue();
+        assertThat(reviewGroupCriteriaService.countByCriteriaType(GroupCriteriaType.FINANCIAL)).isEqualTo(2);
+    }
+
+    private ReviewGroupCriteriaDTO create(String name, GroupCriteriaType type) {
+        ReviewGroupCriteriaDTO criteria = new ReviewGroupCriteriaDTO();
+        criteria.setCriteriaName(name);
+        criteria.setCriteriaType(type);
+        return reviewGroupCriteriaService.create(criteria, CREATED_BY);
+    }
+}
@@ -0,0 +1,153 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cached state is only shared between transactions, so this class is deliberately not
+ * @Transactional and cleans up after each test instead.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    private static final String USER = "cache-test-user";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve a group and its IDIs from the cache after the first read")
+    void shouldServeFindByIdFromCache() {
+        // Given
+        Long id = createWithIdis("Cached Group", 1L).getReviewCycleGroupId();
+        reviewCycleGroupService.findById(id);
+
+        // When
+        statistics.clear();
+        ReviewCycleGroupDTO cached = reviewCycleGroupService.findById(id);
+        boolean exists = reviewCycleGroupService.existsById(id);
+        boolean existsAgain = reviewCycleGroupService.existsById(id);
+
+        // Then: one statement for the first existence check, none for anything else
+        assertThat(cached.getListOfIdis()).containsExactly("IDI-1", "IDI-2");
+        assertThat(exists).isTrue();
+        assertThat(existsAgain).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(2);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should never serve a group from the cache after it was updated")
+    void shouldEvictOnUpdates() {
+        // Given
+        ReviewCycleGroupDTO group = createWithIdis("Updated Group", 1L);
+        Long id = group.getReviewCycleGroupId();
+        reviewCycleGroupService.findById(id);
+
+        // When
+        group.setListOfIdis(new ArrayList<>(List.of("IDI-3")));
+        reviewCycleGroupService.update(id, group, USER);
+        ReviewCycleGroupDTO afterUpdate = reviewCycleGroupService.findById(id);
+        ReviewCycleGroupBulkUpdateDTO bulkUpdate = new ReviewCycleGroupBulkUpdateDTO();
+        bulkUpdate.setReviewsPerYear(12);
+        reviewCycleGroupService.updateByReviewCycleId(1L, bulkUpdate, USER);
+        ReviewCycleGroupDTO afterBulkUpdate = reviewCycleGroupService.findById(id);
+
+        // Then
+        assertThat(afterUpdate.getListOfIdis()).containsExactly("IDI-3");
+        assertThat(afterBulkUpdate.getReviewsPerYear()).isEqualTo(12);
+        assertThat(afterBulkUpdate.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should cache the projection and IDI queries the service runs until the tables are written")
+    void shouldCacheProjectionQueryResults() {
+        // Given
+        createWithIdis("First Of Cycle", 7L);
+        reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleId(7L));
+
+        // When
+        statistics.clear();
+        List<ReviewCycleGroupDTO> cached = reviewCycleGroupRepository.withIdis(reviewCycleGroupRepository.findDtosByReviewCycleId(7L));
+        long cachedStatements = statistics.getPrepareStatementCount();
+        createWithIdis("Second Of Cycle", 7L);
+        List<ReviewCycleGroupDTO> afterInsert = reviewCycleGroupRepository.findDtosByReviewCycleId(7L);
+
+        // Then
+        assertThat(cached).hasSize(1);
+        assertThat(cached.get(0).getListOfIdis()).isNotEmpty();
+        assertThat(cachedStatements).isZero();
+        assertThat(afterInsert).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should export cache hits and misses per region as meters")
+    void shouldExportCacheStatistics() {
+        // Given
+        Long id = createWithIdis("Metered Group", 1L).getReviewCycleGroupId();
+
+        // When
+        reviewCycleGroupService.findById(id);
+        reviewCycleGroupService.findById(id);
+
+        // Then
+        FunctionCounter hits = meterRegistry.find("hibernate.second.level.cache.requests")
+                .tag("region", ReviewCycleGroup.CACHE_REGION)
+                .tag("result", "hit")
+                .functionCounter();
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isPositive();
+    }
+
+    private ReviewCycleGroupDTO createWithIdis(String name, Long reviewCycleId) {
+        return reviewCycleGroupService.create(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(
+                name, reviewCycleId, null, null, null, null, List.of("IDI-1", "IDI-2")), USER);
+    }
+}
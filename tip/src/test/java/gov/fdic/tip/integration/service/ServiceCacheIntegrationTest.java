@@ -0,0 +1,258 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import gov.fdic.tip.cache.ReviewCycleGroupCaches;
+import gov.fdic.tip.controller.ReviewCycleGroupController;
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Cached results are only shared between transactions, so this class is deliberately not
+ * @Transactional and cleans up after each test instead.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "app.config.cache.service.enabled=true")
+class ServiceCacheIntegrationTest {
+
+    private static final String USER = "service-cache-test-user";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ReviewCycleGroupController reviewCycleGroupController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        ReviewCycleGroupCaches.NAMES.forEach(name -> cacheManager.getCache(name).clear());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should expire entries after seconds, as writes on other nodes do not evict them")
+    void shouldExpireWithinSeconds() {
+        for (String name : ReviewCycleGroupCaches.NAMES) {
+            Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+            assertThat(cache.policy().expireAfterWrite()).hasValueSatisfying(
+                    expiry -> assertThat(expiry.getExpiresAfter()).isEqualTo(Duration.ofSeconds(30)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache as read-only results")
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        ReviewCycleGroupDTO group = create("Cached Group", 1L, 2L);
+        Long id = group.getReviewCycleGroupId();
+        ReviewCycleGroupDTO first = reviewCycleGroupService.findById(id);
+        reviewCycleGroupService.findByReviewCycleId(1L);
+        reviewCycleGroupService.findByReviewTypeId(2L);
+        reviewCycleGroupService.countByReviewCycleId(1L);
+
+        // When
+        statistics.clear();
+        ReviewCycleGroupDTO cached = reviewCycleGroupService.findById(id);
+        List<ReviewCycleGroupDTO> byReviewCycleId = reviewCycleGroupService.findByReviewCycleId(1L);
+        List<ReviewCycleGroupDTO> byReviewTypeId = reviewCycleGroupService.findByReviewTypeId(2L);
+        long count = reviewCycleGroupService.countByReviewCycleId(1L);
+
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(cached).isSameAs(first);
+        assertThat(byReviewCycleId).extracting(ReviewCycleGroupDTO::getReviewCycleGroupId).containsExactly(id);
+        assertThat(byReviewTypeId).extracting(ReviewCycleGroupDTO::getReviewCycleGroupId).containsExactly(id);
+        assertThat(count).isEqualTo(1);
+        assertThatThrownBy(() -> cached.getListOfIdis().add("IDI-9")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> byReviewCycleId.add(cached)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Should evict the old and new review cycle and type of a moved group, and nothing else")
+    void shouldEvictPreciselyOnUpdate() {
+        // Given
+        ReviewCycleGroupDTO moved = create("Moved Group", 1L, 2L);
+        create("Bystander Group", 3L, 4L);
+        for (long key : new long[] {1L, 3L, 5L}) {
+            reviewCycleGroupService.findByReviewCycleId(key);
+            reviewCycleGroupService.countByReviewCycleId(key);
+        }
+        reviewCycleGroupService.findByReviewTypeId(2L);
+        reviewCycleGroupService.findByReviewTypeId(4L);
+        reviewCycleGroupService.findByReviewTypeId(6L);
+
+        // When
+        moved.setReviewCycleId(5L);
+        moved.setReviewTypeId(6L);
+        reviewCycleGroupService.update(moved.getReviewCycleGroupId(), moved, USER);
+
+        // Then
+        assertThat(reviewCycleGroupService.findById(moved.getReviewCycleGroupId()).getReviewCycleId()).isEqualTo(5L);
+        assertThat(reviewCycleGroupService.findByReviewCycleId(1L)).isEmpty();
+        assertThat(reviewCycleGroupService.countByReviewCycleId(1L)).isZero();
+        assertThat(reviewCycleGroupService.findByReviewCycleId(5L)).hasSize(1);
+        assertThat(reviewCycleGroupService.countByReviewCycleId(5L)).isEqualTo(1);
+        assertThat(reviewCycleGroupService.findByReviewTypeId(2L)).isEmpty();
+        assertThat(reviewCycleGroupService.findByReviewTypeId(6L)).hasSize(1);
+        assertThat(cacheManager.getCache(ReviewCycleGroupCaches.BY_REVIEW_CYCLE_ID).get(3L)).isNotNull();
+        assertThat(cacheManager.getCache(ReviewCycleGroupCaches.COUNT_BY_REVIEW_CYCLE_ID).get(3L)).isNotNull();
+        assertThat(cacheManager.getCache(ReviewCycleGroupCaches.BY_REVIEW_TYPE_ID).get(4L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict deleted groups, singly and by review cycle")
+    void shouldEvictOnDelete() {
+        // Given
+        ReviewCycleGroupDTO single = create("Single Delete", 1L, 2L);
+        create("Bulk Delete", 7L, 8L);
+        reviewCycleGroupService.findById(single.getReviewCycleGroupId());
+        reviewCycleGroupService.findByReviewCycleId(1L);
+        reviewCycleGroupService.countByReviewCycleId(1L);
+        reviewCycleGroupService.findByReviewTypeId(2L);
+        reviewCycleGroupService.findByReviewCycleId(7L);
+        reviewCycleGroupService.countByReviewCycleId(7L);
+        reviewCycleGroupService.findByReviewTypeId(8L);
+
+        // When
+        reviewCycleGroupService.delete(single.getReviewCycleGroupId());
+        reviewCycleGroupService.deleteByReviewCycleId(7L);
+
+        // Then
+        assertThat(cacheManager.getCache(ReviewCycleGroupCaches.BY_ID).get(single.getReviewCycleGroupId())).isNull();
+        assertThat(reviewCycleGroupService.findByReviewCycleId(1L)).isEmpty();
+        assertThat(reviewCycleGroupService.countByReviewCycleId(1L)).isZero();
+        assertThat(reviewCycleGroupService.findByReviewTypeId(2L)).isEmpty();
+        assertThat(reviewCycleGroupService.findByReviewCycleId(7L)).isEmpty();
+        assertThat(reviewCycleGroupService.countByReviewCycleId(7L)).isZero();
+        assertThat(reviewCycleGroupService.findByReviewTypeId(8L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reload a cached group behind the version a conditional GET probed")
+    void shouldReloadStaleEntryOnConditionalGet() {
+        // Given
+        ReviewCycleGroupDTO group = create("Probed Group", 1L, 2L);
+        Long id = group.getReviewCycleGroupId();
+        String eTag = reviewCycleGroupController.getReviewCycleGroupById(id, null, null).getHeaders().getETag();
+        String listETag = reviewCycleGroupController.getReviewCycleGroupsByReviewCycleId(1L, null).getHeaders().getETag();
+        // A write on another node, which evicts nothing here
+        jdbcTemplate.update("UPDATE review_cycle_group SET review_group_name = ?, version = version + 1 "
+                + "WHERE review_cycle_group_id = ?", "Renamed Elsewhere", id);
+
+        // When
+        ResponseEntity<ReviewCycleGroupDTO> byId = reviewCycleGroupController.getReviewCycleGroupById(id, eTag, null);
+        ResponseEntity<List<ReviewCycleGroupDTO>> byReviewCycleId =
+                reviewCycleGroupController.getReviewCycleGroupsByReviewCycleId(1L, listETag);
+
+        // Then
+        assertThat(byId.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(byId.getBody().getReviewGroupName()).isEqualTo("Renamed Elsewhere");
+        assertThat(byId.getHeaders().getETag()).isEqualTo("\"" + (group.getVersion() + 1) + "\"");
+        assertThat(byReviewCycleId.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(byReviewCycleId.getBody()).extracting(ReviewCycleGroupDTO::getReviewGroupName)
+                .containsExactly("Renamed Elsewhere");
+        assertThat(byReviewCycleId.getHeaders().getETag()).isNotEqualTo(listETag);
+        assertThat(reviewCycleGroupService.findById(id).getVersion()).isEqualTo(group.getVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("Should not cache what a read-write transaction reads, since it may still roll back")
+    void shouldNotCacheReadsOfWriteTransactions() {
+        // When
+        Long id = transactionTemplate.execute(status -> {
+            ReviewCycleGroupDTO created = create("Rolled Back Group", 1L, 2L);
+            reviewCycleGroupService.findById(created.getReviewCycleGroupId());
+            reviewCycleGroupService.countByReviewCycleId(1L);
+            status.setRollbackOnly();
+            return created.getReviewCycleGroupId();
+        });
+
+        // Then
+        assertThat(cacheManager.getCache(ReviewCycleGroupCaches.BY_ID).get(id)).isNull();
+        assertThat(reviewCycleGroupService.countByReviewCycleId(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should export hits and misses per cache as meters")
+    void shouldExportCacheMeters() {
+        // Given
+        Long id = create("Metered Group", 1L, 2L).getReviewCycleGroupId();
+
+        // When
+        reviewCycleGroupService.findById(id);
+        reviewCycleGroupService.findById(id);
+
+        // Then
+        FunctionCounter hits = meterRegistry.find("cache.gets")
+                .tag("cache", ReviewCycleGroupCaches.BY_ID)
+                .tag("result", "hit")
+                .functionCounter();
+        assertThat(hits).isNotNull();
+        assertThat(hits.count()).isPositive();
+        TimeGauge loadTime = meterRegistry.find("cache.load.duration").tag("cache", ReviewCycleGroupCaches.BY_ID).timeGauge();
+        assertThat(loadTime).isNotNull();
+        assertThat(loadTime.value()).isPositive();
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", ReviewCycleGroupCaches.BY_ID).meter()).isNotNull();
+    }
+
+    private ReviewCycleGroupDTO create(String name, Long reviewCycleId, Long reviewTypeId) {
+        return reviewCycleGroupService.create(ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId(
+                name, reviewCycleId, reviewTypeId, null, null, null, null), USER);
+    }
+}
@@ -0,0 +1,200 @@
+package gov.fdic.tip.integration.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.dto.UpsertResultDTO;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.service.ReviewGroupCriteriaService;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Name uniqueness is enforced by the database constraints, so concurrent creates must commit
+ * independently; this class is deliberately not @Transactional and cleans up after each test.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UniqueNameIntegrationTest {
+
+    private static final String CREATED_BY = "unique-name-test-user";
+
+    @Autowired
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Autowired
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Autowired
+    private ReviewGroupCriteriaService reviewGroupCriteriaService;
+
+    @Autowired
+    private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewGroupCriteriaRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewCycleGroupRepository.deleteAll();
+        reviewGroupCriteriaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of several concurrent creates with the same name succeed")
+    void shouldAllowOneConcurrentCreatePerName() throws Exception {
+        // Given
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReviewCycleGroupDTO>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return reviewCycleGroupService.create(groupNamed("Concurrent Group"), CREATED_BY);
+            }));
+        }
+
+        // When
+        start.countDown();
+        int created = 0;
+        List<String> errorCodes = new ArrayList<>();
+        for (Future<ReviewCycleGroupDTO> future : futures) {
+            try {
+                future.get();
+                created++;
+            } catch (Exception ex) {
+                errorCodes.add(((BusinessException) ex.getCause()).getErrorCode());
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(created).isEqualTo(1);
+        assertThat(errorCodes).hasSize(threads - 1).containsOnly("REVIEW_GROUP_EXISTS");
+        assertThat(reviewCycleGroupRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should create without querying for an existing name first")
+    void shouldCreateWithoutExistenceQuery() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        reviewCycleGroupService.create(groupNamed("Single Group"), CREATED_BY);
+
+        // Then: the only query draws the change number
+        assertThat(statistics.getQueries()).singleElement().asString().contains("review_cycle_group_change_seq");
+        assertThatThrownBy(() -> reviewCycleGroupService.create(groupNamed("Single Group"), CREATED_BY))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("ReviewCycleGroup with name already exists: Single Group");
+    }
+
+    @Test
+    @DisplayName("Should reject renaming a group onto a name that is taken")
+    void shouldRejectRenameOntoTakenName() {
+        // Given
+        reviewCycleGroupService.create(groupNamed("Taken Name"), CREATED_BY);
+        ReviewCycleGroupDTO other = reviewCycleGroupService.create(groupNamed("Other Name"), CREATED_BY);
+        other.setReviewGroupName("Taken Name");
+
+        // When & Then
+        assertThatThrownBy(() -> reviewCycleGroupService.update(other.getReviewCycleGroupId(), other, CREATED_BY))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo("REVIEW_GROUP_EXISTS");
+        assertThat(reviewCycleGroupService.findById(other.getReviewCycleGroupId()).getReviewGroupName())
+                .isEqualTo("Other Name");
+    }
+
+    @Test
+    @DisplayName("Should create a group by name first and update it on the next upsert")
+    void shouldUpsertGroupByName() {
+        // Given
+        ReviewCycleGroupDTO group = groupNamed("Upserted Group");
+
+        // When
+        UpsertResultDTO<ReviewCycleGroupDTO> first = reviewCycleGroupService.upsertByName("Upserted Group", group, CREATED_BY);
+        group.setReviewsPerYear(12);
+        UpsertResultDTO<ReviewCycleGroupDTO> second = reviewCycleGroupService.upsertByName("Upserted Group", group, "second-user");
+
+        // Then
+        assertThat(first.created()).isTrue();
+        assertThat(second.created()).isFalse();
+        assertThat(second.value().getReviewCycleGroupId()).isEqualTo(first.value().getReviewCycleGroupId());
+        assertThat(second.value().getReviewsPerYear()).isEqualTo(12);
+        assertThat(second.value().getUpdatedBy()).isEqualTo("second-user");
+        assertThat(reviewCycleGroupRepository.count()).isEqualTo(1);
+        assertThatThrownBy(() -> reviewCycleGroupService.upsertByName("Another Name", group, CREATED_BY))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("must match the path");
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate criteria names and upsert criteria by name")
+    void shouldEnforceUniqueCriteriaNames() {
+        // Given
+        ReviewGroupCriteriaDTO criteria = criteriaNamed("Asset Size");
+        reviewGroupCriteriaService.create(criteria, CREATED_BY);
+
+        // When & Then
+        assertThatThrownBy(() -> reviewGroupCriteriaService.create(criteriaNamed("Asset Size"), CREATED_BY))
+                .isInstanceOf(BusinessException.class)
+                .extracting(ex -> ((BusinessException) ex).getErrorCode())
+                .isEqualTo("CRITERIA_EXISTS");
+
+        criteria.setCriteriaType(GroupCriteriaType.COMPLIANCE);
+        UpsertResultDTO<ReviewGroupCriteriaDTO> updated = reviewGroupCriteriaService.upsertByName("Asset Size", criteria, CREATED_BY);
+        UpsertResultDTO<ReviewGroupCriteriaDTO> created = reviewGroupCriteriaService.upsertByName("Region", criteriaNamed("Region"), CREATED_BY);
+        assertThat(updated.created()).isFalse();
+        assertThat(updated.value().getCriteriaType()).isEqualTo(GroupCriteriaType.COMPLIANCE);
+        assertThat(created.created()).isTrue();
+        assertThat(reviewGroupCriteriaRepository.count()).isEqualTo(2);
+    }
+
+    private ReviewCycleGroupDTO groupNamed(String name) {
+        ReviewCycleGroupDTO group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        group.setReviewGroupName(name);
+        return group;
+    }
+
+    private ReviewGroupCriteriaDTO criteriaNamed(String name) {
+        ReviewGroupCriteriaDTO criteria = new ReviewGroupCriteriaDTO();
+        criteria.setCriteriaName(name);
+        criteria.setCriteriaType(GroupCriteriaType.FINANCIAL);
+        return criteria;
+    }
+}
@@ -0,0 +1,94 @@
+package gov.fdic.tip.unit.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import gov.fdic.tip.cache.ReviewCycleGroupCaches;
+import gov.fdic.tip.controller.CacheAdminController;
+import gov.fdic.tip.dto.CacheRegionDTO;
+import gov.fdic.tip.exception.ResourceNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+class CacheAdminControllerTest {
+
+    @Spy
+    private CacheManager cacheManager = cacheManager();
+
+    @InjectMocks
+    private CacheAdminController cacheAdminController;
+
+    private Cache byId;
+
+    @BeforeEach
+    void setUp() {
+        byId = cacheManager.getCache(ReviewCycleGroupCaches.BY_ID);
+        byId.get(1L, () -> "first");
+        byId.get(2L, () -> "second");
+        byId.get(1L, () -> "unused");
+    }
+
+    @Test
+    @DisplayName("Should report size, hits, misses and loads of every service cache")
+    void shouldDescribeEveryCache() {
+        // When
+        ResponseEntity<List<CacheRegionDTO>> response = cacheAdminController.getCaches();
+
+        // Then
+        assertThat(response.getBody()).extracting(CacheRegionDTO::name)
+                .containsExactlyInAnyOrderElementsOf(ReviewCycleGroupCaches.NAMES);
+        CacheRegionDTO region = cacheAdminController.getCache(ReviewCycleGroupCaches.BY_ID).getBody();
+        assertThat(region.size()).isEqualTo(2);
+        assertThat(region.hitCount()).isEqualTo(1);
+        assertThat(region.missCount()).isEqualTo(2);
+        assertThat(region.hitRatio()).isEqualTo(1.0 / 3);
+        assertThat(region.loadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should flush one cache and leave the others alone")
+    void shouldFlushOneCache() {
+        // Given
+        Cache byReviewCycleId = cacheManager.getCache(ReviewCycleGroupCaches.BY_REVIEW_CYCLE_ID);
+        byReviewCycleId.put(1L, List.of());
+
+        // When
+        ResponseEntity<Void> response = cacheAdminController.flushCache(ReviewCycleGroupCaches.BY_ID);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(byId.get(1L)).isNull();
+        assertThat(byReviewCycleId.get(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should answer unknown cache names with not found")
+    void shouldRejectUnknownCache() {
+        assertThatThrownBy(() -> cacheAdminController.flushCache("unknown"))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Cache not found: unknown");
+    }
+
+    private static CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats().executor(Runnable::run));
+        cacheManager.setCacheNames(ReviewCycleGroupCaches.NAMES);
+        return cacheManager;
+    }
+}
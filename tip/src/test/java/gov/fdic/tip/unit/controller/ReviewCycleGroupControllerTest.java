@@ -3,10 +3,20 @@ package gov.fdic.tip.unit.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,9 +30,17 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
 
 import gov.fdic.tip.controller.ReviewCycleGroupController;
+import gov.fdic.tip.dto.BatchResultDTO;
+import gov.fdic.tip.dto.ImportProgressDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupBulkUpdateDTO;
 import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.UpsertResultDTO;
+import gov.fdic.tip.export.ExportFormat;
+import gov.fdic.tip.importer.ReviewCycleGroupImportListener;
 import gov.fdic.tip.service.ReviewCycleGroupService;
 import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
 
@@ -89,5 +107,177 @@ class ReviewCycleGroupControllerTest {
         verify(reviewCycleGroupService).searchByGroupName(eq(searchName), any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("Should return 207 when some items of a bulk create are rejected")
+    void shouldReturnMultiStatusForPartialBulkCreate() {
+        // Given
+        List<ReviewCycleGroupDTO> dtos = Arrays.asList(reviewCycleGroupDTO, reviewCycleGroupDTO);
+        BatchResultDTO batchResult = new BatchResultDTO(2);
+        batchResult.add(BatchResultDTO.ItemResult.created(0, REVIEW_CYCLE_GROUP_ID, reviewCycleGroupDTO.getReviewGroupName()));
+        batchResult.add(BatchResultDTO.ItemResult.rejected(1, BatchResultDTO.Status.DUPLICATE,
+                reviewCycleGroupDTO.getReviewGroupName(), "REVIEW_GROUP_EXISTS", "duplicate"));
+
+        when(reviewCycleGroupService.createAll(dtos, USER_ID)).thenReturn(batchResult);
+
+        // When
+        ResponseEntity<BatchResultDTO> response = reviewCycleGroupController.createReviewCycleGroups(dtos, USER_ID);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+        assertThat(response.getBody().getCreated()).isEqualTo(1);
+        assertThat(response.getBody().getFailed()).isEqualTo(1);
+
+        verify(reviewCycleGroupService).createAll(dtos, USER_ID);
+    }
+
     // ... other tests remain the same ...
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should stream the export with the format's content type and file name")
+    void shouldExportReviewCycleGroups() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        reviewCycleGroupController.exportReviewCycleGroups("xlsx", response);
+
+        // Then
+        assertThat(response.getContentType()).isEqualTo(ExportFormat.XLSX.getContentType());
+        assertThat(response.getHeader("Content-Disposition")).isEqualTo("attachment; filename=\"review-cycle-groups.xlsx\"");
+        verify(reviewCycleGroupService).exportAll(ExportFormat.XLSX, response.getOutputStream());
+    }
+
+    @Test
+    @DisplayName("Should stream import progress for an uploaded file")
+    void shouldImportReviewCycleGroups() throws Exception {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "groups.csv", "text/csv",
+                "reviewGroupName,idi\nGroup A,IDI001\n".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(reviewCycleGroupService.importAll(eq("groups.csv"), any(InputStream.class), eq(USER_ID),
+                any(ReviewCycleGroupImportListener.class))).thenAnswer(invocation -> {
+                    ImportProgressDTO progress = new ImportProgressDTO();
+                    progress.setCreated(1);
+                    progress.setDone(true);
+                    invocation.getArgument(3, ReviewCycleGroupImportListener.class).progress(progress);
+                    return progress;
+                });
+
+        // When
+        reviewCycleGroupController.importReviewCycleGroups(file, USER_ID, response);
+
+        // Then
+        assertThat(response.getContentType()).isEqualTo(ExportFormat.NDJSON.getContentType());
+        assertThat(response.getContentAsString())
+                .isEqualTo("{\"progress\":{\"rowsRead\":0,\"groupsRead\":0,\"created\":1,\"rejected\":0,\"done\":true}}\n");
+    }
+
+    @Test
+    @DisplayName("Should bulk update and delete the groups of a review cycle")
+    void shouldBulkUpdateAndDeleteByReviewCycle() {
+        // Given
+        ReviewCycleGroupBulkUpdateDTO update = new ReviewCycleGroupBulkUpdateDTO();
+        update.setBooleanState(false);
+        when(reviewCycleGroupService.updateByReviewCycleId(7L, update, USER_ID)).thenReturn(3);
+        when(reviewCycleGroupService.deleteByReviewCycleId(7L)).thenReturn(3);
+
+        // When
+        ResponseEntity<Integer> updated = reviewCycleGroupController.updateReviewCycleGroupsByReviewCycleId(7L, update, USER_ID);
+        ResponseEntity<Integer> deleted = reviewCycleGroupController.deleteReviewCycleGroupsByReviewCycleId(7L);
+
+        // Then
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody()).isEqualTo(3);
+        assertThat(deleted.getBody()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should answer 201 when the upsert created the group and 200 when it updated it")
+    void shouldUpsertReviewCycleGroupByName() {
+        // Given
+        String name = reviewCycleGroupDTO.getReviewGroupName();
+        when(reviewCycleGroupService.upsertByName(name, reviewCycleGroupDTO, USER_ID))
+                .thenReturn(new UpsertResultDTO<>(reviewCycleGroupDTO, true))
+                .thenReturn(new UpsertResultDTO<>(reviewCycleGroupDTO, false));
+
+        // When
+        ResponseEntity<ReviewCycleGroupDTO> created = reviewCycleGroupController.upsertReviewCycleGroupByName(name, reviewCycleGroupDTO, USER_ID);
+        ResponseEntity<ReviewCycleGroupDTO> updated = reviewCycleGroupController.upsertReviewCycleGroupByName(name, reviewCycleGroupDTO, USER_ID);
+
+        // Then
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getBody()).isSameAs(reviewCycleGroupDTO);
+    }
+
+    @Test
+    @DisplayName("Should tag a review cycle's groups by their versions and answer 304 while none changed")
+    void shouldAnswerNotModifiedForUnchangedReviewCycle() {
+        // Given
+        reviewCycleGroupDTO.setVersion(2L);
+        ReviewCycleGroupDTO updatedDTO = new ReviewCycleGroupDTO();
+        updatedDTO.setReviewCycleGroupId(REVIEW_CYCLE_GROUP_ID);
+        updatedDTO.setVersion(3L);
+        when(reviewCycleGroupService.findByReviewCycleId(7L))
+                .thenReturn(List.of(reviewCycleGroupDTO))
+                .thenReturn(List.of(updatedDTO));
+        when(reviewCycleGroupService.findVersionsByReviewCycleId(7L))
+                .thenReturn(Map.of(REVIEW_CYCLE_GROUP_ID, 2L))
+                .thenReturn(Map.of(REVIEW_CYCLE_GROUP_ID, 3L));
+
+        // When
+        ResponseEntity<List<ReviewCycleGroupDTO>> first = reviewCycleGroupController.getReviewCycleGroupsByReviewCycleId(7L, null);
+        String eTag = first.getHeaders().getETag();
+        ResponseEntity<List<ReviewCycleGroupDTO>> unchanged = reviewCycleGroupController.getReviewCycleGroupsByReviewCycleId(7L, eTag);
+        ResponseEntity<List<ReviewCycleGroupDTO>> changed = reviewCycleGroupController.getReviewCycleGroupsByReviewCycleId(7L, eTag);
+
+        // Then
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getBody()).containsExactly(updatedDTO);
+        verify(reviewCycleGroupService, times(2)).findByReviewCycleId(7L);
+        verify(reviewCycleGroupService, never()).evictCachedByReviewCycleId(7L);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for a single group without reading it")
+    void shouldAnswerNotModifiedForCurrentGroupVersion() {
+        // Given
+        when(reviewCycleGroupService.findVersionById(REVIEW_CYCLE_GROUP_ID)).thenReturn(4L);
+
+        // When
+        ResponseEntity<ReviewCycleGroupDTO> response = reviewCycleGroupController.getReviewCycleGroupById(REVIEW_CYCLE_GROUP_ID, "\"1\", \"4\"", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
+        verify(reviewCycleGroupService, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should send Last-Modified and answer If-Modified-Since without reading the group")
+    void shouldAnswerIfModifiedSince() {
+        // Given
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 9, 29, 14, 5, 30, 123_456_000);
+        String lastModified = DateTimeFormatter.RFC_1123_DATE_TIME.format(updatedAt.atZone(ZoneId.systemDefault()));
+        reviewCycleGroupDTO.setUpdatedDttm(updatedAt);
+        when(reviewCycleGroupService.findById(REVIEW_CYCLE_GROUP_ID)).thenReturn(reviewCycleGroupDTO);
+        when(reviewCycleGroupService.findLastModifiedById(REVIEW_CYCLE_GROUP_ID)).thenReturn(updatedAt);
+
+        // When
+        ResponseEntity<ReviewCycleGroupDTO> first = reviewCycleGroupController.getReviewCycleGroupById(REVIEW_CYCLE_GROUP_ID, null, null);
+        ResponseEntity<ReviewCycleGroupDTO> unchanged = reviewCycleGroupController.getReviewCycleGroupById(REVIEW_CYCLE_GROUP_ID, null, lastModified);
+        ResponseEntity<ReviewCycleGroupDTO> stale = reviewCycleGroupController.getReviewCycleGroupById(REVIEW_CYCLE_GROUP_ID, null,
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(updatedAt.minusSeconds(1).atZone(ZoneId.systemDefault())));
+
+        // Then: the fraction of a second is dropped on the way out and ignored on the way back
+        assertThat(first.getHeaders().getLastModified())
+                .isEqualTo(updatedAt.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS).toEpochMilli());
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getHeaders().getLastModified()).isEqualTo(first.getHeaders().getLastModified());
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(reviewCycleGroupService, times(2)).findById(REVIEW_CYCLE_GROUP_ID);
+    }
+}
@@ -2,7 +2,8 @@ package gov.fdic.tip.unit.controller;
 
 import gov.fdic.tip.controller.ReviewGroupCriteriaController;
 import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
-import gov.fdic.tip.entity.GroupCriteriaType;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.exception.PreconditionFailedException;
 import gov.fdic.tip.service.ReviewGroupCriteriaService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,7 +22,12 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -46,6 +52,7 @@ class ReviewGroupCriteriaControllerTest {
         testCriteriaDTO.setCriteriaType(GroupCriteriaType.FINANCIAL);
         testCriteriaDTO.setCreatedBy("test-user");
         testCriteriaDTO.setUpdatedBy("test-user");
+        testCriteriaDTO.setVersion(3L);
     }
 
     @Test
@@ -55,12 +62,13 @@ class ReviewGroupCriteriaControllerTest {
         when(reviewGroupCriteriaService.findById(1L)).thenReturn(testCriteriaDTO);
 
         // When
-        ResponseEntity<ReviewGroupCriteriaDTO> response = reviewGroupCriteriaController.getById(1L);
+        ResponseEntity<ReviewGroupCriteriaDTO> response = reviewGroupCriteriaController.getById(1L, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getReviewGroupCriteriaId()).isEqualTo(1L);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
     }
 
     @Test
@@ -116,16 +124,41 @@ class ReviewGroupCriteriaControllerTest {
     @DisplayName("Should update criteria")
     void shouldUpdateCriteria() {
         // Given
-        when(reviewGroupCriteriaService.update(anyLong(), any(ReviewGroupCriteriaDTO.class), anyString()))
+        when(reviewGroupCriteriaService.update(anyLong(), any(ReviewGroupCriteriaDTO.class), anyString(), eq(2L)))
             .thenReturn(testCriteriaDTO);
 
         // When
         ResponseEntity<ReviewGroupCriteriaDTO> response = 
-            reviewGroupCriteriaController.update(1L, testCriteriaDTO, "updater");
+            reviewGroupCriteriaController.update(1L, testCriteriaDTO, "updater", "\"2\"");
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+    }
+
+    @Test
+    @DisplayName("Should update unconditionally without If-Match or with If-Match: *")
+    void shouldUpdateCriteriaWithoutPrecondition() {
+        // Given
+        when(reviewGroupCriteriaService.update(1L, testCriteriaDTO, "updater", null)).thenReturn(testCriteriaDTO);
+
+        // When
+        reviewGroupCriteriaController.update(1L, testCriteriaDTO, "updater", null);
+        reviewGroupCriteriaController.update(1L, testCriteriaDTO, "updater", "*");
+
+        // Then
+        verify(reviewGroupCriteriaService, times(2)).update(1L, testCriteriaDTO, "updater", null);
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition for If-Match values that cannot be a version")
+    void shouldRejectUnusableIfMatch() {
+        for (String ifMatch : List.of("W/\"3\"", "\"abc\"", "\"2\", \"3\"")) {
+            assertThatThrownBy(() -> reviewGroupCriteriaController.update(1L, testCriteriaDTO, "updater", ifMatch))
+                .isInstanceOf(PreconditionFailedException.class);
+        }
+        verifyNoInteractions(reviewGroupCriteriaService);
     }
 
     @Test
@@ -212,5 +245,39 @@ class ReviewGroupCriteriaControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotEmpty();
         assertThat(response.getBody()).contains(GroupCriteriaType.FINANCIAL);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("max-age=86400, public");
+        assertThat(response.getHeaders().getETag()).matches("\"[0-9a-f]{32}\"");
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the version alone when If-None-Match is current")
+    void shouldAnswerNotModifiedForCurrentVersion() {
+        // Given
+        when(reviewGroupCriteriaService.findVersionById(1L)).thenReturn(3L);
+
+        // When
+        ResponseEntity<ReviewGroupCriteriaDTO> response = reviewGroupCriteriaController.getById(1L, "W/\"3\"");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        verify(reviewGroupCriteriaService, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return the criteria when If-None-Match names an older version")
+    void shouldReturnCriteriaForStaleVersion() {
+        // Given
+        when(reviewGroupCriteriaService.findVersionById(1L)).thenReturn(3L);
+        when(reviewGroupCriteriaService.findById(1L)).thenReturn(testCriteriaDTO);
+
+        // When
+        ResponseEntity<ReviewGroupCriteriaDTO> response = reviewGroupCriteriaController.getById(1L, "\"2\"");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isSameAs(testCriteriaDTO);
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache");
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package gov.fdic.tip.unit.controller;
+
+import gov.fdic.tip.controller.SummaryController;
+import gov.fdic.tip.dto.ReviewCycleGroupFacetsDTO;
+import gov.fdic.tip.dto.SummaryDTO;
+import gov.fdic.tip.enums.GroupCriteriaType;
+import gov.fdic.tip.service.ReviewCycleGroupService;
+import gov.fdic.tip.service.ReviewGroupCriteriaService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for SummaryController
+ */
+@ExtendWith(MockitoExtension.class)
+class SummaryControllerTest {
+
+    @Mock
+    private ReviewCycleGroupService reviewCycleGroupService;
+
+    @Mock
+    private ReviewGroupCriteriaService reviewGroupCriteriaService;
+
+    @InjectMocks
+    private SummaryController summaryController;
+
+    @Test
+    @DisplayName("Should combine the group facets and criteria counts into one summary")
+    void shouldGetSummary() {
+        // Given
+        ReviewCycleGroupFacetsDTO facets = new ReviewCycleGroupFacetsDTO(3L, Map.of(1L, 3L), Map.of(2L, 3L), Map.of(true, 3L));
+        Map<GroupCriteriaType, Long> criteriaByType = new EnumMap<>(GroupCriteriaType.class);
+        criteriaByType.put(GroupCriteriaType.FINANCIAL, 2L);
+        criteriaByType.put(GroupCriteriaType.COMPLIANCE, 1L);
+        criteriaByType.put(GroupCriteriaType.QUALITY, 0L);
+        when(reviewCycleGroupService.countFacets()).thenReturn(facets);
+        when(reviewGroupCriteriaService.countsByCriteriaType()).thenReturn(criteriaByType);
+
+        // When
+        ResponseEntity<SummaryDTO> response = summaryController.getSummary();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().reviewCycleGroups()).isEqualTo(facets);
+        assertThat(response.getBody().reviewGroupCriteria()).isEqualTo(3L);
+        assertThat(response.getBody().reviewGroupCriteriaByType()).isEqualTo(criteriaByType);
+    }
+}
@@ -0,0 +1,156 @@
+package gov.fdic.tip.unit.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.export.ExportFormat;
+import gov.fdic.tip.export.ReviewCycleGroupExportWriter;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+
+class ReviewCycleGroupExportWriterTest {
+
+    @Test
+    @DisplayName("Should write one JSON object per line with the IDIs as an array")
+    void shouldWriteNdjson() throws Exception {
+        // When
+        String ndjson = new String(export(ExportFormat.NDJSON), StandardCharsets.UTF_8);
+
+        // Then
+        List<String> lines = ndjson.lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = new ObjectMapper().readTree(lines.get(0));
+        assertThat(first.get("reviewCycleGroupId").asLong()).isEqualTo(1L);
+        assertThat(first.get("reviewGroupName").asText()).isEqualTo("Group \"A\", <first>");
+        assertThat(first.get("booleanState").asBoolean()).isTrue();
+        assertThat(first.get("listOfIdis").toString()).isEqualTo("[\"IDI001\",\"IDI002\"]");
+        assertThat(first.get("updatedDttm").asText()).isEqualTo("2025-09-29T14:05:30.123456");
+        assertThat(new ObjectMapper().readTree(lines.get(1)).get("listOfIdis")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write one CSV row per group and IDI, quoting where needed")
+    void shouldWriteCsv() throws Exception {
+        // When
+        String csv = new String(export(ExportFormat.CSV), StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(csv.split("\r\n")).containsExactly(
+                "reviewCycleGroupId,reviewGroupName,reviewCycleId,reviewTypeId,reviewConditionId,rangeStart,rangeEnd,"
+                        + "booleanState,reviewFrequency,reviewsPerYear,createdBy,updatedBy,createdDttm,updatedDttm,idi",
+                "1,\"Group \"\"A\"\", <first>\",1,2,3,100,500,true,QUARTERLY,4,test-user,test-user,"
+                        + "2025-09-28T09:30,2025-09-29T14:05:30.123456,IDI001",
+                "1,\"Group \"\"A\"\", <first>\",1,2,3,100,500,true,QUARTERLY,4,test-user,test-user,"
+                        + "2025-09-28T09:30,2025-09-29T14:05:30.123456,IDI002",
+                "2,Group B,1,2,3,100,500,true,QUARTERLY,4,test-user,test-user,,,");
+    }
+
+    @Test
+    @DisplayName("Should prefix CSV text a spreadsheet would take for a formula, but not negative numbers")
+    void shouldNeutralizeCsvFormulas() throws Exception {
+        // Given
+        ReviewCycleGroupDTO group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(1L);
+        group.setReviewGroupName("=HYPERLINK(\"http://example.com\",\"x\")");
+        group.setRangeStart(-5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReviewCycleGroupExportWriter writer = ExportFormat.CSV.writer(out);
+
+        // When
+        writer.startGroup(group);
+        for (String idi : List.of("+1", "-2", "@SUM(A1)", "\tIDI", "\rIDI", "IDI=1")) {
+            writer.idi(idi);
+        }
+        writer.endGroup();
+        writer.finish();
+
+        // Then
+        List<String> rows = List.of(new String(out.toByteArray(), StandardCharsets.UTF_8).split("\r\n"));
+        assertThat(rows.get(1)).startsWith("1,\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",1,2,3,-5,");
+        assertThat(rows.subList(1, rows.size())).extracting(row -> row.substring(row.lastIndexOf(',') + 1))
+                .containsExactly("'+1", "'-2", "'@SUM(A1)", "'\tIDI", "\"'\rIDI\"", "IDI=1");
+    }
+
+    @Test
+    @DisplayName("Should write a workbook whose sheet has the same rows as the CSV export")
+    void shouldWriteXlsx() throws Exception {
+        // When
+        Map<String, byte[]> entries = unzip(export(ExportFormat.XLSX));
+
+        // Then
+        assertThat(entries).containsOnlyKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+        Document sheet = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new ByteArrayInputStream(entries.get("xl/worksheets/sheet1.xml")));
+        NodeList rows = sheet.getElementsByTagName("row");
+        assertThat(rows.getLength()).isEqualTo(4);
+        assertThat(rows.item(0).getChildNodes().getLength()).isEqualTo(ReviewCycleGroupExportWriter.COLUMNS.size() + 1);
+        assertThat(rows.item(1).getChildNodes().item(1).getTextContent()).isEqualTo("Group \"A\", <first>");
+        assertThat(rows.item(1).getLastChild().getTextContent()).isEqualTo("IDI001");
+        assertThat(rows.item(3).getChildNodes().getLength()).isEqualTo(ReviewCycleGroupExportWriter.COLUMNS.size() + 1);
+        assertThat(rows.item(3).getLastChild().getTextContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export formats")
+    void shouldRejectUnknownFormat() {
+        assertThat(ExportFormat.fromParameter("CSV")).isEqualTo(ExportFormat.CSV);
+        assertThatThrownBy(() -> ExportFormat.fromParameter("pdf"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("ndjson, csv, xlsx");
+    }
+
+    private byte[] export(ExportFormat format) throws Exception {
+        ReviewCycleGroupDTO first = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(1L);
+        first.setReviewGroupName("Group \"A\", <first>");
+        ReviewCycleGroupDTO second = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(2L);
+        first.setCreatedDttm(LocalDateTime.of(2025, 9, 28, 9, 30));
+        first.setUpdatedDttm(LocalDateTime.of(2025, 9, 29, 14, 5, 30, 123_456_000));
+        second.setReviewGroupName("Group B");
+        for (ReviewCycleGroupDTO group : List.of(first, second)) {
+            group.setCreatedBy("test-user");
+            group.setUpdatedBy("test-user");
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReviewCycleGroupExportWriter writer = format.writer(out);
+        writer.startGroup(first);
+        writer.idi("IDI001");
+        writer.idi("IDI002");
+        writer.endGroup();
+        writer.startGroup(second);
+        writer.endGroup();
+        writer.finish();
+        return out.toByteArray();
+    }
+
+    private Map<String, byte[]> unzip(byte[] zip) throws Exception {
+        Map<String, byte[]> entries = new HashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                entries.put(entry.getName(), in.readAllBytes());
+            }
+        }
+        return entries;
+    }
+}
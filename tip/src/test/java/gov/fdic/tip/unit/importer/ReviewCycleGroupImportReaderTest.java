@@ -0,0 +1,173 @@
+package gov.fdic.tip.unit.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.export.ExportFormat;
+import gov.fdic.tip.export.ReviewCycleGroupExportWriter;
+import gov.fdic.tip.importer.ImportFormat;
+import gov.fdic.tip.importer.ReviewCycleGroupImportReader;
+import gov.fdic.tip.importer.ReviewCycleGroupImportReader.ImportedGroup;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+
+class ReviewCycleGroupImportReaderTest {
+
+    @Test
+    @DisplayName("Should read back the groups and IDIs of a csv export")
+    void shouldReadCsvExport() throws Exception {
+        // When
+        List<ImportedGroup> groups = readAll(ImportFormat.CSV, export(ExportFormat.CSV));
+
+        // Then
+        assertExported(groups);
+    }
+
+    @Test
+    @DisplayName("Should read back the groups and IDIs of an xlsx export")
+    void shouldReadXlsxExport() throws Exception {
+        // When
+        List<ImportedGroup> groups = readAll(ImportFormat.XLSX, export(ExportFormat.XLSX));
+
+        // Then
+        assertExported(groups);
+    }
+
+    @Test
+    @DisplayName("Should match columns by name and report unparseable cells per group")
+    void shouldReportUnparseableCells() throws Exception {
+        // Given
+        String csv = "\uFEFFidi,REVIEWGROUPNAME,reviewCycleId,reviewTypeId,notes\r\n"
+                + "IDI001,\"Multi\nline\",1,2,\"a, b\"\n"
+                + "IDI002,\"Multi\nline\",1,2,\n"
+                + ",,,,\n"
+                + "IDI003,Broken,one,2.0,\n";
+
+        // When
+        List<ImportedGroup> groups = readAll(ImportFormat.CSV, csv.getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThat(groups).hasSize(2);
+        assertThat(groups.get(0).rowNumber()).isEqualTo(2);
+        assertThat(groups.get(0).group().getReviewGroupName()).isEqualTo("Multi\nline");
+        assertThat(groups.get(0).group().getListOfIdis()).containsExactly("IDI001", "IDI002");
+        assertThat(groups.get(0).error()).isNull();
+        assertThat(groups.get(1).rowNumber()).isEqualTo(5);
+        assertThat(groups.get(1).group().getReviewTypeId()).isEqualTo(2L);
+        assertThat(groups.get(1).error()).isEqualTo("reviewCycleId is not a whole number: one");
+    }
+
+    @Test
+    @DisplayName("Should resolve shared strings and cell references in workbooks saved by Excel")
+    void shouldReadSharedStringsAndSparseCells() throws Exception {
+        // Given
+        byte[] workbook = zip(Map.of(
+                "xl/workbook.xml", "<workbook xmlns:r=\"urn:r\"><sheets><sheet name=\"Groups\" sheetId=\"1\" r:id=\"rId7\"/></sheets></workbook>",
+                "xl/_rels/workbook.xml.rels", "<Relationships><Relationship Id=\"rId7\" Target=\"worksheets/data.xml\"/></Relationships>",
+                "xl/sharedStrings.xml", "<sst><si><t>reviewGroupName</t></si><si><t>idi</t></si>"
+                        + "<si><r><t>Rich </t></r><r><t>Group</t></r><rPh><t>x</t></rPh></si></sst>",
+                "xl/worksheets/data.xml", "<worksheet><sheetData>"
+                        + "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"C1\" t=\"s\"><v>1</v></c>"
+                        + "<c r=\"D1\" t=\"inlineStr\"><is><t>booleanState</t></is></c></row>"
+                        + "<row r=\"3\"><c r=\"A3\" t=\"s\"><v>2</v></c><c r=\"C3\"><v>12345</v></c><c r=\"D3\" t=\"b\"><v>1</v></c></row>"
+                        + "</sheetData></worksheet>"));
+
+        // When
+        List<ImportedGroup> groups = readAll(ImportFormat.XLSX, workbook);
+
+        // Then
+        assertThat(groups).hasSize(1);
+        assertThat(groups.get(0).group().getReviewGroupName()).isEqualTo("Rich Group");
+        assertThat(groups.get(0).group().getListOfIdis()).containsExactly("12345");
+        assertThat(groups.get(0).group().getBooleanState()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported files, missing name columns and malformed rows")
+    void shouldRejectInvalidFiles() throws Exception {
+        assertThat(ImportFormat.fromFilename("groups.XLSX")).isEqualTo(ImportFormat.XLSX);
+        assertThatThrownBy(() -> ImportFormat.fromFilename("groups.xls"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(".csv, .xlsx");
+        assertThatThrownBy(() -> readAll(ImportFormat.CSV, "idi,reviewCycleId\nIDI001,1\n".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Header row has no reviewGroupName column");
+        assertThatThrownBy(() -> readAll(ImportFormat.CSV, "reviewGroupName\nA\n\"B\n".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Row 3: unterminated quoted field");
+        assertThatThrownBy(() -> readAll(ImportFormat.XLSX, "not a zip".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageStartingWith("Not a readable xlsx workbook");
+    }
+
+    private void assertExported(List<ImportedGroup> groups) {
+        assertThat(groups).hasSize(2);
+        assertThat(groups).allSatisfy(imported -> assertThat(imported.error()).isNull());
+        ReviewCycleGroupDTO first = groups.get(0).group();
+        assertThat(first.getReviewCycleGroupId()).isNull();
+        assertThat(first.getReviewGroupName()).isEqualTo("Group \"A\", <first>");
+        assertThat(first.getReviewCycleId()).isEqualTo(1L);
+        assertThat(first.getRangeEnd()).isEqualTo(500);
+        assertThat(first.getBooleanState()).isTrue();
+        assertThat(first.getReviewFrequency()).isEqualTo("QUARTERLY");
+        assertThat(first.getCreatedBy()).isNull();
+        assertThat(first.getListOfIdis()).containsExactly("IDI001", "IDI002");
+        assertThat(groups.get(1).rowNumber()).isEqualTo(4);
+        assertThat(groups.get(1).group().getReviewGroupName()).isEqualTo("Group B");
+        assertThat(groups.get(1).group().getListOfIdis()).isEmpty();
+    }
+
+    private List<ImportedGroup> readAll(ImportFormat format, byte[] content) throws Exception {
+        List<ImportedGroup> groups = new ArrayList<>();
+        try (ReviewCycleGroupImportReader reader = format.reader(new ByteArrayInputStream(content))) {
+            for (ImportedGroup group = reader.next(); group != null; group = reader.next()) {
+                groups.add(group);
+            }
+        }
+        return groups;
+    }
+
+    private byte[] export(ExportFormat format) throws Exception {
+        ReviewCycleGroupDTO first = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(1L);
+        first.setReviewGroupName("Group \"A\", <first>");
+        first.setCreatedBy("test-user");
+        ReviewCycleGroupDTO second = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(2L);
+        second.setReviewGroupName("Group B");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReviewCycleGroupExportWriter writer = format.writer(out);
+        writer.startGroup(first);
+        writer.idi("IDI001");
+        writer.idi("IDI002");
+        writer.endGroup();
+        writer.startGroup(second);
+        writer.endGroup();
+        writer.finish();
+        return out.toByteArray();
+    }
+
+    private byte[] zip(Map<String, String> entries) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,117 @@
+package gov.fdic.tip.unit.index;
+
+import gov.fdic.tip.index.IntervalTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("Should return intervals containing the point, bounds inclusive")
+    void shouldStabInclusiveBounds() {
+        // Given
+        IntervalTree<String> tree = IntervalTree.build(Arrays.asList(
+                new IntervalTree.Interval<>(100, 500, "A"),
+                new IntervalTree.Interval<>(400, 800, "B"),
+                new IntervalTree.Interval<>(900, 900, "C")));
+
+        // Then
+        assertThat(tree.stab(100)).containsExactly("A");
+        assertThat(tree.stab(450)).containsExactly("A", "B");
+        assertThat(tree.stab(500)).containsExactly("A", "B");
+        assertThat(tree.stab(850)).isEmpty();
+        assertThat(tree.stab(900)).containsExactly("C");
+        assertThat(tree.stab(99)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should handle an empty tree")
+    void shouldHandleEmptyTree() {
+        assertThat(IntervalTree.<String>build(new ArrayList<>()).stab(1)).isEmpty();
+        assertThat(IntervalTree.<String>empty().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan on random intervals")
+    void shouldMatchLinearScan() {
+        // Given
+        Random random = new Random(42);
+        List<IntervalTree.Interval<Integer>> intervals = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int start = random.nextInt(10_000);
+            intervals.add(new IntervalTree.Interval<>(start, start + random.nextInt(500), i));
+        }
+        IntervalTree<Integer> tree = IntervalTree.build(intervals);
+
+        // Then
+        for (int point = -10; point < 10_600; point += 37) {
+            final int p = point;
+            List<Integer> expected = intervals.stream()
+                    .filter(interval -> interval.start() <= p && interval.end() >= p)
+                    .map(IntervalTree.Interval::value)
+                    .toList();
+            assertThat(tree.stab(point)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan after intervals are added and removed")
+    void shouldMatchLinearScanAfterUpdates() {
+        // Given
+        Random random = new Random(11);
+        Map<Long, IntervalTree.Interval<Long>> live = new HashMap<>();
+        IntervalTree<Long> tree = IntervalTree.empty();
+
+        // When: random inserts, moves and removals keyed by id, many sharing a start
+        for (int step = 0; step < 5000; step++) {
+            long id = random.nextInt(800);
+            IntervalTree.Interval<Long> previous = live.remove(id);
+            if (previous != null) {
+                tree = tree.without(previous.start(), id);
+            }
+            if (random.nextInt(4) > 0) {
+                int start = random.nextInt(50) * 100;
+                IntervalTree.Interval<Long> interval = new IntervalTree.Interval<>(start, start + random.nextInt(500), id, id);
+                tree = tree.with(interval);
+                live.put(id, interval);
+            }
+        }
+
+        // Then
+        assertThat(tree.size()).isEqualTo(live.size());
+        for (int point = -10; point < 5_600; point += 23) {
+            final int p = point;
+            List<Long> expected = live.values().stream()
+                    .filter(interval -> interval.start() <= p && interval.end() >= p)
+                    .map(IntervalTree.Interval::value)
+                    .toList();
+            assertThat(tree.stab(point)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave earlier trees unchanged when adding or removing")
+    void shouldNotChangeEarlierTrees() {
+        // Given
+        IntervalTree<String> before = IntervalTree.build(Arrays.asList(
+                new IntervalTree.Interval<>(100, 500, 1L, "A"),
+                new IntervalTree.Interval<>(100, 300, 2L, "B")));
+
+        // When
+        IntervalTree<String> after = before.without(100, 1L).with(new IntervalTree.Interval<>(200, 400, 3L, "C"));
+
+        // Then
+        assertThat(before.stab(250)).containsExactlyInAnyOrder("A", "B");
+        assertThat(after.stab(250)).containsExactlyInAnyOrder("B", "C");
+        assertThat(after.without(999, 1L)).isSameAs(after);
+    }
+}
@@ -0,0 +1,122 @@
+package gov.fdic.tip.unit.index;
+
+import gov.fdic.tip.index.NameSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NameSearchIndexTest {
+
+    private static final Map<Long, String> NAMES = Map.of(
+            1L, "Asset Quality Review",
+            2L, "Quality",
+            3L, "Liquidity Stress",
+            4L, "Quality Control Sampling",
+            5L, "Equality Audit",
+            6L, "Management");
+
+    @Test
+    @DisplayName("Should find names containing the query, ignoring case, in name order")
+    void shouldFindContainingIgnoringCase() {
+        // Given
+        NameSearchIndex index = NameSearchIndex.build(NAMES);
+
+        // Then
+        assertThat(index.containing("QUALITY")).containsExactly(1L, 5L, 2L, 4L);
+        assertThat(index.containing("ty")).containsExactly(1L, 5L, 3L, 2L, 4L);
+        assertThat(index.containing("m")).containsExactly(6L, 4L);
+        assertThat(index.containing("quality c")).containsExactly(4L);
+        assertThat(index.containing("qualitz")).isEmpty();
+        assertThat(index.containing("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank exact, then prefix, then word prefix, then substring matches")
+    void shouldRankSuggestions() {
+        // Given
+        NameSearchIndex index = NameSearchIndex.build(NAMES);
+
+        // Then
+        assertThat(index.suggest(" qual", 10)).extracting(NameSearchIndex.Match::id).containsExactly(2L, 4L, 1L, 5L);
+        assertThat(index.suggest("quality", 10)).extracting(NameSearchIndex.Match::id).containsExactly(2L, 4L, 1L, 5L);
+        assertThat(index.suggest("qual", 2)).extracting(NameSearchIndex.Match::name).containsExactly("Quality", "Quality Control Sampling");
+        assertThat(index.suggest("   ", 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should suggest for one- and two-character queries from word starts only, in rank order")
+    void shouldSuggestShortQueriesByWordPrefix() {
+        // Given
+        NameSearchIndex index = NameSearchIndex.build(NAMES);
+
+        // Then
+        assertThat(index.suggest("q", 10)).extracting(NameSearchIndex.Match::id).containsExactly(2L, 4L, 1L);
+        assertThat(index.suggest("A", 10)).extracting(NameSearchIndex.Match::id).containsExactly(1L, 5L);
+        assertThat(index.suggest("qu", 1)).extracting(NameSearchIndex.Match::name).containsExactly("Quality");
+        assertThat(index.suggest("ty", 10)).isEmpty();
+        assertThat(index.containing("ty")).containsExactly(1L, 5L, 3L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should agree with a linear scan on random names")
+    void shouldMatchLinearScan() {
+        // Given
+        Random random = new Random(7);
+        Map<Long, String> names = new HashMap<>();
+        for (long id = 1; id <= 2000; id++) {
+            names.put(id, randomName(random));
+        }
+        NameSearchIndex index = NameSearchIndex.build(names);
+
+        // Then
+        for (int i = 0; i < 300; i++) {
+            String query = randomName(random).substring(0, 1 + random.nextInt(5));
+            long[] expected = names.entrySet().stream()
+                    .filter(e -> e.getValue().toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+                    .mapToLong(Map.Entry::getKey)
+                    .sorted()
+                    .toArray();
+            long[] actual = index.containing(query).clone();
+            Arrays.sort(actual);
+            assertThat(actual).as("query '%s'", query).containsExactly(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow renames and removals of single names")
+    void shouldFollowPutAndRemove() {
+        // Given
+        NameSearchIndex index = NameSearchIndex.build(NAMES);
+
+        // When
+        index.put(2L, "Capital Review");
+        index.remove(4L);
+        index.put(7L, "Quality Assurance");
+
+        // Then
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.containing("quality")).containsExactly(1L, 5L, 7L);
+        assertThat(index.containing("review")).containsExactly(1L, 2L);
+        assertThat(index.suggest("qual", 10)).extracting(NameSearchIndex.Match::name)
+                .containsExactly("Quality Assurance", "Asset Quality Review", "Equality Audit");
+        assertThat(index.containing("control")).isEmpty();
+        assertThat(index.suggest("q", 10)).extracting(NameSearchIndex.Match::id).containsExactly(7L, 1L);
+        assertThat(index.suggest("ca", 10)).extracting(NameSearchIndex.Match::name).containsExactly("Capital Review");
+    }
+
+    private static String randomName(Random random) {
+        String alphabet = "abcdeAB ";
+        StringBuilder name = new StringBuilder();
+        for (int i = 0; i < 6 + random.nextInt(10); i++) {
+            name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return name.toString();
+    }
+}
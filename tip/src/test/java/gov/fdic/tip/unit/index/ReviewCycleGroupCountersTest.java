@@ -0,0 +1,83 @@
+package gov.fdic.tip.unit.index;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
+import gov.fdic.tip.index.ReviewCycleGroupCounters;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReviewCycleGroupCounters rebuilds
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewCycleGroupCountersTest {
+
+    @Mock
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @InjectMocks
+    private ReviewCycleGroupCounters reviewCycleGroupCounters;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewCycleGroupCounters, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("Should count a change committed while the rebuild was reading on top of what it read")
+    void shouldReplayEventsArrivingDuringReconcile() {
+        // Given: group 2 is created and group 1 deleted after the rebuild has read the facets
+        ReviewCycleGroupDTO created = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(2L);
+        when(reviewCycleGroupRepository.findAllFacets()).thenAnswer(invocation -> {
+            reviewCycleGroupCounters.onReviewCycleGroupChanged(ReviewCycleGroupChangedEvent.upserted(List.of(created)));
+            reviewCycleGroupCounters.onReviewCycleGroupChanged(
+                    ReviewCycleGroupChangedEvent.deleted(List.of(1L), List.of(1L), Set.of(2L)));
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[] { 1L, 1L, 2L, true });
+            return rows;
+        });
+
+        // When
+        reviewCycleGroupCounters.reconcile();
+
+        // Then
+        assertThat(reviewCycleGroupCounters.count()).isEqualTo(1);
+        assertThat(reviewCycleGroupCounters.countByReviewCycleId(created.getReviewCycleId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not count twice a change the rebuild already read")
+    void shouldNotDoubleCountEventsTheRebuildSaw() {
+        // Given: group 2 is created before the rebuild reads the facets
+        ReviewCycleGroupDTO created = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(2L);
+        when(reviewCycleGroupRepository.findAllFacets()).thenAnswer(invocation -> {
+            reviewCycleGroupCounters.onReviewCycleGroupChanged(ReviewCycleGroupChangedEvent.upserted(List.of(created)));
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[] { 1L, 1L, 2L, true });
+            rows.add(new Object[] { 2L, created.getReviewCycleId(), created.getReviewTypeId(), created.getBooleanState() });
+            return rows;
+        });
+
+        // When
+        reviewCycleGroupCounters.reconcile();
+
+        // Then
+        assertThat(reviewCycleGroupCounters.count()).isEqualTo(2);
+        assertThat(reviewCycleGroupCounters.countFacets().byBooleanState()).containsEntry(true, 2L);
+    }
+}
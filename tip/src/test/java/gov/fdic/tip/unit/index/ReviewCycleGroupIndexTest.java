@@ -0,0 +1,112 @@
+package gov.fdic.tip.unit.index;
+
+import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
+import gov.fdic.tip.index.ReviewCycleGroupIndex;
+import gov.fdic.tip.mapper.ReviewCycleGroupMapper;
+import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewCycleGroupTombstoneRepository;
+import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReviewCycleGroupIndex reloads
+ */
+@ExtendWith(MockitoExtension.class)
+class ReviewCycleGroupIndexTest {
+
+    private static final long GROUP_ID = 1L;
+
+    @Mock
+    private ReviewCycleGroupRepository reviewCycleGroupRepository;
+
+    @Mock
+    private ReviewCycleGroupTombstoneRepository reviewCycleGroupTombstoneRepository;
+
+    @Spy
+    private ReviewCycleGroupMapper reviewCycleGroupMapper = Mappers.getMapper(ReviewCycleGroupMapper.class);
+
+    @InjectMocks
+    private ReviewCycleGroupIndex reviewCycleGroupIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reviewCycleGroupIndex, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("Should apply a change committed while the reload was reading on top of what it read")
+    void shouldReplayEventsArrivingDuringReload() {
+        // Given: the rename commits after the load has read the group
+        ReviewCycleGroupDTO loaded = group(1L, "Before");
+        ReviewCycleGroupDTO renamed = group(2L, "After");
+        when(reviewCycleGroupRepository.findAllDtosWithIdis()).thenAnswer(invocation -> {
+            reviewCycleGroupIndex.onReviewCycleGroupsChanged(ReviewCycleGroupChangedEvent.upserted(List.of(renamed)));
+            return List.of(loaded);
+        });
+
+        // When
+        reviewCycleGroupIndex.reload();
+
+        // Then
+        assertThat(reviewCycleGroupIndex.findById(GROUP_ID).getReviewGroupName()).isEqualTo("After");
+        assertThat(reviewCycleGroupIndex.findByNameContaining("before")).isEmpty();
+        assertThat(reviewCycleGroupIndex.suggestByName("aft", 10)).extracting(match -> match.name()).containsExactly("After");
+    }
+
+    @Test
+    @DisplayName("Should drop a change the reload already read")
+    void shouldNotReplayEventsTheReloadSaw() {
+        // Given: the rename commits before the load reads the group
+        ReviewCycleGroupDTO stale = group(1L, "Before");
+        ReviewCycleGroupDTO loaded = group(2L, "After");
+        when(reviewCycleGroupRepository.findAllDtosWithIdis()).thenAnswer(invocation -> {
+            reviewCycleGroupIndex.onReviewCycleGroupsChanged(ReviewCycleGroupChangedEvent.upserted(List.of(stale)));
+            return List.of(loaded);
+        });
+
+        // When
+        reviewCycleGroupIndex.reload();
+
+        // Then
+        assertThat(reviewCycleGroupIndex.findById(GROUP_ID).getReviewGroupName()).isEqualTo("After");
+    }
+
+    @Test
+    @DisplayName("Should reload only when the change numbers have moved since the last load")
+    void shouldReloadWhenFingerprintChanges() {
+        // Given
+        when(reviewCycleGroupRepository.findAllDtosWithIdis()).thenReturn(List.of(group(1L, "Polled")));
+        when(reviewCycleGroupRepository.findMaxChangeNumber()).thenReturn(5L, 5L, 6L);
+        when(reviewCycleGroupTombstoneRepository.findMaxChangeNumber()).thenReturn(3L);
+
+        // When
+        reviewCycleGroupIndex.reload();
+        reviewCycleGroupIndex.pollForChanges();
+        reviewCycleGroupIndex.pollForChanges();
+
+        // Then
+        verify(reviewCycleGroupRepository, times(2)).findAllDtosWithIdis();
+    }
+
+    private static ReviewCycleGroupDTO group(long version, String name) {
+        ReviewCycleGroupDTO group = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(GROUP_ID);
+        group.setReviewGroupName(name);
+        group.setVersion(version);
+        return group;
+    }
+}
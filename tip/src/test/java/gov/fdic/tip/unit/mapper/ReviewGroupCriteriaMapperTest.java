@@ -1,7 +1,7 @@
 package gov.fdic.tip.unit.mapper;
 
 import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
-import gov.fdic.tip.entity.GroupCriteriaType;
+import gov.fdic.tip.enums.GroupCriteriaType;
 import gov.fdic.tip.entity.ReviewGroupCriteria;
 import gov.fdic.tip.mapper.ReviewGroupCriteriaMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -0,0 +1,46 @@
+package gov.fdic.tip.unit.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import gov.fdic.tip.metrics.SqlStatementStatistics;
+
+class SqlStatementStatisticsTest {
+
+    @Test
+    @DisplayName("Should reduce literals and IN-lists of any length to one shape")
+    void shouldNormalizeStatementShapes() {
+        assertThat(SqlStatementStatistics.shapeOf("select * from t1 where id = 42 and name = 'O''Brien'"))
+                .isEqualTo("select * from t1 where id = ? and name = ?");
+        assertThat(SqlStatementStatistics.shapeOf("select r1_0.id from review_cycle_group r1_0\n  where r1_0.id in (?, ?,?)"))
+                .isEqualTo(SqlStatementStatistics.shapeOf("select r1_0.id from review_cycle_group r1_0 where r1_0.id in (?,?)"));
+    }
+
+    @Test
+    @DisplayName("Should only record while a recording is open on the thread")
+    void shouldReportShapesAboveThreshold() {
+        // Given
+        SqlStatementStatistics statistics = SqlStatementStatistics.start();
+
+        // When
+        try {
+            for (int id = 1; id <= 3; id++) {
+                SqlStatementStatistics.record("select * from review_group_criteria where id = " + id, 1_000);
+            }
+            SqlStatementStatistics.record("select count(*) from review_group_criteria", 1_000);
+        } finally {
+            SqlStatementStatistics.stop();
+        }
+        SqlStatementStatistics.record("select count(*) from review_group_criteria", 1_000);
+
+        // Then
+        assertThat(statistics.getCount()).isEqualTo(4);
+        assertThat(statistics.repeatedShapes(2))
+                .containsOnlyKeys("select * from review_group_criteria where id = ?")
+                .containsValue(3);
+        assertThat(statistics.repeatedShapes(3)).isEmpty();
+        assertThat(SqlStatementStatistics.current()).isNull();
+    }
+}
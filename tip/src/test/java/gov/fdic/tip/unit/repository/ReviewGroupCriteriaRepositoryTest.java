@@ -1,16 +1,24 @@
 package gov.fdic.tip.unit.repository;
 
-import gov.fdic.tip.entity.GroupCriteriaType;
+import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
+import gov.fdic.tip.enums.GroupCriteriaType;
 import gov.fdic.tip.entity.ReviewGroupCriteria;
+import gov.fdic.tip.mapper.ReviewGroupCriteriaMapper;
 import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Data JPA tests for ReviewGroupCriteriaRepository
  */
 @DataJpaTest
+@ActiveProfiles("test")
 class ReviewGroupCriteriaRepositoryTest {
 
     @Autowired
@@ -154,4 +163,38 @@ class ReviewGroupCriteriaRepositoryTest {
         assertThat(page.getContent()).hasSize(1);
         assertThat(page.getTotalElements()).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should scroll by keyset past the last row of the previous window")
+    void shouldScrollByKeyset() {
+        // Given
+        Sort sort = Sort.by("criteriaName", "reviewGroupCriteriaId");
+
+        // When
+        Window<ReviewGroupCriteria> first = reviewGroupCriteriaRepository.findBy(ScrollPosition.keyset(), sort, Limit.of(1));
+        Window<ReviewGroupCriteria> second = reviewGroupCriteriaRepository.findBy(first.positionAt(0), sort, Limit.of(1));
+
+        // Then
+        assertThat(first.getContent()).extracting(ReviewGroupCriteria::getCriteriaName).containsExactly("Financial Review Criteria");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(ReviewGroupCriteria::getCriteriaName).containsExactly("Operational Review Criteria");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should project the same DTOs as the entity mapping")
+    void shouldProjectSameDtosAsMapper() {
+        // Given
+        ReviewGroupCriteriaMapper mapper = Mappers.getMapper(ReviewGroupCriteriaMapper.class);
+        entityManager.clear();
+
+        // When
+        List<ReviewGroupCriteriaDTO> projected = reviewGroupCriteriaRepository.findAllDtos();
+        List<ReviewGroupCriteriaDTO> searched = reviewGroupCriteriaRepository.findDtosByCriteriaNameContainingIgnoreCase("FINANCIAL");
+
+        // Then
+        assertThat(projected).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(mapper.toDtoList(reviewGroupCriteriaRepository.findAll()));
+        assertThat(searched).extracting(ReviewGroupCriteriaDTO::getCriteriaName).containsExactly("Financial Review Criteria");
+    }
+}
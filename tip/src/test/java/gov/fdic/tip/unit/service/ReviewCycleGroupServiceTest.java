@@ -1,11 +1,17 @@
 package gov.fdic.tip.unit.service;
 
 import gov.fdic.tip.dto.ReviewCycleGroupDTO;
+import gov.fdic.tip.dto.ReviewCycleGroupFacetsDTO;
 import gov.fdic.tip.entity.ReviewCycleGroup;
+import gov.fdic.tip.event.ReviewCycleGroupChangedEvent;
 import gov.fdic.tip.exception.BusinessException;
+import gov.fdic.tip.exception.PreconditionFailedException;
 import gov.fdic.tip.exception.ResourceNotFoundException;
+import gov.fdic.tip.index.ReviewCycleGroupCounters;
+import gov.fdic.tip.index.ReviewCycleGroupIndex;
 import gov.fdic.tip.mapper.ReviewCycleGroupMapper;
 import gov.fdic.tip.repository.ReviewCycleGroupRepository;
+import gov.fdic.tip.repository.ReviewCycleGroupTombstoneRepository;
 import gov.fdic.tip.service.ReviewCycleGroupService;
 import gov.fdic.tip.util.ReviewCycleGroupTestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,14 +21,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,9 +47,21 @@ class ReviewCycleGroupServiceTest {
     @Mock
     private ReviewCycleGroupRepository reviewCycleGroupRepository;
 
+    @Mock
+    private ReviewCycleGroupTombstoneRepository reviewCycleGroupTombstoneRepository;
+
     @Mock
     private ReviewCycleGroupMapper reviewCycleGroupMapper;
 
+    @Mock
+    private ReviewCycleGroupIndex reviewCycleGroupIndex;
+
+    @Mock
+    private ReviewCycleGroupCounters reviewCycleGroupCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReviewCycleGroupService reviewCycleGroupService;
 
@@ -63,10 +87,8 @@ class ReviewCycleGroupServiceTest {
         ReviewCycleGroup newEntity = ReviewCycleGroupTestDataBuilder.createReviewCycleGroup(); // No ID
         ReviewCycleGroup savedEntity = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithId(REVIEW_CYCLE_GROUP_ID); // With ID after save
 
-        when(reviewCycleGroupRepository.existsByReviewGroupName(createDTO.getReviewGroupName()))
-                .thenReturn(false);
         when(reviewCycleGroupMapper.toEntity(createDTO)).thenReturn(newEntity);
-        when(reviewCycleGroupRepository.save(newEntity)).thenReturn(savedEntity);
+        when(reviewCycleGroupRepository.saveAndFlush(newEntity)).thenReturn(savedEntity);
         when(reviewCycleGroupMapper.toDto(savedEntity)).thenReturn(reviewCycleGroupDTO);
 
         // When
@@ -76,9 +98,9 @@ class ReviewCycleGroupServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getReviewCycleGroupId()).isEqualTo(REVIEW_CYCLE_GROUP_ID);
         
-        verify(reviewCycleGroupRepository).existsByReviewGroupName(createDTO.getReviewGroupName());
         verify(reviewCycleGroupMapper).toEntity(createDTO);
-        verify(reviewCycleGroupRepository).save(newEntity);
+        verify(reviewCycleGroupRepository).saveAndFlush(newEntity);
+        verify(reviewCycleGroupRepository, never()).existsByReviewGroupName(anyString());
         verify(reviewCycleGroupMapper).toDto(savedEntity);
     }
 
@@ -115,11 +137,9 @@ class ReviewCycleGroupServiceTest {
         // Use entity WITH ID for existing entity
         ReviewCycleGroup existingEntity = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithId(REVIEW_CYCLE_GROUP_ID);
 
-        when(reviewCycleGroupRepository.findById(REVIEW_CYCLE_GROUP_ID))
+        when(reviewCycleGroupRepository.findByReviewCycleGroupId(REVIEW_CYCLE_GROUP_ID))
                 .thenReturn(Optional.of(existingEntity));
-        when(reviewCycleGroupRepository.existsByReviewGroupName(updateDTO.getReviewGroupName()))
-                .thenReturn(false);
-        when(reviewCycleGroupRepository.save(existingEntity)).thenReturn(existingEntity);
+        when(reviewCycleGroupRepository.saveAndFlush(existingEntity)).thenReturn(existingEntity);
         when(reviewCycleGroupMapper.toDto(existingEntity)).thenReturn(updateDTO);
 
         // When
@@ -131,10 +151,29 @@ class ReviewCycleGroupServiceTest {
         assertThat(result.getBooleanState()).isFalse();
         assertThat(result.getReviewsPerYear()).isEqualTo(2);
         
-        verify(reviewCycleGroupRepository).findById(REVIEW_CYCLE_GROUP_ID);
-        verify(reviewCycleGroupRepository).existsByReviewGroupName(updateDTO.getReviewGroupName());
+        verify(reviewCycleGroupRepository).findByReviewCycleGroupId(REVIEW_CYCLE_GROUP_ID);
         verify(reviewCycleGroupMapper).updateEntityFromDto(updateDTO, existingEntity);
-        verify(reviewCycleGroupRepository).save(existingEntity);
+        verify(reviewCycleGroupRepository).saveAndFlush(existingEntity);
+    }
+
+    @Test
+    @DisplayName("Should reject an update whose expected version is stale before touching the IDIs")
+    void shouldRejectUpdateWithStaleVersion() {
+        // Given
+        ReviewCycleGroupDTO updateDTO = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(REVIEW_CYCLE_GROUP_ID);
+        ReviewCycleGroup existingEntity = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupWithId(REVIEW_CYCLE_GROUP_ID);
+        existingEntity.setVersion(4L);
+
+        when(reviewCycleGroupRepository.findByReviewCycleGroupId(REVIEW_CYCLE_GROUP_ID))
+                .thenReturn(Optional.of(existingEntity));
+
+        // When & Then
+        assertThatThrownBy(() -> reviewCycleGroupService.update(REVIEW_CYCLE_GROUP_ID, updateDTO, CREATED_BY, 3L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("has been modified");
+
+        verify(reviewCycleGroupMapper, never()).updateEntityFromDto(any(), any());
+        verify(reviewCycleGroupRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -155,9 +194,8 @@ class ReviewCycleGroupServiceTest {
         ReviewCycleGroupDTO resultDTO = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTO(REVIEW_CYCLE_GROUP_ID);
         resultDTO.setListOfIdis(idis);
 
-        when(reviewCycleGroupRepository.existsByReviewGroupName(anyString())).thenReturn(false);
         when(reviewCycleGroupMapper.toEntity(createDTO)).thenReturn(newEntity);
-        when(reviewCycleGroupRepository.save(newEntity)).thenReturn(savedEntity);
+        when(reviewCycleGroupRepository.saveAndFlush(newEntity)).thenReturn(savedEntity);
         when(reviewCycleGroupMapper.toDto(savedEntity)).thenReturn(resultDTO);
 
         // When
@@ -174,17 +212,18 @@ class ReviewCycleGroupServiceTest {
     void shouldThrowExceptionWhenCreatingDuplicateReviewCycleGroupName() {
         // Given
         ReviewCycleGroupDTO createDTO = ReviewCycleGroupTestDataBuilder.createReviewCycleGroupDTOWithoutId();
+        ReviewCycleGroup newEntity = ReviewCycleGroupTestDataBuilder.createReviewCycleGroup();
 
-        when(reviewCycleGroupRepository.existsByReviewGroupName(createDTO.getReviewGroupName()))
-                .thenReturn(true);
+        when(reviewCycleGroupMapper.toEntity(createDTO)).thenReturn(newEntity);
+        when(reviewCycleGroupRepository.saveAndFlush(newEntity)).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate key", null, ReviewCycleGroup.NAME_CONSTRAINT.toUpperCase())));
 
         // When & Then
         assertThatThrownBy(() -> reviewCycleGroupService.create(createDTO, CREATED_BY))
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("ReviewCycleGroup with name already exists: " + createDTO.getReviewGroupName());
         
-        verify(reviewCycleGroupRepository).existsByReviewGroupName(createDTO.getReviewGroupName());
-        verify(reviewCycleGroupRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -204,14 +243,92 @@ class ReviewCycleGroupServiceTest {
     @DisplayName("Should delete ReviewCycleGroup successfully")
     void shouldDeleteReviewCycleGroupSuccessfully() {
         // Given
-        when(reviewCycleGroupRepository.existsById(REVIEW_CYCLE_GROUP_ID)).thenReturn(true);
+        when(reviewCycleGroupRepository.findById(REVIEW_CYCLE_GROUP_ID)).thenReturn(Optional.of(reviewCycleGroup));
+        when(reviewCycleGroupRepository.nextChangeNumber()).thenReturn(42L);
 
         // When
         reviewCycleGroupService.delete(REVIEW_CYCLE_GROUP_ID);
 
         // Then
-        verify(reviewCycleGroupRepository).existsById(REVIEW_CYCLE_GROUP_ID);
-        verify(reviewCycleGroupRepository).deleteById(REVIEW_CYCLE_GROUP_ID);
+        verify(reviewCycleGroupTombstoneRepository).insertForReviewCycleGroupId(eq(REVIEW_CYCLE_GROUP_ID), any(LocalDateTime.class), eq(42L));
+        verify(reviewCycleGroupRepository).delete(reviewCycleGroup);
+        verify(eventPublisher).publishEvent(argThat((ReviewCycleGroupChangedEvent event) ->
+                event.getDeletedIds().equals(List.of(REVIEW_CYCLE_GROUP_ID))
+                        && event.getReviewCycleIds().equals(Set.of(reviewCycleGroup.getReviewCycleId()))
+                        && event.getReviewTypeIds().equals(Set.of(reviewCycleGroup.getReviewTypeId()))));
+    }
+
+    @Test
+    @DisplayName("Should serve range lookups from the index when it is available")
+    void shouldFindByValueInRangeFromIndex() {
+        // Given
+        when(reviewCycleGroupIndex.isAvailable()).thenReturn(true);
+        when(reviewCycleGroupIndex.findByValueInRange(250, 1L)).thenReturn(Arrays.asList(reviewCycleGroupDTO));
+
+        // When
+        List<ReviewCycleGroupDTO> result = reviewCycleGroupService.findByValueInRange(250, 1L);
+
+        // Then
+        assertThat(result).containsExactly(reviewCycleGroupDTO);
+        verify(reviewCycleGroupRepository, never()).findDtosByValueInRangeAndReviewCycleId(anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the repository for range lookups when the index is not loaded")
+    void shouldFindByValueInRangeFromRepositoryWhenIndexUnavailable() {
+        // Given
+        when(reviewCycleGroupIndex.isAvailable()).thenReturn(false);
+        when(reviewCycleGroupRepository.findDtosByValueInRange(250)).thenReturn(Arrays.asList(reviewCycleGroupDTO));
+        when(reviewCycleGroupRepository.withIdis(Arrays.asList(reviewCycleGroupDTO))).thenReturn(Arrays.asList(reviewCycleGroupDTO));
+
+        // When
+        List<ReviewCycleGroupDTO> result = reviewCycleGroupService.findByValueInRange(250);
+
+        // Then
+        assertThat(result).containsExactly(reviewCycleGroupDTO);
+        verify(reviewCycleGroupIndex, never()).findByValueInRange(anyInt(), any());
+        verify(reviewCycleGroupMapper, never()).toDtoList(any());
+    }
+
+    @Test
+    @DisplayName("Should serve counts from the counters when they are available")
+    void shouldCountFromCounters() {
+        // Given
+        when(reviewCycleGroupCounters.isAvailable()).thenReturn(true);
+        when(reviewCycleGroupCounters.count()).thenReturn(3L);
+        when(reviewCycleGroupCounters.countByReviewCycleId(1L)).thenReturn(2L);
+
+        // When
+        long total = reviewCycleGroupService.count();
+        long inCycle = reviewCycleGroupService.countByReviewCycleId(1L);
+
+        // Then
+        assertThat(total).isEqualTo(3L);
+        assertThat(inCycle).isEqualTo(2L);
+        verify(reviewCycleGroupRepository, never()).count();
+        verify(reviewCycleGroupRepository, never()).countByReviewCycleId(any());
+    }
+
+    @Test
+    @DisplayName("Should tally every facet from one query when the counters are not loaded")
+    void shouldCountFacetsFromRepositoryWhenCountersUnavailable() {
+        // Given
+        when(reviewCycleGroupCounters.isAvailable()).thenReturn(false);
+        when(reviewCycleGroupRepository.findAllFacets()).thenReturn(Arrays.asList(
+                new Object[] {1L, 1L, 2L, true},
+                new Object[] {2L, 1L, 3L, false},
+                new Object[] {3L, 4L, 2L, true},
+                new Object[] {4L, null, null, null}));
+
+        // When
+        ReviewCycleGroupFacetsDTO facets = reviewCycleGroupService.countFacets();
+
+        // Then
+        assertThat(facets.total()).isEqualTo(4L);
+        assertThat(facets.byReviewCycleId()).containsExactly(Map.entry(1L, 2L), Map.entry(4L, 1L));
+        assertThat(facets.byReviewTypeId()).containsExactly(Map.entry(2L, 2L), Map.entry(3L, 1L));
+        assertThat(facets.byBooleanState()).containsExactly(Map.entry(true, 2L), Map.entry(false, 1L));
+        verify(reviewCycleGroupCounters, never()).countFacets();
     }
 
     // ... other test methods
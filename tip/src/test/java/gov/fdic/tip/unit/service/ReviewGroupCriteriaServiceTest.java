@@ -1,10 +1,14 @@
 package gov.fdic.tip.unit.service;
 
+import gov.fdic.tip.dto.MultiGetResultDTO;
+import gov.fdic.tip.dto.NameSuggestionDTO;
 import gov.fdic.tip.dto.ReviewGroupCriteriaDTO;
-import gov.fdic.tip.entity.GroupCriteriaType;
+import gov.fdic.tip.enums.GroupCriteriaType;
 import gov.fdic.tip.entity.ReviewGroupCriteria;
 import gov.fdic.tip.exception.BusinessException;
 import gov.fdic.tip.exception.ResourceNotFoundException;
+import gov.fdic.tip.index.NameSearchIndex;
+import gov.fdic.tip.index.ReviewGroupCriteriaIndex;
 import gov.fdic.tip.mapper.ReviewGroupCriteriaMapper;
 import gov.fdic.tip.repository.ReviewGroupCriteriaRepository;
 import gov.fdic.tip.service.ReviewGroupCriteriaService;
@@ -17,12 +21,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +51,12 @@ class ReviewGroupCriteriaServiceTest {
     @Mock
     private ReviewGroupCriteriaRepository reviewGroupCriteriaRepository;
 
+    @Mock
+    private ReviewGroupCriteriaIndex reviewGroupCriteriaIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Spy
     private ReviewGroupCriteriaMapper reviewGroupCriteriaMapper = Mappers.getMapper(ReviewGroupCriteriaMapper.class);
 
@@ -113,11 +129,11 @@ class ReviewGroupCriteriaServiceTest {
     @DisplayName("Should find all criteria successfully")
     void shouldFindAll() {
         // Given
-        List<ReviewGroupCriteria> criteriaList = Arrays.asList(
-            createTestCriteria(1L),
-            createTestCriteria(2L)
+        List<ReviewGroupCriteriaDTO> criteriaList = Arrays.asList(
+            createTestCriteriaDTO(1L),
+            createTestCriteriaDTO(2L)
         );
-        when(reviewGroupCriteriaRepository.findAll()).thenReturn(criteriaList);
+        when(reviewGroupCriteriaRepository.findAllDtos()).thenReturn(criteriaList);
 
         // When
         List<ReviewGroupCriteriaDTO> result = reviewGroupCriteriaService.findAll();
@@ -127,21 +143,22 @@ class ReviewGroupCriteriaServiceTest {
         assertThat(result.get(0).getReviewGroupCriteriaId()).isEqualTo(1L);
         assertThat(result.get(1).getReviewGroupCriteriaId()).isEqualTo(2L);
 
-        verify(reviewGroupCriteriaRepository).findAll();
+        verify(reviewGroupCriteriaRepository).findAllDtos();
+        verify(reviewGroupCriteriaRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Should find all criteria with pagination")
     void shouldFindAllPaginated() {
         // Given
-        List<ReviewGroupCriteria> criteriaList = Arrays.asList(
-            createTestCriteria(1L),
-            createTestCriteria(2L)
+        List<ReviewGroupCriteriaDTO> criteriaList = Arrays.asList(
+            createTestCriteriaDTO(1L),
+            createTestCriteriaDTO(2L)
         );
-        Page<ReviewGroupCriteria> criteriaPage = new PageImpl<>(criteriaList);
+        Page<ReviewGroupCriteriaDTO> criteriaPage = new PageImpl<>(criteriaList);
         Pageable pageable = PageRequest.of(0, 10);
         
-        when(reviewGroupCriteriaRepository.findAll(pageable)).thenReturn(criteriaPage);
+        when(reviewGroupCriteriaRepository.findAllDtos(pageable)).thenReturn(criteriaPage);
 
         // When
         Page<ReviewGroupCriteriaDTO> result = reviewGroupCriteriaService.findAllPaginated(pageable);
@@ -150,7 +167,7 @@ class ReviewGroupCriteriaServiceTest {
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
 
-        verify(reviewGroupCriteriaRepository).findAll(pageable);
+        verify(reviewGroupCriteriaRepository).findAllDtos(pageable);
     }
 
     @Test
@@ -160,8 +177,7 @@ class ReviewGroupCriteriaServiceTest {
         ReviewGroupCriteriaDTO createDTO = createTestCriteriaDTO(null);
         ReviewGroupCriteria savedCriteria = createTestCriteria(1L);
         
-        when(reviewGroupCriteriaRepository.existsByCriteriaName(createDTO.getCriteriaName())).thenReturn(false);
-        when(reviewGroupCriteriaRepository.save(any(ReviewGroupCriteria.class))).thenReturn(savedCriteria);
+        when(reviewGroupCriteriaRepository.saveAndFlush(any(ReviewGroupCriteria.class))).thenReturn(savedCriteria);
 
         // When
         ReviewGroupCriteriaDTO result = reviewGroupCriteriaService.create(createDTO, TEST_USER);
@@ -172,8 +188,8 @@ class ReviewGroupCriteriaServiceTest {
         assertThat(result.getCreatedBy()).isEqualTo(TEST_USER);
         assertThat(result.getUpdatedBy()).isEqualTo(TEST_USER);
 
-        verify(reviewGroupCriteriaRepository).existsByCriteriaName(createDTO.getCriteriaName());
-        verify(reviewGroupCriteriaRepository).save(any(ReviewGroupCriteria.class));
+        verify(reviewGroupCriteriaRepository).saveAndFlush(any(ReviewGroupCriteria.class));
+        verify(reviewGroupCriteriaRepository, never()).existsByCriteriaName(anyString());
     }
 
     @Test
@@ -181,15 +197,15 @@ class ReviewGroupCriteriaServiceTest {
     void shouldThrowExceptionWhenCreatingDuplicateName() {
         // Given
         ReviewGroupCriteriaDTO createDTO = createTestCriteriaDTO(null);
-        when(reviewGroupCriteriaRepository.existsByCriteriaName(createDTO.getCriteriaName())).thenReturn(true);
+        when(reviewGroupCriteriaRepository.saveAndFlush(any(ReviewGroupCriteria.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate key", null, ReviewGroupCriteria.NAME_CONSTRAINT)));
 
         // When & Then
         assertThatThrownBy(() -> reviewGroupCriteriaService.create(createDTO, TEST_USER))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("ReviewGroupCriteria with name already exists");
 
-        verify(reviewGroupCriteriaRepository).existsByCriteriaName(createDTO.getCriteriaName());
-        verify(reviewGroupCriteriaRepository, never()).save(any(ReviewGroupCriteria.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -200,8 +216,7 @@ class ReviewGroupCriteriaServiceTest {
         updateDTO.setCriteriaName("Updated Criteria Name");
         
         when(reviewGroupCriteriaRepository.findById(1L)).thenReturn(Optional.of(testCriteria));
-        when(reviewGroupCriteriaRepository.existsByCriteriaNameAndIdNot("Updated Criteria Name", 1L)).thenReturn(false);
-        when(reviewGroupCriteriaRepository.save(any(ReviewGroupCriteria.class))).thenReturn(testCriteria);
+        when(reviewGroupCriteriaRepository.saveAndFlush(any(ReviewGroupCriteria.class))).thenReturn(testCriteria);
 
         // When
         ReviewGroupCriteriaDTO result = reviewGroupCriteriaService.update(1L, updateDTO, "updated-user");
@@ -211,8 +226,7 @@ class ReviewGroupCriteriaServiceTest {
         assertThat(result.getUpdatedBy()).isEqualTo("updated-user");
 
         verify(reviewGroupCriteriaRepository).findById(1L);
-        verify(reviewGroupCriteriaRepository).existsByCriteriaNameAndIdNot("Updated Criteria Name", 1L);
-        verify(reviewGroupCriteriaRepository).save(any(ReviewGroupCriteria.class));
+        verify(reviewGroupCriteriaRepository).saveAndFlush(any(ReviewGroupCriteria.class));
     }
 
     @Test
@@ -228,7 +242,7 @@ class ReviewGroupCriteriaServiceTest {
                 .hasMessage("ReviewGroupCriteria not found with id: 999");
 
         verify(reviewGroupCriteriaRepository).findById(999L);
-        verify(reviewGroupCriteriaRepository, never()).save(any(ReviewGroupCriteria.class));
+        verify(reviewGroupCriteriaRepository, never()).saveAndFlush(any(ReviewGroupCriteria.class));
     }
 
     @Test
@@ -265,11 +279,11 @@ class ReviewGroupCriteriaServiceTest {
     @DisplayName("Should find criteria by type successfully")
     void shouldFindByCriteriaType() {
         // Given
-        List<ReviewGroupCriteria> criteriaList = Arrays.asList(
-            createTestCriteria(1L),
-            createTestCriteria(2L)
+        List<ReviewGroupCriteriaDTO> criteriaList = Arrays.asList(
+            createTestCriteriaDTO(1L),
+            createTestCriteriaDTO(2L)
         );
-        when(reviewGroupCriteriaRepository.findByCriteriaType(GroupCriteriaType.FINANCIAL)).thenReturn(criteriaList);
+        when(reviewGroupCriteriaRepository.findDtosByCriteriaType(GroupCriteriaType.FINANCIAL)).thenReturn(criteriaList);
 
         // When
         List<ReviewGroupCriteriaDTO> result = reviewGroupCriteriaService.findByCriteriaType(GroupCriteriaType.FINANCIAL);
@@ -280,15 +294,15 @@ class ReviewGroupCriteriaServiceTest {
             assertThat(dto.getCriteriaType()).isEqualTo(GroupCriteriaType.FINANCIAL)
         );
 
-        verify(reviewGroupCriteriaRepository).findByCriteriaType(GroupCriteriaType.FINANCIAL);
+        verify(reviewGroupCriteriaRepository).findDtosByCriteriaType(GroupCriteriaType.FINANCIAL);
     }
 
     @Test
     @DisplayName("Should search criteria by name")
     void shouldSearchByCriteriaName() {
         // Given
-        List<ReviewGroupCriteria> criteriaList = Arrays.asList(createTestCriteria(1L));
-        when(reviewGroupCriteriaRepository.findByCriteriaNameContainingIgnoreCase("Test")).thenReturn(criteriaList);
+        List<ReviewGroupCriteriaDTO> criteriaList = Arrays.asList(createTestCriteriaDTO(1L));
+        when(reviewGroupCriteriaRepository.findDtosByCriteriaNameContainingIgnoreCase("Test")).thenReturn(criteriaList);
 
         // When
         List<ReviewGroupCriteriaDTO> result = reviewGroupCriteriaService.findByCriteriaNameContaining("Test");
@@ -297,7 +311,7 @@ class ReviewGroupCriteriaServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCriteriaName()).contains("Test");
 
-        verify(reviewGroupCriteriaRepository).findByCriteriaNameContainingIgnoreCase("Test");
+        verify(reviewGroupCriteriaRepository).findDtosByCriteriaNameContainingIgnoreCase("Test");
     }
 
     @Test
@@ -348,4 +362,88 @@ class ReviewGroupCriteriaServiceTest {
 
         verify(reviewGroupCriteriaRepository).count();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reject sorting on a column without an index")
+    void shouldRejectUnindexedSortKey() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("criteriaType"));
+
+        // When & Then
+        assertThatThrownBy(() -> reviewGroupCriteriaService.findAllPaginated(pageable))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Cannot sort by criteriaType");
+        assertThatThrownBy(() -> reviewGroupCriteriaService.findAllKeyset(10, "criteriaType", "asc", null, false))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Cannot sort by criteriaType");
+        verifyNoInteractions(reviewGroupCriteriaRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve type lookups, counts and name checks from the index when it is available")
+    void shouldServeTypeLookupsFromIndexWhenAvailable() {
+        // Given
+        List<GroupCriteriaType> types = List.of(GroupCriteriaType.FINANCIAL, GroupCriteriaType.RISK_BASED);
+        when(reviewGroupCriteriaIndex.isAvailable()).thenReturn(true);
+        when(reviewGroupCriteriaIndex.findByCriteriaType(GroupCriteriaType.FINANCIAL))
+                .thenReturn(List.of(createTestCriteriaDTO(1L)));
+        when(reviewGroupCriteriaIndex.findByCriteriaTypes(types))
+                .thenReturn(List.of(createTestCriteriaDTO(1L), createTestCriteriaDTO(2L)));
+        when(reviewGroupCriteriaIndex.countByCriteriaType(GroupCriteriaType.FINANCIAL)).thenReturn(1L);
+        when(reviewGroupCriteriaIndex.existsByCriteriaName("Test Criteria 1")).thenReturn(true);
+
+        // When & Then
+        assertThat(reviewGroupCriteriaService.findByCriteriaType(GroupCriteriaType.FINANCIAL)).hasSize(1);
+        assertThat(reviewGroupCriteriaService.findByCriteriaTypes(types)).hasSize(2);
+        assertThat(reviewGroupCriteriaService.countByCriteriaType(GroupCriteriaType.FINANCIAL)).isEqualTo(1L);
+        assertThat(reviewGroupCriteriaService.existsByCriteriaName("Test Criteria 1")).isTrue();
+        verifyNoInteractions(reviewGroupCriteriaRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve name search and suggestions from the index when it is available")
+    void shouldSearchFromIndexWhenAvailable() {
+        // Given
+        ReflectionTestUtils.setField(reviewGroupCriteriaService, "maxPageSize", 100);
+        when(reviewGroupCriteriaIndex.isAvailable()).thenReturn(true);
+        when(reviewGroupCriteriaIndex.findByNameContaining("criteria"))
+                .thenReturn(Arrays.asList(createTestCriteriaDTO(2L), createTestCriteriaDTO(1L), createTestCriteriaDTO(3L)));
+        when(reviewGroupCriteriaIndex.suggestByName("test", 5))
+                .thenReturn(List.of(new NameSearchIndex.Match(1L, "Test Criteria 1")));
+
+        // When
+        Page<ReviewGroupCriteriaDTO> page = reviewGroupCriteriaService.searchByCriteriaName("criteria",
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "reviewGroupCriteriaId")));
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(ReviewGroupCriteriaDTO::getReviewGroupCriteriaId).containsExactly(3L, 2L);
+        assertThat(reviewGroupCriteriaService.suggestByCriteriaName("test", 5))
+                .extracting(NameSuggestionDTO::getName).containsExactly("Test Criteria 1");
+        verifyNoInteractions(reviewGroupCriteriaRepository);
+    }
+
+    @Test
+    @DisplayName("Should resolve many ids with chunked IN-list queries, in request order with misses listed")
+    void shouldFindByIdsInChunks() {
+        // Given
+        ReflectionTestUtils.setField(reviewGroupCriteriaService, "batchChunkSize", 2);
+        ReflectionTestUtils.setField(reviewGroupCriteriaService, "batchMaxItems", 10);
+        when(reviewGroupCriteriaRepository.findDtosByReviewGroupCriteriaIdIn(List.of(3L, 9L)))
+                .thenReturn(List.of(createTestCriteriaDTO(3L)));
+        when(reviewGroupCriteriaRepository.findDtosByReviewGroupCriteriaIdIn(List.of(1L)))
+                .thenReturn(List.of(createTestCriteriaDTO(1L)));
+
+        // When
+        MultiGetResultDTO<ReviewGroupCriteriaDTO> result = reviewGroupCriteriaService.findByIds(Arrays.asList(3L, 9L, 3L, null, 1L));
+
+        // Then
+        assertThat(result.found()).containsOnlyKeys(3L, 1L);
+        assertThat(result.found().keySet()).containsExactly(3L, 1L);
+        assertThat(result.missing()).containsExactly(9L);
+        verify(reviewGroupCriteriaRepository, times(2)).findDtosByReviewGroupCriteriaIdIn(any());
+        assertThatThrownBy(() -> reviewGroupCriteriaService.findByIds(Collections.nCopies(11, 1L)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("exceeds maximum of 10");
+    }
+}
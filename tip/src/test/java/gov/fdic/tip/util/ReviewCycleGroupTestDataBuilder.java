@@ -4,12 +4,15 @@ import gov.fdic.tip.dto.ReviewCycleGroupDTO;
 import gov.fdic.tip.entity.ReviewCycleGroup;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ReviewCycleGroupTestDataBuilder {
 
-    
+    // Group names are unique in the database, so the variant helpers below number theirs
+    private static final AtomicInteger NAME_SEQUENCE = new AtomicInteger();
 
     // For new entities (no ID)
     public static ReviewCycleGroup createReviewCycleGroup() {
@@ -55,6 +58,33 @@ public class ReviewCycleGroupTestDataBuilder {
         return dto;
     }
 
+    // For create requests with the given fields; a null keeps the default above
+    public static ReviewCycleGroupDTO createReviewCycleGroupDTOWithoutId(String name, Long reviewCycleId, Long reviewTypeId,
+                                                                        Integer rangeStart, Integer rangeEnd,
+                                                                        Boolean booleanState, List<String> idis) {
+        ReviewCycleGroupDTO dto = createReviewCycleGroupDTOWithoutId();
+        dto.setReviewGroupName(name);
+        if (reviewCycleId != null) {
+            dto.setReviewCycleId(reviewCycleId);
+        }
+        if (reviewTypeId != null) {
+            dto.setReviewTypeId(reviewTypeId);
+        }
+        if (rangeStart != null) {
+            dto.setRangeStart(rangeStart);
+        }
+        if (rangeEnd != null) {
+            dto.setRangeEnd(rangeEnd);
+        }
+        if (booleanState != null) {
+            dto.setBooleanState(booleanState);
+        }
+        if (idis != null) {
+            dto.setListOfIdis(new ArrayList<>(idis));
+        }
+        return dto;
+    }
+
     // Similar fix for DTO methods
     public static ReviewCycleGroupDTO createReviewCycleGroupDTO() {
         return createReviewCycleGroupDTO(null);
@@ -76,6 +106,7 @@ public class ReviewCycleGroupTestDataBuilder {
     // Helper method for creating entities with specific IDIs
     public static ReviewCycleGroup createReviewCycleGroupWithIdis(List<String> idis) {
         ReviewCycleGroup entity = createReviewCycleGroup();
+        entity.setReviewGroupName(uniqueName());
         entity.setListOfIdis(idis);
         return entity;
     }
@@ -83,6 +114,7 @@ public class ReviewCycleGroupTestDataBuilder {
     // Helper method for creating entities with specific review cycle ID
     public static ReviewCycleGroup createReviewCycleGroupWithReviewCycleId(Long reviewCycleId) {
         ReviewCycleGroup entity = createReviewCycleGroup();
+        entity.setReviewGroupName(uniqueName());
         entity.setReviewCycleId(reviewCycleId);
         return entity;
     }
@@ -90,10 +122,15 @@ public class ReviewCycleGroupTestDataBuilder {
     // Helper method for creating entities with specific boolean state
     public static ReviewCycleGroup createReviewCycleGroupWithBooleanState(Boolean booleanState) {
         ReviewCycleGroup entity = createReviewCycleGroup();
+        entity.setReviewGroupName(uniqueName());
         entity.setBooleanState(booleanState);
         return entity;
     }
     
+    private static String uniqueName() {
+        return "Test Review Group #" + NAME_SEQUENCE.incrementAndGet();
+    }
+
     public static List<String> createSampleIdis() {
         return Arrays.asList("IDI001", "IDI002", "IDI003", "IDI004", "IDI005");
     }